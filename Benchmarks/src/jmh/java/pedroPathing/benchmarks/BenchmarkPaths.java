@@ -0,0 +1,76 @@
+package pedroPathing.benchmarks;
+
+import pedroPathing.constants.FConstants;
+import pedroPathing.constants.LConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.BezierLine;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.Point;
+import pedroPathing.util.Constants;
+
+/**
+ * This is the BenchmarkPaths class. This makes the same curves and robot poses for every benchmark,
+ * so results can be compared between benchmarks and between runs.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class BenchmarkPaths {
+    // These are the control points the curves are made from, which wind back and forth across a
+    // field-sized area so higher degree curves actually bend more
+    private static final double[][] CONTROL_POINTS = {{0, 0}, {30, 8}, {48, 52}, {20, 70}, {60, 96},
+            {96, 80}, {110, 120}};
+
+    /**
+     * This sets the FollowerConstants and localizer constants to the ones the robot uses.
+     */
+    public static void setupConstants() {
+        Constants.setConstants(FConstants.class, LConstants.class);
+    }
+
+    /**
+     * This returns the control points of a curve of a specified degree.
+     *
+     * @param degree the degree of the curve, from 1 to 6.
+     * @return returns the control points.
+     */
+    public static Point[] controlPoints(int degree) {
+        Point[] points = new Point[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            points[i] = new Point(CONTROL_POINTS[i][0], CONTROL_POINTS[i][1], Point.CARTESIAN);
+        }
+        return points;
+    }
+
+    /**
+     * This returns a Path of a specified degree, where degree 1 is a BezierLine.
+     *
+     * @param degree the degree of the curve, from 1 to 6.
+     * @return returns the Path.
+     */
+    public static Path path(int degree) {
+        Point[] points = controlPoints(degree);
+        Path path = new Path(degree == 1 ? new BezierLine(points[0], points[1]) : new BezierCurve(points));
+        path.setLinearHeadingInterpolation(0, Math.PI / 2);
+        return path;
+    }
+
+    /**
+     * This returns robot poses along a Path, each pushed a few inches off to the side, like a robot
+     * following it would be.
+     *
+     * @param path the Path.
+     * @param count the number of poses.
+     * @return returns the poses.
+     */
+    public static Pose[] posesAlong(Path path, int count) {
+        Pose[] poses = new Pose[count];
+        for (int i = 0; i < count; i++) {
+            double t = (double) i / (count - 1);
+            Point point = path.getPoint(t);
+            double offset = 3 * Math.sin(i * 1.7);
+            poses[i] = new Pose(point.getX() + offset, point.getY() - offset, path.getHeadingGoal(t));
+        }
+        return poses;
+    }
+}
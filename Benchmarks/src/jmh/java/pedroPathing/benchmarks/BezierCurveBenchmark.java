@@ -0,0 +1,68 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
+
+/**
+ * This is the BezierCurveBenchmark class. This times getting a point, derivative and curvature on a
+ * BezierCurve of each degree, which the Follower does every update for the closest point. The
+ * t-value is stepped along the curve every call so the results can't be folded into constants.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BezierCurveBenchmark {
+    @Param({"3", "4", "5", "6"})
+    public int degree;
+
+    private BezierCurve curve;
+    private double t;
+
+    /**
+     * This makes a BezierCurve of the degree being benchmarked.
+     */
+    @Setup
+    public void setup() {
+        curve = new BezierCurve(BenchmarkPaths.controlPoints(degree));
+    }
+
+    /**
+     * This returns the next t-value, stepping along the curve and wrapping back to the start.
+     *
+     * @return returns the t-value.
+     */
+    private double nextT() {
+        t += 0.0137;
+        if (t > 1) t -= 1;
+        return t;
+    }
+
+    @Benchmark
+    public Point getPoint() {
+        return curve.getPoint(nextT());
+    }
+
+    @Benchmark
+    public Vector getDerivative() {
+        return curve.getDerivative(nextT());
+    }
+
+    @Benchmark
+    public double getCurvature() {
+        return curve.getCurvature(nextT());
+    }
+}
@@ -0,0 +1,55 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Path;
+
+/**
+ * This is the ClosestPointBenchmark class. This times Path.getClosestPoint on a line and on curves
+ * of degree 3 to 6, with the robot moving forward along the Path a little every call like it would
+ * while following it, so the search starts from the last closest point the same way it does on the
+ * robot. Degree 1 is a BezierLine.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClosestPointBenchmark {
+    private static final int POSE_COUNT = 500;
+
+    @Param({"1", "3", "4", "5", "6"})
+    public int degree;
+
+    private Path path;
+    private Pose[] poses;
+    private int index;
+
+    /**
+     * This makes the Path and the poses along it.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPaths.setupConstants();
+        path = BenchmarkPaths.path(degree);
+        poses = BenchmarkPaths.posesAlong(path, POSE_COUNT);
+    }
+
+    @Benchmark
+    public Pose getClosestPoint() {
+        index++;
+        if (index == POSE_COUNT) index = 0;
+        return path.getClosestPoint(poses[index], FollowerConstants.BEZIER_CURVE_SEARCH_LIMIT);
+    }
+}
@@ -0,0 +1,53 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.follower.DriveVectorScaler;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.pathgen.Vector;
+
+/**
+ * This is the DriveVectorScalerBenchmark class. This times DriveVectorScaler.getDrivePowers, cycling
+ * through the same inputs as the DriveVectorScalerTimingTest OpMode so every saturation case gets
+ * timed, and so the time on a computer can be compared with the time on the Control Hub.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DriveVectorScalerBenchmark {
+    private DriveVectorScaler driveVectorScaler;
+
+    private Vector[] correctivePowers;
+    private Vector[] headingPowers;
+    private Vector[] pathingPowers;
+    private int index;
+
+    /**
+     * This makes the DriveVectorScaler and the inputs.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPaths.setupConstants();
+        driveVectorScaler = new DriveVectorScaler(FollowerConstants.frontLeftVector);
+
+        correctivePowers = new Vector[]{new Vector(0.1, 0.3), new Vector(1, 2.0), new Vector(0.4, 4.1), new Vector()};
+        headingPowers = new Vector[]{new Vector(0.2, 1.1), new Vector(0.9, 5.2), new Vector(-0.3, 0.4), new Vector(0.05, 2.2)};
+        pathingPowers = new Vector[]{new Vector(1, 0.7), new Vector(0.3, 3.3), new Vector(1, 6.0), new Vector(0.6, 1.6)};
+    }
+
+    @Benchmark
+    public double[] getDrivePowers() {
+        int i = index++ & 3;
+        return driveVectorScaler.getDrivePowers(correctivePowers[i], headingPowers[i], pathingPowers[i], i * 1.3);
+    }
+}
@@ -0,0 +1,71 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.constants.FConstants;
+import pedroPathing.constants.LConstants;
+import pedroPathing.follower.Follower;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.localizers.SimulatedMecanumLocalizer;
+import pedroPathing.pathgen.Path;
+
+/**
+ * This is the FollowerBenchmark class. This drives a SimulatedMecanumLocalizer with a Follower, so
+ * the Follower's math can be timed without a robot. The drive velocity error is timed partway along
+ * a curve, and a whole update is timed while following it, starting over from the beginning of the
+ * curve whenever it's done. The simulation runs on its own clock, so every run follows the curve
+ * the same way.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FollowerBenchmark {
+    private static final int UPDATES_BEFORE_TIMING = 100;
+
+    private SimulatedMecanumLocalizer simulator;
+    private Follower follower;
+    private Path path;
+
+    /**
+     * This starts following a degree 5 curve and runs the Follower until it's partway along.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPaths.setupConstants();
+        simulator = new SimulatedMecanumLocalizer();
+        follower = new Follower(simulator, FConstants.class, LConstants.class);
+        Follower.drawOnDashboard = false;
+        path = BenchmarkPaths.path(5);
+        follower.followPath(path);
+
+        for (int i = 0; i < UPDATES_BEFORE_TIMING; i++) {
+            update();
+        }
+    }
+
+    @Benchmark
+    public double getDriveVelocityError() {
+        return follower.getDriveVelocityError();
+    }
+
+    @Benchmark
+    public void update() {
+        follower.update();
+        simulator.update();
+
+        if (!follower.isBusy()) {
+            simulator.setStartPose(new Pose());
+            follower.followPath(path);
+        }
+    }
+}
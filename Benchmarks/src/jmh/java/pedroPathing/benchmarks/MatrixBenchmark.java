@@ -0,0 +1,51 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.localization.Matrix;
+
+/**
+ * This is the MatrixBenchmark class. This times Matrix.multiply with the sizes the pose exponential
+ * takes as matrices, a rotation times a transformation and that times a column of robot deltas, to
+ * compare against the closed form in OdometryIntegratorBenchmark.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatrixBenchmark {
+    private Matrix rotation;
+    private Matrix transformation;
+    private Matrix deltas;
+
+    /**
+     * This fills in the matrices like a localizer would for a robot turning a little.
+     */
+    @Setup
+    public void setup() {
+        double heading = 0.7;
+        double turn = 0.02;
+        rotation = new Matrix(new double[][]{{Math.cos(heading), -Math.sin(heading), 0}, {Math.sin(heading), Math.cos(heading), 0}, {0, 0, 1}});
+        transformation = new Matrix(new double[][]{{Math.sin(turn) / turn, (Math.cos(turn) - 1) / turn, 0}, {(1 - Math.cos(turn)) / turn, Math.sin(turn) / turn, 0}, {0, 0, 1}});
+        deltas = new Matrix(new double[][]{{0.5}, {0.1}, {turn}});
+    }
+
+    @Benchmark
+    public Matrix multiply3x3() {
+        return Matrix.multiply(rotation, transformation);
+    }
+
+    @Benchmark
+    public Matrix multiply3x1() {
+        return Matrix.multiply(rotation, deltas);
+    }
+}
@@ -0,0 +1,40 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.localization.OdometryIntegrator;
+
+/**
+ * This is the OdometryIntegratorBenchmark class. This times OdometryIntegrator.integrate with the
+ * same movement as MatrixBenchmark, once with a turn big enough for the sine and cosine terms and
+ * once with a turn small enough for the series expansions.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OdometryIntegratorBenchmark {
+    private static final long UPDATE_PERIOD = 10_000_000;
+
+    private final OdometryIntegrator integrator = new OdometryIntegrator();
+
+    @Benchmark
+    public double integrate() {
+        integrator.integrate(0.5, 0.1, 0.02, 0.7, UPDATE_PERIOD);
+        return integrator.getX();
+    }
+
+    @Benchmark
+    public double integrateSmallTurn() {
+        integrator.integrate(0.5, 0.1, 0.0002, 0.7, UPDATE_PERIOD);
+        return integrator.getX();
+    }
+}
@@ -0,0 +1,61 @@
+package pedroPathing.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import pedroPathing.localization.Encoder;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.localizers.ThreeWheelLocalizer;
+import pedroPathing.util.VirtualClock;
+
+/**
+ * This is the ThreeWheelLocalizerBenchmark class. This times ThreeWheelLocalizer.update, with the
+ * Encoders reading from fake positions instead of motors. The positions are moved every call so
+ * the robot drives forward, strafes and turns at once, and the pose exponential never takes the
+ * straight line shortcut. The localizer runs on a VirtualClock, so no time is spent reading the
+ * real one.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThreeWheelLocalizerBenchmark {
+    private static final long UPDATE_PERIOD = 10_000_000;
+
+    private final VirtualClock clock = new VirtualClock();
+    private ThreeWheelLocalizer localizer;
+
+    // These are the encoder positions in ticks, which the fake Encoders read
+    private int leftPosition;
+    private int rightPosition;
+    private int strafePosition;
+
+    /**
+     * This makes the ThreeWheelLocalizer from the fake Encoders.
+     */
+    @Setup
+    public void setup() {
+        BenchmarkPaths.setupConstants();
+        localizer = new ThreeWheelLocalizer(new Encoder(() -> leftPosition), new Encoder(() -> rightPosition),
+                new Encoder(() -> strafePosition), new Pose());
+        localizer.setClock(clock);
+    }
+
+    @Benchmark
+    public Pose update() {
+        leftPosition += 250;
+        rightPosition += 310;
+        strafePosition += 120;
+        clock.advance(UPDATE_PERIOD);
+        localizer.update();
+        return localizer.getPose();
+    }
+}
@@ -1,9 +1,9 @@
 package pedroPathing.constants;
 
-import com.pedropathing.localization.Localizers;
-import com.pedropathing.follower.FollowerConstants;
-import com.pedropathing.util.CustomFilteredPIDFCoefficients;
-import com.pedropathing.util.CustomPIDFCoefficients;
+import pedroPathing.localization.Localizers;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.util.CustomFilteredPIDFCoefficients;
+import pedroPathing.util.CustomPIDFCoefficients;
 import com.qualcomm.robotcore.hardware.DcMotorSimple;
 
 public class FConstants {
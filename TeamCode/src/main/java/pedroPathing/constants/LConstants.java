@@ -1,7 +1,7 @@
 package pedroPathing.constants;
 
-import com.pedropathing.localization.*;
-import com.pedropathing.localization.constants.*;
+import pedroPathing.localization.*;
+import pedroPathing.localization.constants.*;
 
 public class LConstants {
     static {
@@ -1,14 +1,15 @@
 package pedroPathing.examples;
 
-import com.pedropathing.util.Constants;
+import pedroPathing.util.Constants;
 import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.DcMotor;
 import com.qualcomm.robotcore.hardware.Servo;
 import com.qualcomm.robotcore.eventloop.opmode.OpMode;
 import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.Pose;
-//import com.pedropathing.constants.Constants;
+import pedroPathing.follower.Follower;
+import pedroPathing.util.MotorOutputStage;
+import pedroPathing.localization.Pose;
+//import pedroPathing.constants.Constants;
 import pedroPathing.constants.FConstants;
 import pedroPathing.constants.LConstants;
 
@@ -16,6 +17,7 @@ import pedroPathing.constants.LConstants;
 public class Arm extends OpMode {
 
     private Follower follower;
+    private MotorOutputStage motorOutputStage;
     private final Pose startPose = new Pose(0, 0, 0);
 
     private DcMotorEx elevatorMotor;
@@ -39,6 +41,10 @@ public class Arm extends OpMode {
         elevatorMotor.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
         elevatorMotor.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
 
+        // the elevator power is written with the drive powers at the end of follower.update()
+        motorOutputStage = follower.getMotorOutputStage();
+        motorOutputStage.register(elevatorMotor);
+
 
         leftArmServo  = hardwareMap.get(Servo.class, "leftArmServo");
         rightArmServo = hardwareMap.get(Servo.class, "rightArmServo");
@@ -61,16 +67,17 @@ public class Arm extends OpMode {
                 -gamepad1.right_stick_x,  // rotate
                 false                     // field-centric
         );
-        follower.update();
 
         if (gamepad2.right_trigger > 0.1) {
-            elevatorMotor.setPower(1.0);
+            motorOutputStage.setPower(elevatorMotor, 1.0);
         } else if (gamepad2.right_bumper) {
-            elevatorMotor.setPower(-1.0);
+            motorOutputStage.setPower(elevatorMotor, -1.0);
         } else {
-            elevatorMotor.setPower(0.0);
+            motorOutputStage.setPower(elevatorMotor, 0.0);
         }
 
+        follower.update();
+
         if (gamepad2.y) {
             leftArmServo.setPosition(braçoSubindo);
             rightArmServo.setPosition(braçoSubindo);
@@ -94,6 +101,8 @@ public class Arm extends OpMode {
 
     @Override
     public void stop() {
-        elevatorMotor.setPower(0);
+        motorOutputStage.setPower(elevatorMotor, 0);
+        motorOutputStage.flush();
+        follower.stop();
     }
 }
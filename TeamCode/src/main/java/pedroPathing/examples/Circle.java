@@ -3,14 +3,14 @@ package pedroPathing.examples;
 import com.acmerobotics.dashboard.FtcDashboard;
 import com.acmerobotics.dashboard.config.Config;
 import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
-import com.pedropathing.util.Constants;
+import pedroPathing.util.Constants;
 import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
 import com.qualcomm.robotcore.eventloop.opmode.OpMode;
 import org.firstinspires.ftc.robotcore.external.Telemetry;
-import com.pedropathing.follower.Follower;
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.PathChain;
-import com.pedropathing.pathgen.Point;
+import pedroPathing.follower.Follower;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.PathChain;
+import pedroPathing.pathgen.Point;
 
 import pedroPathing.constants.FConstants;
 import pedroPathing.constants.LConstants;
@@ -74,4 +74,12 @@ public class Circle extends OpMode {
 
         follower.telemetryDebug(telemetryA);
     }
+
+    /**
+     * This stops the Follower's background threads, so its flight record is written and closed.
+     */
+    @Override
+    public void stop() {
+        follower.stop();
+    }
 }
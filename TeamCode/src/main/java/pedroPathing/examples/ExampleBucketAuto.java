@@ -1,20 +1,21 @@
 package pedroPathing.examples;
 
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.BezierLine;
-import com.pedropathing.pathgen.Path;
-import com.pedropathing.pathgen.PathChain;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.util.Constants;
-import com.pedropathing.util.Timer;
+import pedroPathing.follower.Follower;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierLine;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.PathChain;
+import pedroPathing.pathgen.Point;
+import pedroPathing.util.Constants;
+import pedroPathing.util.Timer;
 import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
 import  com.qualcomm.robotcore.eventloop.opmode.OpMode;
 
 import pedroPathing.constants.FConstants;
 import pedroPathing.constants.LConstants;
 
+import java.util.concurrent.ForkJoinTask;
+
 /**
  * This is an example auto that showcases movement and control of two servos autonomously.
  * It is a 0+4 (Specimen + Sample) bucket auto. It scores a neutral preload and then pickups 3 samples from the ground and scores them before parking.
@@ -67,11 +68,16 @@ public class ExampleBucketAuto extends OpMode {
     private final Pose parkControlPose = new Pose(60, 98, Math.toRadians(90));
 
     /* These are our Paths and PathChains that we will define in buildPaths() */
-    private Path scorePreload, park;
-    private PathChain grabPickup1, grabPickup2, grabPickup3, scorePickup1, scorePickup2, scorePickup3;
+    private Path scorePreload;
+    private PathChain grabPickup1, grabPickup2, grabPickup3, scorePickup1, scorePickup2, scorePickup3, park;
+
+    /* These are the background builds of our PathChains. They are started in buildPaths() and waited on in awaitPaths() */
+    private ForkJoinTask<PathChain> grabPickup1Build, grabPickup2Build, grabPickup3Build, scorePickup1Build, scorePickup2Build, scorePickup3Build, parkBuild;
 
     /** Build the paths for the auto (adds, for example, constant/linear headings while doing paths)
-     * It is necessary to do this so that all the paths are built before the auto starts. **/
+     * It is necessary to do this so that all the paths are built before the auto starts.
+     * The PathChains are built in the background with buildAsync(), so init isn't held up while they are built.
+     * They have to be waited on with awaitPaths() before they are followed. **/
     public void buildPaths() {
 
         /* There are two major types of paths components: BezierCurves and BezierLines.
@@ -96,45 +102,66 @@ public class ExampleBucketAuto extends OpMode {
         /* Here is an example for Constant Interpolation
         scorePreload.setConstantInterpolation(startPose.getHeading()); */
 
-        /* This is our grabPickup1 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        grabPickup1 = follower.pathBuilder()
+        /* This is our grabPickup1 PathChain. We are using a single path with a BezierLine, which is a straight line.
+         * buildAsync() builds it in the background, and gives us a task we can wait on for the PathChain. */
+        grabPickup1Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(scorePose), new Point(pickup1Pose)))
                 .setLinearHeadingInterpolation(scorePose.getHeading(), pickup1Pose.getHeading())
-                .build();
+                .buildAsync();
 
         /* This is our scorePickup1 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        scorePickup1 = follower.pathBuilder()
+        scorePickup1Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(pickup1Pose), new Point(scorePose)))
                 .setLinearHeadingInterpolation(pickup1Pose.getHeading(), scorePose.getHeading())
-                .build();
+                .buildAsync();
 
         /* This is our grabPickup2 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        grabPickup2 = follower.pathBuilder()
+        grabPickup2Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(scorePose), new Point(pickup2Pose)))
                 .setLinearHeadingInterpolation(scorePose.getHeading(), pickup2Pose.getHeading())
-                .build();
+                .buildAsync();
 
         /* This is our scorePickup2 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        scorePickup2 = follower.pathBuilder()
+        scorePickup2Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(pickup2Pose), new Point(scorePose)))
                 .setLinearHeadingInterpolation(pickup2Pose.getHeading(), scorePose.getHeading())
-                .build();
+                .buildAsync();
 
         /* This is our grabPickup3 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        grabPickup3 = follower.pathBuilder()
+        grabPickup3Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(scorePose), new Point(pickup3Pose)))
                 .setLinearHeadingInterpolation(scorePose.getHeading(), pickup3Pose.getHeading())
-                .build();
+                .buildAsync();
 
         /* This is our scorePickup3 PathChain. We are using a single path with a BezierLine, which is a straight line. */
-        scorePickup3 = follower.pathBuilder()
+        scorePickup3Build = follower.pathBuilder()
                 .addPath(new BezierLine(new Point(pickup3Pose), new Point(scorePose)))
                 .setLinearHeadingInterpolation(pickup3Pose.getHeading(), scorePose.getHeading())
-                .build();
+                .buildAsync();
+
+        /* This is our park PathChain. We are using a BezierCurve with 3 points, which is a curved line that is curved based off of the control point.
+         * Since the curve is added with addBezierCurve(), its length approximation is also done in the background. */
+        parkBuild = follower.pathBuilder()
+                .addBezierCurve(new Point(scorePose), /* Control Point */ new Point(parkControlPose), new Point(parkPose))
+                .setLinearHeadingInterpolation(scorePose.getHeading(), parkPose.getHeading())
+                .buildAsync();
+    }
 
-        /* This is our park path. We are using a BezierCurve with 3 points, which is a curved line that is curved based off of the control point */
-        park = new Path(new BezierCurve(new Point(scorePose), /* Control Point */ new Point(parkControlPose), new Point(parkPose)));
-        park.setLinearHeadingInterpolation(scorePose.getHeading(), parkPose.getHeading());
+    /** This returns if all the PathChains started in buildPaths() are done building. **/
+    public boolean pathsBuilt() {
+        return grabPickup1Build.isDone() && scorePickup1Build.isDone() && grabPickup2Build.isDone() && scorePickup2Build.isDone()
+                && grabPickup3Build.isDone() && scorePickup3Build.isDone() && parkBuild.isDone();
+    }
+
+    /** This waits for all the PathChains started in buildPaths() to be built, and stores them to be followed. **/
+    public void awaitPaths() {
+        grabPickup1 = grabPickup1Build.join();
+        scorePickup1 = scorePickup1Build.join();
+        grabPickup2 = grabPickup2Build.join();
+        scorePickup2 = scorePickup2Build.join();
+        grabPickup3 = grabPickup3Build.join();
+        scorePickup3 = scorePickup3Build.join();
+        park = parkBuild.join();
     }
 
     /** This switch is called continuously and runs the pathing, at certain points, it triggers the action state.
@@ -272,19 +299,24 @@ public class ExampleBucketAuto extends OpMode {
 
     /** This method is called continuously after Init while waiting for "play". **/
     @Override
-    public void init_loop() {}
+    public void init_loop() {
+        telemetry.addData("paths built", pathsBuilt());
+        telemetry.update();
+    }
 
     /** This method is called once at the start of the OpMode.
-     * It runs all the setup actions, including building paths and starting the path system **/
+     * It runs all the setup actions, including waiting for the paths to finish building and starting the path system **/
     @Override
     public void start() {
+        awaitPaths();
         opmodeTimer.resetTimer();
         setPathState(0);
     }
 
-    /** We do not use this because everything should automatically disable **/
+    /** This stops the Follower's background threads, so its flight record is written and closed **/
     @Override
     public void stop() {
+        follower.stop();
     }
 }
 
@@ -1,8 +1,8 @@
 package pedroPathing.examples;
 
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.util.Constants;
+import pedroPathing.follower.Follower;
+import pedroPathing.localization.Pose;
+import pedroPathing.util.Constants;
 import  com.qualcomm.robotcore.eventloop.opmode.OpMode;
 import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
 
@@ -63,8 +63,9 @@ public class ExampleFieldCentricTeleop extends OpMode {
 
     }
 
-    /** We do not use this because everything automatically should disable **/
+    /** This stops the Follower's background threads, so its flight record is written and closed **/
     @Override
     public void stop() {
+        follower.stop();
     }
 }
\ No newline at end of file
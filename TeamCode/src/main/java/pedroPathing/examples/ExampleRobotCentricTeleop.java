@@ -2,9 +2,9 @@ package pedroPathing.examples;
 
 import android.provider.SyncStateContract;
 
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.util.Constants;
+import pedroPathing.follower.Follower;
+import pedroPathing.localization.Pose;
+import pedroPathing.util.Constants;
 import  com.qualcomm.robotcore.eventloop.opmode.OpMode;
 import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
 
@@ -65,8 +65,9 @@ public class ExampleRobotCentricTeleop extends OpMode {
 
     }
 
-    /** We do not use this because everything automatically should disable **/
+    /** This stops the Follower's background threads, so its flight record is written and closed **/
     @Override
     public void stop() {
+        follower.stop();
     }
 }
\ No newline at end of file
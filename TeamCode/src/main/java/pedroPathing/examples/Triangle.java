@@ -2,12 +2,12 @@ package pedroPathing.examples;
 
 import com.acmerobotics.dashboard.FtcDashboard;
 import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierLine;
-import com.pedropathing.pathgen.PathChain;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.util.Constants;
+import pedroPathing.follower.Follower;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierLine;
+import pedroPathing.pathgen.PathChain;
+import pedroPathing.pathgen.Point;
+import pedroPathing.util.Constants;
 import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
 import com.qualcomm.robotcore.eventloop.opmode.OpMode;
 
@@ -79,4 +79,11 @@ public class Triangle extends OpMode {
         telemetryA.update();
     }
 
+    /**
+     * This stops the Follower's background threads, so its flight record is written and closed.
+     */
+    @Override
+    public void stop() {
+        follower.stop();
+    }
 }
@@ -1,9 +1,9 @@
 package pedroPathing.follower;
 
-import static com.pedropathing.follower.FollowerConstants.maxPower;
+import static pedroPathing.follower.FollowerConstants.maxPower;
 
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
 
 /**
  * This is the DriveVectorScaler class. This class takes in inputs Vectors for driving, heading
@@ -19,6 +19,15 @@ public class DriveVectorScaler {
     private Vector[] mecanumVectors;
     private double maxPowerScaling = 1;
 
+    // These are the inverse kinematics for each side of the drivetrain, worked out once from the
+    // mecanum vectors. Each is a 2x2 matrix, stored row by row, that turns a robot-centric drive
+    // Vector for that side into the powers for its front and back wheels.
+    private final double[] leftInverseKinematics = new double[4];
+    private final double[] rightInverseKinematics = new double[4];
+
+    // The wheel powers are written into this every call instead of a new Array
+    private final double[] wheelPowers = new double[4];
+
     /**
      * This creates a new DriveVectorScaler, which takes in various movement vectors and outputs
      * the wheel drive powers necessary to move in the intended direction, given the true movement
@@ -35,13 +44,40 @@ public class DriveVectorScaler {
                 new Vector(copiedFrontLeftVector.getMagnitude(), 2*Math.PI-copiedFrontLeftVector.getTheta()),
                 new Vector(copiedFrontLeftVector.getMagnitude(), 2*Math.PI-copiedFrontLeftVector.getTheta()),
                 new Vector(copiedFrontLeftVector.getMagnitude(), copiedFrontLeftVector.getTheta())};
+
+        setInverseKinematics(mecanumVectors[0], mecanumVectors[1], leftInverseKinematics);
+        setInverseKinematics(mecanumVectors[2], mecanumVectors[3], rightInverseKinematics);
+    }
+
+    /**
+     * This works out the inverse kinematics for one side of the drivetrain, which is the inverse of
+     * the matrix with the front and back wheel vectors as its columns. This is doubled, since each
+     * side only gets half of the drive Vector.
+     *
+     * @param front the front wheel's vector.
+     * @param back the back wheel's vector.
+     * @param output the Array the inverse is written into, row by row.
+     */
+    private static void setInverseKinematics(Vector front, Vector back, double[] output) {
+        double determinant = front.getXComponent() * back.getYComponent() - back.getXComponent() * front.getYComponent();
+        output[0] = 2 * back.getYComponent() / determinant;
+        output[1] = -2 * back.getXComponent() / determinant;
+        output[2] = -2 * front.getYComponent() / determinant;
+        output[3] = 2 * front.getXComponent() / determinant;
     }
 
     /**
      * This takes in vectors for corrective power, heading power, and pathing power and outputs
      * an Array of four doubles, one for each wheel's motor power.
-     *
-     * IMPORTANT NOTE: all vector inputs are clamped between 0 and 1 inclusive in magnitude.
+     * <p>
+     * Corrective power takes priority over heading power, which takes priority over pathing power.
+     * Each is scaled down only as much as needed to keep both sides of the drivetrain within the max
+     * power scaling. The drive Vectors are rotated into the robot's frame with one sine and cosine,
+     * then the precomputed inverse kinematics give the wheel powers, so no Vectors are made.
+     * <p>
+     * IMPORTANT NOTE: all vector inputs are clamped between 0 and 1 inclusive in magnitude. The
+     * input Vectors aren't changed, and the returned Array is reused on the next call, so copy it if
+     * it needs to be kept.
      *
      * @param correctivePower this Vector includes the centrifugal force scaling Vector as well as a
      *                        translational power Vector to correct onto the Bezier curve the Follower
@@ -56,66 +92,95 @@ public class DriveVectorScaler {
      * @return this returns an Array of doubles with a length of 4, which contains the wheel powers.
      */
     public double[] getDrivePowers(Vector correctivePower, Vector headingPower, Vector pathingPower, double robotHeading) {
+        double maxPowerScalingSquared = maxPowerScaling * maxPowerScaling;
+
         // clamps down the magnitudes of the input vectors
-        if (correctivePower.getMagnitude() > maxPowerScaling) correctivePower.setMagnitude(maxPowerScaling);
-        if (headingPower.getMagnitude() > maxPowerScaling) headingPower.setMagnitude(maxPowerScaling);
-        if (pathingPower.getMagnitude() > maxPowerScaling) pathingPower.setMagnitude(maxPowerScaling);
+        double correctiveX = correctivePower.getXComponent();
+        double correctiveY = correctivePower.getYComponent();
+        double correctiveMagnitude = Math.sqrt(correctiveX * correctiveX + correctiveY * correctiveY);
+        boolean correctiveSaturated = correctiveMagnitude >= maxPowerScaling;
+        if (correctiveMagnitude > maxPowerScaling) {
+            correctiveX *= maxPowerScaling / correctiveMagnitude;
+            correctiveY *= maxPowerScaling / correctiveMagnitude;
+        }
 
-        // the powers for the wheel vectors
-        double [] wheelPowers = new double[4];
+        double headingX = headingPower.getXComponent();
+        double headingY = headingPower.getYComponent();
+        double headingMagnitudeSquared = headingX * headingX + headingY * headingY;
+        if (headingMagnitudeSquared > maxPowerScalingSquared) {
+            double scaling = maxPowerScaling / Math.sqrt(headingMagnitudeSquared);
+            headingX *= scaling;
+            headingY *= scaling;
+        }
 
-        // This contains a copy of the mecanum wheel vectors
-        Vector[] mecanumVectorsCopy = new Vector[4];
+        double pathingX = pathingPower.getXComponent();
+        double pathingY = pathingPower.getYComponent();
+        double pathingMagnitudeSquared = pathingX * pathingX + pathingY * pathingY;
+        if (pathingMagnitudeSquared > maxPowerScalingSquared) {
+            double scaling = maxPowerScaling / Math.sqrt(pathingMagnitudeSquared);
+            pathingX *= scaling;
+            pathingY *= scaling;
+        }
 
-        // this contains the pathing vectors, one for each side (heading control requires 2)
-        Vector[] truePathingVectors = new Vector[2];
+        // these are the field-centric drive vectors for each side (heading control requires 2)
+        double leftX, leftY, rightX, rightY;
 
-        if (correctivePower.getMagnitude() == maxPowerScaling) {
+        if (correctiveSaturated) {
             // checks for corrective power equal to max power scaling in magnitude. if equal, then set pathing power to that
-            truePathingVectors[0] = MathFunctions.copyVector(correctivePower);
-            truePathingVectors[1] = MathFunctions.copyVector(correctivePower);
+            leftX = rightX = correctiveX;
+            leftY = rightY = correctiveY;
         } else {
             // corrective power did not take up all the power, so add on heading power
-            Vector leftSideVector = MathFunctions.subtractVectors(correctivePower, headingPower);
-            Vector rightSideVector = MathFunctions.addVectors(correctivePower, headingPower);
+            leftX = correctiveX - headingX;
+            leftY = correctiveY - headingY;
+            rightX = correctiveX + headingX;
+            rightY = correctiveY + headingY;
 
-            if (leftSideVector.getMagnitude() > maxPowerScaling || rightSideVector.getMagnitude() > maxPowerScaling) {
+            if (leftX * leftX + leftY * leftY > maxPowerScalingSquared || rightX * rightX + rightY * rightY > maxPowerScalingSquared) {
                 //if the combined corrective and heading power is greater than 1, then scale down heading power
-                double headingScalingFactor = Math.min(findNormalizingScaling(correctivePower, headingPower), findNormalizingScaling(correctivePower, MathFunctions.scalarMultiplyVector(headingPower, -1)));
-                truePathingVectors[0] = MathFunctions.subtractVectors(correctivePower, MathFunctions.scalarMultiplyVector(headingPower, headingScalingFactor));
-                truePathingVectors[1] = MathFunctions.addVectors(correctivePower, MathFunctions.scalarMultiplyVector(headingPower, headingScalingFactor));
+                double headingScalingFactor = Math.min(findNormalizingScaling(correctiveX, correctiveY, headingX, headingY), findNormalizingScaling(correctiveX, correctiveY, -headingX, -headingY));
+                leftX = correctiveX - headingX * headingScalingFactor;
+                leftY = correctiveY - headingY * headingScalingFactor;
+                rightX = correctiveX + headingX * headingScalingFactor;
+                rightY = correctiveY + headingY * headingScalingFactor;
             } else {
                 // if we're here then we can add on some drive power but scaled down to 1
-                Vector leftSideVectorWithPathing = MathFunctions.addVectors(leftSideVector, pathingPower);
-                Vector rightSideVectorWithPathing = MathFunctions.addVectors(rightSideVector, pathingPower);
+                double leftWithPathingX = leftX + pathingX;
+                double leftWithPathingY = leftY + pathingY;
+                double rightWithPathingX = rightX + pathingX;
+                double rightWithPathingY = rightY + pathingY;
 
-                if (leftSideVectorWithPathing.getMagnitude() > maxPowerScaling || rightSideVectorWithPathing.getMagnitude() > maxPowerScaling) {
+                if (leftWithPathingX * leftWithPathingX + leftWithPathingY * leftWithPathingY > maxPowerScalingSquared
+                        || rightWithPathingX * rightWithPathingX + rightWithPathingY * rightWithPathingY > maxPowerScalingSquared) {
                     // too much power now, so we scale down the pathing vector
-                    double pathingScalingFactor = Math.min(findNormalizingScaling(leftSideVector, pathingPower), findNormalizingScaling(rightSideVector, pathingPower));
-                    truePathingVectors[0] = MathFunctions.addVectors(leftSideVector, MathFunctions.scalarMultiplyVector(pathingPower, pathingScalingFactor));
-                    truePathingVectors[1] = MathFunctions.addVectors(rightSideVector, MathFunctions.scalarMultiplyVector(pathingPower, pathingScalingFactor));
+                    double pathingScalingFactor = Math.min(findNormalizingScaling(leftX, leftY, pathingX, pathingY), findNormalizingScaling(rightX, rightY, pathingX, pathingY));
+                    leftX += pathingX * pathingScalingFactor;
+                    leftY += pathingY * pathingScalingFactor;
+                    rightX += pathingX * pathingScalingFactor;
+                    rightY += pathingY * pathingScalingFactor;
                 } else {
                     // just add the vectors together and you get the final vector
-                    truePathingVectors[0] = MathFunctions.copyVector(leftSideVectorWithPathing);
-                    truePathingVectors[1] = MathFunctions.copyVector(rightSideVectorWithPathing);
+                    leftX = leftWithPathingX;
+                    leftY = leftWithPathingY;
+                    rightX = rightWithPathingX;
+                    rightY = rightWithPathingY;
                 }
             }
         }
 
-        truePathingVectors[0] = MathFunctions.scalarMultiplyVector(truePathingVectors[0], 2.0);
-        truePathingVectors[1] = MathFunctions.scalarMultiplyVector(truePathingVectors[1], 2.0);
-
-        for (int i = 0; i < mecanumVectorsCopy.length; i++) {
-            // this copies the vectors from mecanumVectors but creates new references for them
-            mecanumVectorsCopy[i] = MathFunctions.copyVector(mecanumVectors[i]);
-
-            mecanumVectorsCopy[i].rotateVector(robotHeading);
-        }
+        // this rotates the drive vectors into the robot's frame, which is the same as rotating the
+        // mecanum vectors by the robot's heading
+        double cos = Math.cos(robotHeading);
+        double sin = Math.sin(robotHeading);
+        double robotLeftX = cos * leftX + sin * leftY;
+        double robotLeftY = cos * leftY - sin * leftX;
+        double robotRightX = cos * rightX + sin * rightY;
+        double robotRightY = cos * rightY - sin * rightX;
 
-        wheelPowers[0] = (mecanumVectorsCopy[1].getXComponent()*truePathingVectors[0].getYComponent() - truePathingVectors[0].getXComponent()*mecanumVectorsCopy[1].getYComponent()) / (mecanumVectorsCopy[1].getXComponent()*mecanumVectorsCopy[0].getYComponent() - mecanumVectorsCopy[0].getXComponent()*mecanumVectorsCopy[1].getYComponent());
-        wheelPowers[1] = (mecanumVectorsCopy[0].getXComponent()*truePathingVectors[0].getYComponent() - truePathingVectors[0].getXComponent()*mecanumVectorsCopy[0].getYComponent()) / (mecanumVectorsCopy[0].getXComponent()*mecanumVectorsCopy[1].getYComponent() - mecanumVectorsCopy[1].getXComponent()*mecanumVectorsCopy[0].getYComponent());
-        wheelPowers[2] = (mecanumVectorsCopy[3].getXComponent()*truePathingVectors[1].getYComponent() - truePathingVectors[1].getXComponent()*mecanumVectorsCopy[3].getYComponent()) / (mecanumVectorsCopy[3].getXComponent()*mecanumVectorsCopy[2].getYComponent() - mecanumVectorsCopy[2].getXComponent()*mecanumVectorsCopy[3].getYComponent());
-        wheelPowers[3] = (mecanumVectorsCopy[2].getXComponent()*truePathingVectors[1].getYComponent() - truePathingVectors[1].getXComponent()*mecanumVectorsCopy[2].getYComponent()) / (mecanumVectorsCopy[2].getXComponent()*mecanumVectorsCopy[3].getYComponent() - mecanumVectorsCopy[3].getXComponent()*mecanumVectorsCopy[2].getYComponent());
+        wheelPowers[0] = leftInverseKinematics[0] * robotLeftX + leftInverseKinematics[1] * robotLeftY;
+        wheelPowers[1] = leftInverseKinematics[2] * robotLeftX + leftInverseKinematics[3] * robotLeftY;
+        wheelPowers[2] = rightInverseKinematics[0] * robotRightX + rightInverseKinematics[1] * robotRightY;
+        wheelPowers[3] = rightInverseKinematics[2] * robotRightX + rightInverseKinematics[3] * robotRightY;
 
         double wheelPowerMax = Math.max(Math.max(Math.abs(wheelPowers[0]), Math.abs(wheelPowers[1])), Math.max(Math.abs(wheelPowers[2]), Math.abs(wheelPowers[3])));
         if (wheelPowerMax > maxPowerScaling) {
@@ -149,11 +214,24 @@ public class DriveVectorScaler {
      * @return returns the scaling factor for the variable Vector.
      */
     public double findNormalizingScaling(Vector staticVector, Vector variableVector) {
-            double a = Math.pow(variableVector.getXComponent(), 2) + Math.pow(variableVector.getYComponent(), 2);
-            double b = staticVector.getXComponent() * variableVector.getXComponent() + staticVector.getYComponent() * variableVector.getYComponent();
-            double c = Math.pow(staticVector.getXComponent(), 2) + Math.pow(staticVector.getYComponent(), 2) - Math.pow(maxPowerScaling, 2);
-            return (-b + Math.sqrt(Math.pow(b, 2) - a*c))/(a);
+        return findNormalizingScaling(staticVector.getXComponent(), staticVector.getYComponent(), variableVector.getXComponent(), variableVector.getYComponent());
+    }
 
+    /**
+     * This does the same thing as findNormalizingScaling(Vector, Vector), but with the components
+     * of the Vectors passed in directly.
+     *
+     * @param staticX the x component of the Vector that is held constant.
+     * @param staticY the y component of the Vector that is held constant.
+     * @param variableX the x component of the Vector getting scaled.
+     * @param variableY the y component of the Vector getting scaled.
+     * @return returns the scaling factor for the variable Vector.
+     */
+    private double findNormalizingScaling(double staticX, double staticY, double variableX, double variableY) {
+        double a = variableX * variableX + variableY * variableY;
+        double b = staticX * variableX + staticY * variableY;
+        double c = staticX * staticX + staticY * staticY - maxPowerScaling * maxPowerScaling;
+        return (-b + Math.sqrt(b * b - a * c)) / a;
     }
 
     /**
@@ -1,42 +1,43 @@
 package pedroPathing.follower;
 
-import static com.pedropathing.follower.FollowerConstants.automaticHoldEnd;
-import static com.pedropathing.follower.FollowerConstants.cacheInvalidateSeconds;
-import static com.pedropathing.follower.FollowerConstants.drivePIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.drivePIDFSwitch;
-import static com.pedropathing.follower.FollowerConstants.forwardZeroPowerAcceleration;
-import static com.pedropathing.follower.FollowerConstants.headingPIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.headingPIDFSwitch;
-import static com.pedropathing.follower.FollowerConstants.lateralZeroPowerAcceleration;
-import static com.pedropathing.follower.FollowerConstants.leftFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.leftRearMotorName;
-import static com.pedropathing.follower.FollowerConstants.nominalVoltage;
-import static com.pedropathing.follower.FollowerConstants.rightFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.rightRearMotorName;
-import static com.pedropathing.follower.FollowerConstants.leftFrontMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.leftRearMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.rightFrontMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.rightRearMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.secondaryDrivePIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.secondaryHeadingPIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.secondaryTranslationalPIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.translationalPIDFFeedForward;
-import static com.pedropathing.follower.FollowerConstants.translationalPIDFSwitch;
-import static com.pedropathing.follower.FollowerConstants.useSecondaryDrivePID;
-import static com.pedropathing.follower.FollowerConstants.useSecondaryHeadingPID;
-import static com.pedropathing.follower.FollowerConstants.useSecondaryTranslationalPID;
-import static com.pedropathing.follower.FollowerConstants.useVoltageCompensationInAuto;
-import static com.pedropathing.follower.FollowerConstants.useVoltageCompensationInTeleOp;
+import static pedroPathing.follower.FollowerConstants.automaticHoldEnd;
+import static pedroPathing.follower.FollowerConstants.cacheInvalidateSeconds;
+import static pedroPathing.follower.FollowerConstants.drivePIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.drivePIDFSwitch;
+import static pedroPathing.follower.FollowerConstants.forwardZeroPowerAcceleration;
+import static pedroPathing.follower.FollowerConstants.headingPIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.headingPIDFSwitch;
+import static pedroPathing.follower.FollowerConstants.lateralZeroPowerAcceleration;
+import static pedroPathing.follower.FollowerConstants.leftFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.leftRearMotorName;
+import static pedroPathing.follower.FollowerConstants.nominalVoltage;
+import static pedroPathing.follower.FollowerConstants.rightFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.rightRearMotorName;
+import static pedroPathing.follower.FollowerConstants.leftFrontMotorDirection;
+import static pedroPathing.follower.FollowerConstants.leftRearMotorDirection;
+import static pedroPathing.follower.FollowerConstants.rightFrontMotorDirection;
+import static pedroPathing.follower.FollowerConstants.rightRearMotorDirection;
+import static pedroPathing.follower.FollowerConstants.secondaryDrivePIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.secondaryHeadingPIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.secondaryTranslationalPIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.translationalPIDFFeedForward;
+import static pedroPathing.follower.FollowerConstants.translationalPIDFSwitch;
+import static pedroPathing.follower.FollowerConstants.useSecondaryDrivePID;
+import static pedroPathing.follower.FollowerConstants.useSecondaryHeadingPID;
+import static pedroPathing.follower.FollowerConstants.useSecondaryTranslationalPID;
+import static pedroPathing.follower.FollowerConstants.useVoltageCompensationInAuto;
+import static pedroPathing.follower.FollowerConstants.useVoltageCompensationInTeleOp;
 
 import android.util.Log;
 
 import com.acmerobotics.dashboard.config.Config;
 import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
-import com.pedropathing.follower.DriveVectorScaler;
-import com.pedropathing.follower.FollowerConstants;
-import com.pedropathing.util.Constants;
-import com.pedropathing.util.CustomFilteredPIDFCoefficients;
-import com.pedropathing.util.CustomPIDFCoefficients;
+import pedroPathing.follower.DriveVectorScaler;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.util.Clock;
+import pedroPathing.util.Constants;
+import pedroPathing.util.CustomFilteredPIDFCoefficients;
+import pedroPathing.util.CustomPIDFCoefficients;
 import com.qualcomm.robotcore.hardware.DcMotor;
 import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.HardwareMap;
@@ -44,26 +45,36 @@ import com.qualcomm.robotcore.hardware.VoltageSensor;
 import com.qualcomm.robotcore.hardware.configuration.typecontainers.MotorConfigurationType;
 
 import org.firstinspires.ftc.robotcore.external.Telemetry;
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.localization.PoseUpdater;
-import com.pedropathing.pathgen.BezierPoint;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Path;
-import com.pedropathing.pathgen.PathBuilder;
-import com.pedropathing.pathgen.PathCallback;
-import com.pedropathing.pathgen.PathChain;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.DashboardPoseTracker;
-import com.pedropathing.util.Drawing;
-import com.pedropathing.util.FilteredPIDFController;
-import com.pedropathing.util.KalmanFilter;
-import com.pedropathing.util.PIDFController;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.PoseHistory;
+import pedroPathing.localization.PoseUpdater;
+import pedroPathing.localization.localizers.SimulatedMecanumLocalizer;
+import pedroPathing.pathgen.BezierPoint;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.PathBuilder;
+import pedroPathing.pathgen.PathCallback;
+import pedroPathing.pathgen.PathChain;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.pathgen.VelocityProfile;
+import pedroPathing.util.DashboardPoseTracker;
+import pedroPathing.util.DashboardPublisher;
+import pedroPathing.util.FilteredPIDFController;
+import pedroPathing.util.FlightRecorder;
+import pedroPathing.util.KalmanFilter;
+import pedroPathing.util.LoopClock;
+import pedroPathing.util.LoopStats;
+import pedroPathing.util.MotorOutputStage;
+import pedroPathing.util.NanoTimer;
+import pedroPathing.util.PIDFController;
 import com.qualcomm.robotcore.util.ElapsedTime;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -85,10 +96,15 @@ public class Follower {
     private DcMotorEx rightRear;
     private List<DcMotorEx> motors;
 
+    // The drive motors are always the first ones registered with the MotorOutputStage
+    private static final int DRIVE_MOTOR_COUNT = 4;
+    private MotorOutputStage motorOutputStage;
+
     private DriveVectorScaler driveVectorScaler;
 
     public PoseUpdater poseUpdater;
     private DashboardPoseTracker dashboardPoseTracker;
+    private final DashboardPublisher dashboardPublisher = new DashboardPublisher();
 
     private Pose closestPose;
 
@@ -126,9 +142,9 @@ public class Follower {
     private ArrayList<Vector> velocities = new ArrayList<>();
     private ArrayList<Vector> accelerations = new ArrayList<>();
 
-    private Vector averageVelocity;
-    private Vector averagePreviousVelocity;
-    private Vector averageAcceleration;
+    private Vector averageVelocity = new Vector();
+    private Vector averagePreviousVelocity = new Vector();
+    private Vector averageAcceleration = new Vector();
     private Vector secondaryTranslationalIntegralVector;
     private Vector translationalIntegralVector;
     private Vector teleopDriveVector;
@@ -139,6 +155,32 @@ public class Follower {
     public Vector centripetalVector;
     public Vector correctiveVector;
 
+    // These are reused every update so following doesn't make new Vectors each loop
+    private final Vector tangentVector = new Vector();
+    private final Vector unitTangentVector = new Vector();
+    private final Vector normalVector = new Vector();
+    private final Vector velocityVector = new Vector();
+    private final Vector projectionVector = new Vector();
+    private final Vector integralStepVector = new Vector();
+    private final Vector scaledTranslationalVector = new Vector();
+    private final Vector distanceToGoalVector = new Vector();
+    private final Vector tangentVelocityVector = new Vector();
+    private final Vector forwardHeadingVector = new Vector();
+    private final Vector lateralHeadingVector = new Vector();
+    private final Vector forwardVelocityError = new Vector();
+    private final Vector lateralVelocityError = new Vector();
+    private final Vector velocityErrorVector = new Vector();
+    private final Vector holdPointTranslationalVector = new Vector();
+    private final Vector holdPointHeadingVector = new Vector();
+    private final Vector holdPointDriveVector = new Vector();
+    private final Vector velocitySample = new Vector();
+    private final Vector accelerationSample = new Vector();
+    private final Vector translationalErrorVector = new Vector();
+    private final Vector endOffsetVector = new Vector();
+    private final Vector endTangentVector = new Vector();
+    private final Pose poseSample = new Pose();
+    private final Pose closestPoseSample = new Pose();
+
     private double centripetalScaling;
 
     private PIDFController secondaryTranslationalPIDF;
@@ -173,9 +215,15 @@ public class Follower {
     public double voltage = 0;
     private final ElapsedTime voltageTimer = new ElapsedTime();
 
-    private boolean logDebug = true;
+    // This is the flight record of the current update, which is filled in at the end of the update
+    private FlightRecorder flightRecorder;
+    private final double[] flightRecord = new double[FlightRecorder.FIELD_COUNT];
+    private int flightRecordFlags;
+
+    private NanoTimer zeroVelocityDetectedTimer;
 
-    private ElapsedTime zeroVelocityDetectedTimer;
+    // This is the time of the current update, which every PIDF, timer and the localizer reads
+    private final LoopClock loopClock = new LoopClock(Clock.SYSTEM);
 
     /**
      * This creates a new Follower given a HardwareMap.
@@ -198,6 +246,17 @@ public class Follower {
         initialize(localizer);
     }
 
+    /**
+     * This creates a new Follower that drives a SimulatedMecanumLocalizer instead of a robot, so
+     * it can be run without one. Nothing from a HardwareMap is used, the voltage is always the
+     * nominal voltage, there's no flight recorder, and the Follower runs on the simulation's clock.
+     * @param simulator the SimulatedMecanumLocalizer to drive
+     */
+    public Follower(SimulatedMecanumLocalizer simulator, Class<?> FConstants, Class<?> LConstants) {
+        setupConstants(FConstants, LConstants);
+        initializeSimulation(simulator);
+    }
+
     /**
      * Setup constants for the Follower.
      * @param FConstants the constants for the Follower
@@ -218,6 +277,14 @@ public class Follower {
         headingPIDF = new PIDFController(FollowerConstants.headingPIDFCoefficients);
         secondaryDrivePIDF = new FilteredPIDFController(FollowerConstants.secondaryDrivePIDFCoefficients);
         drivePIDF = new FilteredPIDFController(FollowerConstants.drivePIDFCoefficients);
+        secondaryTranslationalPIDF.setClock(loopClock);
+        secondaryTranslationalIntegral.setClock(loopClock);
+        translationalPIDF.setClock(loopClock);
+        translationalIntegral.setClock(loopClock);
+        secondaryHeadingPIDF.setClock(loopClock);
+        headingPIDF.setClock(loopClock);
+        secondaryDrivePIDF.setClock(loopClock);
+        drivePIDF.setClock(loopClock);
         driveKalmanFilter = new KalmanFilter(FollowerConstants.driveKalmanFilterParameters);
         turnHeadingErrorThreshold = FollowerConstants.turnHeadingErrorThreshold;
     }
@@ -230,6 +297,7 @@ public class Follower {
      */
     public void initialize() {
         poseUpdater = new PoseUpdater(hardwareMap);
+        poseUpdater.setClock(loopClock);
         driveVectorScaler = new DriveVectorScaler(FollowerConstants.frontLeftVector);
 
         voltageSensor = hardwareMap.voltageSensor.iterator().next();
@@ -246,6 +314,11 @@ public class Follower {
 
         motors = Arrays.asList(leftFront, leftRear, rightFront, rightRear);
 
+        motorOutputStage = new MotorOutputStage();
+        for (DcMotorEx motor : motors) {
+            motorOutputStage.register(motor);
+        }
+
         for (DcMotorEx motor : motors) {
             MotorConfigurationType motorConfigurationType = motor.getMotorType().clone();
             motorConfigurationType.setAchieveableMaxRPMFraction(1.0);
@@ -256,6 +329,8 @@ public class Follower {
 
         dashboardPoseTracker = new DashboardPoseTracker(poseUpdater);
 
+        startFlightRecorder();
+
         breakFollowing();
     }
 
@@ -269,6 +344,7 @@ public class Follower {
 
     public void initialize(Localizer localizer) {
         poseUpdater = new PoseUpdater(hardwareMap, localizer);
+        poseUpdater.setClock(loopClock);
         driveVectorScaler = new DriveVectorScaler(FollowerConstants.frontLeftVector);
 
         voltageSensor = hardwareMap.voltageSensor.iterator().next();
@@ -285,6 +361,11 @@ public class Follower {
 
         motors = Arrays.asList(leftFront, leftRear, rightFront, rightRear);
 
+        motorOutputStage = new MotorOutputStage();
+        for (DcMotorEx motor : motors) {
+            motorOutputStage.register(motor);
+        }
+
         for (DcMotorEx motor : motors) {
             MotorConfigurationType motorConfigurationType = motor.getMotorType().clone();
             motorConfigurationType.setAchieveableMaxRPMFraction(1.0);
@@ -295,9 +376,74 @@ public class Follower {
 
         dashboardPoseTracker = new DashboardPoseTracker(poseUpdater);
 
+        startFlightRecorder();
+
         breakFollowing();
     }
 
+    /**
+     * This initializes the follower to drive a SimulatedMecanumLocalizer.
+     * In this, the DriveVectorScaler and PoseUpdater is instantiated and the simulated drive motors
+     * are registered with the MotorOutputStage. There are no real drive motors to set up.
+     * @param simulator the SimulatedMecanumLocalizer to drive
+     */
+    public void initializeSimulation(SimulatedMecanumLocalizer simulator) {
+        poseUpdater = new PoseUpdater(null, simulator);
+        poseUpdater.setClock(loopClock);
+        loopClock.setSource(simulator.getSimulationClock());
+        driveVectorScaler = new DriveVectorScaler(FollowerConstants.frontLeftVector);
+
+        motors = Collections.emptyList();
+
+        motorOutputStage = new MotorOutputStage();
+        for (int i = 0; i < DRIVE_MOTOR_COUNT; i++) {
+            motorOutputStage.register(simulator.getMotor(i));
+        }
+
+        dashboardPoseTracker = new DashboardPoseTracker(poseUpdater);
+
+        breakFollowing();
+    }
+
+    /**
+     * This sets the Clock the Follower reads the time from. It's read once at the start of every
+     * update, and every PIDF, timeout, and the localizer use that same time until the next update.
+     * By default this is the real time from System.nanoTime().
+     *
+     * @param source the Clock to read from.
+     */
+    public void setClock(Clock source) {
+        loopClock.setSource(source);
+    }
+
+    /**
+     * This returns the LoopClock, which holds the time of the current update.
+     *
+     * @return returns the LoopClock.
+     */
+    public LoopClock getLoopClock() {
+        return loopClock;
+    }
+
+    /**
+     * This returns the time of the current update in milliseconds.
+     *
+     * @return returns the time in milliseconds.
+     */
+    private long getLoopTimeMillis() {
+        return loopClock.nanoTime() / 1_000_000;
+    }
+
+    /**
+     * This returns the time right now from the Follower's Clock in milliseconds, for things that
+     * happen between updates, like starting a path.
+     *
+     * @return returns the time in milliseconds.
+     */
+    private long getCurrentTimeMillis() {
+        return loopClock.getSource().nanoTime() / 1_000_000;
+    }
+
     public void setCentripetalScaling(double set) {
         centripetalScaling = set;
     }
@@ -385,7 +531,7 @@ public class Follower {
      * @return returns the magnitude of the current velocity.
      */
     public double getVelocityMagnitude() {
-        return poseUpdater.getVelocity().getMagnitude();
+        return poseUpdater.getVelocity(velocitySample).getMagnitude();
     }
 
     /**
@@ -484,7 +630,7 @@ public class Follower {
         followingPathChain = false;
         currentPath = new Path(point);
         currentPath.setConstantHeadingInterpolation(heading);
-        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), 1);
+        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), 1, closestPoseSample);
     }
 
     /**
@@ -520,7 +666,7 @@ public class Follower {
         isBusy = true;
         followingPathChain = false;
         currentPath = path;
-        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), BEZIER_CURVE_SEARCH_LIMIT);
+        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), BEZIER_CURVE_SEARCH_LIMIT, closestPoseSample);
     }
 
     /**
@@ -565,13 +711,13 @@ public class Follower {
         breakFollowing();
         holdPositionAtEnd = holdEnd;
         pathStartTimes = new long[pathChain.size()];
-        pathStartTimes[0] = System.currentTimeMillis();
+        pathStartTimes[0] = getCurrentTimeMillis();
         isBusy = true;
         followingPathChain = true;
         chainIndex = 0;
         currentPathChain = pathChain;
         currentPath = pathChain.getPath(chainIndex);
-        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), BEZIER_CURVE_SEARCH_LIMIT);
+        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), BEZIER_CURVE_SEARCH_LIMIT, closestPoseSample);
         currentPathChain.resetCallbacks();
     }
 
@@ -580,9 +726,9 @@ public class Follower {
      */
     public void resumePathFollowing() {
         pathStartTimes = new long[currentPathChain.size()];
-        pathStartTimes[0] = System.currentTimeMillis();
+        pathStartTimes[0] = getCurrentTimeMillis();
         isBusy = true;
-        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), BEZIER_CURVE_SEARCH_LIMIT);
+        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), BEZIER_CURVE_SEARCH_LIMIT, closestPoseSample);
     }
 
     /**
@@ -599,13 +745,16 @@ public class Follower {
 
     /**
      * Calls an update to the PoseUpdater, which updates the robot's current position estimate.
+     * This also adds to the pose history when it's time to, and lets the localizer know if the
+     * Follower is only turning in place or holding a point.
      */
     public void updatePose() {
+        poseUpdater.getLocalizer().setHoldingTranslation(!teleopDrive && currentPath != null && holdingPosition);
         poseUpdater.update();
 
-        if (drawOnDashboard) {
-            dashboardPoseTracker.update();
-        }
+        long startTime = System.nanoTime();
+        dashboardPoseTracker.update();
+        poseUpdater.getLoopStats().record(LoopStats.DASHBOARD, System.nanoTime() - startTime);
     }
 
     /**
@@ -613,26 +762,25 @@ public class Follower {
      * This also updates all the Follower's PIDFs, which updates the motor powers.
      */
     public void update() {
+        loopClock.sample();
+        LoopStats loopStats = poseUpdater.getLoopStats();
+        long startTime = System.nanoTime();
+        loopStats.recordLoopStart(startTime);
+
         updatePose();
 
         if (!teleopDrive) {
             if (currentPath != null) {
                 if (holdingPosition) {
-                    closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), 1);
-
-                    drivePowers = driveVectorScaler.getDrivePowers(MathFunctions.scalarMultiplyVector(getTranslationalCorrection(), holdPointTranslationalScaling), MathFunctions.scalarMultiplyVector(getHeadingVector(), holdPointHeadingScaling), new Vector(), poseUpdater.getPose().getHeading());
+                    long stageStartTime = System.nanoTime();
+                    closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), 1, closestPoseSample);
+                    long controlStartTime = System.nanoTime();
+                    loopStats.record(LoopStats.CLOSEST_POINT, controlStartTime - stageStartTime);
 
-                    for (int i = 0; i < motors.size(); i++) {
-                        if (Math.abs(motors.get(i).getPower() - drivePowers[i]) > FollowerConstants.motorCachingThreshold) {
-                            double voltageNormalized = getVoltageNormalized();
+                    drivePowers = driveVectorScaler.getDrivePowers(MathFunctions.scalarMultiplyVector(getTranslationalCorrection(), holdPointTranslationalScaling, holdPointTranslationalVector), MathFunctions.scalarMultiplyVector(getHeadingVector(), holdPointHeadingScaling, holdPointHeadingVector), holdPointDriveVector, poseUpdater.getPose(poseSample).getHeading());
 
-                            if (useVoltageCompensationInAuto) {
-                                motors.get(i).setPower(drivePowers[i] * voltageNormalized);
-                            } else {
-                                motors.get(i).setPower(drivePowers[i]);
-                            }
-                        }
-                    }
+                    setDrivePowers(useVoltageCompensationInAuto);
+                    loopStats.record(LoopStats.CONTROL, System.nanoTime() - controlStartTime);
 
                     if(headingError < turnHeadingErrorThreshold && isTurning) {
                         isTurning = false;
@@ -640,78 +788,57 @@ public class Follower {
                     }
                 } else {
                     if (isBusy) {
-                        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), BEZIER_CURVE_SEARCH_LIMIT);
+                        long stageStartTime = System.nanoTime();
+                        closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), BEZIER_CURVE_SEARCH_LIMIT, closestPoseSample);
+                        long controlStartTime = System.nanoTime();
+                        loopStats.record(LoopStats.CLOSEST_POINT, controlStartTime - stageStartTime);
 
                         if (followingPathChain) updateCallbacks();
 
-                        drivePowers = driveVectorScaler.getDrivePowers(getCorrectiveVector(), getHeadingVector(), getDriveVector(), poseUpdater.getPose().getHeading());
+                        drivePowers = driveVectorScaler.getDrivePowers(getCorrectiveVector(), getHeadingVector(), getDriveVector(), poseUpdater.getPose(poseSample).getHeading());
 
-                        for (int i = 0; i < motors.size(); i++) {
-                            if (Math.abs(motors.get(i).getPower() - drivePowers[i]) > FollowerConstants.motorCachingThreshold) {
-                                double voltageNormalized = getVoltageNormalized();
-
-                                if (useVoltageCompensationInAuto) {
-                                    motors.get(i).setPower(drivePowers[i] * voltageNormalized);
-                                } else {
-                                    motors.get(i).setPower(drivePowers[i]);
-                                }
-                            }
-                        }
+                        setDrivePowers(useVoltageCompensationInAuto);
+                        loopStats.record(LoopStats.CONTROL, System.nanoTime() - controlStartTime);
                     }
 
                     // try to fix the robot stop near the end issue
                     // if robot is almost reach the end and velocity is close to zero
                     // then, break the following if other criteria meet
-                    if (poseUpdater.getVelocity().getMagnitude() < 1.0 && currentPath.getClosestPointTValue() > 0.8
+                    if (poseUpdater.getVelocity(velocitySample).getMagnitude() < 1.0 && currentPath.getClosestPointTValue() > 0.8
                             && zeroVelocityDetectedTimer == null && isBusy) {
-                        zeroVelocityDetectedTimer = new ElapsedTime(ElapsedTime.Resolution.MILLISECONDS);
-                        Log.d("Follower_logger", "!!!! Robot stuck !!!!");
-
-                        debugLog();
+                        zeroVelocityDetectedTimer = new NanoTimer(loopClock);
                     }
 
                     if (currentPath.isAtParametricEnd() ||
-                            (zeroVelocityDetectedTimer != null && zeroVelocityDetectedTimer.milliseconds() > 500.0)) {
+                            (zeroVelocityDetectedTimer != null && zeroVelocityDetectedTimer.getElapsedTimeSeconds() > 0.5)) {
                         if (followingPathChain && chainIndex < currentPathChain.size() - 1) {
 
-                            if (logDebug) {
-                                Log.d("Follower_logger", "chainIndex: " + chainIndex + " | Pose: " + getPose());
-                            }
                             // Not at last path, keep going
+                            flightRecordFlags |= FlightRecorder.FLAG_NEXT_PATH;
                             breakFollowing();
-                            pathStartTimes[chainIndex] = System.currentTimeMillis();
+                            pathStartTimes[chainIndex] = getLoopTimeMillis();
                             isBusy = true;
                             followingPathChain = true;
                             chainIndex++;
                             currentPath = currentPathChain.getPath(chainIndex);
-                            closestPose = currentPath.getClosestPoint(poseUpdater.getPose(), BEZIER_CURVE_SEARCH_LIMIT);
+                            closestPose = currentPath.getClosestPoint(poseUpdater.getPose(poseSample), BEZIER_CURVE_SEARCH_LIMIT, closestPoseSample);
                         } else {
                             // At last path, run some end detection stuff
                             // set isBusy to false if at end
                             if (!reachedParametricPathEnd) {
                                 reachedParametricPathEnd = true;
-                                reachedParametricPathEndTime = System.currentTimeMillis();
+                                reachedParametricPathEndTime = getLoopTimeMillis();
                             }
 
-                            if ((System.currentTimeMillis() - reachedParametricPathEndTime > currentPath.getPathEndTimeoutConstraint()) ||
-                                    (poseUpdater.getVelocity().getMagnitude() < currentPath.getPathEndVelocityConstraint()
-                                            && MathFunctions.distance(poseUpdater.getPose(), closestPose) < currentPath.getPathEndTranslationalConstraint() &&
-                                            MathFunctions.getSmallestAngleDifference(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal()) < currentPath.getPathEndHeadingConstraint())) {
+                            if ((getLoopTimeMillis() - reachedParametricPathEndTime > currentPath.getPathEndTimeoutConstraint()) ||
+                                    (poseUpdater.getVelocity(velocitySample).getMagnitude() < currentPath.getPathEndVelocityConstraint()
+                                            && MathFunctions.distance(poseUpdater.getPose(poseSample), closestPose) < currentPath.getPathEndTranslationalConstraint() &&
+                                            MathFunctions.getSmallestAngleDifference(poseUpdater.getPose(poseSample).getHeading(), currentPath.getClosestPointHeadingGoal()) < currentPath.getPathEndHeadingConstraint())) {
                                 if (holdPositionAtEnd) {
                                     holdPositionAtEnd = false;
                                     holdPoint(new BezierPoint(currentPath.getLastControlPoint()), currentPath.getHeadingGoal(1));
                                 } else {
-                                    if (logDebug && isBusy) {
-                                        Log.d("Follower_final_logger::", "isAtParametricEnd:" + currentPath.isAtParametricEnd()
-                                                + " | isBusy: " + isBusy
-                                                + " | closestPose:" + closestPose
-                                                + " | Pose: " + getPose()
-                                                + " | t-value: " + String.format("%3.5f", currentPath.getClosestPointTValue())
-                                                + " | velocity: " + String.format("%3.2f", poseUpdater.getVelocity().getMagnitude())
-                                                + " | distance: " + String.format("%3.2f", MathFunctions.distance(poseUpdater.getPose(), closestPose))
-                                                + " | heading (degree): " + String.format("%3.2f", Math.toDegrees(MathFunctions.getSmallestAngleDifference(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal())))
-                                        );
-                                    }
+                                    if (isBusy) flightRecordFlags |= FlightRecorder.FLAG_PATH_END;
 
                                     breakFollowing();
                                 }
@@ -722,24 +849,102 @@ public class Follower {
                 }
             }
         } else {
-            velocities.add(poseUpdater.getVelocity());
+            long controlStartTime = System.nanoTime();
+            velocities.add(poseUpdater.getVelocity(velocitySample));
             velocities.remove(velocities.get(velocities.size() - 1));
 
             calculateAveragedVelocityAndAcceleration();
 
-            drivePowers = driveVectorScaler.getDrivePowers(getCentripetalForceCorrection(), teleopHeadingVector, teleopDriveVector, poseUpdater.getPose().getHeading());
+            drivePowers = driveVectorScaler.getDrivePowers(getCentripetalForceCorrection(), teleopHeadingVector, teleopDriveVector, poseUpdater.getPose(poseSample).getHeading());
 
-            for (int i = 0; i < motors.size(); i++) {
-                if (Math.abs(motors.get(i).getPower() - drivePowers[i]) > FollowerConstants.motorCachingThreshold) {
-                    double voltageNormalized = getVoltageNormalized();
+            setDrivePowers(useVoltageCompensationInTeleOp);
+            loopStats.record(LoopStats.CONTROL, System.nanoTime() - controlStartTime);
+        }
 
-                    if (useVoltageCompensationInTeleOp) {
-                        motors.get(i).setPower(drivePowers[i] * voltageNormalized);
-                    } else {
-                        motors.get(i).setPower(drivePowers[i]);
-                    }
-                }
-            }
+        long motorOutputStartTime = System.nanoTime();
+        motorOutputStage.flush();
+        long endTime = System.nanoTime();
+        loopStats.record(LoopStats.MOTOR_OUTPUT, endTime - motorOutputStartTime);
+
+        if (flightRecorder != null && flightRecorder.isRunning()) recordFlight(endTime);
+        loopStats.record(LoopStats.FOLLOWER_UPDATE, System.nanoTime() - startTime);
+    }
+
+    /**
+     * This starts a FlightRecorder writing to a new file, if useFlightRecorder is on. If the file
+     * can't be opened, the Follower runs without one.
+     */
+    private void startFlightRecorder() {
+        if (!FollowerConstants.useFlightRecorder) return;
+
+        flightRecorder = new FlightRecorder(FollowerConstants.flightRecorderCapacity);
+        try {
+            flightRecorder.start(FlightRecorder.newFile(FollowerConstants.flightRecordsToKeep));
+        } catch (IOException e) {
+            Log.w("Follower", "Could not start the flight recorder", e);
+            flightRecorder = null;
+        }
+    }
+
+    /**
+     * This fills in the flight record for this update and gives it to the FlightRecorder.
+     *
+     * @param timestamp the time the update finished, from System.nanoTime().
+     */
+    private void recordFlight(long timestamp) {
+        Pose pose = poseUpdater.getPose(poseSample);
+        Vector velocity = poseUpdater.getVelocity(velocitySample);
+        flightRecord[FlightRecorder.X] = pose.getX();
+        flightRecord[FlightRecorder.Y] = pose.getY();
+        flightRecord[FlightRecorder.HEADING] = pose.getHeading();
+        flightRecord[FlightRecorder.VELOCITY_X] = velocity.getXComponent();
+        flightRecord[FlightRecorder.VELOCITY_Y] = velocity.getYComponent();
+        flightRecord[FlightRecorder.T_VALUE] = getCurrentTValue();
+        flightRecord[FlightRecorder.PATH_NUMBER] = getCurrentPathNumber();
+        flightRecord[FlightRecorder.DRIVE_ERROR] = driveError;
+        flightRecord[FlightRecorder.HEADING_ERROR] = headingError;
+        flightRecord[FlightRecorder.TRANSLATIONAL_X] = translationalVector.getXComponent();
+        flightRecord[FlightRecorder.TRANSLATIONAL_Y] = translationalVector.getYComponent();
+        flightRecord[FlightRecorder.CENTRIPETAL_X] = centripetalVector.getXComponent();
+        flightRecord[FlightRecorder.CENTRIPETAL_Y] = centripetalVector.getYComponent();
+        flightRecord[FlightRecorder.HEADING_POWER] = headingVector.getMagnitude();
+        flightRecord[FlightRecorder.DRIVE_X] = driveVector.getXComponent();
+        flightRecord[FlightRecorder.DRIVE_Y] = driveVector.getYComponent();
+        flightRecord[FlightRecorder.LEFT_FRONT_POWER] = motorOutputStage.getWrittenPower(0);
+        flightRecord[FlightRecorder.LEFT_REAR_POWER] = motorOutputStage.getWrittenPower(1);
+        flightRecord[FlightRecorder.RIGHT_FRONT_POWER] = motorOutputStage.getWrittenPower(2);
+        flightRecord[FlightRecorder.RIGHT_REAR_POWER] = motorOutputStage.getWrittenPower(3);
+
+        int flags = flightRecordFlags;
+        if (isBusy) flags |= FlightRecorder.FLAG_BUSY;
+        if (holdingPosition) flags |= FlightRecorder.FLAG_HOLDING;
+        if (teleopDrive) flags |= FlightRecorder.FLAG_TELEOP;
+        if (isTurning) flags |= FlightRecorder.FLAG_TURNING;
+        if (zeroVelocityDetectedTimer != null) flags |= FlightRecorder.FLAG_STUCK;
+        flightRecorder.record(timestamp, flags, flightRecord);
+        flightRecordFlags = 0;
+    }
+
+    /**
+     * This returns the FlightRecorder, which records the state of the Follower every update.
+     *
+     * @return returns the FlightRecorder, or null if useFlightRecorder is off.
+     */
+    public FlightRecorder getFlightRecorder() {
+        return flightRecorder;
+    }
+
+    /**
+     * This sets the drive motor powers from the drive powers in the MotorOutputStage. They are
+     * written when the MotorOutputStage is flushed at the end of the update.
+     *
+     * @param useVoltageCompensation if the powers should be scaled by the normalized voltage.
+     */
+    private void setDrivePowers(boolean useVoltageCompensation) {
+        double voltageNormalized = useVoltageCompensation ? getVoltageNormalized() : 1;
+
+        for (int i = 0; i < DRIVE_MOTOR_COUNT; i++) {
+            motorOutputStage.setPower(i, drivePowers[i] * voltageNormalized);
         }
     }
 
@@ -774,10 +979,10 @@ public class Follower {
         teleopDriveVector.setMagnitude(MathFunctions.clamp(teleopDriveVector.getMagnitude(), 0, 1));
 
         if (robotCentric) {
-            teleopDriveVector.rotateVector(getPose().getHeading());
+            teleopDriveVector.rotateVector(poseUpdater.getPose(poseSample).getHeading());
         }
 
-        teleopHeadingVector.setComponents(teleopDriveValues[2], getPose().getHeading());
+        teleopHeadingVector.setComponents(teleopDriveValues[2], poseUpdater.getPose(poseSample).getHeading());
     }
 
     /**
@@ -785,28 +990,28 @@ public class Follower {
      * real-time correction of centripetal force, which is used in teleop.
      */
     public void calculateAveragedVelocityAndAcceleration() {
-        averageVelocity = new Vector();
-        averagePreviousVelocity = new Vector();
+        averageVelocity.setComponents(0, 0);
+        averagePreviousVelocity.setComponents(0, 0);
 
         for (int i = 0; i < velocities.size() / 2; i++) {
-            averageVelocity = MathFunctions.addVectors(averageVelocity, velocities.get(i));
+            MathFunctions.addVectors(averageVelocity, velocities.get(i), averageVelocity);
         }
-        averageVelocity = MathFunctions.scalarMultiplyVector(averageVelocity, 1.0 / ((double) velocities.size() / 2));
+        MathFunctions.scalarMultiplyVector(averageVelocity, 1.0 / ((double) velocities.size() / 2), averageVelocity);
 
         for (int i = velocities.size() / 2; i < velocities.size(); i++) {
-            averagePreviousVelocity = MathFunctions.addVectors(averagePreviousVelocity, velocities.get(i));
+            MathFunctions.addVectors(averagePreviousVelocity, velocities.get(i), averagePreviousVelocity);
         }
-        averagePreviousVelocity = MathFunctions.scalarMultiplyVector(averagePreviousVelocity, 1.0 / ((double) velocities.size() / 2));
+        MathFunctions.scalarMultiplyVector(averagePreviousVelocity, 1.0 / ((double) velocities.size() / 2), averagePreviousVelocity);
 
-        accelerations.add(MathFunctions.subtractVectors(averageVelocity, averagePreviousVelocity));
+        accelerations.add(MathFunctions.subtractVectors(averageVelocity, averagePreviousVelocity, accelerationSample));
         accelerations.remove(accelerations.size() - 1);
 
-        averageAcceleration = new Vector();
+        averageAcceleration.setComponents(0, 0);
 
         for (int i = 0; i < accelerations.size(); i++) {
-            averageAcceleration = MathFunctions.addVectors(averageAcceleration, accelerations.get(i));
+            MathFunctions.addVectors(averageAcceleration, accelerations.get(i), averageAcceleration);
         }
-        averageAcceleration = MathFunctions.scalarMultiplyVector(averageAcceleration, 1.0 / accelerations.size());
+        MathFunctions.scalarMultiplyVector(averageAcceleration, 1.0 / accelerations.size(), averageAcceleration);
     }
 
     /**
@@ -822,7 +1027,7 @@ public class Follower {
                     }
                 } else {
                     // time based call back
-                    if (chainIndex >= callback.getIndex() && System.currentTimeMillis() - pathStartTimes[callback.getIndex()] > callback.getStartCondition()) {
+                    if (chainIndex >= callback.getIndex() && getLoopTimeMillis() - pathStartTimes[callback.getIndex()] > callback.getStartCondition()) {
                         callback.run();
                     }
 
@@ -831,6 +1036,20 @@ public class Follower {
         }
     }
 
+    /**
+     * This stops the Follower's background threads. The FlightRecorder writes the records that are
+     * left and closes its file, the DashboardPublisher stops sending frames, and the Localizer stops
+     * any threads reading its hardware, like an IMUSampler. This should be run
+     * when the OpMode stops, like from its stop() method, so the end of the flight record isn't
+     * lost if the app is closed before the next OpMode starts. The FlightRecorder isn't started
+     * again if the Follower is updated afterwards.
+     */
+    public void stop() {
+        if (flightRecorder != null) flightRecorder.stop();
+        dashboardPublisher.stop();
+        poseUpdater.getLocalizer().stop();
+    }
+
     /**
      * This resets the PIDFs and stops following the current Path.
      */
@@ -878,9 +1097,10 @@ public class Follower {
         teleopDriveVector = new Vector();
         teleopHeadingVector = new Vector();
 
-        for (int i = 0; i < motors.size(); i++) {
-            motors.get(i).setPower(0);
+        for (int i = 0; i < DRIVE_MOTOR_COUNT; i++) {
+            motorOutputStage.setPower(i, 0);
         }
+        motorOutputStage.flush();
 
         zeroVelocityDetectedTimer = null;
     }
@@ -898,14 +1118,24 @@ public class Follower {
      * This returns a Vector in the direction the robot must go to move along the path. This Vector
      * takes into account the projected position of the robot to calculate how much power is needed.
      * <p>
-     * Note: This vector is clamped to be at most 1 in magnitude.
+     * Note: This vector is clamped to be at most 1 in magnitude. The returned Vector is reused on
+     * the next call, so copy it if it needs to be kept.
      *
      * @return returns the drive vector.
      */
     public Vector getDriveVector() {
-        if (!useDrive) return new Vector();
+        if (!useDrive) {
+            driveVector.setComponents(0, 0);
+            return driveVector;
+        }
+        if (followingPathChain && currentPathChain.getVelocityProfile() != null
+                && (chainIndex < currentPathChain.size() - 1 || !currentPath.isAtParametricEnd())) {
+            driveVector.setComponents(getVelocityProfileDrivePower(), currentPath.getClosestPointTangentVector(tangentVector).getTheta());
+            return driveVector;
+        }
         if (followingPathChain && chainIndex < currentPathChain.size() - 1) {
-            return new Vector(driveVectorScaler.getMaxPowerScaling(), currentPath.getClosestPointTangentVector().getTheta());
+            driveVector.setComponents(driveVectorScaler.getMaxPowerScaling(), currentPath.getClosestPointTangentVector(tangentVector).getTheta());
+            return driveVector;
         }
 
         driveError = getDriveVelocityError();
@@ -913,13 +1143,55 @@ public class Follower {
         if (Math.abs(driveError) < drivePIDFSwitch && useSecondaryDrivePID) {
             // Log.d("Follower_logger_secondary::", "In secondary drive PIDF");
             secondaryDrivePIDF.updateError(driveError);
-            driveVector = new Vector(MathFunctions.clamp(secondaryDrivePIDF.runPIDF() + secondaryDrivePIDFFeedForward * MathFunctions.getSign(driveError), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), currentPath.getClosestPointTangentVector().getTheta());
-            return MathFunctions.copyVector(driveVector);
+            driveVector.setComponents(MathFunctions.clamp(secondaryDrivePIDF.runPIDF() + secondaryDrivePIDFFeedForward * MathFunctions.getSign(driveError), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), currentPath.getClosestPointTangentVector(tangentVector).getTheta());
+            return driveVector;
         }
 
         drivePIDF.updateError(driveError);
-        driveVector = new Vector(MathFunctions.clamp(drivePIDF.runPIDF() + drivePIDFFeedForward * MathFunctions.getSign(driveError), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), currentPath.getClosestPointTangentVector().getTheta());
-        return MathFunctions.copyVector(driveVector);
+        driveVector.setComponents(MathFunctions.clamp(drivePIDF.runPIDF() + drivePIDFFeedForward * MathFunctions.getSign(driveError), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), currentPath.getClosestPointTangentVector(tangentVector).getTheta());
+        return driveVector;
+    }
+
+    /**
+     * This returns the drive power along the Path needed to follow the VelocityProfile of the
+     * current PathChain. This is feedforward on the profiled velocity and acceleration at the
+     * closest Point, plus a proportional correction on how far off the profiled velocity the robot
+     * is. Once the robot is at the end of the last Path, the regular drive PIDF takes over to stop
+     * on the end Point.
+     *
+     * @return returns the drive power, clamped to the max power.
+     */
+    public double getVelocityProfileDrivePower() {
+        VelocityProfile profile = currentPathChain.getVelocityProfile();
+        double distance = profile.getDistance(chainIndex, currentPath.getClosestPointTValue());
+        double velocityGoal = profile.getVelocity(distance);
+        double accelerationGoal = profile.getAcceleration(distance);
+        Vector tangent = currentPath.getClosestPointUnitTangentVector(unitTangentVector);
+        double velocity = MathFunctions.dotProduct(poseUpdater.getVelocity(velocityVector), tangent);
+
+        driveError = velocityGoal - velocity;
+        double power = velocityGoal / getMaxVelocityAlong(tangent)
+                + FollowerConstants.profileAccelerationFeedForward * accelerationGoal
+                + FollowerConstants.profileVelocityP * driveError
+                + drivePIDFFeedForward * MathFunctions.getSign(velocityGoal);
+        return MathFunctions.clamp(power, -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling());
+    }
+
+    /**
+     * This returns the velocity the robot drives at with full power in the direction of a unit
+     * Vector. Forward this is xMovement and sideways this is yMovement, and in between it's the
+     * radius of the ellipse with those as its axes, at the angle of the Vector relative to the robot.
+     *
+     * @param direction the unit Vector to drive along, on the field.
+     * @return returns the max velocity along the Vector, in inches per second.
+     */
+    private double getMaxVelocityAlong(Vector direction) {
+        double heading = poseUpdater.getPose(poseSample).getHeading();
+        double cos = Math.cos(heading);
+        double sin = Math.sin(heading);
+        double forward = direction.getXComponent() * cos + direction.getYComponent() * sin;
+        double lateral = direction.getYComponent() * cos - direction.getXComponent() * sin;
+        return FollowerConstants.xMovement * FollowerConstants.yMovement / Math.hypot(FollowerConstants.yMovement * forward, FollowerConstants.xMovement * lateral);
     }
 
     /**
@@ -931,36 +1203,38 @@ public class Follower {
     public double getDriveVelocityError() {
         double distanceToGoal;
         if (!currentPath.isAtParametricEnd()) {
-            distanceToGoal = currentPath.length() * (1 - currentPath.getClosestPointTValue());
+            distanceToGoal = currentPath.getDistanceRemaining();
         } else {
-            Vector offset = new Vector();
-            offset.setOrthogonalComponents(getPose().getX() - currentPath.getLastControlPoint().getX(), getPose().getY() - currentPath.getLastControlPoint().getY());
-            distanceToGoal = MathFunctions.dotProduct(currentPath.getEndTangent(), offset);
+            Pose pose = poseUpdater.getPose(poseSample);
+            endOffsetVector.setOrthogonalComponents(pose.getX() - currentPath.getLastControlPoint().getX(), pose.getY() - currentPath.getLastControlPoint().getY());
+            distanceToGoal = MathFunctions.dotProduct(currentPath.getEndTangent(endTangentVector), endOffsetVector);
         }
 
-        Vector distanceToGoalVector = MathFunctions.scalarMultiplyVector(MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector()), distanceToGoal);
-        Vector velocity = new Vector(MathFunctions.dotProduct(getVelocity(), MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector())), currentPath.getClosestPointTangentVector().getTheta());
+        Vector tangent = currentPath.getClosestPointUnitTangentVector(unitTangentVector);
+        MathFunctions.scalarMultiplyVector(tangent, distanceToGoal, distanceToGoalVector);
+        Vector velocity = MathFunctions.scalarMultiplyVector(tangent, MathFunctions.dotProduct(poseUpdater.getVelocity(velocityVector), tangent), tangentVelocityVector);
 
-        Vector forwardHeadingVector = new Vector(1.0, poseUpdater.getPose().getHeading());
+        double heading = poseUpdater.getPose(poseSample).getHeading();
+        forwardHeadingVector.setComponents(1.0, heading);
 
         double forwardVelocity = MathFunctions.dotProduct(forwardHeadingVector, velocity);
         double forwardDistanceToGoal = MathFunctions.dotProduct(forwardHeadingVector, distanceToGoalVector);
         double forwardVelocityGoal = MathFunctions.getSign(forwardDistanceToGoal) * Math.sqrt(Math.abs(-2 * currentPath.getZeroPowerAccelerationMultiplier() * forwardZeroPowerAcceleration * (forwardDistanceToGoal <= 0 ? 1 : -1) * forwardDistanceToGoal));
         double forwardVelocityZeroPowerDecay = forwardVelocity - MathFunctions.getSign(forwardDistanceToGoal) * Math.sqrt(Math.abs(Math.pow(forwardVelocity, 2) + 2 * forwardZeroPowerAcceleration * Math.abs(forwardDistanceToGoal)));
 
-        Vector lateralHeadingVector = new Vector(1.0, poseUpdater.getPose().getHeading() - Math.PI / 2);
+        lateralHeadingVector.setComponents(1.0, heading - Math.PI / 2);
         double lateralVelocity = MathFunctions.dotProduct(lateralHeadingVector, velocity);
         double lateralDistanceToGoal = MathFunctions.dotProduct(lateralHeadingVector, distanceToGoalVector);
 
         double lateralVelocityGoal = MathFunctions.getSign(lateralDistanceToGoal) * Math.sqrt(Math.abs(-2 * currentPath.getZeroPowerAccelerationMultiplier() * lateralZeroPowerAcceleration * (lateralDistanceToGoal <= 0 ? 1 : -1) * lateralDistanceToGoal));
         double lateralVelocityZeroPowerDecay = lateralVelocity - MathFunctions.getSign(lateralDistanceToGoal) * Math.sqrt(Math.abs(Math.pow(lateralVelocity, 2) + 2 * lateralZeroPowerAcceleration * Math.abs(lateralDistanceToGoal)));
 
-        Vector forwardVelocityError = new Vector(forwardVelocityGoal - forwardVelocityZeroPowerDecay - forwardVelocity, forwardHeadingVector.getTheta());
-        Vector lateralVelocityError = new Vector(lateralVelocityGoal - lateralVelocityZeroPowerDecay - lateralVelocity, lateralHeadingVector.getTheta());
-        Vector velocityErrorVector = MathFunctions.addVectors(forwardVelocityError, lateralVelocityError);
+        forwardVelocityError.setComponents(forwardVelocityGoal - forwardVelocityZeroPowerDecay - forwardVelocity, forwardHeadingVector.getTheta());
+        lateralVelocityError.setComponents(lateralVelocityGoal - lateralVelocityZeroPowerDecay - lateralVelocity, lateralHeadingVector.getTheta());
+        MathFunctions.addVectors(forwardVelocityError, lateralVelocityError, velocityErrorVector);
 
         previousRawDriveError = rawDriveError;
-        rawDriveError = velocityErrorVector.getMagnitude() * MathFunctions.getSign(MathFunctions.dotProduct(velocityErrorVector, currentPath.getClosestPointTangentVector()));
+        rawDriveError = velocityErrorVector.getMagnitude() * MathFunctions.getSign(MathFunctions.dotProduct(velocityErrorVector, tangent));
 
         double projection = 2 * driveErrors[1] - driveErrors[0];
 
@@ -979,13 +1253,17 @@ public class Follower {
      * heading correction values turn the robot clockwise. So basically, Pedro Pathing uses a right-
      * handed coordinate system.
      * <p>
-     * Note: This vector is clamped to be at most 1 in magnitude.
+     * Note: This vector is clamped to be at most 1 in magnitude. The returned Vector is reused on
+     * the next call, so copy it if it needs to be kept.
      *
      * @return returns the heading vector.
      */
     public Vector getHeadingVector() {
-        if (!useHeading) return new Vector();
-        headingError = MathFunctions.getTurnDirection(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal()) * MathFunctions.getSmallestAngleDifference(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal());
+        if (!useHeading) {
+            headingVector.setComponents(0, 0);
+            return headingVector;
+        }
+        headingError = MathFunctions.getTurnDirection(poseUpdater.getPose(poseSample).getHeading(), currentPath.getClosestPointHeadingGoal()) * MathFunctions.getSmallestAngleDifference(poseUpdater.getPose(poseSample).getHeading(), currentPath.getClosestPointHeadingGoal());
         if (Math.abs(headingError) < headingPIDFSwitch && useSecondaryHeadingPID) {
 //            if(logDebug) {
 //                Log.d("Follower_logger", "using secondary heading PIDF controller, error: "
@@ -993,106 +1271,113 @@ public class Follower {
 //
 //            }
             secondaryHeadingPIDF.updateError(headingError);
-            headingVector = new Vector(MathFunctions.clamp(secondaryHeadingPIDF.runPIDF() + secondaryHeadingPIDFFeedForward * MathFunctions.getTurnDirection(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal()), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), poseUpdater.getPose().getHeading());
-            return MathFunctions.copyVector(headingVector);
+            headingVector.setComponents(MathFunctions.clamp(secondaryHeadingPIDF.runPIDF() + secondaryHeadingPIDFFeedForward * MathFunctions.getTurnDirection(poseUpdater.getPose(poseSample).getHeading(), currentPath.getClosestPointHeadingGoal()), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), poseUpdater.getPose(poseSample).getHeading());
+            return headingVector;
         }
         headingPIDF.updateError(headingError);
-        headingVector = new Vector(MathFunctions.clamp(headingPIDF.runPIDF() + headingPIDFFeedForward * MathFunctions.getTurnDirection(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal()), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), poseUpdater.getPose().getHeading());
-        return MathFunctions.copyVector(headingVector);
+        headingVector.setComponents(MathFunctions.clamp(headingPIDF.runPIDF() + headingPIDFFeedForward * MathFunctions.getTurnDirection(poseUpdater.getPose(poseSample).getHeading(), currentPath.getClosestPointHeadingGoal()), -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), poseUpdater.getPose(poseSample).getHeading());
+        return headingVector;
     }
 
     /**
      * This returns a combined Vector in the direction the robot must go to correct both translational
      * error as well as centripetal force.
      * <p>
-     * Note: This vector is clamped to be at most 1 in magnitude.
+     * Note: This vector is clamped to be at most 1 in magnitude. The returned Vector is reused on
+     * the next call, so copy it if it needs to be kept.
      *
      * @return returns the corrective vector.
      */
     public Vector getCorrectiveVector() {
         Vector centripetal = getCentripetalForceCorrection();
         Vector translational = getTranslationalCorrection();
-        Vector corrective = MathFunctions.addVectors(centripetal, translational);
+        MathFunctions.addVectors(centripetal, translational, correctiveVector);
 
-        if (corrective.getMagnitude() > driveVectorScaler.getMaxPowerScaling()) {
-            return MathFunctions.addVectors(centripetal, MathFunctions.scalarMultiplyVector(translational, driveVectorScaler.findNormalizingScaling(centripetal, translational)));
+        if (correctiveVector.getMagnitude() > driveVectorScaler.getMaxPowerScaling()) {
+            MathFunctions.addVectors(centripetal, MathFunctions.scalarMultiplyVector(translational, driveVectorScaler.findNormalizingScaling(centripetal, translational), scaledTranslationalVector), correctiveVector);
         }
 
-        correctiveVector = MathFunctions.copyVector(corrective);
-
-        return corrective;
+        return correctiveVector;
     }
 
     /**
      * This returns a Vector in the direction the robot must go to account for only translational
      * error.
      * <p>
-     * Note: This vector is clamped to be at most 1 in magnitude.
+     * Note: This vector is clamped to be at most 1 in magnitude. The returned Vector is reused on
+     * the next call, so copy it if it needs to be kept.
      *
      * @return returns the translational correction vector.
      */
     public Vector getTranslationalCorrection() {
-        if (!useTranslational) return new Vector();
-        Vector translationalVector = new Vector();
-        double x = closestPose.getX() - poseUpdater.getPose().getX();
-        double y = closestPose.getY() - poseUpdater.getPose().getY();
+        if (!useTranslational) {
+            translationalVector.setComponents(0, 0);
+            return translationalVector;
+        }
+        Pose pose = poseUpdater.getPose(poseSample);
+        double x = closestPose.getX() - pose.getX();
+        double y = closestPose.getY() - pose.getY();
         translationalVector.setOrthogonalComponents(x, y);
 
         if (!(currentPath.isAtParametricEnd() || currentPath.isAtParametricStart())) {
-            translationalVector = MathFunctions.subtractVectors(translationalVector, new Vector(MathFunctions.dotProduct(translationalVector, MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector())), currentPath.getClosestPointTangentVector().getTheta()));
+            Vector tangent = currentPath.getClosestPointUnitTangentVector(unitTangentVector);
+            MathFunctions.subtractVectors(translationalVector, MathFunctions.scalarMultiplyVector(tangent, MathFunctions.dotProduct(translationalVector, tangent), projectionVector), translationalVector);
 
-            secondaryTranslationalIntegralVector = MathFunctions.subtractVectors(secondaryTranslationalIntegralVector, new Vector(MathFunctions.dotProduct(secondaryTranslationalIntegralVector, MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector())), currentPath.getClosestPointTangentVector().getTheta()));
-            translationalIntegralVector = MathFunctions.subtractVectors(translationalIntegralVector, new Vector(MathFunctions.dotProduct(translationalIntegralVector, MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector())), currentPath.getClosestPointTangentVector().getTheta()));
+            MathFunctions.subtractVectors(secondaryTranslationalIntegralVector, MathFunctions.scalarMultiplyVector(tangent, MathFunctions.dotProduct(secondaryTranslationalIntegralVector, tangent), projectionVector), secondaryTranslationalIntegralVector);
+            MathFunctions.subtractVectors(translationalIntegralVector, MathFunctions.scalarMultiplyVector(tangent, MathFunctions.dotProduct(translationalIntegralVector, tangent), projectionVector), translationalIntegralVector);
         }
 
-        if (MathFunctions.distance(poseUpdater.getPose(), closestPose) < translationalPIDFSwitch && useSecondaryTranslationalPID) {
+        if (MathFunctions.distance(pose, closestPose) < translationalPIDFSwitch && useSecondaryTranslationalPID) {
             secondaryTranslationalIntegral.updateError(translationalVector.getMagnitude());
-            secondaryTranslationalIntegralVector = MathFunctions.addVectors(secondaryTranslationalIntegralVector, new Vector(secondaryTranslationalIntegral.runPIDF() - previousSecondaryTranslationalIntegral, translationalVector.getTheta()));
+            integralStepVector.setComponents(secondaryTranslationalIntegral.runPIDF() - previousSecondaryTranslationalIntegral, translationalVector.getTheta());
+            MathFunctions.addVectors(secondaryTranslationalIntegralVector, integralStepVector, secondaryTranslationalIntegralVector);
             previousSecondaryTranslationalIntegral = secondaryTranslationalIntegral.runPIDF();
 
             secondaryTranslationalPIDF.updateError(translationalVector.getMagnitude());
             translationalVector.setMagnitude(secondaryTranslationalPIDF.runPIDF() + secondaryTranslationalPIDFFeedForward);
-            translationalVector = MathFunctions.addVectors(translationalVector, secondaryTranslationalIntegralVector);
+            MathFunctions.addVectors(translationalVector, secondaryTranslationalIntegralVector, translationalVector);
         } else {
             translationalIntegral.updateError(translationalVector.getMagnitude());
-            translationalIntegralVector = MathFunctions.addVectors(translationalIntegralVector, new Vector(translationalIntegral.runPIDF() - previousTranslationalIntegral, translationalVector.getTheta()));
+            integralStepVector.setComponents(translationalIntegral.runPIDF() - previousTranslationalIntegral, translationalVector.getTheta());
+            MathFunctions.addVectors(translationalIntegralVector, integralStepVector, translationalIntegralVector);
             previousTranslationalIntegral = translationalIntegral.runPIDF();
 
             translationalPIDF.updateError(translationalVector.getMagnitude());
             translationalVector.setMagnitude(translationalPIDF.runPIDF() + translationalPIDFFeedForward);
-            translationalVector = MathFunctions.addVectors(translationalVector, translationalIntegralVector);
+            MathFunctions.addVectors(translationalVector, translationalIntegralVector, translationalVector);
         }
 
         translationalVector.setMagnitude(MathFunctions.clamp(translationalVector.getMagnitude(), 0, driveVectorScaler.getMaxPowerScaling()));
 
-        this.translationalVector = MathFunctions.copyVector(translationalVector);
-
         return translationalVector;
     }
 
     /**
      * This returns the raw translational error, or how far off the closest point the robot is.
+     * The returned Vector is reused on the next call, so copy it if it needs to be kept.
      *
      * @return This returns the raw translational error as a Vector.
      */
     public Vector getTranslationalError() {
-        Vector error = new Vector();
-        double x = closestPose.getX() - poseUpdater.getPose().getX();
-        double y = closestPose.getY() - poseUpdater.getPose().getY();
-        error.setOrthogonalComponents(x, y);
-        return error;
+        Pose pose = poseUpdater.getPose(poseSample);
+        translationalErrorVector.setOrthogonalComponents(closestPose.getX() - pose.getX(), closestPose.getY() - pose.getY());
+        return translationalErrorVector;
     }
 
     /**
      * This returns a Vector in the direction the robot must go to account for only centripetal
      * force.
      * <p>
-     * Note: This vector is clamped to be between [0, 1] in magnitude.
+     * Note: This vector is clamped to be between [0, 1] in magnitude. The returned Vector is
+     * reused on the next call, so copy it if it needs to be kept.
      *
      * @return returns the centripetal force correction vector.
      */
     public Vector getCentripetalForceCorrection() {
-        if (!useCentripetal) return new Vector();
+        if (!useCentripetal) {
+            centripetalVector.setComponents(0, 0);
+            return centripetalVector;
+        }
         double curvature;
         if (!teleopDrive) {
             curvature = currentPath.getClosestPointCurvature();
@@ -1101,8 +1386,12 @@ public class Follower {
             double yDoublePrime = averageAcceleration.getYComponent() / averageVelocity.getXComponent();
             curvature = (yDoublePrime) / (Math.pow(Math.sqrt(1 + Math.pow(yPrime, 2)), 3));
         }
-        if (Double.isNaN(curvature)) return new Vector();
-        centripetalVector = new Vector(MathFunctions.clamp(centripetalScaling * FollowerConstants.mass * Math.pow(MathFunctions.dotProduct(poseUpdater.getVelocity(), MathFunctions.normalizeVector(currentPath.getClosestPointTangentVector())), 2) * curvature, -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), currentPath.getClosestPointTangentVector().getTheta() + Math.PI / 2 * MathFunctions.getSign(currentPath.getClosestPointNormalVector().getTheta()));
+        if (Double.isNaN(curvature)) {
+            centripetalVector.setComponents(0, 0);
+            return centripetalVector;
+        }
+        Vector tangent = currentPath.getClosestPointUnitTangentVector(unitTangentVector);
+        centripetalVector.setComponents(MathFunctions.clamp(centripetalScaling * FollowerConstants.mass * Math.pow(MathFunctions.dotProduct(poseUpdater.getVelocity(velocityVector), tangent), 2) * curvature, -driveVectorScaler.getMaxPowerScaling(), driveVectorScaler.getMaxPowerScaling()), tangent.getTheta() + Math.PI / 2 * MathFunctions.getSign(currentPath.getClosestPointNormalVector(normalVector).getTheta()));
         return centripetalVector;
     }
 
@@ -1110,6 +1399,7 @@ public class Follower {
      * This returns the closest pose to the robot on the Path the Follower is currently following.
      * This closest pose is calculated through a binary search method with some specified number of
      * steps to search. By default, 10 steps are used, which should be more than enough.
+     * The returned Pose is written over on the next update, so copy it if it needs to be kept.
      *
      * @return returns the closest pose.
      */
@@ -1194,7 +1484,7 @@ public class Follower {
         driveKalmanFilter.debug(telemetry);
         telemetry.update();
         if (drawOnDashboard) {
-            Drawing.drawDebug(this);
+            dashboardPublisher.publish(this);
         }
     }
 
@@ -1208,6 +1498,28 @@ public class Follower {
         telemetryDebug(new MultipleTelemetry(telemetry));
     }
 
+    /**
+     * This returns the LoopStats, which has the times each stage of the updates took and the loop
+     * frequency.
+     *
+     * @return returns the LoopStats.
+     */
+    public LoopStats getLoopStats() {
+        return poseUpdater.getLoopStats();
+    }
+
+    /**
+     * This writes out the loop frequency and the stage times from the LoopStats to the Telemetry
+     * specified, then updates the Telemetry.
+     *
+     * @param telemetry this is an instance of Telemetry or the FTC Dashboard telemetry that this
+     *                  method will use to output the loop stats.
+     */
+    public void telemetryLoopStats(Telemetry telemetry) {
+        getLoopStats().telemetryDebug(telemetry);
+        telemetry.update();
+    }
+
     /**
      * This returns the total number of radians the robot has turned.
      *
@@ -1235,6 +1547,16 @@ public class Follower {
         return dashboardPoseTracker;
     }
 
+    /**
+     * This returns the pose history, which has the robot's recent poses and velocities with the
+     * time of each from the loop clock.
+     *
+     * @return returns the pose history
+     */
+    public PoseHistory getPoseHistory() {
+        return dashboardPoseTracker.getPoseHistory();
+    }
+
     /**
      * This resets the IMU, if applicable.
      */
@@ -1242,19 +1564,6 @@ public class Follower {
         poseUpdater.resetIMU();
     }
 
-    private void debugLog() {
-        Log.d("Follower_logger::", "isAtParametricEnd:" + currentPath.isAtParametricEnd()
-                + " | isBusy: " + isBusy
-                + " | closestPose:" + closestPose
-                + " | Pose: " + getPose()
-                + " | t-value: " + String.format("%3.5f",currentPath.getClosestPointTValue())
-                + " | zeroVelocityTimer: " +  String.format("%3.2f",(zeroVelocityDetectedTimer==null?0.0: zeroVelocityDetectedTimer.milliseconds()))
-                + " | velocity: " + String.format("%3.2f",poseUpdater.getVelocity().getMagnitude())
-                + " | distance: " +  String.format("%3.2f",MathFunctions.distance(poseUpdater.getPose(), closestPose))
-                + " | heading (degree): " +  String.format("%3.2f",Math.toDegrees(MathFunctions.getSmallestAngleDifference(poseUpdater.getPose().getHeading(), currentPath.getClosestPointHeadingGoal())))
-        );
-    }
-
     //Thanks to team 21229 Quality Control for creating this algorithm to detect if the robot is stuck.
     /**
      * @return true if the robot is stuck and false otherwise
@@ -1264,19 +1573,40 @@ public class Follower {
     }
 
     /**
-     * Draws everything in the debug() method on the dashboard
+     * Draws everything in the debug() method on the dashboard. The drawing is sent by the
+     * DashboardPublisher's thread at most dashboardPublishRate times a second.
      */
 
     public void drawOnDashBoard() {
         if (drawOnDashboard) {
-            Drawing.drawDebug(this);
+            dashboardPublisher.publish(this);
         }
     }
 
+    /**
+     * This returns the DashboardPublisher, which sends the field drawing to FTC Dashboard.
+     *
+     * @return returns the DashboardPublisher.
+     */
+    public DashboardPublisher getDashboardPublisher() {
+        return dashboardPublisher;
+    }
+
     public boolean isLocalizationNAN() {
         return poseUpdater.getLocalizer().isNAN();
     }
 
+    /**
+     * This returns the MotorOutputStage that writes the drive motor powers. Mechanism motors can be
+     * registered with it, so their powers are written with the drive powers at the end of each
+     * update.
+     *
+     * @return returns the MotorOutputStage.
+     */
+    public MotorOutputStage getMotorOutputStage() {
+        return motorOutputStage;
+    }
+
     /**
      * @return The last cached voltage measurement.
      */
@@ -1303,7 +1633,7 @@ public class Follower {
      */
     public void refreshVoltage() {
         cached = true;
-        voltage = voltageSensor.getVoltage();
+        voltage = voltageSensor == null ? nominalVoltage : voltageSensor.getVoltage();
         voltageTimer.reset();
     }
 
@@ -2,14 +2,14 @@ package pedroPathing.follower;
 
 
 import com.acmerobotics.dashboard.config.Config;
-import com.pedropathing.localization.Localizers;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
+import pedroPathing.localization.Localizers;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Point;
 import com.qualcomm.robotcore.hardware.DcMotorSimple;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.CustomFilteredPIDFCoefficients;
-import com.pedropathing.util.CustomPIDFCoefficients;
-import com.pedropathing.util.KalmanFilterParameters;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.CustomFilteredPIDFCoefficients;
+import pedroPathing.util.CustomPIDFCoefficients;
+import pedroPathing.util.KalmanFilterParameters;
 
 /**
  * This is the FollowerConstants class. It holds many constants and parameters for various parts of
@@ -63,9 +63,15 @@ public class FollowerConstants {
     public static DcMotorSimple.Direction rightRearMotorDirection = DcMotorSimple.Direction.FORWARD;
 
     /** The motor caching threshold
+     *  A motor power is only written if it has changed by more than this since it was last written.
      *  Default Value: 0.01 */
     public static double motorCachingThreshold = 0.01;
 
+    /** Put every hub into manual bulk caching, so encoders and other sensors on a hub are read
+     *  once a loop in one bulk read. The PoseUpdater clears the cache at the start of every update.
+     *  Default Value: true */
+    public static boolean useBulkReading = true;
+
     /** The Forward Velocity of the Robot - Different for each robot
      *  Default Value: 81.34056 */
     public static double xMovement = 81.34056;
@@ -232,6 +238,36 @@ public class FollowerConstants {
      *  Default Value: 10 */
     public static int BEZIER_CURVE_SEARCH_LIMIT = 10;
 
+    /** This is the number of evenly spaced t-values the closest point search samples ahead of time.
+     * The samples seed the search and catch it when it gets stuck on the wrong part of a curve.
+     * More samples make that check more reliable on tight curves, but take slightly more time.
+     *  Default Value: 32 */
+    public static int BEZIER_CURVE_SEARCH_SAMPLES = 32;
+
+    /** This is the maximum time in milliseconds the search for the closest point can take before
+     * it stops with its best guess so far.
+     *  Default Value: 1 */
+    public static double BEZIER_CURVE_SEARCH_TIME_LIMIT = 1;
+
+    /** This is the distance in inches along the curve that the search for the closest point has to
+     * move by less than in one step to be considered done.
+     *  Default Value: 0.01 */
+    public static double BEZIER_CURVE_SEARCH_TOLERANCE = 0.01;
+
+    /** This activates/deactivates precomputed Path profiles. When on, each Path samples its tangent,
+     * curvature and heading goal ahead of time and the Follower looks them up instead of working
+     * them out every loop.
+     * @see #PATH_PROFILE_STEPS
+     *  Default Value: false */
+    public static boolean usePathProfiles = false;
+
+    /** This is the number of steps a precomputed Path profile is sampled at. More steps lead to
+     * bigger accuracy, but take more time to precompute and more memory. This can't be more than
+     * the APPROXIMATION_STEPS.
+     * @see #APPROXIMATION_STEPS
+     *  Default Value: 200 */
+    public static int PATH_PROFILE_STEPS = 200;
+
     /** This activates/deactivates the secondary translational PIDF. It takes over at a certain translational error
      * @see #translationalPIDFSwitch
      *  Default Value: false */
@@ -343,6 +379,7 @@ public class FollowerConstants {
 
     /** Time (in seconds) before reading voltage again
      *  Will only read voltage if useVoltageCompensation is true.
+     *  Motor powers are also written again after this long, even if they haven't changed.
      *  Default Value: 0.5 */
     public static double cacheInvalidateSeconds = 0.5;
 
@@ -350,4 +387,77 @@ public class FollowerConstants {
      *  In Radians
      *  Default Value: 0.01 */
     public static double turnHeadingErrorThreshold = 0.01;
+
+    /** This activates/deactivates velocity profiles. When on, PathChains made with a PathBuilder
+     * get a velocity profile that slows down for sharp curves, and the Follower drives along it with
+     * feedforward instead of at max power.
+     *  Default Value: false */
+    public static boolean useVelocityProfile = false;
+
+    /** The fastest the velocity profile will drive along a PathChain
+     *  In Inches/Second
+     *  Default Value: 60 */
+    public static double profileMaxVelocity = 60;
+
+    /** The fastest the velocity profile will speed up
+     *  In Inches/Second^2
+     *  Default Value: 60 */
+    public static double profileMaxAcceleration = 60;
+
+    /** The fastest the velocity profile will slow down
+     *  In Inches/Second^2
+     *  Default Value: 40 */
+    public static double profileMaxDeceleration = 40;
+
+    /** The highest centripetal acceleration the velocity profile allows on curves. Lowering this
+     * makes the robot take curves slower.
+     *  In Inches/Second^2
+     *  Default Value: 60 */
+    public static double profileMaxCentripetalAcceleration = 60;
+
+    /** The distance between the samples of a velocity profile
+     *  In Inches
+     *  Default Value: 1 */
+    public static double profileResolution = 1;
+
+    /** This is the power added per inch/second^2 of acceleration the velocity profile asks for. The
+     * power for the velocity itself comes from xMovement and yMovement, by which way the robot is
+     * driving relative to itself.
+     *  Default Value: 0.002 */
+    public static double profileAccelerationFeedForward = 0.002;
+
+    /** This is the power added per inch/second the robot is slower than the velocity profile
+     *  Default Value: 0.01 */
+    public static double profileVelocityP = 0.01;
+
+    /** The time between Follower updates when the Follower is run by a FollowerThread
+     *  In Milliseconds
+     *  Default Value: 10 */
+    public static double followerThreadPeriodMilliseconds = 10;
+
+    /** Record the state of the Follower every update to a flight record file on the Control Hub
+     *  Default Value: true */
+    public static boolean useFlightRecorder = true;
+
+    /** The number of records the flight recorder can hold before they're written to the file
+     *  Default Value: 1024 */
+    public static int flightRecorderCapacity = 1024;
+
+    /** The most flight record files kept on the Control Hub. The oldest are deleted first.
+     *  Default Value: 20 */
+    public static int flightRecordsToKeep = 20;
+
+    /** The most times a second the field drawing is sent to FTC Dashboard
+     *  In Hertz
+     *  Default Value: 20 */
+    public static double dashboardPublishRate = 20;
+
+    /** The number of poses kept in the Follower's pose history, which is drawn on FTC Dashboard
+     *  Default Value: 30 */
+    public static int poseHistoryCapacity = 30;
+
+    /** The time between poses in the Follower's pose history
+     *  In Milliseconds
+     *  Default Value: 50 */
+    public static double poseHistoryPeriodMilliseconds = 50;
 }
@@ -0,0 +1,306 @@
+package pedroPathing.follower;
+
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Vector;
+
+/**
+ * This is the FollowerSnapshot class. This holds a copy of the state of a Follower at the end of
+ * one of its updates. A FollowerThread keeps two FollowerSnapshots and fills in the one the OpMode
+ * isn't reading after every update, then swaps them, so updating doesn't make anything new and
+ * neither thread has to lock anything.
+ * <p>
+ * Like the IMUSampler, a sequence number is made odd while a FollowerSnapshot is being filled in
+ * and even once it's done, so a FollowerSnapshot can be copied without ever getting half of one
+ * update and half of another. The FollowerSnapshot from getSnapshot() is filled in again two
+ * updates later, so it should be gotten again every loop, or copied with getSnapshot(output) if it
+ * needs to be kept.
+ * <p>
+ * A FollowerSnapshot from a FollowerThread also has the number of commands that start following
+ * that had been run when it was filled in, so it can still say the Follower is busy when followPath
+ * or holdPoint has been posted but not run yet.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class FollowerSnapshot {
+    private final FollowerThread followerThread;
+
+    // The sequence is odd while the FollowerSnapshot is being filled in
+    private volatile long sequence;
+
+    private volatile double x;
+    private volatile double y;
+    private volatile double heading;
+
+    private volatile double velocityX;
+    private volatile double velocityY;
+    private volatile double driveError;
+    private volatile double headingError;
+    private volatile double currentTValue;
+    private volatile double currentPathNumber;
+
+    private volatile boolean busy;
+    private volatile boolean turning;
+
+    private volatile long timestamp;
+    private volatile long updateNumber;
+    private volatile long commandNumber;
+
+    private final Vector velocity = new Vector();
+
+    /**
+     * This creates a new, empty FollowerSnapshot, to copy a FollowerThread's FollowerSnapshot into.
+     */
+    public FollowerSnapshot() {
+        this(null);
+    }
+
+    /**
+     * This creates a new, empty FollowerSnapshot belonging to a FollowerThread.
+     *
+     * @param followerThread the FollowerThread, or null if there isn't one.
+     */
+    FollowerSnapshot(FollowerThread followerThread) {
+        this.followerThread = followerThread;
+    }
+
+    /**
+     * This fills in the FollowerSnapshot from a Follower. This should only be run by the thread
+     * updating the Follower.
+     *
+     * @param follower the Follower.
+     * @param timestamp the time the update finished, from System.nanoTime().
+     * @param updateNumber the number of updates the Follower has run, including this one.
+     * @param commandNumber the number of commands that start following run before this update.
+     */
+    void update(Follower follower, long timestamp, long updateNumber, long commandNumber) {
+        Pose pose = follower.poseUpdater.getRawPose();
+        follower.poseUpdater.getVelocity(velocity);
+
+        sequence++;
+        x = pose.getX() + follower.poseUpdater.getXOffset();
+        y = pose.getY() + follower.poseUpdater.getYOffset();
+        heading = pose.getHeading() + follower.poseUpdater.getHeadingOffset();
+        velocityX = velocity.getXComponent();
+        velocityY = velocity.getYComponent();
+        driveError = follower.driveError;
+        headingError = follower.headingError;
+        currentTValue = follower.getCurrentTValue();
+        currentPathNumber = follower.getCurrentPathNumber();
+        busy = follower.isBusy();
+        turning = follower.isTurning();
+        this.timestamp = timestamp;
+        this.updateNumber = updateNumber;
+        this.commandNumber = commandNumber;
+        sequence++;
+    }
+
+    /**
+     * This copies another FollowerSnapshot into this one, trying again if the other one is filled
+     * in while it's being copied. This should only be run by the thread that owns this one.
+     *
+     * @param other the FollowerSnapshot to copy.
+     */
+    void copyFrom(FollowerSnapshot other) {
+        while (true) {
+            long startSequence = other.sequence;
+            if ((startSequence & 1) == 0) {
+                double copyX = other.x;
+                double copyY = other.y;
+                double copyHeading = other.heading;
+                double copyVelocityX = other.velocityX;
+                double copyVelocityY = other.velocityY;
+                double copyDriveError = other.driveError;
+                double copyHeadingError = other.headingError;
+                double copyCurrentTValue = other.currentTValue;
+                double copyCurrentPathNumber = other.currentPathNumber;
+                boolean copyBusy = other.busy;
+                boolean copyTurning = other.turning;
+                long copyTimestamp = other.timestamp;
+                long copyUpdateNumber = other.updateNumber;
+                long copyCommandNumber = other.commandNumber;
+                if (other.sequence == startSequence) {
+                    sequence++;
+                    x = copyX;
+                    y = copyY;
+                    heading = copyHeading;
+                    velocityX = copyVelocityX;
+                    velocityY = copyVelocityY;
+                    driveError = copyDriveError;
+                    headingError = copyHeadingError;
+                    currentTValue = copyCurrentTValue;
+                    currentPathNumber = copyCurrentPathNumber;
+                    // this keeps the commands waiting when it was copied, since the copy has no FollowerThread
+                    busy = copyBusy || (other.followerThread != null && copyCommandNumber < other.followerThread.getPostedCommandCount());
+                    turning = copyTurning;
+                    timestamp = copyTimestamp;
+                    updateNumber = copyUpdateNumber;
+                    commandNumber = copyCommandNumber;
+                    sequence++;
+                    return;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * This returns the pose of the robot.
+     *
+     * @return returns a new Pose.
+     */
+    public Pose getPose() {
+        return getPose(new Pose());
+    }
+
+    /**
+     * This writes the pose of the robot into a specified Pose, without making a new Pose.
+     *
+     * @param output the Pose the pose is written into.
+     * @return returns the output Pose.
+     */
+    public Pose getPose(Pose output) {
+        output.setX(x);
+        output.setY(y);
+        output.setHeading(heading);
+        return output;
+    }
+
+    /**
+     * This returns the x position of the robot.
+     *
+     * @return returns the x position.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * This returns the y position of the robot.
+     *
+     * @return returns the y position.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * This returns the heading of the robot.
+     *
+     * @return returns the heading in radians.
+     */
+    public double getHeading() {
+        return heading;
+    }
+
+    /**
+     * This returns the x component of the robot's velocity.
+     *
+     * @return returns the x velocity.
+     */
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * This returns the y component of the robot's velocity.
+     *
+     * @return returns the y velocity.
+     */
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * This returns the magnitude of the robot's velocity.
+     *
+     * @return returns the velocity magnitude.
+     */
+    public double getVelocityMagnitude() {
+        return Math.hypot(velocityX, velocityY);
+    }
+
+    /**
+     * This returns the drive error of the Follower.
+     *
+     * @return returns the drive error.
+     */
+    public double getDriveError() {
+        return driveError;
+    }
+
+    /**
+     * This returns the heading error of the Follower.
+     *
+     * @return returns the heading error.
+     */
+    public double getHeadingError() {
+        return headingError;
+    }
+
+    /**
+     * This returns the t value of the closest point on the current Path, or 1.0 if there isn't one.
+     *
+     * @return returns the t value.
+     */
+    public double getCurrentTValue() {
+        return currentTValue;
+    }
+
+    /**
+     * This returns the number of the current Path in the PathChain being followed.
+     *
+     * @return returns the path number.
+     */
+    public double getCurrentPathNumber() {
+        return currentPathNumber;
+    }
+
+    /**
+     * This returns if the Follower was busy, or if followPath or holdPoint had been posted to the
+     * FollowerThread but hadn't been run yet when this FollowerSnapshot was filled in. This way, checking
+     * isBusy right after posting followPath says the Follower is busy, like it would without a
+     * FollowerThread.
+     *
+     * @return returns if the Follower was busy or has commands waiting.
+     */
+    public boolean isBusy() {
+        return busy || (followerThread != null && commandNumber < followerThread.getPostedCommandCount());
+    }
+
+    /**
+     * This returns if the Follower was turning.
+     *
+     * @return returns if the Follower was turning.
+     */
+    public boolean isTurning() {
+        return turning;
+    }
+
+    /**
+     * This returns the time the update finished.
+     *
+     * @return returns the time in nanoseconds, from System.nanoTime().
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * This returns the number of updates the Follower had run.
+     *
+     * @return returns the number of updates.
+     */
+    public long getUpdateNumber() {
+        return updateNumber;
+    }
+
+    /**
+     * This returns the number of commands that start following that had been run on the Follower,
+     * which are followPath and holdPoint.
+     *
+     * @return returns the number of commands.
+     */
+    public long getCommandNumber() {
+        return commandNumber;
+    }
+}
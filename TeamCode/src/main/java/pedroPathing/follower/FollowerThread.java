@@ -0,0 +1,557 @@
+package pedroPathing.follower;
+
+import static pedroPathing.follower.FollowerConstants.followerThreadPeriodMilliseconds;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.PathChain;
+
+/**
+ * This is the FollowerThread class. This runs a Follower on its own thread, updating it every
+ * followerThreadPeriodMilliseconds instead of whenever the OpMode loop gets to it. This keeps the
+ * time between updates, and so the time step of every PIDF, the same no matter how much else the
+ * OpMode does in its loop.
+ * <p>
+ * Once the FollowerThread is started, the Follower should only be used by the FollowerThread.
+ * Commands like followPath are put in a mailbox and run at the start of the next update, and the
+ * state of the Follower is read from the FollowerSnapshot filled in at the end of the last update.
+ * Setting up the Follower, like setStartingPose, should be done before the FollowerThread is
+ * started.
+ * <p>
+ * Like the FlightRecorder, the mailbox is a ring of commands made when the FollowerThread is, shared
+ * through two sequence numbers, so posting never locks, waits, or throws. Commands must only be
+ * posted from one thread, like the OpMode. If the ring is full, the oldest command that hasn't been
+ * run is dropped and counted to make room. The teleop movement vectors aren't put in the ring, since
+ * only the newest ones matter. They're written into their own slot with a sequence number like the
+ * IMUSampler's, and run after the commands in the ring at the start of each update.
+ * <p>
+ * The commands that start following, which are followPath and holdPoint, are counted, so the
+ * FollowerSnapshot says the Follower is busy from when followPath is posted, not just from the next
+ * update.
+ * <p>
+ * Mechanism motors registered with the Follower's MotorOutputStage can be set from the OpMode
+ * thread, since the MotorOutputStage is safe to set from one thread and flush from another. Their
+ * powers are written at the end of the next update.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class FollowerThread implements Runnable {
+    // This is the most commands that can be waiting to be run. Posting more drops the oldest one
+    public static final int MAILBOX_CAPACITY = 32;
+
+    private static final int RUNNABLE = 0;
+    private static final int FOLLOW_PATH = 1;
+    private static final int FOLLOW_PATH_CHAIN = 2;
+    private static final int HOLD_POINT = 3;
+    private static final int START_TELEOP_DRIVE = 4;
+    private static final int BREAK_FOLLOWING = 5;
+
+    private final Follower follower;
+
+    // These are the commands waiting to be run, in a ring, and the copy the next one is run from
+    private final Command[] mailbox = new Command[MAILBOX_CAPACITY];
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong readSequence = new AtomicLong();
+    private final Command currentCommand = new Command();
+    private volatile long droppedCommandCount;
+
+    // These are the newest teleop movement vectors. The sequence is odd while they're being written
+    private volatile long vectorSequence;
+    private volatile double forwardDrive;
+    private volatile double lateralDrive;
+    private volatile double headingDrive;
+    private volatile boolean robotCentric;
+    private long appliedVectorSequence;
+
+    // These count the commands that start following
+    private volatile long postedCommandCount;
+    private volatile long appliedCommandCount;
+
+    // The snapshot the OpMode reads is one of these two, and the other is filled in after each update
+    private final FollowerSnapshot[] snapshots = new FollowerSnapshot[2];
+    private volatile FollowerSnapshot snapshot;
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+
+    // These are only written by the FollowerThread, so they're safe to read from the OpMode
+    private volatile long updateCount;
+    private volatile long missedDeadlineCount;
+    private volatile long lastUpdateTime;
+    private volatile long maxUpdateTime;
+    private volatile long maxStartDelay;
+
+    /**
+     * This creates a new FollowerThread for a Follower.
+     *
+     * @param follower the Follower.
+     */
+    public FollowerThread(Follower follower) {
+        this.follower = follower;
+        for (int i = 0; i < MAILBOX_CAPACITY; i++) {
+            mailbox[i] = new Command();
+        }
+        snapshots[0] = new FollowerSnapshot(this);
+        snapshots[1] = new FollowerSnapshot(this);
+        snapshots[0].update(follower, System.nanoTime(), 0, 0);
+        snapshot = snapshots[0];
+    }
+
+    /**
+     * This starts updating the Follower on its own thread. This does nothing if it's already
+     * started.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        failure = null;
+        thread = new Thread(this, "FollowerThread");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * This stops updating the Follower and waits for the last update to finish, then stops the
+     * drive motors and the Follower's background threads, like its FlightRecorder. Any commands
+     * that haven't been run are dropped. The Follower can be used from the OpMode again after this.
+     */
+    public synchronized void stop() {
+        if (thread == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        for (int i = 0; i < MAILBOX_CAPACITY; i++) {
+            mailbox[i].clear();
+        }
+        readSequence.set(writeSequence.get());
+        appliedVectorSequence = vectorSequence;
+        postedCommandCount = appliedCommandCount;
+        follower.breakFollowing();
+        follower.stop();
+    }
+
+    /**
+     * This updates the Follower every followerThreadPeriodMilliseconds until stopped. If an update
+     * finishes after the next one should have started, that's counted as a missed deadline and the
+     * next update is started right away, instead of trying to catch up with several updates.
+     */
+    @Override
+    public void run() {
+        long nextStartTime = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            if (now < nextStartTime) {
+                LockSupport.parkNanos(this, nextStartTime - now);
+                continue;
+            }
+
+            long startTime = now;
+            maxStartDelay = Math.max(maxStartDelay, startTime - nextStartTime);
+
+            try {
+                runCommands();
+                follower.update();
+            } catch (RuntimeException e) {
+                failure = e;
+                running = false;
+                return;
+            }
+
+            long endTime = System.nanoTime();
+            updateCount++;
+            FollowerSnapshot nextSnapshot = snapshot == snapshots[0] ? snapshots[1] : snapshots[0];
+            nextSnapshot.update(follower, endTime, updateCount, appliedCommandCount);
+            snapshot = nextSnapshot;
+            lastUpdateTime = endTime - startTime;
+            maxUpdateTime = Math.max(maxUpdateTime, lastUpdateTime);
+
+            nextStartTime += (long) (followerThreadPeriodMilliseconds * 1e6);
+            if (endTime > nextStartTime) {
+                missedDeadlineCount++;
+                nextStartTime = endTime;
+            }
+        }
+    }
+
+    /**
+     * This runs every command in the mailbox, in the order they were posted, then sets the newest
+     * teleop movement vectors if they've changed. Each command is copied out of the mailbox before
+     * it's taken, and if the poster dropped it to make room while it was being copied, the copy is
+     * thrown out.
+     */
+    private void runCommands() {
+        while (true) {
+            long sequence = readSequence.get();
+            if (sequence == writeSequence.get()) break;
+
+            currentCommand.copyFrom(mailbox[(int) (sequence % MAILBOX_CAPACITY)]);
+            if (!readSequence.compareAndSet(sequence, sequence + 1)) {
+                currentCommand.clear();
+                continue;
+            }
+
+            runCommand(currentCommand);
+            if (currentCommand.isCounted()) appliedCommandCount++;
+            currentCommand.clear();
+        }
+
+        runTeleOpMovementVectors();
+    }
+
+    /**
+     * This sets the Follower's teleop movement vectors to the newest ones posted, if there are any
+     * it hasn't set yet, trying again if they're written while they're being read.
+     */
+    private void runTeleOpMovementVectors() {
+        while (true) {
+            long startSequence = vectorSequence;
+            if (startSequence == appliedVectorSequence) return;
+            if ((startSequence & 1) == 0) {
+                double newForwardDrive = forwardDrive;
+                double newLateralDrive = lateralDrive;
+                double newHeadingDrive = headingDrive;
+                boolean newRobotCentric = robotCentric;
+                if (vectorSequence == startSequence) {
+                    appliedVectorSequence = startSequence;
+                    follower.setTeleOpMovementVectors(newForwardDrive, newLateralDrive, newHeadingDrive, newRobotCentric);
+                    return;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * This runs one command on the Follower.
+     *
+     * @param command the command.
+     */
+    private void runCommand(Command command) {
+        switch (command.type) {
+            case FOLLOW_PATH:
+                follower.followPath(command.path, command.holdEnd);
+                break;
+            case FOLLOW_PATH_CHAIN:
+                follower.followPath(command.pathChain, command.holdEnd);
+                break;
+            case HOLD_POINT:
+                follower.holdPoint(command.pose);
+                break;
+            case START_TELEOP_DRIVE:
+                follower.startTeleopDrive();
+                break;
+            case BREAK_FOLLOWING:
+                follower.breakFollowing();
+                break;
+            default:
+                command.runnable.run();
+                break;
+        }
+    }
+
+    /**
+     * This takes the next free command in the mailbox to fill in. If the mailbox is full, the
+     * oldest command that hasn't been run is dropped to make room, so this never waits. This must
+     * only be run from the thread posting commands, and the command must be published with
+     * publish() once it's filled in.
+     *
+     * @param type the type of command.
+     * @return returns the command to fill in.
+     */
+    private Command nextCommand(int type) {
+        long sequence = writeSequence.get();
+        while (true) {
+            long oldestSequence = readSequence.get();
+            if (sequence - oldestSequence < MAILBOX_CAPACITY) break;
+
+            // this only fails if the FollowerThread took the oldest command first, which also makes room
+            boolean counted = mailbox[(int) (oldestSequence % MAILBOX_CAPACITY)].isCounted();
+            if (readSequence.compareAndSet(oldestSequence, oldestSequence + 1)) {
+                droppedCommandCount++;
+                if (counted) postedCommandCount--;
+            }
+        }
+
+        Command command = mailbox[(int) (sequence % MAILBOX_CAPACITY)];
+        command.clear();
+        command.type = type;
+        if (command.isCounted()) postedCommandCount++;
+        return command;
+    }
+
+    /**
+     * This makes the command from nextCommand() visible to the FollowerThread.
+     */
+    private void publish() {
+        writeSequence.lazySet(writeSequence.get() + 1);
+    }
+
+    /**
+     * This posts a command to be run on the Follower at the start of the next update.
+     *
+     * @param command the command.
+     */
+    public void post(Runnable command) {
+        nextCommand(RUNNABLE).runnable = command;
+        publish();
+    }
+
+    /**
+     * This posts a command to follow a Path.
+     *
+     * @param path the Path.
+     * @param holdEnd if the Follower should hold position at the end of the Path.
+     */
+    public void followPath(Path path, boolean holdEnd) {
+        Command command = nextCommand(FOLLOW_PATH);
+        command.path = path;
+        command.holdEnd = holdEnd;
+        publish();
+    }
+
+    /**
+     * This posts a command to follow a Path.
+     *
+     * @param path the Path.
+     */
+    public void followPath(Path path) {
+        followPath(path, FollowerConstants.automaticHoldEnd);
+    }
+
+    /**
+     * This posts a command to follow a PathChain.
+     *
+     * @param pathChain the PathChain.
+     * @param holdEnd if the Follower should hold position at the end of the PathChain.
+     */
+    public void followPath(PathChain pathChain, boolean holdEnd) {
+        Command command = nextCommand(FOLLOW_PATH_CHAIN);
+        command.pathChain = pathChain;
+        command.holdEnd = holdEnd;
+        publish();
+    }
+
+    /**
+     * This posts a command to follow a PathChain.
+     *
+     * @param pathChain the PathChain.
+     */
+    public void followPath(PathChain pathChain) {
+        followPath(pathChain, FollowerConstants.automaticHoldEnd);
+    }
+
+    /**
+     * This posts a command to hold a Pose. The Pose is copied, so it can be changed afterwards.
+     *
+     * @param pose the Pose.
+     */
+    public void holdPoint(Pose pose) {
+        Command command = nextCommand(HOLD_POINT);
+        command.pose.setX(pose.getX());
+        command.pose.setY(pose.getY());
+        command.pose.setHeading(pose.getHeading());
+        publish();
+    }
+
+    /**
+     * This posts a command to start teleop drive.
+     */
+    public void startTeleopDrive() {
+        nextCommand(START_TELEOP_DRIVE);
+        publish();
+    }
+
+    /**
+     * This posts a command to set the teleop drive vectors, robot centric.
+     *
+     * @param forwardDrive the forward drive power.
+     * @param lateralDrive the lateral drive power.
+     * @param heading the heading power.
+     */
+    public void setTeleOpMovementVectors(double forwardDrive, double lateralDrive, double heading) {
+        setTeleOpMovementVectors(forwardDrive, lateralDrive, heading, true);
+    }
+
+    /**
+     * This posts the teleop drive vectors. They replace any that haven't been set yet, since only
+     * the newest ones matter, and are set after the other commands waiting to be run.
+     *
+     * @param forwardDrive the forward drive power.
+     * @param lateralDrive the lateral drive power.
+     * @param heading the heading power.
+     * @param robotCentric if the drive is robot centric instead of field centric.
+     */
+    public void setTeleOpMovementVectors(double forwardDrive, double lateralDrive, double heading, boolean robotCentric) {
+        vectorSequence++;
+        this.forwardDrive = forwardDrive;
+        this.lateralDrive = lateralDrive;
+        this.headingDrive = heading;
+        this.robotCentric = robotCentric;
+        vectorSequence++;
+    }
+
+    /**
+     * This posts a command to stop following.
+     */
+    public void breakFollowing() {
+        nextCommand(BREAK_FOLLOWING);
+        publish();
+    }
+
+    /**
+     * This returns the FollowerSnapshot from the end of the last update. This FollowerSnapshot is
+     * filled in again two updates later, so get it again every loop instead of keeping it. If an
+     * update threw an exception, that's thrown here so it isn't lost on the FollowerThread.
+     *
+     * @return returns the FollowerSnapshot.
+     */
+    public FollowerSnapshot getSnapshot() {
+        RuntimeException exception = failure;
+        if (exception != null) {
+            throw new IllegalStateException("The Follower stopped updating because of an exception", exception);
+        }
+        return snapshot;
+    }
+
+    /**
+     * This copies the FollowerSnapshot from the end of the last update into a specified
+     * FollowerSnapshot, which is never filled in by the FollowerThread, so it can be kept.
+     *
+     * @param output the FollowerSnapshot to copy into.
+     * @return returns the output FollowerSnapshot.
+     */
+    public FollowerSnapshot getSnapshot(FollowerSnapshot output) {
+        output.copyFrom(getSnapshot());
+        return output;
+    }
+
+    /**
+     * This returns the number of commands posted that start following, which are followPath and
+     * holdPoint, not counting any that were dropped.
+     *
+     * @return returns the number of commands posted.
+     */
+    public long getPostedCommandCount() {
+        return postedCommandCount;
+    }
+
+    /**
+     * This returns the number of commands dropped because the mailbox was full.
+     *
+     * @return returns the number of dropped commands.
+     */
+    public long getDroppedCommandCount() {
+        return droppedCommandCount;
+    }
+
+    /**
+     * This returns if the FollowerThread is updating the Follower.
+     *
+     * @return returns if the FollowerThread is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * This returns the number of updates run.
+     *
+     * @return returns the number of updates.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * This returns the number of updates that finished after the next update should have started.
+     *
+     * @return returns the number of missed deadlines.
+     */
+    public long getMissedDeadlineCount() {
+        return missedDeadlineCount;
+    }
+
+    /**
+     * This returns how long the last update took.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    /**
+     * This returns how long the longest update took.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getMaxUpdateTime() {
+        return maxUpdateTime;
+    }
+
+    /**
+     * This returns the longest an update has started after it was supposed to.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getMaxStartDelay() {
+        return maxStartDelay;
+    }
+
+    /**
+     * This is one command in the mailbox. Only the fields for its type are used.
+     */
+    private static class Command {
+        private int type;
+        private Path path;
+        private PathChain pathChain;
+        private boolean holdEnd;
+        private final Pose pose = new Pose();
+        private Runnable runnable;
+
+        /**
+         * This returns if this command starts following, so it's counted.
+         *
+         * @return returns if the command is counted.
+         */
+        private boolean isCounted() {
+            return type == FOLLOW_PATH || type == FOLLOW_PATH_CHAIN || type == HOLD_POINT;
+        }
+
+        /**
+         * This copies another command into this one.
+         *
+         * @param other the command to copy.
+         */
+        private void copyFrom(Command other) {
+            type = other.type;
+            path = other.path;
+            pathChain = other.pathChain;
+            holdEnd = other.holdEnd;
+            pose.setX(other.pose.getX());
+            pose.setY(other.pose.getY());
+            pose.setHeading(other.pose.getHeading());
+            runnable = other.runnable;
+        }
+
+        /**
+         * This drops the Paths and Runnable this command holds, so they aren't kept around.
+         */
+        private void clear() {
+            path = null;
+            pathChain = null;
+            runnable = null;
+        }
+    }
+}
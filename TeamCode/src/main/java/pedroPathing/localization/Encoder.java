@@ -4,15 +4,19 @@ import com.qualcomm.robotcore.hardware.DcMotor;
 import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.DcMotorSimple;
 
+import java.util.function.IntSupplier;
+
 /**
  * This is the Encoder class. This tracks the position of a motor of class DcMotorEx. The motor
- * must have an encoder attached. It can also get changes in position.
+ * must have an encoder attached. It can also get changes in position. An Encoder can also read its
+ * position from something other than a motor, like a simulation or a benchmark.
  *
  * @author Anyi Lin - 10158 Scott's Bots
  * @version 1.0, 4/2/2024
  */
 public class Encoder {
     private DcMotorEx motor;
+    private IntSupplier positionSource;
     private double previousPosition;
     private double currentPosition;
     private double multiplier;
@@ -26,6 +30,19 @@ public class Encoder {
      */
     public Encoder(DcMotorEx setMotor) {
         motor = setMotor;
+        positionSource = setMotor::getCurrentPosition;
+        multiplier = FORWARD;
+        reset();
+    }
+
+    /**
+     * This creates a new Encoder that reads its position in ticks from somewhere other than a motor.
+     * The position is read once every update, and the direction is always forward.
+     *
+     * @param setPositionSource where the position is read from
+     */
+    public Encoder(IntSupplier setPositionSource) {
+        positionSource = setPositionSource;
         multiplier = FORWARD;
         reset();
     }
@@ -45,10 +62,10 @@ public class Encoder {
      * This resets the Encoder's position and the current and previous position in the code.
      */
     public void reset() {
-        motor.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
-        previousPosition = motor.getCurrentPosition();
-        currentPosition = motor.getCurrentPosition();
-        motor.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        if (motor != null) motor.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        previousPosition = positionSource.getAsInt();
+        currentPosition = positionSource.getAsInt();
+        if (motor != null) motor.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
     }
 
     /**
@@ -56,7 +73,7 @@ public class Encoder {
      */
     public void update() {
         previousPosition = currentPosition;
-        currentPosition = motor.getCurrentPosition();
+        currentPosition = positionSource.getAsInt();
     }
 
     /**
@@ -65,6 +82,7 @@ public class Encoder {
      * @return returns the multiplier
      */
     public double getMultiplier() {
+        if (motor == null) return multiplier;
         return multiplier * (motor.getDirection() == DcMotorSimple.Direction.FORWARD ? 1 : -1);
     }
 
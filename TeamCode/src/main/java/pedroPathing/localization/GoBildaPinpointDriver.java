@@ -29,8 +29,8 @@ import android.os.Build;
 
 import androidx.annotation.RequiresApi;
 
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
 import com.qualcomm.hardware.lynx.LynxI2cDeviceSynch;
 import com.qualcomm.hardware.lynx.LynxNackException;
 import com.qualcomm.robotcore.hardware.I2cAddr;
@@ -43,9 +43,8 @@ import com.qualcomm.robotcore.util.TypeConversion;
 import org.firstinspires.ftc.robotcore.external.navigation.AngleUnit;
 import org.firstinspires.ftc.robotcore.external.navigation.DistanceUnit;
 
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
 
 
 @I2cDeviceType
@@ -57,16 +56,35 @@ import java.util.Arrays;
 
 public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSimple> {
 
-    private int deviceStatus   = 0;
-    private int loopTime       = 0;
-    private int xEncoderValue  = 0;
-    private int yEncoderValue  = 0;
-    private float xPosition    = 0;
-    private float yPosition    = 0;
-    private float hOrientation = 0;
-    private float xVelocity    = 0;
-    private float yVelocity    = 0;
-    private float hVelocity    = 0;
+    //these are written by whichever thread reads the device, so they're volatile for reading asynchronously
+    private volatile int deviceStatus   = 0;
+    private volatile int loopTime       = 0;
+    private volatile int xEncoderValue  = 0;
+    private volatile int yEncoderValue  = 0;
+    private volatile float xPosition    = 0;
+    private volatile float yPosition    = 0;
+    private volatile float hOrientation = 0;
+    private volatile float xVelocity    = 0;
+    private volatile float yVelocity    = 0;
+    private volatile float hVelocity    = 0;
+    private volatile long readTimestamp = 0;
+
+    //odd while a read is being published, and counts up by 2 for every read
+    private volatile long sequence      = 0;
+    //counts every write, so a read that a write happened during can be thrown out
+    private volatile long writeCount    = 0;
+
+    //health counters for reading the device
+    private volatile long readCount      = 0;
+    private volatile long readErrorCount = 0;
+    private volatile long bytesRead      = 0;
+    private volatile double readFrequency = 0;
+
+    //these are for reading the device on a background thread
+    private static GoBildaPinpointDriver asyncDriver;
+    private Thread readThread;
+    private volatile boolean asyncReading = false;
+    private volatile long readPeriod = 0;
 
     private static final float goBILDA_SWINGARM_POD = 13.26291192f; //ticks-per-mm for the goBILDA Swingarm Pod
     private static final float goBILDA_4_BAR_POD    = 19.89436789f; //ticks-per-mm for the goBILDA 4-Bar Pod
@@ -166,6 +184,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      @param i the integer to write to the register
      */
     private void writeInt(final Register reg, int i){
+        writeCount++;
         deviceClient.write(reg.bVal, TypeConversion.intToByteArray(i,ByteOrder.LITTLE_ENDIAN));
     }
 
@@ -185,7 +204,30 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * @return the float value stored by the byte array
      */
     private float byteArrayToFloat(byte[] byteArray, ByteOrder byteOrder){
-        return ByteBuffer.wrap(byteArray).order(byteOrder).getFloat();
+        return Float.intBitsToFloat(byteArrayToInt(byteArray, byteOrder));
+    }
+
+    /**
+     * Reads a little-endian int out of part of a byte array, without copying it
+     * @param byteArray byte array to read from
+     * @param offset where the int starts in the byte array
+     * @return the int value stored at the offset
+     */
+    private static int littleEndianInt(byte[] byteArray, int offset){
+        return (byteArray[offset] & 0xFF)
+                | (byteArray[offset + 1] & 0xFF) << 8
+                | (byteArray[offset + 2] & 0xFF) << 16
+                | (byteArray[offset + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Reads a little-endian float out of part of a byte array, without copying it
+     * @param byteArray byte array to read from
+     * @param offset where the float starts in the byte array
+     * @return the float value stored at the offset
+     */
+    private static float littleEndianFloat(byte[] byteArray, int offset){
+        return Float.intBitsToFloat(littleEndianInt(byteArray, offset));
     }
     /**
      * Reads a float from a register
@@ -204,7 +246,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * @return the byte array converted from the float
      */
     private byte [] floatToByteArray (float value, ByteOrder byteOrder) {
-        return ByteBuffer.allocate(4).order(byteOrder).putFloat(value).array();
+        return TypeConversion.intToByteArray(Float.floatToIntBits(value), byteOrder);
     }
 
     /**
@@ -213,6 +255,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * @param bytes the byte array to write
      */
     private void writeByteArray (Register reg, byte[] bytes){
+        writeCount++;
         deviceClient.write(reg.bVal,bytes);
     }
 
@@ -222,8 +265,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * @param f the float to write
      */
     private void writeFloat (Register reg, float f){
-        byte[] bytes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putFloat(f).array();
-        deviceClient.write(reg.bVal,bytes);
+        writeByteArray(reg, floatToByteArray(f, ByteOrder.LITTLE_ENDIAN));
     }
 
     /**
@@ -231,7 +273,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * @param s int to lookup
      * @return the Odometry Computer state
      */
-    private DeviceStatus lookupStatus (int s){
+    private static DeviceStatus lookupStatus (int s){
         if ((s & DeviceStatus.CALIBRATING.status) != 0){
             return DeviceStatus.CALIBRATING;
         }
@@ -260,23 +302,50 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
 
     /**
      * Call this once per loop to read new data from the Odometry Computer. Data will only update once this is called.
+     * While reading asynchronously, this does nothing, since the background thread is always reading new data.
      */
     @RequiresApi(api = Build.VERSION_CODES.GINGERBREAD)
     public void update(){
+        if (asyncReading) return;
+        bulkRead();
+    }
+
+    /**
+     * Reads everything from the Odometry Computer with one BULK_READ and publishes it. The values are read straight
+     * out of the returned bytes, and the read is thrown out if anything was written to the device during it, since
+     * the position it read may be from before a setPosition.
+     */
+    private void bulkRead(){
+        long writes = writeCount;
+        long startTime = System.nanoTime();
         try {
             byte[] bArr = deviceClient.read(Register.BULK_READ.bVal, 40);
-            deviceStatus = byteArrayToInt(Arrays.copyOfRange(bArr, 0, 4), ByteOrder.LITTLE_ENDIAN);
-            loopTime = byteArrayToInt(Arrays.copyOfRange(bArr, 4, 8), ByteOrder.LITTLE_ENDIAN);
-            xEncoderValue = byteArrayToInt(Arrays.copyOfRange(bArr, 8, 12), ByteOrder.LITTLE_ENDIAN);
-            yEncoderValue = byteArrayToInt(Arrays.copyOfRange(bArr, 12, 16), ByteOrder.LITTLE_ENDIAN);
-            xPosition = byteArrayToFloat(Arrays.copyOfRange(bArr, 16, 20), ByteOrder.LITTLE_ENDIAN);
-            yPosition = byteArrayToFloat(Arrays.copyOfRange(bArr, 20, 24), ByteOrder.LITTLE_ENDIAN);
-            hOrientation = byteArrayToFloat(Arrays.copyOfRange(bArr, 24, 28), ByteOrder.LITTLE_ENDIAN);
-            xVelocity = byteArrayToFloat(Arrays.copyOfRange(bArr, 28, 32), ByteOrder.LITTLE_ENDIAN);
-            yVelocity = byteArrayToFloat(Arrays.copyOfRange(bArr, 32, 36), ByteOrder.LITTLE_ENDIAN);
-            hVelocity = byteArrayToFloat(Arrays.copyOfRange(bArr, 36, 40), ByteOrder.LITTLE_ENDIAN);
+            long endTime = System.nanoTime();
+            if (writeCount != writes) return;
+
+            long previousReadTimestamp = readTimestamp;
+            sequence++;
+            deviceStatus = littleEndianInt(bArr, 0);
+            loopTime = littleEndianInt(bArr, 4);
+            xEncoderValue = littleEndianInt(bArr, 8);
+            yEncoderValue = littleEndianInt(bArr, 12);
+            xPosition = littleEndianFloat(bArr, 16);
+            yPosition = littleEndianFloat(bArr, 20);
+            hOrientation = littleEndianFloat(bArr, 24);
+            xVelocity = littleEndianFloat(bArr, 28);
+            yVelocity = littleEndianFloat(bArr, 32);
+            hVelocity = littleEndianFloat(bArr, 36);
+            readTimestamp = startTime + (endTime - startTime) / 2;
+            sequence++;
+
+            readCount++;
+            bytesRead += 40;
+            if (previousReadTimestamp != 0 && readTimestamp > previousReadTimestamp) {
+                readFrequency = 1e9 / (readTimestamp - previousReadTimestamp);
+            }
         }
         catch (Exception ex) {
+            readErrorCount++;
             if (ex instanceof LynxNackException)
             {
                 LynxNackException lynxEx = (LynxNackException)ex;
@@ -285,6 +354,137 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
         }
     }
 
+    /**
+     * Starts reading the Odometry Computer continuously on a background thread. Every read is published as a
+     * timestamped snapshot, which can be taken with readSnapshot without waiting on the I2C bus, and update() stops
+     * doing anything. Like the FlightRecorder, this stops any other Odometry Computer reading asynchronously, so one
+     * left reading by the last OpMode doesn't keep reading.
+     * @param readPeriodMilliseconds the least time between the starts of two reads, 0 to read as fast as the bus allows
+     */
+    public void startAsyncReading(double readPeriodMilliseconds){
+        readPeriod = (long) (Math.max(readPeriodMilliseconds, 0) * 1e6);
+        if (readThread != null) return;
+        synchronized (GoBildaPinpointDriver.class) {
+            if (asyncDriver != null && asyncDriver != this) {
+                asyncDriver.stopAsyncReading();
+            }
+            asyncDriver = this;
+        }
+
+        asyncReading = true;
+        readThread = new Thread(this::readContinuously, "PinpointReader");
+        readThread.setDaemon(true);
+        readThread.start();
+    }
+
+    /**
+     * Reads the Odometry Computer every read period until asynchronous reading is stopped. After a failed read, this
+     * waits at least a millisecond, so a device that isn't answering isn't asked again right away.
+     */
+    private void readContinuously(){
+        long nextReadTime = System.nanoTime();
+        while (asyncReading) {
+            long errors = readErrorCount;
+            bulkRead();
+
+            long period = readErrorCount != errors ? Math.max(readPeriod, 1000000) : readPeriod;
+            nextReadTime += period;
+            long waitTime = nextReadTime - System.nanoTime();
+            if (waitTime > 0) {
+                LockSupport.parkNanos(this, waitTime);
+            } else {
+                nextReadTime = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Stops reading the Odometry Computer on the background thread. The last read is kept, and update() reads the
+     * device again.
+     */
+    public void stopAsyncReading(){
+        Thread thread = readThread;
+        if (thread == null) return;
+        asyncReading = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        readThread = null;
+
+        synchronized (GoBildaPinpointDriver.class) {
+            if (asyncDriver == this) asyncDriver = null;
+        }
+    }
+
+    /**
+     * @return true if the Odometry Computer is being read on the background thread
+     */
+    public boolean isAsyncReading(){return asyncReading; }
+
+    /**
+     * Copies the newest read of the Odometry Computer into a Snapshot. All of the values in the Snapshot come from
+     * the same read, even while the background thread is reading. This never waits on the I2C bus.
+     * @param snapshot the Snapshot to copy into
+     * @return true if there has been a read to copy, false if the device hasn't been read yet
+     */
+    public boolean readSnapshot(Snapshot snapshot){
+        while (true) {
+            long startSequence = sequence;
+            if (startSequence == 0) return false;
+            if ((startSequence & 1) == 0) {
+                snapshot.deviceStatus = deviceStatus;
+                snapshot.loopTime = loopTime;
+                snapshot.xPosition = xPosition;
+                snapshot.yPosition = yPosition;
+                snapshot.hOrientation = hOrientation;
+                snapshot.xVelocity = xVelocity;
+                snapshot.yVelocity = yVelocity;
+                snapshot.hVelocity = hVelocity;
+                snapshot.timestamp = readTimestamp;
+                if (sequence == startSequence) {
+                    snapshot.sequence = startSequence;
+                    return true;
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return a number that increases every time new data is read, 0 if the device hasn't been read yet
+     */
+    public long getSequence(){return sequence; }
+
+    /**
+     * @return the time of the newest read in nanoseconds, from System.nanoTime(), 0 if the device hasn't been read yet
+     */
+    public long getReadTimestamp(){return readTimestamp; }
+
+    /**
+     * @return the number of successful bulk reads of the Odometry Computer
+     */
+    public long getReadCount(){return readCount; }
+
+    /**
+     * @return the number of bytes read from the Odometry Computer by update(), update(readData) and the background thread
+     */
+    public long getBytesRead(){return bytesRead; }
+
+    /**
+     * @return the number of reads of the Odometry Computer that threw an exception
+     */
+    public long getReadErrorCount(){return readErrorCount; }
+
+    /**
+     * Checks how often the Odometry Computer is actually being read over I2C, which is different from how often the
+     * Odometry Computer itself updates (see getFrequency()).
+     * @return the frequency of the last two bulk reads in Hz
+     */
+    public double getReadFrequency(){return readFrequency; }
+
     /**
      * Call this once per loop to read new data from the Odometry Computer. This is an override of the update() function
      * which allows a narrower range of data to be read from the device for faster read times. Currently ONLY_UPDATE_HEADING
@@ -293,8 +493,14 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      */
     public void update(readData data) {
         try {
-            if (data == readData.ONLY_UPDATE_HEADING) {
-                hOrientation = byteArrayToFloat(deviceClient.read(Register.H_ORIENTATION.bVal, 4), ByteOrder.LITTLE_ENDIAN);
+            if (data == readData.ONLY_UPDATE_HEADING && !asyncReading) {
+                long writes = writeCount;
+                float heading = byteArrayToFloat(deviceClient.read(Register.H_ORIENTATION.bVal, 4), ByteOrder.LITTLE_ENDIAN);
+                if (writeCount != writes) return;
+                sequence++;
+                hOrientation = heading;
+                sequence++;
+                bytesRead += 4;
             }
         }
         catch (Exception ex) {
@@ -411,7 +617,7 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
      * relative to that new, more accurate position.
      * @param pos a Pose describing the robot's new position.
      */
-    public com.pedropathing.localization.Pose setPosition(com.pedropathing.localization.Pose pos){
+    public pedroPathing.localization.Pose setPosition(pedroPathing.localization.Pose pos){
         writeByteArray(Register.X_POSITION,(floatToByteArray((float) MathFunctions.inToMM(pos.getX()), ByteOrder.LITTLE_ENDIAN)));
         writeByteArray(Register.Y_POSITION,(floatToByteArray((float) MathFunctions.inToMM(pos.getY()),ByteOrder.LITTLE_ENDIAN)));
         writeByteArray(Register.H_ORIENTATION,(floatToByteArray((float) pos.getHeading(),ByteOrder.LITTLE_ENDIAN)));
@@ -519,14 +725,81 @@ public class GoBildaPinpointDriver extends I2cDeviceSynchDevice<I2cDeviceSynchSi
     /**
      * @return a Pose containing the estimated position of the robot
      */
-    public com.pedropathing.localization.Pose getPosition(){
-        return new com.pedropathing.localization.Pose(DistanceUnit.INCH.fromMm(xPosition), DistanceUnit.INCH.fromMm(yPosition), hOrientation);
+    public pedroPathing.localization.Pose getPosition(){
+        return new pedroPathing.localization.Pose(DistanceUnit.INCH.fromMm(xPosition), DistanceUnit.INCH.fromMm(yPosition), hOrientation);
     }
 
     /**
      * @return a Pose containing the estimated velocity of the robot, velocity is unit per second
      */
-    public com.pedropathing.localization.Pose getVelocity(){
+    public pedroPathing.localization.Pose getVelocity(){
         return new Pose(DistanceUnit.INCH.fromMm(xVelocity), DistanceUnit.INCH.fromMm(yVelocity), hVelocity);
     }
+
+    /**
+     * One read of the Odometry Computer, copied out by readSnapshot so that all of its values are from the same read.
+     * Positions and velocities are in inches, headings in radians.
+     */
+    public static class Snapshot {
+        private long sequence;
+        private long timestamp;
+        private int deviceStatus;
+        private int loopTime;
+        private float xPosition;
+        private float yPosition;
+        private float hOrientation;
+        private float xVelocity;
+        private float yVelocity;
+        private float hVelocity;
+
+        /**
+         * @return the sequence number of the read, which increases with every read
+         */
+        public long getSequence(){return sequence; }
+
+        /**
+         * @return the time of the read in nanoseconds, from System.nanoTime()
+         */
+        public long getTimestamp(){return timestamp; }
+
+        /**
+         * @return the Odometry Computer's status when it was read
+         */
+        public DeviceStatus getDeviceStatus(){return lookupStatus(deviceStatus); }
+
+        /**
+         * @return the Odometry Computer's loop time when it was read, in microseconds
+         */
+        public int getLoopTime(){return loopTime; }
+
+        /**
+         * @return the estimated X position of the robot in inches
+         */
+        public double getX(){return DistanceUnit.INCH.fromMm(xPosition); }
+
+        /**
+         * @return the estimated Y position of the robot in inches
+         */
+        public double getY(){return DistanceUnit.INCH.fromMm(yPosition); }
+
+        /**
+         * @return the estimated heading of the robot in radians
+         */
+        public double getHeading(){return hOrientation; }
+
+        /**
+         * @return the estimated X velocity of the robot in inches/sec
+         */
+        public double getXVelocity(){return DistanceUnit.INCH.fromMm(xVelocity); }
+
+        /**
+         * @return the estimated Y velocity of the robot in inches/sec
+         */
+        public double getYVelocity(){return DistanceUnit.INCH.fromMm(yVelocity); }
+
+        /**
+         * @return the estimated heading velocity of the robot in radians/sec
+         */
+        public double getHeadingVelocity(){return hVelocity; }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+package pedroPathing.localization;
+
+import com.qualcomm.robotcore.hardware.IMU;
+
+import org.firstinspires.ftc.robotcore.external.navigation.AngleUnit;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This is the IMUSampler class. Reading the yaw from an IMU is an I2C transaction that takes a
+ * couple of milliseconds, and when a localizer reads it every update, the whole loop waits on it.
+ * The IMUSampler reads the IMU on its own thread at about the rate the IMU puts out new readings,
+ * and the localizer takes the newest reading instead, so the loop never waits on the IMU.
+ * <p>
+ * Each reading is the yaw, the yaw rate, and the time the yaw was read, from System.nanoTime(). Only
+ * the background thread writes a reading, so it's published without a lock. A sequence number is
+ * made odd while a reading is being written and even once it's done, and anything reading it just
+ * tries again if the sequence number was odd or changed while it was reading. Since the readings
+ * are timed, the yaw can be moved forward or back by the yaw rate to when the hubs were bulk read,
+ * so it lines up with the encoders.
+ * <p>
+ * If the background thread isn't running, or stopped because reading the IMU threw an exception,
+ * readYaw reads the IMU directly like before. Like the FlightRecorder, starting an IMUSampler stops
+ * any other one, so one left running by the last OpMode doesn't keep reading a closed IMU.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class IMUSampler implements Runnable {
+    private static IMUSampler activeSampler;
+
+    private final IMU imu;
+    private final long samplePeriod;
+
+    // This is the newest reading. The sequence is odd while it's being written and 0 before the first
+    private volatile long sequence;
+    private volatile long timestamp;
+    private volatile double yaw;
+    private volatile double yawRate;
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+
+    /**
+     * This creates a new IMUSampler for an IMU. The IMU should already be initialized.
+     *
+     * @param imu the IMU.
+     * @param samplePeriodMilliseconds the time between readings, in milliseconds.
+     */
+    public IMUSampler(IMU imu, double samplePeriodMilliseconds) {
+        this.imu = imu;
+        samplePeriod = (long) (Math.max(samplePeriodMilliseconds, 0) * 1e6);
+    }
+
+    /**
+     * This starts reading the IMU on the background thread, stopping any other IMUSampler first.
+     */
+    public void start() {
+        if (thread != null) return;
+        synchronized (IMUSampler.class) {
+            if (activeSampler != null && activeSampler != this) {
+                activeSampler.stop();
+            }
+            activeSampler = this;
+        }
+
+        failure = null;
+        running = true;
+        thread = new Thread(this, "IMUSampler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * This reads the IMU every sample period until stopped or reading it throws an exception.
+     */
+    @Override
+    public void run() {
+        long nextSampleTime = System.nanoTime();
+        while (running) {
+            try {
+                sample();
+            } catch (RuntimeException e) {
+                failure = e;
+                running = false;
+                return;
+            }
+
+            nextSampleTime += samplePeriod;
+            long waitTime = nextSampleTime - System.nanoTime();
+            if (waitTime > 0) {
+                LockSupport.parkNanos(this, waitTime);
+            } else {
+                nextSampleTime = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * This reads the yaw and yaw rate from the IMU and publishes them. The time of the reading is
+     * halfway through reading the yaw.
+     */
+    private void sample() {
+        long startTime = System.nanoTime();
+        double newYaw = imu.getRobotYawPitchRollAngles().getYaw(AngleUnit.RADIANS);
+        long endTime = System.nanoTime();
+        double newYawRate = imu.getRobotAngularVelocity(AngleUnit.RADIANS).zRotationRate;
+
+        sequence++;
+        timestamp = startTime + (endTime - startTime) / 2;
+        yaw = newYaw;
+        yawRate = newYawRate;
+        sequence++;
+    }
+
+    /**
+     * This stops the background thread. The last reading is kept, but readYaw goes back to reading
+     * the IMU directly.
+     */
+    public void stop() {
+        Thread samplerThread = thread;
+        if (samplerThread == null) return;
+        running = false;
+        LockSupport.unpark(samplerThread);
+        try {
+            samplerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        synchronized (IMUSampler.class) {
+            if (activeSampler == this) activeSampler = null;
+        }
+    }
+
+    /**
+     * This returns the yaw. If the background thread is running and has a reading, this is the
+     * newest reading and never waits on the IMU. Otherwise, the IMU is read directly.
+     *
+     * @param alignTimestamp the time to move the reading to with the yaw rate, from
+     *                       System.nanoTime(), like when the hubs were bulk read. If this is 0,
+     *                       the reading is used as is.
+     * @return returns the yaw in radians.
+     */
+    public double readYaw(long alignTimestamp) {
+        if (!running || sequence == 0) {
+            return imu.getRobotYawPitchRollAngles().getYaw(AngleUnit.RADIANS);
+        }
+
+        while (true) {
+            long startSequence = sequence;
+            if ((startSequence & 1) == 0) {
+                long readingTimestamp = timestamp;
+                double readingYaw = yaw;
+                double readingYawRate = yawRate;
+                if (sequence == startSequence) {
+                    if (alignTimestamp == 0) return readingYaw;
+
+                    // This doesn't move the reading by more than two sample periods in case the thread fell behind
+                    long offset = Math.max(-2 * samplePeriod, Math.min(2 * samplePeriod, alignTimestamp - readingTimestamp));
+                    return readingYaw + readingYawRate * (offset / 1e9);
+                }
+            }
+            Thread.yield();
+        }
+    }
+
+    /**
+     * This returns if the background thread is reading the IMU.
+     *
+     * @return returns if the IMUSampler is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * This returns the exception that stopped the background thread.
+     *
+     * @return returns the exception, or null if reading the IMU hasn't failed.
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    /**
+     * This returns the number of readings taken by the background thread.
+     *
+     * @return returns the number of readings.
+     */
+    public long getSampleCount() {
+        return sequence / 2;
+    }
+
+    /**
+     * This returns the time of the newest reading.
+     *
+     * @return returns the time in nanoseconds, from System.nanoTime(), or 0 if there isn't one.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * This returns the yaw rate of the newest reading.
+     *
+     * @return returns the yaw rate in radians per second.
+     */
+    public double getYawRate() {
+        return yawRate;
+    }
+
+    /**
+     * This returns the IMU being read.
+     *
+     * @return returns the IMU.
+     */
+    public IMU getIMU() {
+        return imu;
+    }
+}
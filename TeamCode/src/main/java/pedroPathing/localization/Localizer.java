@@ -1,9 +1,10 @@
 package pedroPathing.localization;
 
-import com.pedropathing.localization.Pose;
+import pedroPathing.localization.Pose;
 import com.qualcomm.robotcore.hardware.IMU;
 
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.Clock;
 
 /**
  * This is the Localizer class. It is an abstract superclass of all localizers used in Pedro Pathing,
@@ -14,20 +15,22 @@ import com.pedropathing.pathgen.Vector;
  * @version 1.0, 4/2/2024
  */
 public abstract class Localizer {
+    // This is where the Localizer reads the time between updates from
+    protected Clock clock = Clock.SYSTEM;
 
     /**
      * This returns the current pose estimate from the Localizer.
      *
      * @return returns the pose as a Pose object.
      */
-    public abstract com.pedropathing.localization.Pose getPose();
+    public abstract pedroPathing.localization.Pose getPose();
 
     /**
      * This returns the current velocity estimate from the Localizer.
      *
      * @return returns the velocity as a Pose object.
      */
-    public abstract com.pedropathing.localization.Pose getVelocity();
+    public abstract pedroPathing.localization.Pose getVelocity();
 
     /**
      * This returns the current velocity estimate from the Localizer as a Vector.
@@ -42,7 +45,7 @@ public abstract class Localizer {
      *
      * @param setStart the new start pose
      */
-    public abstract void setStartPose(com.pedropathing.localization.Pose setStart);
+    public abstract void setStartPose(pedroPathing.localization.Pose setStart);
 
     /**
      * This sets the current pose estimate of the Localizer. Changing this should just change the
@@ -95,6 +98,35 @@ public abstract class Localizer {
      */
     public abstract void resetIMU() throws InterruptedException;
 
+    /**
+     * This sets the Clock the Localizer reads the time between updates from. The PoseUpdater sets
+     * this to the Follower's LoopClock, so the Localizer uses the same time as everything else in
+     * the update.
+     *
+     * @param clock the Clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * This tells the Localizer if the Follower is turning in place or holding a point, when the
+     * robot's translation barely changes. A Localizer that can read just the heading for less may
+     * read the translation less often then. By default, this does nothing.
+     *
+     * @param holdingTranslation if the robot's translation is being held.
+     */
+    public void setHoldingTranslation(boolean holdingTranslation) {
+    }
+
+    /**
+     * This stops any background threads the Localizer started, like an IMUSampler, so they don't
+     * keep reading hardware after the OpMode stops. The Follower runs this from its stop(). By
+     * default, this does nothing.
+     */
+    public void stop() {
+    }
+
     /**
      * This is overridden to return the IMU, if there is one.
      *
@@ -0,0 +1,167 @@
+package pedroPathing.localization;
+
+import pedroPathing.pathgen.MathFunctions;
+
+/**
+ * This is the OdometryIntegrator class. This adds up the robot relative movements measured by a
+ * dead wheel localizer into a displacement from the start pose, using the pose exponential, and
+ * keeps the velocity from the last movement. Everything is kept in primitive fields, so integrating
+ * a movement doesn't allocate anything.
+ * <p>
+ * The pose exponential is worked out in closed form instead of multiplying a rotation Matrix, a
+ * transformation Matrix and the robot deltas together. When the robot barely turned, the sine and
+ * cosine terms are replaced with their series expansions, since dividing by a turn that small loses
+ * too much precision.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class OdometryIntegrator {
+    // Below this turn, in radians, the series expansions are used
+    public static final double SMALL_TURN = 0.001;
+
+    // This is the displacement from the start pose, with the heading kept between 0 and 2 * pi
+    private double x;
+    private double y;
+    private double heading;
+
+    private double xVelocity;
+    private double yVelocity;
+    private double angularVelocity;
+
+    private double totalHeading;
+
+    /**
+     * This adds a robot relative movement to the displacement with the pose exponential, and sets
+     * the velocity from it.
+     *
+     * @param forward the forward movement, in inches.
+     * @param strafe the strafe movement to the left, in inches.
+     * @param turn the turn, in radians.
+     * @param startHeading the heading of the start pose, in radians.
+     * @param deltaTimeNano the time the movement took, in nanoseconds. If this isn't positive, the
+     *                      velocity is left as it was.
+     */
+    public void integrate(double forward, double strafe, double turn, double startHeading, long deltaTimeNano) {
+        double sinTerm;
+        double cosTerm;
+        if (Math.abs(turn) < SMALL_TURN) {
+            double turnSquared = turn * turn;
+            sinTerm = 1.0 - turnSquared / 6.0;
+            cosTerm = turn / 2.0 - turn * turnSquared / 24.0;
+        } else {
+            sinTerm = Math.sin(turn) / turn;
+            cosTerm = (1.0 - Math.cos(turn)) / turn;
+        }
+
+        // This is the movement along the arc, still relative to the robot before it moved
+        double localX = sinTerm * forward - cosTerm * strafe;
+        double localY = cosTerm * forward + sinTerm * strafe;
+
+        double previousHeading = startHeading + heading;
+        double cos = Math.cos(previousHeading);
+        double sin = Math.sin(previousHeading);
+        double deltaX = cos * localX - sin * localY;
+        double deltaY = sin * localX + cos * localY;
+
+        x += deltaX;
+        y += deltaY;
+        heading = MathFunctions.normalizeAngle(heading + turn);
+        totalHeading += turn;
+
+        if (deltaTimeNano > 0) {
+            double deltaTimeSeconds = deltaTimeNano / 1e9;
+            xVelocity = deltaX / deltaTimeSeconds;
+            yVelocity = deltaY / deltaTimeSeconds;
+            angularVelocity = turn / deltaTimeSeconds;
+        }
+    }
+
+    /**
+     * This sets the displacement from the start pose, like when the pose is set. The velocity and
+     * total heading are kept.
+     *
+     * @param setX the x displacement.
+     * @param setY the y displacement.
+     * @param setHeading the heading displacement, in radians.
+     */
+    public void setDisplacement(double setX, double setY, double setHeading) {
+        x = setX;
+        y = setY;
+        heading = MathFunctions.normalizeAngle(setHeading);
+    }
+
+    /**
+     * This sets the displacement, velocity and total heading back to zero.
+     */
+    public void reset() {
+        setDisplacement(0, 0, 0);
+        xVelocity = 0;
+        yVelocity = 0;
+        angularVelocity = 0;
+        totalHeading = 0;
+    }
+
+    /**
+     * This returns the x displacement from the start pose.
+     *
+     * @return returns the x displacement.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * This returns the y displacement from the start pose.
+     *
+     * @return returns the y displacement.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * This returns the heading displacement from the start pose.
+     *
+     * @return returns the heading displacement in radians, between 0 and 2 * pi.
+     */
+    public double getHeading() {
+        return heading;
+    }
+
+    /**
+     * This returns the x velocity from the last movement.
+     *
+     * @return returns the x velocity, in inches per second.
+     */
+    public double getXVelocity() {
+        return xVelocity;
+    }
+
+    /**
+     * This returns the y velocity from the last movement.
+     *
+     * @return returns the y velocity, in inches per second.
+     */
+    public double getYVelocity() {
+        return yVelocity;
+    }
+
+    /**
+     * This returns the angular velocity from the last movement.
+     *
+     * @return returns the angular velocity, in radians per second.
+     */
+    public double getAngularVelocity() {
+        return angularVelocity;
+    }
+
+    /**
+     * This returns how far the robot has turned in radians, in a number not clamped between 0 and
+     * 2 * pi radians.
+     *
+     * @return returns how far the robot has turned in total, in radians.
+     */
+    public double getTotalHeading() {
+        return totalHeading;
+    }
+}
@@ -1,11 +1,11 @@
 package pedroPathing.localization;
 
-import static com.pedropathing.pathgen.MathFunctions.rotatePose;
+import static pedroPathing.pathgen.MathFunctions.rotatePose;
 
 import androidx.annotation.NonNull;
 
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
 
 /**
  * This is the Pose class. It defines poses in 2D space, like the Pose2D class in Road Runner except
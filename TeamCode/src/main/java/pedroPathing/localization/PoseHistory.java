@@ -0,0 +1,325 @@
+package pedroPathing.localization;
+
+import pedroPathing.pathgen.MathFunctions;
+
+/**
+ * This is the PoseHistory class. This keeps the most recent poses and velocities of the robot, each
+ * with the time it was measured, in a ring buffer of primitive arrays. Adding a pose never shifts or
+ * allocates anything, and once the PoseHistory is full the oldest pose is written over.
+ * <p>
+ * Since the poses are kept in the order they were added, the pose at any time in the history can be
+ * found with a binary search and interpolated between the two poses around it, like for matching a
+ * camera frame taken a little while ago with where the robot was when it was taken.
+ * <p>
+ * The times must be added in order. Index 0 is the oldest pose and index size() - 1 is the newest.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class PoseHistory {
+    private final int capacity;
+
+    private final long[] timestamps;
+    private final double[] xPositions;
+    private final double[] yPositions;
+    private final double[] headings;
+    private final double[] xVelocities;
+    private final double[] yVelocities;
+    private final double[] angularVelocities;
+
+    // This is where the oldest pose is in the arrays
+    private int start;
+    private int size;
+
+    /**
+     * This creates a new, empty PoseHistory.
+     *
+     * @param capacity the most poses kept.
+     */
+    public PoseHistory(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("A PoseHistory must hold at least one pose");
+        this.capacity = capacity;
+        timestamps = new long[capacity];
+        xPositions = new double[capacity];
+        yPositions = new double[capacity];
+        headings = new double[capacity];
+        xVelocities = new double[capacity];
+        yVelocities = new double[capacity];
+        angularVelocities = new double[capacity];
+    }
+
+    /**
+     * This adds a pose and velocity to the PoseHistory. If the time is the same as or before the
+     * newest pose, the newest pose is replaced instead, so the times always stay in order.
+     *
+     * @param timestamp the time of the pose, in nanoseconds.
+     * @param x the x position.
+     * @param y the y position.
+     * @param heading the heading, in radians.
+     * @param xVelocity the x velocity.
+     * @param yVelocity the y velocity.
+     * @param angularVelocity the angular velocity, in radians per second.
+     */
+    public void add(long timestamp, double x, double y, double heading, double xVelocity, double yVelocity, double angularVelocity) {
+        int slot;
+        if (size > 0 && timestamp <= timestamps[slot(size - 1)]) {
+            slot = slot(size - 1);
+        } else if (size < capacity) {
+            slot = slot(size);
+            size++;
+        } else {
+            slot = start;
+            start = slot(1);
+        }
+
+        timestamps[slot] = timestamp;
+        xPositions[slot] = x;
+        yPositions[slot] = y;
+        headings[slot] = heading;
+        xVelocities[slot] = xVelocity;
+        yVelocities[slot] = yVelocity;
+        angularVelocities[slot] = angularVelocity;
+    }
+
+    /**
+     * This adds a pose to the PoseHistory with no velocity.
+     *
+     * @param timestamp the time of the pose, in nanoseconds.
+     * @param pose the pose.
+     */
+    public void add(long timestamp, Pose pose) {
+        add(timestamp, pose.getX(), pose.getY(), pose.getHeading(), 0, 0, 0);
+    }
+
+    /**
+     * This returns where in the arrays a pose is.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the index in the arrays.
+     */
+    private int slot(int index) {
+        int slot = start + index;
+        return slot >= capacity ? slot - capacity : slot;
+    }
+
+    /**
+     * This removes every pose.
+     */
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * This returns the number of poses in the PoseHistory.
+     *
+     * @return returns the number of poses.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This returns the most poses the PoseHistory keeps.
+     *
+     * @return returns the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * This returns the time of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the time in nanoseconds.
+     */
+    public long getTimestamp(int index) {
+        return timestamps[slot(index)];
+    }
+
+    /**
+     * This returns the x position of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the x position.
+     */
+    public double getX(int index) {
+        return xPositions[slot(index)];
+    }
+
+    /**
+     * This returns the y position of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the y position.
+     */
+    public double getY(int index) {
+        return yPositions[slot(index)];
+    }
+
+    /**
+     * This returns the heading of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the heading in radians.
+     */
+    public double getHeading(int index) {
+        return headings[slot(index)];
+    }
+
+    /**
+     * This returns the x velocity of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the x velocity.
+     */
+    public double getXVelocity(int index) {
+        return xVelocities[slot(index)];
+    }
+
+    /**
+     * This returns the y velocity of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the y velocity.
+     */
+    public double getYVelocity(int index) {
+        return yVelocities[slot(index)];
+    }
+
+    /**
+     * This returns the angular velocity of a pose.
+     *
+     * @param index the index of the pose, from the oldest.
+     * @return returns the angular velocity in radians per second.
+     */
+    public double getAngularVelocity(int index) {
+        return angularVelocities[slot(index)];
+    }
+
+    /**
+     * This returns the time of the oldest pose.
+     *
+     * @return returns the time in nanoseconds, or 0 if the PoseHistory is empty.
+     */
+    public long getOldestTimestamp() {
+        return size == 0 ? 0 : timestamps[start];
+    }
+
+    /**
+     * This returns the time of the newest pose.
+     *
+     * @return returns the time in nanoseconds, or 0 if the PoseHistory is empty.
+     */
+    public long getNewestTimestamp() {
+        return size == 0 ? 0 : timestamps[slot(size - 1)];
+    }
+
+    /**
+     * This finds the newest pose at or before a time with a binary search.
+     *
+     * @param timestamp the time, in nanoseconds.
+     * @return returns the index of the pose, or -1 if every pose is after the time.
+     */
+    public int indexAtOrBefore(long timestamp) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[slot(middle)] <= timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * This returns where the robot was at a time, interpolating between the two poses around it.
+     * Times before the oldest pose or after the newest get the oldest or newest pose.
+     *
+     * @param timestamp the time, in nanoseconds.
+     * @param output the Pose to write into.
+     * @return returns the output Pose, or null if the PoseHistory is empty.
+     */
+    public Pose getPoseAt(long timestamp, Pose output) {
+        if (size == 0) return null;
+
+        int index = indexAtOrBefore(timestamp);
+        if (index < 0) index = 0;
+        int slot = slot(index);
+        if (index == size - 1 || timestamps[slot] >= timestamp) {
+            output.setX(xPositions[slot]);
+            output.setY(yPositions[slot]);
+            output.setHeading(headings[slot]);
+            return output;
+        }
+
+        int nextSlot = slot(index + 1);
+        double fraction = (double) (timestamp - timestamps[slot]) / (timestamps[nextSlot] - timestamps[slot]);
+        output.setX(xPositions[slot] + (xPositions[nextSlot] - xPositions[slot]) * fraction);
+        output.setY(yPositions[slot] + (yPositions[nextSlot] - yPositions[slot]) * fraction);
+        output.setHeading(headings[slot] + MathFunctions.getTurnDirection(headings[slot], headings[nextSlot]) * MathFunctions.getSmallestAngleDifference(headings[nextSlot], headings[slot]) * fraction);
+        return output;
+    }
+
+    /**
+     * This returns where the robot was at a time, interpolating between the two poses around it.
+     *
+     * @param timestamp the time, in nanoseconds.
+     * @return returns the Pose, or null if the PoseHistory is empty.
+     */
+    public Pose getPoseAt(long timestamp) {
+        return getPoseAt(timestamp, new Pose());
+    }
+
+    /**
+     * This returns how fast the robot was going at a time, interpolating between the two velocities
+     * around it. The x and y of the output are the velocity and the heading is the angular velocity.
+     *
+     * @param timestamp the time, in nanoseconds.
+     * @param output the Pose to write into.
+     * @return returns the output Pose, or null if the PoseHistory is empty.
+     */
+    public Pose getVelocityAt(long timestamp, Pose output) {
+        if (size == 0) return null;
+
+        int index = Math.max(indexAtOrBefore(timestamp), 0);
+        int slot = slot(index);
+        double fraction = 0;
+        int nextSlot = slot;
+        if (index < size - 1 && timestamps[slot] < timestamp) {
+            nextSlot = slot(index + 1);
+            fraction = (double) (timestamp - timestamps[slot]) / (timestamps[nextSlot] - timestamps[slot]);
+        }
+
+        output.setX(xVelocities[slot] + (xVelocities[nextSlot] - xVelocities[slot]) * fraction);
+        output.setY(yVelocities[slot] + (yVelocities[nextSlot] - yVelocities[slot]) * fraction);
+        output.setHeading(angularVelocities[slot] + (angularVelocities[nextSlot] - angularVelocities[slot]) * fraction);
+        return output;
+    }
+
+    /**
+     * This copies the positions into arrays with the newest first, for drawing a trail. If there
+     * are fewer poses than the arrays hold, the rest are filled with the oldest pose.
+     *
+     * @param xOutput the array the x positions are written into.
+     * @param yOutput the array the y positions are written into.
+     */
+    public void copyPositions(double[] xOutput, double[] yOutput) {
+        if (size == 0) return;
+        int count = Math.min(Math.min(xOutput.length, yOutput.length), size);
+        for (int i = 0; i < count; i++) {
+            int slot = slot(size - 1 - i);
+            xOutput[i] = xPositions[slot];
+            yOutput[i] = yPositions[slot];
+        }
+        for (int i = count; i < xOutput.length; i++) {
+            xOutput[i] = xPositions[start];
+        }
+        for (int i = count; i < yOutput.length; i++) {
+            yOutput[i] = yPositions[start];
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package pedroPathing.localization;
-import static com.pedropathing.follower.FollowerConstants.localizers;
-
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.util.Constants;
+import static pedroPathing.follower.FollowerConstants.localizers;
+import static pedroPathing.follower.FollowerConstants.useBulkReading;
+
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.util.Clock;
+import pedroPathing.util.Constants;
+import pedroPathing.util.HubManager;
+import pedroPathing.util.LoopStats;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 import com.qualcomm.robotcore.hardware.IMU;
 import org.firstinspires.ftc.robotcore.external.navigation.AngleUnit;
-import com.pedropathing.localization.localizers.DriveEncoderLocalizer;
-import com.pedropathing.localization.localizers.OTOSLocalizer;
-import com.pedropathing.localization.localizers.PinpointLocalizer;
-import com.pedropathing.localization.localizers.ThreeWheelIMULocalizer;
-import com.pedropathing.localization.localizers.ThreeWheelLocalizer;
-import com.pedropathing.localization.localizers.TwoWheelLocalizer;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.localization.constants.FusionConstants;
+import pedroPathing.localization.localizers.DriveEncoderLocalizer;
+import pedroPathing.localization.localizers.FusionLocalizer;
+import pedroPathing.localization.localizers.OTOSLocalizer;
+import pedroPathing.localization.localizers.PinpointLocalizer;
+import pedroPathing.localization.localizers.ThreeWheelIMULocalizer;
+import pedroPathing.localization.localizers.ThreeWheelLocalizer;
+import pedroPathing.localization.localizers.TwoWheelLocalizer;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
 
 /**
  * This is the PoseUpdater class. This class handles getting pose data from the localizer and returning
@@ -31,13 +37,21 @@ public class PoseUpdater {
 
     private IMU imu;
 
-    private com.pedropathing.localization.Localizer localizer;
+    private HubManager hubManager;
+
+    private LoopStats loopStats = new LoopStats();
+
+    // This is where the time between updates is read from, which is shared with the Localizer
+    private Clock clock = Clock.SYSTEM;
+
+    private pedroPathing.localization.Localizer localizer;
 
-    private com.pedropathing.localization.Pose startingPose = new com.pedropathing.localization.Pose(0,0,0);
+    private pedroPathing.localization.Pose startingPose = new pedroPathing.localization.Pose(0,0,0);
 
-    private com.pedropathing.localization.Pose currentPose = startingPose;
+    private pedroPathing.localization.Pose currentPose = startingPose;
 
-    private com.pedropathing.localization.Pose previousPose = startingPose;
+    // This is written over every update, so updating doesn't make a new Pose
+    private final pedroPathing.localization.Pose previousPose = new pedroPathing.localization.Pose(0,0,0);
 
     private Vector currentVelocity = new Vector();
 
@@ -45,6 +59,10 @@ public class PoseUpdater {
 
     private Vector currentAcceleration = new Vector();
 
+    // These are set once the velocity and acceleration have been worked out for this update
+    private boolean velocityUpToDate = true;
+    private boolean accelerationUpToDate = true;
+
     private double xOffset = 0;
     private double yOffset = 0;
     private double headingOffset = 0;
@@ -60,13 +78,13 @@ public class PoseUpdater {
      * @param FConstants the constants for the Follower
      * @param LConstants the constants for the Localizer
      */
-    public PoseUpdater(HardwareMap hardwareMap, com.pedropathing.localization.Localizer localizer, Class<?> FConstants, Class<?> LConstants) {
+    public PoseUpdater(HardwareMap hardwareMap, pedroPathing.localization.Localizer localizer, Class<?> FConstants, Class<?> LConstants) {
         Constants.setConstants(FConstants, LConstants);
 
         this.hardwareMap = hardwareMap;
         this.localizer = localizer;
 
-        if (localizer.getClass() != PinpointLocalizer.class) {
+        if (!usesPinpoint(localizer)) {
             try {
                 localizer.resetIMU();
             } catch (InterruptedException ignored) {
@@ -74,6 +92,11 @@ public class PoseUpdater {
         }
 
         imu = localizer.getIMU();
+
+        if (hardwareMap != null) {
+            hubManager = HubManager.getInstance(hardwareMap);
+            if (useBulkReading) hubManager.enableManualBulkCaching();
+        }
     }
 
     /**
@@ -84,20 +107,20 @@ public class PoseUpdater {
      * @param LConstants the constants for the Localizer
      */
     public PoseUpdater(HardwareMap hardwareMap, Class<?> FConstants, Class<?> LConstants) {
-        this(hardwareMap, createLocalizer(hardwareMap), FConstants, LConstants);
+        this(hardwareMap, createLocalizer(hardwareMap, localizers), FConstants, LConstants);
     }
 
     /**
      * Creates a new PoseUpdater from a HardwareMap and a Localizer.
      *
-     * @param hardwareMap the HardwareMap
+     * @param hardwareMap the HardwareMap, which can be null if the Localizer doesn't use hardware
      * @param localizer the Localizer
      */
-    public PoseUpdater(HardwareMap hardwareMap, com.pedropathing.localization.Localizer localizer) {
+    public PoseUpdater(HardwareMap hardwareMap, pedroPathing.localization.Localizer localizer) {
         this.hardwareMap = hardwareMap;
         this.localizer = localizer;
 
-        if (localizer.getClass() != PinpointLocalizer.class) {
+        if (!usesPinpoint(localizer)) {
             try {
                 localizer.resetIMU();
             } catch (InterruptedException ignored) {
@@ -105,6 +128,11 @@ public class PoseUpdater {
         }
 
         imu = localizer.getIMU();
+
+        if (hardwareMap != null) {
+            hubManager = HubManager.getInstance(hardwareMap);
+            if (useBulkReading) hubManager.enableManualBulkCaching();
+        }
     }
 
     /**
@@ -113,11 +141,25 @@ public class PoseUpdater {
      * @param hardwareMap the HardwareMap
      */
     public PoseUpdater(HardwareMap hardwareMap) {
-        this(hardwareMap, createLocalizer(hardwareMap));
+        this(hardwareMap, createLocalizer(hardwareMap, localizers));
+    }
+
+    /**
+     * This returns if a Localizer is a PinpointLocalizer, or a FusionLocalizer using one for
+     * odometry. The Pinpoint's IMU isn't reset when a PoseUpdater is made.
+     *
+     * @param localizer the Localizer
+     * @return returns if the Localizer's IMU is the Pinpoint's
+     */
+    private static boolean usesPinpoint(pedroPathing.localization.Localizer localizer) {
+        if (localizer instanceof FusionLocalizer) {
+            return ((FusionLocalizer) localizer).getOdometryLocalizer().getClass() == PinpointLocalizer.class;
+        }
+        return localizer.getClass() == PinpointLocalizer.class;
     }
 
-    private static com.pedropathing.localization.Localizer createLocalizer(HardwareMap hardwareMap) {
-        switch (localizers) {
+    private static pedroPathing.localization.Localizer createLocalizer(HardwareMap hardwareMap, Localizers type) {
+        switch (type) {
             case DRIVE_ENCODERS:
                 return new DriveEncoderLocalizer(hardwareMap);
             case TWO_WHEEL:
@@ -130,6 +172,12 @@ public class PoseUpdater {
                 return new OTOSLocalizer(hardwareMap);
             case PINPOINT:
                 return new PinpointLocalizer(hardwareMap);
+            case FUSION:
+                if (FusionConstants.odometryLocalizer == Localizers.FUSION || FusionConstants.correctionLocalizer == Localizers.FUSION) {
+                    throw new IllegalArgumentException("A FusionLocalizer can't be made of another FusionLocalizer");
+                }
+                return new FusionLocalizer(createLocalizer(hardwareMap, FusionConstants.odometryLocalizer),
+                        FusionConstants.correctionLocalizer == null ? null : createLocalizer(hardwareMap, FusionConstants.correctionLocalizer));
             default:
                 throw new IllegalArgumentException("Unsupported localizer type");
         }
@@ -139,17 +187,24 @@ public class PoseUpdater {
     /**
      * This updates the robot's pose, as well as updating the previous pose, velocity, and
      * acceleration. The cache for the current pose, velocity, and acceleration is cleared, and
-     * the time stamps are updated as well.
+     * the time stamps are updated as well. The bulk cache of the hubs is cleared first, so the
+     * localizer reads new data, unless there's no HardwareMap, like in a simulation.
      */
     public void update() {
-        previousVelocity = getVelocity();
-        previousPose = applyOffset(getRawPose());
+        long startTime = System.nanoTime();
+        if (hubManager != null) hubManager.clearBulkCache();
+        getVelocity(previousVelocity);
+        applyOffset(getRawPose(), previousPose);
         currentPose = null;
-        currentVelocity = null;
-        currentAcceleration = null;
+        velocityUpToDate = false;
+        accelerationUpToDate = false;
         previousPoseTime = currentPoseTime;
-        currentPoseTime = System.nanoTime();
+        currentPoseTime = clock.nanoTime();
+        long localizerStartTime = System.nanoTime();
         localizer.update();
+        long endTime = System.nanoTime();
+        loopStats.record(LoopStats.LOCALIZER, endTime - localizerStartTime);
+        loopStats.record(LoopStats.POSE_UPDATE, endTime - startTime);
     }
 
     /**
@@ -157,11 +212,13 @@ public class PoseUpdater {
      *
      * @param set the Pose to set the starting pose to.
      */
-    public void setStartingPose(com.pedropathing.localization.Pose set) {
+    public void setStartingPose(pedroPathing.localization.Pose set) {
         startingPose = set;
-        previousPose = startingPose;
-        previousPoseTime = System.nanoTime();
-        currentPoseTime = System.nanoTime();
+        previousPose.setX(set.getX());
+        previousPose.setY(set.getY());
+        previousPose.setHeading(set.getHeading());
+        previousPoseTime = clock.nanoTime();
+        currentPoseTime = previousPoseTime;
         localizer.setStartPose(set);
     }
 
@@ -172,8 +229,8 @@ public class PoseUpdater {
      *
      * @param set The pose to set the current pose to.
      */
-    public void setCurrentPoseWithOffset(com.pedropathing.localization.Pose set) {
-        com.pedropathing.localization.Pose currentPose = getRawPose();
+    public void setCurrentPoseWithOffset(pedroPathing.localization.Pose set) {
+        pedroPathing.localization.Pose currentPose = getRawPose();
         setXOffset(set.getX() - currentPose.getX());
         setYOffset(set.getY() - currentPose.getY());
         setHeadingOffset(MathFunctions.getTurnDirection(currentPose.getHeading(), set.getHeading()) * MathFunctions.getSmallestAngleDifference(currentPose.getHeading(), set.getHeading()));
@@ -239,8 +296,23 @@ public class PoseUpdater {
      * @param pose The pose to be offset.
      * @return This returns a new Pose with the offset applied.
      */
-    public com.pedropathing.localization.Pose applyOffset(com.pedropathing.localization.Pose pose) {
-        return new com.pedropathing.localization.Pose(pose.getX()+xOffset, pose.getY()+yOffset, pose.getHeading()+headingOffset);
+    public pedroPathing.localization.Pose applyOffset(pedroPathing.localization.Pose pose) {
+        return applyOffset(pose, new pedroPathing.localization.Pose());
+    }
+
+    /**
+     * This applies the offset to a specified Pose and writes the result into another Pose, without
+     * making a new Pose.
+     *
+     * @param pose The pose to be offset.
+     * @param output The Pose the offset pose is written into. This can be the same as pose.
+     * @return This returns the output Pose.
+     */
+    public pedroPathing.localization.Pose applyOffset(pedroPathing.localization.Pose pose, pedroPathing.localization.Pose output) {
+        output.setX(pose.getX()+xOffset);
+        output.setY(pose.getY()+yOffset);
+        output.setHeading(pose.getHeading()+headingOffset);
+        return output;
     }
 
     /**
@@ -261,7 +333,7 @@ public class PoseUpdater {
      *
      * @return returns the current pose.
      */
-    public com.pedropathing.localization.Pose getPose() {
+    public pedroPathing.localization.Pose getPose() {
         if (currentPose == null) {
             currentPose = localizer.getPose();
             return applyOffset(currentPose);
@@ -270,6 +342,17 @@ public class PoseUpdater {
         }
     }
 
+    /**
+     * This writes the current pose, with offsets applied, into a specified Pose, without making a
+     * new Pose. The current pose is cached the same way as in getPose().
+     *
+     * @param output the Pose the current pose is written into.
+     * @return returns the output Pose.
+     */
+    public pedroPathing.localization.Pose getPose(pedroPathing.localization.Pose output) {
+        return applyOffset(getRawPose(), output);
+    }
+
     /**
      * This returns the current raw pose, without any offsets applied. If this is called multiple times in
      * a single update, the current pose is cached so that subsequent calls don't have to repeat
@@ -277,7 +360,7 @@ public class PoseUpdater {
      *
      * @return returns the raw pose.
      */
-    public com.pedropathing.localization.Pose getRawPose() {
+    public pedroPathing.localization.Pose getRawPose() {
         if (currentPose == null) {
             currentPose = localizer.getPose();
             return currentPose;
@@ -291,17 +374,18 @@ public class PoseUpdater {
      *
      * @param set the pose to set the current pose to.
      */
-    public void setPose(com.pedropathing.localization.Pose set) {
+    public void setPose(pedroPathing.localization.Pose set) {
         resetOffset();
         localizer.setPose(set);
     }
 
     /**
-     * Returns the robot's pose from the previous update.
+     * Returns the robot's pose from the previous update. The returned Pose is written over on the
+     * next update, so copy it if it needs to be kept.
      *
      * @return returns the robot's previous pose.
      */
-    public com.pedropathing.localization.Pose getPreviousPose() {
+    public pedroPathing.localization.Pose getPreviousPose() {
         return previousPose;
     }
 
@@ -310,8 +394,8 @@ public class PoseUpdater {
      *
      * @return returns the robot's delta pose.
      */
-    public com.pedropathing.localization.Pose getDeltaPose() {
-        com.pedropathing.localization.Pose returnPose = getPose();
+    public pedroPathing.localization.Pose getDeltaPose() {
+        pedroPathing.localization.Pose returnPose = getPose();
         returnPose.subtract(previousPose);
         return returnPose;
     }
@@ -324,24 +408,38 @@ public class PoseUpdater {
      * @return returns the velocity of the robot.
      */
     public Vector getVelocity() {
-        if (currentVelocity == null) {
+        return getVelocity(new Vector());
+    }
+
+    /**
+     * This writes the velocity of the robot into a specified Vector, without making a new Vector.
+     * If this is called multiple times in a single update, the velocity Vector is cached so that
+     * subsequent calls don't have to repeat localizer calls or calculations.
+     *
+     * @param output the Vector the velocity is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getVelocity(Vector output) {
+        if (!velocityUpToDate) {
 //            currentVelocity = new Vector();
 //            currentVelocity.setOrthogonalComponents(getPose().getX() - previousPose.getX(), getPose().getY() - previousPose.getY());
 //            currentVelocity.setMagnitude(MathFunctions.distance(getPose(), previousPose) / ((currentPoseTime - previousPoseTime) / Math.pow(10.0, 9)));
-            currentVelocity = localizer.getVelocityVector();
-            return MathFunctions.copyVector(currentVelocity);
-        } else {
-            return MathFunctions.copyVector(currentVelocity);
+            MathFunctions.copyVector(localizer.getVelocityVector(), currentVelocity);
+            velocityUpToDate = true;
         }
+        return MathFunctions.copyVector(currentVelocity, output);
     }
 
     /**
      * This returns the angular velocity of the robot as a double.
      *
-     * @return returns the angular velocity of the robot.
+     * @return returns the angular velocity of the robot, or 0 if no time has passed since the last
+     *         update.
      */
     public double getAngularVelocity() {
-        return MathFunctions.getTurnDirection(previousPose.getHeading(), getPose().getHeading()) * MathFunctions.getSmallestAngleDifference(getPose().getHeading(), previousPose.getHeading()) / ((currentPoseTime-previousPoseTime)/Math.pow(10.0, 9));
+        if (currentPoseTime == previousPoseTime) return 0;
+        double heading = getRawPose().getHeading() + headingOffset;
+        return MathFunctions.getTurnDirection(previousPose.getHeading(), heading) * MathFunctions.getSmallestAngleDifference(heading, previousPose.getHeading()) / ((currentPoseTime - previousPoseTime) / 1e9);
     }
 
     /**
@@ -352,13 +450,24 @@ public class PoseUpdater {
      * @return returns the acceleration of the robot.
      */
     public Vector getAcceleration() {
-        if (currentAcceleration == null) {
-            currentAcceleration = MathFunctions.subtractVectors(getVelocity(), previousVelocity);
-            currentAcceleration.setMagnitude(currentAcceleration.getMagnitude() / ((currentPoseTime - previousPoseTime) / Math.pow(10.0, 9)));
-            return MathFunctions.copyVector(currentAcceleration);
-        } else {
-            return MathFunctions.copyVector(currentAcceleration);
+        return getAcceleration(new Vector());
+    }
+
+    /**
+     * This writes the acceleration of the robot into a specified Vector, without making a new
+     * Vector. If this is called multiple times in a single update, the acceleration Vector is
+     * cached so that subsequent calls don't have to repeat calculations.
+     *
+     * @param output the Vector the acceleration is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getAcceleration(Vector output) {
+        if (!accelerationUpToDate) {
+            MathFunctions.subtractVectors(getVelocity(currentAcceleration), previousVelocity, currentAcceleration);
+            currentAcceleration.setMagnitude(currentAcceleration.getMagnitude() / ((currentPoseTime - previousPoseTime) / 1e9));
+            accelerationUpToDate = true;
         }
+        return MathFunctions.copyVector(currentAcceleration, output);
     }
 
     /**
@@ -366,7 +475,7 @@ public class PoseUpdater {
      */
     public void resetHeadingToIMU() {
         if (imu != null) {
-            localizer.setPose(new com.pedropathing.localization.Pose(getPose().getX(), getPose().getY(), getNormalizedIMUHeading() + startingPose.getHeading()));
+            localizer.setPose(new pedroPathing.localization.Pose(getPose().getX(), getPose().getY(), getNormalizedIMUHeading() + startingPose.getHeading()));
         }
     }
 
@@ -411,6 +520,39 @@ public class PoseUpdater {
         return localizer;
     }
 
+    /**
+     * This returns the LoopStats that the localizer and pose update times are recorded in. The
+     * Follower records the rest of its update in the same LoopStats.
+     *
+     * @return returns the LoopStats.
+     */
+    public LoopStats getLoopStats() {
+        return loopStats;
+    }
+
+    /**
+     * This returns the time the current pose was read from the localizer, from the PoseUpdater's
+     * Clock.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getPoseTime() {
+        return currentPoseTime;
+    }
+
+    /**
+     * This sets the Clock the time between updates is read from, for both the PoseUpdater and the
+     * Localizer. The stage times in the LoopStats are always real time.
+     *
+     * @param clock the Clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        localizer.setClock(clock);
+        currentPoseTime = clock.nanoTime();
+        previousPoseTime = currentPoseTime;
+    }
+
     /**
      *
      */
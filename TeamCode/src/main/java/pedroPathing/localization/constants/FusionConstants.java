@@ -0,0 +1,82 @@
+package pedroPathing.localization.constants;
+
+import com.acmerobotics.dashboard.config.Config;
+
+import pedroPathing.localization.Localizers;
+
+/**
+ * This is the FusionConstants class. It holds the constants and parameters for the Fusion
+ * Localizer, which localizers it's made of and how much it trusts each of them. The variances are
+ * the square of how far off a reading is expected to be, so a reading with a smaller variance
+ * moves the pose more.
+ *
+ * @version 1.0, 10/18/2026
+ */
+
+@Config
+public class FusionConstants {
+
+    /** The localizer the movement of the robot comes from between corrections
+     *  Default Value: Localizers.PINPOINT */
+    public static Localizers odometryLocalizer = Localizers.PINPOINT;
+
+    /** A second localizer whose pose is used as a correction every
+     *  correctionLocalizerPeriodMilliseconds, like an OTOS, or null for none. Other corrections,
+     *  like from AprilTags, are added with addCorrection
+     *  Default Value: null */
+    public static Localizers correctionLocalizer = null;
+
+    /** How much uncertainty the odometry adds for every inch the robot moves
+     *  In Inches Squared per Inch
+     *  Default Value: 0.001 */
+    public static double translationalProcessVariance = 0.001;
+
+    /** How much uncertainty the odometry adds for every radian the robot turns
+     *  In Radians Squared per Radian
+     *  Default Value: 0.0005 */
+    public static double headingProcessVariance = 0.0005;
+
+    /** The translational variance of the correction localizer's pose
+     *  In Inches Squared
+     *  Default Value: 4 */
+    public static double correctionTranslationalVariance = 4;
+
+    /** The heading variance of the correction localizer's pose
+     *  In Radians Squared
+     *  Default Value: 0.01 */
+    public static double correctionHeadingVariance = 0.01;
+
+    /** The time between corrections from the correction localizer. The correction localizer's
+     *  error changes slowly, so its poses from one update to the next aren't independent readings,
+     *  and using every one would trust it far more than its variance says to
+     *  In Milliseconds
+     *  Default Value: 100 */
+    public static double correctionLocalizerPeriodMilliseconds = 100;
+
+    /** The translational variance of the pose when it's set, like the start pose
+     *  In Inches Squared
+     *  Default Value: 0.01 */
+    public static double startTranslationalVariance = 0.01;
+
+    /** The heading variance of the pose when it's set, like the start pose
+     *  In Radians Squared
+     *  Default Value: 0.0001 */
+    public static double startHeadingVariance = 0.0001;
+
+    /** Corrections with a heading further from the pose than this, measured in standard
+     *  deviations squared, are thrown out as bad readings. 0 or less keeps every correction.
+     *  11.34 keeps 99% of good readings of x, y, and heading
+     *  Default Value: 11.34 */
+    public static double correctionGate = 11.34;
+
+    /** Corrections without a heading further from the pose than this, measured in standard
+     *  deviations squared, are thrown out as bad readings. 0 or less keeps every correction.
+     *  9.21 keeps 99% of good readings of x and y
+     *  Default Value: 9.21 */
+    public static double correctionGateWithoutHeading = 9.21;
+
+    /** The number of odometry poses kept for lining up late corrections with where the robot was
+     *  when they were measured. Corrections older than the oldest pose are thrown out
+     *  Default Value: 100 */
+    public static int historySize = 100;
+}
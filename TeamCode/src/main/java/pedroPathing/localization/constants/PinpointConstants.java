@@ -1,7 +1,7 @@
 package pedroPathing.localization.constants;
 
 import com.acmerobotics.dashboard.config.Config;
-import com.pedropathing.localization.GoBildaPinpointDriver;
+import pedroPathing.localization.GoBildaPinpointDriver;
 
 import org.firstinspires.ftc.robotcore.external.navigation.DistanceUnit;
 
@@ -62,4 +62,25 @@ public class PinpointConstants {
     /** The Encoder Direction for the Strafe Encoder (Deadwheel)
      * Default Value: GoBildaPinpointDriver.EncoderDirection.FORWARD */
     public static GoBildaPinpointDriver.EncoderDirection strafeEncoderDirection = GoBildaPinpointDriver.EncoderDirection.FORWARD;
+
+    /** Read the Pinpoint on a background thread, so the loop never waits on the I2C bus
+     * Default Value: true */
+    public static boolean useAsyncReading = true;
+
+    /** The least time between reads of the Pinpoint by the background thread. 0 reads as fast as the bus allows,
+     * but leaves less of the hub for everything else
+     *  In Milliseconds
+     * Default Value: 2 */
+    public static double asyncReadPeriodMilliseconds = 2;
+
+    /** When not reading asynchronously, read only the heading while the Follower is turning in place or holding a point,
+     * with a full read every holdingBulkReadPeriodMilliseconds, and keep the translation from the last full read in between
+     * Default Value: true */
+    public static boolean useHeadingOnlyReads = true;
+
+    /** The time between full reads of the Pinpoint while only the heading is being read
+     * @see #useHeadingOnlyReads
+     *  In Milliseconds
+     * Default Value: 50 */
+    public static double holdingBulkReadPeriodMilliseconds = 50;
 }
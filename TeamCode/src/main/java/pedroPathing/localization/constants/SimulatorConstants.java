@@ -0,0 +1,32 @@
+package pedroPathing.localization.constants;
+
+import com.acmerobotics.dashboard.config.Config;
+
+/**
+ * This is the SimulatorConstants class. It holds the constants and parameters for the Simulated
+ * Mecanum Localizer that aren't already in the FollowerConstants. The rest of the model comes from
+ * the mass, xMovement, yMovement, and zero power accelerations, so tuning those on the real robot
+ * also tunes the simulation.
+ *
+ * @version 1.0, 10/18/2026
+ */
+
+@Config
+public class SimulatorConstants {
+
+    /** The force all the drive motors push with together when stalled at full power
+     *  In Newtons
+     *  Default Value: 60 */
+    public static double driveStallForce = 60;
+
+    /** The distance from the center of the robot to the wheels, which sets how fast the robot
+     *  turns compared to how fast it drives
+     *  In Inches
+     *  Default Value: 9 */
+    public static double turnRadius = 9;
+
+    /** The time the simulation moves forward every update
+     *  In Seconds
+     *  Default Value: 0.01 */
+    public static double timeStep = 0.01;
+}
@@ -1,7 +1,7 @@
 package pedroPathing.localization.constants;
 
 import com.acmerobotics.dashboard.config.Config;
-import com.pedropathing.localization.Encoder;
+import pedroPathing.localization.Encoder;
 
 /**
  * This is the ThreeWheelConstants class. It holds many constants and parameters for the Three Wheel Localizer.
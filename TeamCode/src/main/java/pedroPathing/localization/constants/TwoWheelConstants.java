@@ -1,7 +1,7 @@
 package pedroPathing.localization.constants;
 
 import com.acmerobotics.dashboard.config.Config;
-import com.pedropathing.localization.Encoder;
+import pedroPathing.localization.Encoder;
 import com.qualcomm.hardware.rev.RevHubOrientationOnRobot;
 
 /**
@@ -52,4 +52,18 @@ public class TwoWheelConstants {
     /** The direction of the strafe encoder
      * Default Value: Encoder.FORWARD */
     public static double strafeEncoderDirection = Encoder.FORWARD;
+
+    /** Whether the IMU is read on its own thread by an IMUSampler, so the loop never waits on it
+     * Default Value: true */
+    public static boolean IMU_ReadAsync = true;
+
+    /** The time between reads of the IMU by the IMUSampler, about how often the IMU has a new reading
+     *  In Milliseconds
+     * Default Value: 10 */
+    public static double IMU_SamplePeriodMilliseconds = 10;
+
+    /** Whether the yaw from the IMUSampler is moved by the yaw rate to when the hubs were bulk read
+     * Default Value: true */
+    public static boolean IMU_AlignToBulkRead = true;
+
 }
@@ -1,23 +1,23 @@
 package pedroPathing.localization.localizers;
 
-import static com.pedropathing.localization.constants.DriveEncoderConstants.*;
-import static com.pedropathing.follower.FollowerConstants.leftFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.leftRearMotorName;
-import static com.pedropathing.follower.FollowerConstants.rightFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.rightRearMotorName;
+import static pedroPathing.localization.constants.DriveEncoderConstants.*;
+import static pedroPathing.follower.FollowerConstants.leftFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.leftRearMotorName;
+import static pedroPathing.follower.FollowerConstants.rightFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.rightRearMotorName;
 
 
 import com.acmerobotics.dashboard.config.Config;
 import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 
-import com.pedropathing.localization.Encoder;
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Matrix;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.NanoTimer;
+import pedroPathing.localization.Encoder;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.OdometryIntegrator;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.HubManager;
+import pedroPathing.util.NanoTimer;
 
 /**
  * This is the DriveEncoderLocalizer class. This class extends the Localizer superclass and is a
@@ -30,16 +30,15 @@ import com.pedropathing.util.NanoTimer;
 public class DriveEncoderLocalizer extends Localizer {
     private HardwareMap hardwareMap;
     private Pose startPose;
-    private Pose displacementPose;
-    private Pose currentVelocity;
-    private Matrix prevRotationMatrix;
+    private final OdometryIntegrator integrator = new OdometryIntegrator();
     private NanoTimer timer;
     private long deltaTimeNano;
+    private HubManager hubManager;
+    private long previousReadTimestamp;
     private Encoder leftFront;
     private Encoder rightFront;
     private Encoder leftRear;
     private Encoder rightRear;
-    private double totalHeading;
     public static double FORWARD_TICKS_TO_INCHES;
     public static double STRAFE_TICKS_TO_INCHES;
     public static double TURN_TICKS_TO_RADIANS;
@@ -84,10 +83,9 @@ public class DriveEncoderLocalizer extends Localizer {
         rightRear.setDirection(rightRearEncoderDirection);
 
         setStartPose(setStartPose);
-        timer = new NanoTimer();
+        timer = new NanoTimer(() -> clock.nanoTime());
         deltaTimeNano = 1;
-        displacementPose = new Pose();
-        currentVelocity = new Pose();
+        hubManager = HubManager.getInstance(hardwareMap);
     }
 
     /**
@@ -97,7 +95,7 @@ public class DriveEncoderLocalizer extends Localizer {
      */
     @Override
     public Pose getPose() {
-        return MathFunctions.addPoses(startPose, displacementPose);
+        return new Pose(startPose.getX() + integrator.getX(), startPose.getY() + integrator.getY(), startPose.getHeading() + integrator.getHeading());
     }
 
     /**
@@ -107,7 +105,7 @@ public class DriveEncoderLocalizer extends Localizer {
      */
     @Override
     public Pose getVelocity() {
-        return currentVelocity.copy();
+        return new Pose(integrator.getXVelocity(), integrator.getYVelocity(), integrator.getAngularVelocity());
     }
 
     /**
@@ -117,7 +115,9 @@ public class DriveEncoderLocalizer extends Localizer {
      */
     @Override
     public Vector getVelocityVector() {
-        return currentVelocity.getVector();
+        Vector velocity = new Vector();
+        velocity.setOrthogonalComponents(integrator.getXVelocity(), integrator.getYVelocity());
+        return velocity;
     }
 
     /**
@@ -131,20 +131,6 @@ public class DriveEncoderLocalizer extends Localizer {
         startPose = setStart;
     }
 
-    /**
-     * This sets the Matrix that contains the previous pose's heading rotation.
-     *
-     * @param heading the rotation of the Matrix
-     */
-    public void setPrevRotationMatrix(double heading) {
-        prevRotationMatrix = new Matrix(3,3);
-        prevRotationMatrix.set(0, 0, Math.cos(heading));
-        prevRotationMatrix.set(0, 1, -Math.sin(heading));
-        prevRotationMatrix.set(1, 0, Math.sin(heading));
-        prevRotationMatrix.set(1, 1, Math.cos(heading));
-        prevRotationMatrix.set(2, 2, 1.0);
-    }
-
     /**
      * This sets the current pose estimate. Changing this should just change the robot's current
      * pose estimate, not anything to do with the start pose.
@@ -153,46 +139,29 @@ public class DriveEncoderLocalizer extends Localizer {
      */
     @Override
     public void setPose(Pose setPose) {
-        displacementPose = MathFunctions.subtractPoses(setPose, startPose);
+        integrator.setDisplacement(setPose.getX() - startPose.getX(), setPose.getY() - startPose.getY(), setPose.getHeading() - startPose.getHeading());
         resetEncoders();
     }
 
     /**
      * This updates the elapsed time timer that keeps track of time between updates, as well as the
-     * change position of the Encoders. Then, the robot's global change in position is calculated
-     * using the pose exponential method.
+     * change position of the Encoders. When the hubs are bulk read, the time between updates is
+     * the time between the bulk reads the Encoders come from. Then, the robot's global change in
+     * position is calculated using the pose exponential method.
      */
     @Override
     public void update() {
-        deltaTimeNano = timer.getElapsedTime();
-        timer.resetTimer();
-
-        updateEncoders();
-        Matrix robotDeltas = getRobotDeltas();
-        Matrix globalDeltas;
-        setPrevRotationMatrix(getPose().getHeading());
-
-        Matrix transformation = new Matrix(3,3);
-        if (Math.abs(robotDeltas.get(2, 0)) < 0.001) {
-            transformation.set(0, 0, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(0, 1, -robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 0, robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 1, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(2, 2, 1.0);
+        long readTimestamp = hubManager.getReadTimestamp();
+        if (previousReadTimestamp != 0 && readTimestamp != previousReadTimestamp) {
+            deltaTimeNano = readTimestamp - previousReadTimestamp;
         } else {
-            transformation.set(0, 0, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(0, 1, (Math.cos(robotDeltas.get(2, 0)) - 1.0) / robotDeltas.get(2, 0));
-            transformation.set(1, 0, (1.0 - Math.cos(robotDeltas.get(2, 0))) / robotDeltas.get(2, 0));
-            transformation.set(1, 1, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(2, 2, 1.0);
+            deltaTimeNano = timer.getElapsedTime();
         }
+        previousReadTimestamp = readTimestamp;
+        timer.resetTimer();
 
-        globalDeltas = Matrix.multiply(Matrix.multiply(prevRotationMatrix, transformation), robotDeltas);
-
-        displacementPose.add(new Pose(globalDeltas.get(0, 0), globalDeltas.get(1, 0), globalDeltas.get(2, 0)));
-        currentVelocity = new Pose(globalDeltas.get(0, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(1, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(2, 0) / (deltaTimeNano / Math.pow(10.0, 9)));
-
-        totalHeading += globalDeltas.get(2, 0);
+        updateEncoders();
+        integrateRobotDeltas();
     }
 
     /**
@@ -217,19 +186,17 @@ public class DriveEncoderLocalizer extends Localizer {
 
     /**
      * This calculates the change in position from the perspective of the robot using information
-     * from the Encoders.
-     *
-     * @return returns a Matrix containing the robot relative movement.
+     * from the Encoders, then adds it to the displacement with the pose
+     * exponential.
      */
-    public Matrix getRobotDeltas() {
-        Matrix returnMatrix = new Matrix(3,1);
+    private void integrateRobotDeltas() {
         // x/forward movement
-        returnMatrix.set(0,0, FORWARD_TICKS_TO_INCHES * (leftFront.getDeltaPosition() + rightFront.getDeltaPosition() + leftRear.getDeltaPosition() + rightRear.getDeltaPosition()));
+        double forward = FORWARD_TICKS_TO_INCHES * (leftFront.getDeltaPosition() + rightFront.getDeltaPosition() + leftRear.getDeltaPosition() + rightRear.getDeltaPosition());
         //y/strafe movement
-        returnMatrix.set(1,0, STRAFE_TICKS_TO_INCHES * (-leftFront.getDeltaPosition() + rightFront.getDeltaPosition() + leftRear.getDeltaPosition() - rightRear.getDeltaPosition()));
+        double strafe = STRAFE_TICKS_TO_INCHES * (-leftFront.getDeltaPosition() + rightFront.getDeltaPosition() + leftRear.getDeltaPosition() - rightRear.getDeltaPosition());
         // theta/turning
-        returnMatrix.set(2,0, TURN_TICKS_TO_RADIANS * ((-leftFront.getDeltaPosition() + rightFront.getDeltaPosition() - leftRear.getDeltaPosition() + rightRear.getDeltaPosition()) / (ROBOT_WIDTH + ROBOT_LENGTH)));
-        return returnMatrix;
+        double turn = TURN_TICKS_TO_RADIANS * ((-leftFront.getDeltaPosition() + rightFront.getDeltaPosition() - leftRear.getDeltaPosition() + rightRear.getDeltaPosition()) / (ROBOT_WIDTH + ROBOT_LENGTH));
+        integrator.integrate(forward, strafe, turn, startPose.getHeading(), deltaTimeNano);
     }
 
     /**
@@ -239,7 +206,7 @@ public class DriveEncoderLocalizer extends Localizer {
      * @return returns how far the robot has turned in total, in radians.
      */
     public double getTotalHeading() {
-        return totalHeading;
+        return integrator.getTotalHeading();
     }
 
     /**
@@ -0,0 +1,702 @@
+package pedroPathing.localization.localizers;
+
+import com.qualcomm.robotcore.hardware.IMU;
+
+import static pedroPathing.localization.constants.FusionConstants.*;
+
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.PoseHistory;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.Clock;
+
+/**
+ * This is the FusionLocalizer class. This class extends the Localizer superclass and is a
+ * localizer that combines other localizers with an extended Kalman filter. The pose is three
+ * numbers, x, y, and heading, with a 3x3 covariance kept in a primitive array.
+ * <p>
+ * Every update, the movement measured by the odometry localizer since the last update is added to
+ * the pose, and the covariance grows with how far the robot moved and turned. Absolute poses, like
+ * from an AprilTag, a Limelight, or an OTOS set up as the correction localizer, then pull the pose
+ * towards them by how much they're trusted compared to the pose, which is their variance compared
+ * to the covariance. A correction without a heading only corrects x and y. The correction
+ * localizer is still updated every update, but its pose is only used every
+ * correctionLocalizerPeriodMilliseconds, since its error barely changes from one update to the next.
+ * <p>
+ * Corrections can be added from any thread with addCorrection, and are applied in the next update.
+ * Since a camera reading is from a little while before it's added, each correction has the time it
+ * was measured, and is compared with where the odometry says the robot was at that time instead of
+ * where it is now. Corrections that are too far off from the pose to be believable are thrown out.
+ * <p>
+ * None of the filter allocates anything, so it's cheap enough to run every update.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class FusionLocalizer extends Localizer {
+    // This is the most corrections that can be waiting to be applied. If more are added, the oldest is dropped
+    public static final int MAX_PENDING_CORRECTIONS = 16;
+
+    private final Localizer odometry;
+    private final Localizer correction;
+
+    // This is the pose estimate, with the heading not clamped between 0 and 2 * pi
+    private double x;
+    private double y;
+    private double heading;
+
+    // This is the start pose, for moving the pose estimate when the start pose changes
+    private double startX;
+    private double startY;
+    private double startHeading;
+
+    // This is the covariance of the pose estimate, row by row
+    private final double[] covariance = new double[9];
+
+    // These are the odometry localizer's pose from the last update, and its poses from before
+    private double odometryX;
+    private double odometryY;
+    private double odometryHeading;
+    private final PoseHistory odometryHistory;
+    private final Pose historyPose = new Pose();
+
+    // These are the working arrays for the filter, so nothing is allocated each update
+    private final double[] jacobian = new double[9];
+    private final double[] product = new double[9];
+    private final double[] gainNumerator = new double[9];
+    private final double[] innovationCovariance = new double[9];
+    private final double[] inverse = new double[9];
+    private final double[] gain = new double[9];
+    private final double[] innovation = new double[3];
+
+    // These are the corrections waiting to be applied, in a ring, and the copies they're applied from
+    private final Object correctionLock = new Object();
+    private final long[] pendingTimestamps = new long[MAX_PENDING_CORRECTIONS];
+    private final double[] pendingCorrections = new double[MAX_PENDING_CORRECTIONS * 5];
+    private int pendingStart;
+    private int pendingCount;
+    private final long[] appliedTimestamps = new long[MAX_PENDING_CORRECTIONS];
+    private final double[] appliedCorrections = new double[MAX_PENDING_CORRECTIONS * 5];
+
+    // This is when the correction localizer's pose was last used
+    private long correctionLocalizerTime;
+    private boolean correctionLocalizerUsed;
+
+    // These are only written by the thread updating the localizer, so they're safe to read from others
+    private volatile long appliedCorrectionCount;
+    private volatile long rejectedCorrectionCount;
+
+    // This counts the corrections dropped by addCorrection, which can be on another thread, so it's only used with the lock
+    private long droppedCorrectionCount;
+
+    /**
+     * This creates a new FusionLocalizer from an odometry localizer, with no correction localizer.
+     *
+     * @param odometry the localizer the movement of the robot comes from
+     */
+    public FusionLocalizer(Localizer odometry) {
+        this(odometry, null);
+    }
+
+    /**
+     * This creates a new FusionLocalizer from an odometry localizer and a correction localizer,
+     * starting from the odometry localizer's current pose.
+     *
+     * @param odometry the localizer the movement of the robot comes from
+     * @param correction the localizer whose pose is used as a correction every
+     *                   correctionLocalizerPeriodMilliseconds, or null
+     */
+    public FusionLocalizer(Localizer odometry, Localizer correction) {
+        this.odometry = odometry;
+        this.correction = correction;
+        odometryHistory = new PoseHistory(Math.max(historySize, 1));
+
+        Pose odometryPose = odometry.getPose();
+        odometryX = odometryPose.getX();
+        odometryY = odometryPose.getY();
+        odometryHeading = odometryPose.getHeading();
+        startX = odometryPose.getX();
+        startY = odometryPose.getY();
+        startHeading = odometryPose.getHeading();
+        setState(odometryPose);
+    }
+
+    /**
+     * This sets the pose estimate and resets the covariance to the start variances.
+     *
+     * @param pose the new pose estimate
+     */
+    private void setState(Pose pose) {
+        x = pose.getX();
+        y = pose.getY();
+        heading = pose.getHeading();
+
+        for (int i = 0; i < 9; i++) covariance[i] = 0;
+        covariance[0] = startTranslationalVariance;
+        covariance[4] = startTranslationalVariance;
+        covariance[8] = startHeadingVariance;
+    }
+
+    /**
+     * This returns the current pose estimate.
+     *
+     * @return returns the current pose estimate as a Pose
+     */
+    @Override
+    public Pose getPose() {
+        return new Pose(x, y, heading);
+    }
+
+    /**
+     * This returns the current velocity estimate. This is the odometry localizer's velocity,
+     * turned by how far the fused heading is from the odometry localizer's heading.
+     *
+     * @return returns the current velocity estimate as a Pose
+     */
+    @Override
+    public Pose getVelocity() {
+        Pose odometryVelocity = odometry.getVelocity();
+        double offset = heading - odometryHeading;
+        return new Pose(odometryVelocity.getX() * Math.cos(offset) - odometryVelocity.getY() * Math.sin(offset),
+                odometryVelocity.getX() * Math.sin(offset) + odometryVelocity.getY() * Math.cos(offset),
+                odometryVelocity.getHeading());
+    }
+
+    /**
+     * This returns the current velocity estimate.
+     *
+     * @return returns the current velocity estimate as a Vector
+     */
+    @Override
+    public Vector getVelocityVector() {
+        return getVelocity().getVector();
+    }
+
+    /**
+     * This sets the start pose. Like the PinpointLocalizer, this moves the pose estimate as if all
+     * its previous movements were displacing it from the new start pose.
+     *
+     * @param setStart the new start pose
+     */
+    @Override
+    public void setStartPose(Pose setStart) {
+        Pose currentPose = MathFunctions.rotatePose(new Pose(x - startX, y - startY, 0), -startHeading, false);
+        double turned = heading - startHeading;
+        startX = setStart.getX();
+        startY = setStart.getY();
+        startHeading = setStart.getHeading();
+
+        Pose movedPose = MathFunctions.rotatePose(currentPose, startHeading, false);
+        setPose(new Pose(startX + movedPose.getX(), startY + movedPose.getY(), startHeading + turned));
+    }
+
+    /**
+     * This sets the current pose estimate. The covariance goes back to the start variances, and
+     * the correction localizer is set to the same pose so its corrections stay in the same frame.
+     * The odometry history and any waiting corrections are thrown out, since they were measured
+     * before the pose was set, so late corrections from before then are rejected.
+     *
+     * @param setPose the new current pose estimate
+     */
+    @Override
+    public void setPose(Pose setPose) {
+        setState(setPose);
+        odometryHistory.clear();
+        correctionLocalizerUsed = false;
+        if (correction != null) correction.setPose(setPose);
+        synchronized (correctionLock) {
+            pendingCount = 0;
+        }
+    }
+
+    /**
+     * This stops the odometry localizer and the correction localizer.
+     */
+    @Override
+    public void stop() {
+        odometry.stop();
+        if (correction != null) correction.stop();
+    }
+
+    /**
+     * This adds an absolute pose to correct the pose estimate with in the next update. This can be
+     * called from any thread.
+     *
+     * @param timestamp the time the pose was measured, in nanoseconds from the same Clock as the
+     *                  localizer (System.nanoTime() on the robot), or 0 for the time of the next
+     *                  update
+     * @param correctionX the x of the pose
+     * @param correctionY the y of the pose
+     * @param correctionHeading the heading of the pose in radians, or NaN to only correct x and y
+     * @param translationalVariance the variance of the x and y, in inches squared
+     * @param headingVariance the variance of the heading, in radians squared
+     */
+    public void addCorrection(long timestamp, double correctionX, double correctionY, double correctionHeading, double translationalVariance, double headingVariance) {
+        synchronized (correctionLock) {
+            int index;
+            if (pendingCount < MAX_PENDING_CORRECTIONS) {
+                index = (pendingStart + pendingCount) % MAX_PENDING_CORRECTIONS;
+                pendingCount++;
+            } else {
+                index = pendingStart;
+                pendingStart = (pendingStart + 1) % MAX_PENDING_CORRECTIONS;
+                droppedCorrectionCount++;
+            }
+
+            pendingTimestamps[index] = timestamp;
+            pendingCorrections[index * 5] = correctionX;
+            pendingCorrections[index * 5 + 1] = correctionY;
+            pendingCorrections[index * 5 + 2] = correctionHeading;
+            pendingCorrections[index * 5 + 3] = translationalVariance;
+            pendingCorrections[index * 5 + 4] = headingVariance;
+        }
+    }
+
+    /**
+     * This adds an absolute pose to correct the pose estimate with in the next update.
+     *
+     * @param timestamp the time the pose was measured, or 0 for the time of the next update
+     * @param pose the pose
+     * @param translationalVariance the variance of the x and y, in inches squared
+     * @param headingVariance the variance of the heading, in radians squared
+     */
+    public void addCorrection(long timestamp, Pose pose, double translationalVariance, double headingVariance) {
+        addCorrection(timestamp, pose.getX(), pose.getY(), pose.getHeading(), translationalVariance, headingVariance);
+    }
+
+    /**
+     * This updates the odometry localizer and adds its movement since the last update to the pose
+     * estimate, then applies the correction localizer's pose, if it's been
+     * correctionLocalizerPeriodMilliseconds since it was last used, and any corrections that were
+     * added.
+     */
+    @Override
+    public void update() {
+        odometry.update();
+        Pose odometryPose = odometry.getPose();
+        predict(odometryPose.getX(), odometryPose.getY(), odometryPose.getHeading());
+
+        long now = clock.nanoTime();
+        odometryHistory.add(now, odometryX, odometryY, odometryHeading, 0, 0, 0);
+
+        if (correction != null) {
+            correction.update();
+            if (!correctionLocalizerUsed || now - correctionLocalizerTime >= correctionLocalizerPeriodMilliseconds * 1e6) {
+                correctionLocalizerUsed = true;
+                correctionLocalizerTime = now;
+                Pose correctionPose = correction.getPose();
+                correct(0, correctionPose.getX(), correctionPose.getY(), correctionPose.getHeading(), correctionTranslationalVariance, correctionHeadingVariance);
+            }
+        }
+
+        int count;
+        synchronized (correctionLock) {
+            count = pendingCount;
+            for (int i = 0; i < count; i++) {
+                int index = (pendingStart + i) % MAX_PENDING_CORRECTIONS;
+                appliedTimestamps[i] = pendingTimestamps[index];
+                System.arraycopy(pendingCorrections, index * 5, appliedCorrections, i * 5, 5);
+            }
+            pendingStart = 0;
+            pendingCount = 0;
+        }
+
+        for (int i = 0; i < count; i++) {
+            correct(appliedTimestamps[i], appliedCorrections[i * 5], appliedCorrections[i * 5 + 1], appliedCorrections[i * 5 + 2], appliedCorrections[i * 5 + 3], appliedCorrections[i * 5 + 4]);
+        }
+    }
+
+    /**
+     * This is the prediction step of the filter. The odometry localizer's movement is turned into
+     * the frame of the pose estimate and added to it, and the covariance is carried forward
+     * through the movement and grown by the process variances.
+     *
+     * @param newOdometryX the odometry localizer's new x
+     * @param newOdometryY the odometry localizer's new y
+     * @param newOdometryHeading the odometry localizer's new heading
+     */
+    private void predict(double newOdometryX, double newOdometryY, double newOdometryHeading) {
+        double deltaX = newOdometryX - odometryX;
+        double deltaY = newOdometryY - odometryY;
+        double deltaHeading = signedAngle(odometryHeading, newOdometryHeading);
+
+        double offset = heading - odometryHeading;
+        double cos = Math.cos(offset);
+        double sin = Math.sin(offset);
+        double movedX = cos * deltaX - sin * deltaY;
+        double movedY = sin * deltaX + cos * deltaY;
+
+        x += movedX;
+        y += movedY;
+        heading += deltaHeading;
+
+        odometryX = newOdometryX;
+        odometryY = newOdometryY;
+        odometryHeading = newOdometryHeading;
+
+        // The movement turns with the heading, so the heading's uncertainty spreads into x and y
+        setIdentity(jacobian);
+        jacobian[2] = -movedY;
+        jacobian[5] = movedX;
+        multiply(jacobian, covariance, product);
+        multiplyTransposed(product, jacobian, covariance);
+
+        double distance = Math.hypot(deltaX, deltaY);
+        covariance[0] += translationalProcessVariance * distance;
+        covariance[4] += translationalProcessVariance * distance;
+        covariance[8] += headingProcessVariance * Math.abs(deltaHeading);
+    }
+
+    /**
+     * This is the correction step of the filter. The correction is compared with where the pose
+     * estimate says the robot was when the correction was measured, which is the pose estimate
+     * moved back by how far the odometry localizer has moved since then.
+     *
+     * @param timestamp the time the correction was measured, or 0 for now
+     * @param correctionX the x of the correction
+     * @param correctionY the y of the correction
+     * @param correctionHeading the heading of the correction, or NaN for none
+     * @param translationalVariance the variance of the x and y
+     * @param headingVariance the variance of the heading
+     */
+    private void correct(long timestamp, double correctionX, double correctionY, double correctionHeading, double translationalVariance, double headingVariance) {
+        if (Double.isNaN(correctionX) || Double.isNaN(correctionY)) {
+            rejectedCorrectionCount++;
+            return;
+        }
+
+        // This is where the odometry localizer was when the correction was measured
+        double pastOdometryX = odometryX;
+        double pastOdometryY = odometryY;
+        double pastOdometryHeading = odometryHeading;
+        if (timestamp != 0 && timestamp < odometryHistory.getNewestTimestamp()) {
+            if (timestamp < odometryHistory.getOldestTimestamp()) {
+                rejectedCorrectionCount++;
+                return;
+            }
+            odometryHistory.getPoseAt(timestamp, historyPose);
+            pastOdometryX = historyPose.getX();
+            pastOdometryY = historyPose.getY();
+            pastOdometryHeading = historyPose.getHeading();
+        }
+
+        double deltaX = pastOdometryX - odometryX;
+        double deltaY = pastOdometryY - odometryY;
+        double offset = heading - odometryHeading;
+        double cos = Math.cos(offset);
+        double sin = Math.sin(offset);
+        double movedX = cos * deltaX - sin * deltaY;
+        double movedY = sin * deltaX + cos * deltaY;
+
+        innovation[0] = correctionX - (x + movedX);
+        innovation[1] = correctionY - (y + movedY);
+        innovation[2] = Double.isNaN(correctionHeading) ? 0 : signedAngle(heading + signedAngle(odometryHeading, pastOdometryHeading), correctionHeading);
+        int rows = Double.isNaN(correctionHeading) ? 2 : 3;
+
+        setIdentity(jacobian);
+        jacobian[2] = -movedY;
+        jacobian[5] = movedX;
+
+        // This is P * H^T, which is 3 by rows
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < rows; j++) {
+                double sum = 0;
+                for (int k = 0; k < 3; k++) sum += covariance[i * 3 + k] * jacobian[j * 3 + k];
+                gainNumerator[i * 3 + j] = sum;
+            }
+        }
+
+        // This is S = H * P * H^T + R, which is rows by rows
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < rows; j++) {
+                double sum = 0;
+                for (int k = 0; k < 3; k++) sum += jacobian[i * 3 + k] * gainNumerator[k * 3 + j];
+                innovationCovariance[i * 3 + j] = sum;
+            }
+        }
+        innovationCovariance[0] += translationalVariance;
+        innovationCovariance[4] += translationalVariance;
+        if (rows == 3) innovationCovariance[8] += headingVariance;
+
+        if (!invert(innovationCovariance, inverse, rows)) {
+            rejectedCorrectionCount++;
+            return;
+        }
+
+        // The gate depends on how many of x, y, and heading were measured
+        double gate = rows == 3 ? correctionGate : correctionGateWithoutHeading;
+        if (gate > 0) {
+            double distanceSquared = 0;
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < rows; j++) distanceSquared += innovation[i] * inverse[i * 3 + j] * innovation[j];
+            }
+            if (distanceSquared > gate) {
+                rejectedCorrectionCount++;
+                return;
+            }
+        }
+
+        // This is K = P * H^T * S^-1, which is 3 by rows
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < rows; j++) {
+                double sum = 0;
+                for (int k = 0; k < rows; k++) sum += gainNumerator[i * 3 + k] * inverse[k * 3 + j];
+                gain[i * 3 + j] = sum;
+            }
+        }
+
+        for (int j = 0; j < rows; j++) {
+            x += gain[j] * innovation[j];
+            y += gain[3 + j] * innovation[j];
+            heading += gain[6 + j] * innovation[j];
+        }
+
+        // This is P = P - K * H * P, using H * P = (P * H^T)^T since P is symmetric
+        for (int i = 0; i < 3; i++) {
+            for (int c = 0; c < 3; c++) {
+                double sum = 0;
+                for (int j = 0; j < rows; j++) sum += gain[i * 3 + j] * gainNumerator[c * 3 + j];
+                product[i * 3 + c] = covariance[i * 3 + c] - sum;
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            for (int c = 0; c < 3; c++) covariance[i * 3 + c] = (product[i * 3 + c] + product[c * 3 + i]) / 2;
+        }
+
+        appliedCorrectionCount++;
+    }
+
+    /**
+     * This returns the signed angle to turn from one heading to another.
+     *
+     * @param from the heading to turn from
+     * @param to the heading to turn to
+     * @return returns the angle between -pi and pi
+     */
+    private static double signedAngle(double from, double to) {
+        return MathFunctions.getTurnDirection(MathFunctions.normalizeAngle(from), MathFunctions.normalizeAngle(to)) * MathFunctions.getSmallestAngleDifference(MathFunctions.normalizeAngle(to), MathFunctions.normalizeAngle(from));
+    }
+
+    /**
+     * This sets a 3x3 matrix to the identity.
+     *
+     * @param matrix the matrix
+     */
+    private static void setIdentity(double[] matrix) {
+        for (int i = 0; i < 9; i++) matrix[i] = (i % 4 == 0) ? 1 : 0;
+    }
+
+    /**
+     * This multiplies two 3x3 matrices.
+     *
+     * @param a the first matrix
+     * @param b the second matrix
+     * @param output the matrix to write a * b into, which can't be a or b
+     */
+    private static void multiply(double[] a, double[] b, double[] output) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                output[i * 3 + j] = a[i * 3] * b[j] + a[i * 3 + 1] * b[3 + j] + a[i * 3 + 2] * b[6 + j];
+            }
+        }
+    }
+
+    /**
+     * This multiplies a 3x3 matrix by the transpose of another.
+     *
+     * @param a the first matrix
+     * @param b the second matrix, which is transposed
+     * @param output the matrix to write a * b^T into, which can't be a or b
+     */
+    private static void multiplyTransposed(double[] a, double[] b, double[] output) {
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                output[i * 3 + j] = a[i * 3] * b[j * 3] + a[i * 3 + 1] * b[j * 3 + 1] + a[i * 3 + 2] * b[j * 3 + 2];
+            }
+        }
+    }
+
+    /**
+     * This inverts the top left 2x2 or 3x3 of a 3x3 matrix.
+     *
+     * @param matrix the matrix
+     * @param output the matrix to write the inverse into
+     * @param size 2 or 3
+     * @return returns false if the matrix can't be inverted
+     */
+    private static boolean invert(double[] matrix, double[] output, int size) {
+        if (size == 2) {
+            double determinant = matrix[0] * matrix[4] - matrix[1] * matrix[3];
+            if (Math.abs(determinant) < 1e-12) return false;
+            output[0] = matrix[4] / determinant;
+            output[1] = -matrix[1] / determinant;
+            output[3] = -matrix[3] / determinant;
+            output[4] = matrix[0] / determinant;
+            return true;
+        }
+
+        double a = matrix[0], b = matrix[1], c = matrix[2];
+        double d = matrix[3], e = matrix[4], f = matrix[5];
+        double g = matrix[6], h = matrix[7], i = matrix[8];
+        double cofactor0 = e * i - f * h;
+        double cofactor1 = f * g - d * i;
+        double cofactor2 = d * h - e * g;
+        double determinant = a * cofactor0 + b * cofactor1 + c * cofactor2;
+        if (Math.abs(determinant) < 1e-12) return false;
+
+        output[0] = cofactor0 / determinant;
+        output[1] = (c * h - b * i) / determinant;
+        output[2] = (b * f - c * e) / determinant;
+        output[3] = cofactor1 / determinant;
+        output[4] = (a * i - c * g) / determinant;
+        output[5] = (c * d - a * f) / determinant;
+        output[6] = cofactor2 / determinant;
+        output[7] = (b * g - a * h) / determinant;
+        output[8] = (a * e - b * d) / determinant;
+        return true;
+    }
+
+    /**
+     * This returns one entry of the covariance of the pose estimate, with x, y, and heading being
+     * 0, 1, and 2.
+     *
+     * @param row the row
+     * @param column the column
+     * @return returns the entry of the covariance
+     */
+    public double getCovariance(int row, int column) {
+        return covariance[row * 3 + column];
+    }
+
+    /**
+     * This returns the number of corrections that have been applied.
+     *
+     * @return returns the number of corrections applied
+     */
+    public long getAppliedCorrectionCount() {
+        return appliedCorrectionCount;
+    }
+
+    /**
+     * This returns the number of corrections that were thrown out, for being too far off, too
+     * old, or dropped because too many were waiting.
+     *
+     * @return returns the number of corrections thrown out
+     */
+    public long getRejectedCorrectionCount() {
+        synchronized (correctionLock) {
+            return rejectedCorrectionCount + droppedCorrectionCount;
+        }
+    }
+
+    /**
+     * This returns the localizer the movement of the robot comes from.
+     *
+     * @return returns the odometry localizer
+     */
+    public Localizer getOdometryLocalizer() {
+        return odometry;
+    }
+
+    /**
+     * This returns the localizer whose pose is used as a correction every update.
+     *
+     * @return returns the correction localizer, or null if there isn't one
+     */
+    public Localizer getCorrectionLocalizer() {
+        return correction;
+    }
+
+    /**
+     * This sets the Clock of this localizer and the localizers it's made of.
+     *
+     * @param clock the Clock.
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        odometry.setClock(clock);
+        if (correction != null) correction.setClock(clock);
+    }
+
+    /**
+     * This passes on if the Follower is holding the robot's translation to the localizers this is
+     * made of.
+     *
+     * @param holdingTranslation if the robot's translation is being held.
+     */
+    @Override
+    public void setHoldingTranslation(boolean holdingTranslation) {
+        odometry.setHoldingTranslation(holdingTranslation);
+        if (correction != null) correction.setHoldingTranslation(holdingTranslation);
+    }
+
+    /**
+     * This returns how far the robot has turned in radians, in a number not clamped between 0 and
+     * 2 * pi radians, from the odometry localizer.
+     *
+     * @return returns how far the robot has turned in total, in radians.
+     */
+    @Override
+    public double getTotalHeading() {
+        return odometry.getTotalHeading();
+    }
+
+    /**
+     * This returns the odometry localizer's forward multiplier.
+     *
+     * @return returns the forward multiplier
+     */
+    @Override
+    public double getForwardMultiplier() {
+        return odometry.getForwardMultiplier();
+    }
+
+    /**
+     * This returns the odometry localizer's lateral multiplier.
+     *
+     * @return returns the lateral multiplier
+     */
+    @Override
+    public double getLateralMultiplier() {
+        return odometry.getLateralMultiplier();
+    }
+
+    /**
+     * This returns the odometry localizer's turning multiplier.
+     *
+     * @return returns the turning multiplier
+     */
+    @Override
+    public double getTurningMultiplier() {
+        return odometry.getTurningMultiplier();
+    }
+
+    /**
+     * This resets the odometry localizer's IMU.
+     */
+    @Override
+    public void resetIMU() throws InterruptedException {
+        odometry.resetIMU();
+    }
+
+    /**
+     * This returns the odometry localizer's IMU.
+     *
+     * @return returns the IMU if it exists
+     */
+    @Override
+    public IMU getIMU() {
+        return odometry.getIMU();
+    }
+
+    /**
+     * This returns whether if any component of robot's position is NaN.
+     *
+     * @return returns whether the robot's position is NaN
+     */
+    @Override
+    public boolean isNAN() {
+        return odometry.isNAN() || Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(heading);
+    }
+}
@@ -4,11 +4,11 @@ import com.pedropathing.localization.SparkFunOTOSCorrected;
 import com.qualcomm.hardware.sparkfun.SparkFunOTOS;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
-import static com.pedropathing.localization.constants.OTOSConstants.*;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
+import static pedroPathing.localization.constants.OTOSConstants.*;
 
 /**
  * This is the OTOSLocalizer class. This class extends the Localizer superclass and is a
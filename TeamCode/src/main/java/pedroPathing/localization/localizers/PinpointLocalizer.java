@@ -2,7 +2,7 @@ package pedroPathing.localization.localizers;
 
 
 import com.qualcomm.robotcore.hardware.HardwareMap;
-import static com.pedropathing.localization.constants.PinpointConstants.*;
+import static pedroPathing.localization.constants.PinpointConstants.*;
 
 import android.os.Build;
 
@@ -11,12 +11,12 @@ import androidx.annotation.RequiresApi;
 import org.firstinspires.ftc.robotcore.external.navigation.AngleUnit;
 import org.firstinspires.ftc.robotcore.external.navigation.DistanceUnit;
 import org.firstinspires.ftc.robotcore.external.navigation.Pose2D;
-import com.pedropathing.localization.GoBildaPinpointDriver;
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.NanoTimer;
+import pedroPathing.localization.GoBildaPinpointDriver;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.NanoTimer;
 
 import java.util.Objects;
 
@@ -61,6 +61,18 @@ public class PinpointLocalizer extends Localizer {
     private Pose currentVelocity;
     private Pose pinpointPose;
     private boolean pinpointCooked = false;
+    private final GoBildaPinpointDriver.Snapshot snapshot = new GoBildaPinpointDriver.Snapshot();
+    private long poseSetSequence;
+
+    // These are for choosing between full reads and heading only reads of the Pinpoint
+    private boolean holdingTranslation;
+    private boolean needsBulkRead = true;
+    private NanoTimer bulkReadTimer;
+
+    // These are for measuring how much is read from the Pinpoint
+    private long bandwidthWindowStartTime;
+    private long bandwidthWindowStartBytes;
+    private double bandwidth;
 
     /**
      * This creates a new PinpointLocalizer from a HardwareMap, with a starting Pose at (0,0)
@@ -96,10 +108,14 @@ public class PinpointLocalizer extends Localizer {
         odo.setEncoderDirections(forwardEncoderDirection, strafeEncoderDirection);
 
         resetPinpoint();
+        if (useAsyncReading) {
+            odo.startAsyncReading(asyncReadPeriodMilliseconds);
+        }
 
         setStartPose(setStartPose);
         totalHeading = 0;
-        timer = new NanoTimer();
+        timer = new NanoTimer(() -> clock.nanoTime());
+        bulkReadTimer = new NanoTimer(() -> clock.nanoTime());
         pinpointPose = startPose;
         currentVelocity = new Pose();
         deltaTimeNano = 1;
@@ -166,24 +182,127 @@ public class PinpointLocalizer extends Localizer {
         odo.setPosition(new Pose(setPose.getX(), setPose.getY(), setPose.getHeading()));
         pinpointPose = setPose;
         previousHeading = setPose.getHeading();
+        poseSetSequence = odo.getSequence();
+        needsBulkRead = true;
     }
 
     /**
      * This updates the total heading of the robot. The Pinpoint handles all other updates itself.
+     * The newest read of the Pinpoint is taken as a snapshot, which is already there when the
+     * Pinpoint is read on a background thread, and the velocity comes straight from the Pinpoint.
+     * Reads from before the pose was last set are skipped, since they're from the old pose. When
+     * only the heading was read, the translation is kept from the last full read. It isn't moved by
+     * the last velocity, since that's never read again until the next full read, and the pose
+     * would drift away and jump back every holdingBulkReadPeriodMilliseconds. The translational
+     * velocity is zero until the next full read too, so it agrees with the pose.
      */
     @Override
     public void update() {
         deltaTimeNano = timer.getElapsedTime();
         timer.resetTimer();
-        odo.update();
-        Pose currentPinpointPose = getPoseEstimate(odo.getPosition(), pinpointPose, deltaTimeNano);
+        boolean headingOnly = readPinpoint();
+        updateBandwidth();
+        if (!odo.readSnapshot(snapshot) || snapshot.getSequence() <= poseSetSequence) return;
+
+        Pose pinpointEstimate;
+        if (headingOnly) {
+            pinpointEstimate = new Pose(pinpointPose.getX(), pinpointPose.getY(), snapshot.getHeading());
+        } else {
+            pinpointEstimate = new Pose(snapshot.getX(), snapshot.getY(), snapshot.getHeading());
+        }
+
+        Pose currentPinpointPose = getPoseEstimate(pinpointEstimate, pinpointPose, deltaTimeNano);
+        double deltaHeading = MathFunctions.getTurnDirection(previousHeading, currentPinpointPose.getHeading()) * MathFunctions.getSmallestAngleDifference(currentPinpointPose.getHeading(), previousHeading);
         totalHeading += MathFunctions.getSmallestAngleDifference(currentPinpointPose.getHeading(), previousHeading);
         previousHeading = currentPinpointPose.getHeading();
-        Pose deltaPose = MathFunctions.subtractPoses(currentPinpointPose, pinpointPose);
-        currentVelocity = new Pose(deltaPose.getX() / (deltaTimeNano / Math.pow(10.0, 9)), deltaPose.getY() / (deltaTimeNano / Math.pow(10.0, 9)), deltaPose.getHeading() / (deltaTimeNano / Math.pow(10.0, 9)));
+        if (headingOnly) {
+            currentVelocity = new Pose(0, 0, deltaHeading / (deltaTimeNano / 1e9));
+        } else if (Double.isNaN(snapshot.getXVelocity()) || Double.isNaN(snapshot.getYVelocity()) || Double.isNaN(snapshot.getHeadingVelocity())) {
+            Pose deltaPose = MathFunctions.subtractPoses(currentPinpointPose, pinpointPose);
+            currentVelocity = new Pose(deltaPose.getX() / (deltaTimeNano / 1e9), deltaPose.getY() / (deltaTimeNano / 1e9), deltaPose.getHeading() / (deltaTimeNano / 1e9));
+        } else {
+            currentVelocity = new Pose(snapshot.getXVelocity(), snapshot.getYVelocity(), snapshot.getHeadingVelocity());
+        }
         pinpointPose = currentPinpointPose;
     }
 
+    /**
+     * This reads the Pinpoint, unless it's being read on a background thread. While the Follower
+     * is turning in place or holding a point, only the heading is read, with a full read every
+     * holdingBulkReadPeriodMilliseconds. The first read after the pose is set is always full.
+     *
+     * @return returns if only the heading was read
+     */
+    private boolean readPinpoint() {
+        if (odo.isAsyncReading()) return false;
+
+        if (useHeadingOnlyReads && holdingTranslation && !needsBulkRead && bulkReadTimer.getElapsedTime() < holdingBulkReadPeriodMilliseconds * 1e6) {
+            odo.update(GoBildaPinpointDriver.readData.ONLY_UPDATE_HEADING);
+            return true;
+        }
+
+        odo.update();
+        needsBulkRead = false;
+        bulkReadTimer.resetTimer();
+        return false;
+    }
+
+    /**
+     * This updates the measured I2C bandwidth about once a second.
+     */
+    private void updateBandwidth() {
+        long now = clock.nanoTime();
+        if (bandwidthWindowStartTime == 0) {
+            bandwidthWindowStartTime = now;
+            bandwidthWindowStartBytes = odo.getBytesRead();
+        } else if (now - bandwidthWindowStartTime >= 1e9) {
+            long bytes = odo.getBytesRead();
+            bandwidth = (bytes - bandwidthWindowStartBytes) / ((now - bandwidthWindowStartTime) / 1e9);
+            bandwidthWindowStartTime = now;
+            bandwidthWindowStartBytes = bytes;
+        }
+    }
+
+    /**
+     * This tells the PinpointLocalizer if the Follower is turning in place or holding a point, so
+     * it can read only the heading most of the time.
+     *
+     * @param holdingTranslation if the robot's translation is being held.
+     */
+    @Override
+    public void setHoldingTranslation(boolean holdingTranslation) {
+        this.holdingTranslation = holdingTranslation;
+    }
+
+    /**
+     * This returns how much is being read from the Pinpoint over I2C, from the last second, by
+     * the localizer or the background thread.
+     *
+     * @return returns the I2C bandwidth in bytes per second
+     */
+    public double getI2CBandwidth() {
+        return bandwidth;
+    }
+
+    /**
+     * This stops reading the Pinpoint on the background thread, so it doesn't keep reading the
+     * Pinpoint after the OpMode stops.
+     */
+    @Override
+    public void stop() {
+        odo.stopAsyncReading();
+    }
+
+    /**
+     * This returns the Pinpoint driver, for checking its read health counters like
+     * getReadFrequency() and getLoopTime().
+     *
+     * @return returns the GoBildaPinpointDriver
+     */
+    public GoBildaPinpointDriver getPinpoint() {
+        return odo;
+    }
+
     /**
      * This returns how far the robot has turned in radians, in a number not clamped between 0 and
      * 2 * pi radians. This is used for some tuning things and nothing actually within the following.
@@ -263,21 +382,21 @@ public class PinpointLocalizer extends Localizer {
         if (!Double.isNaN(pinpointEstimate.getX())) {
             x = pinpointEstimate.getX();
         } else {
-            x = currentPose.getX() + currentVelocity.getX() * deltaTime / Math.pow(10, 9);
+            x = currentPose.getX() + currentVelocity.getX() * deltaTime / 1e9;
             pinpointCooked = true;
         }
 
         if (!Double.isNaN(pinpointEstimate.getY())) {
             y = pinpointEstimate.getY();
         } else {
-            y = currentPose.getY() + currentVelocity.getY() * deltaTime / Math.pow(10, 9);
+            y = currentPose.getY() + currentVelocity.getY() * deltaTime / 1e9;
             pinpointCooked = true;
         }
 
         if (!Double.isNaN(pinpointEstimate.getHeading())) {
             heading = pinpointEstimate.getHeading();
         } else {
-            heading = currentPose.getHeading() + currentVelocity.getHeading() * deltaTime / Math.pow(10, 9);
+            heading = currentPose.getHeading() + currentVelocity.getHeading() * deltaTime / 1e9;
             pinpointCooked = true;
         }
 
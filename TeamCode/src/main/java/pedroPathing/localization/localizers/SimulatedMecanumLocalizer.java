@@ -0,0 +1,373 @@
+package pedroPathing.localization.localizers;
+
+import static pedroPathing.localization.constants.SimulatorConstants.driveStallForce;
+import static pedroPathing.localization.constants.SimulatorConstants.timeStep;
+import static pedroPathing.localization.constants.SimulatorConstants.turnRadius;
+
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.VirtualClock;
+
+/**
+ * This is the SimulatedMecanumLocalizer class. This class extends the Localizer superclass and is a
+ * stand in for a whole mecanum drivetrain, so the Follower can be run without a robot. The motor
+ * powers it's given are turned into forces on the robot, and every update moves the simulation
+ * forward by timeStep on its own clock, not the real one, so it can run as fast as the computer
+ * allows. The pose it returns is exactly where the simulated robot is.
+ * <p>
+ * The model is built from the FollowerConstants. The wheel powers are turned into forward, lateral
+ * and turning powers with the same mecanum vectors the DriveVectorScaler uses. Full power drives
+ * at xMovement forward or yMovement sideways, and with no power the robot slows down at the zero
+ * power accelerations, like a robot with its motors set to float. The motors push harder the
+ * further the robot is from the speed its power asks for, starting from driveStallForce, so a
+ * heavier robot speeds up slower.
+ * <p>
+ * The motors from getMotor can be given to a MotorOutputStage, or the powers can be set directly.
+ * The Follower made with a SimulatedMecanumLocalizer runs on its simulation clock.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class SimulatedMecanumLocalizer extends Localizer {
+    private static final double METERS_PER_INCH = 0.0254;
+
+    private Pose startPose;
+
+    // This is the state of the simulated robot, with the velocity in the field's frame
+    private double x;
+    private double y;
+    private double heading;
+    private double velocityX;
+    private double velocityY;
+    private double angularVelocity;
+    private double totalHeading;
+
+    private final double[] motorPowers = new double[4];
+    private final SimulatedMotor[] motors = new SimulatedMotor[4];
+
+    private final VirtualClock simulationClock = new VirtualClock();
+
+    /**
+     * This creates a new SimulatedMecanumLocalizer, with the robot stopped at (0,0) facing 0
+     * heading.
+     */
+    public SimulatedMecanumLocalizer() {
+        this(new Pose());
+    }
+
+    /**
+     * This creates a new SimulatedMecanumLocalizer, with the robot stopped at a Pose.
+     *
+     * @param setStartPose the Pose to start from
+     */
+    public SimulatedMecanumLocalizer(Pose setStartPose) {
+        for (int i = 0; i < motors.length; i++) {
+            motors[i] = new SimulatedMotor(i);
+        }
+        setStartPose(setStartPose);
+    }
+
+    /**
+     * This returns one of the simulated drive motors, in the order left front, left rear, right
+     * front, right rear. Setting the power of one of these sets the power the simulation uses.
+     *
+     * @param index the index of the motor.
+     * @return returns the motor.
+     */
+    public DcMotorSimple getMotor(int index) {
+        return motors[index];
+    }
+
+    /**
+     * This sets the powers of the drive motors, which are used until they're set again.
+     *
+     * @param leftFront the left front power.
+     * @param leftRear the left rear power.
+     * @param rightFront the right front power.
+     * @param rightRear the right rear power.
+     */
+    public void setMotorPowers(double leftFront, double leftRear, double rightFront, double rightRear) {
+        motorPowers[0] = MathFunctions.clamp(leftFront, -1, 1);
+        motorPowers[1] = MathFunctions.clamp(leftRear, -1, 1);
+        motorPowers[2] = MathFunctions.clamp(rightFront, -1, 1);
+        motorPowers[3] = MathFunctions.clamp(rightRear, -1, 1);
+    }
+
+    /**
+     * This moves the simulation forward by timeStep.
+     */
+    @Override
+    public void update() {
+        step(timeStep);
+    }
+
+    /**
+     * This moves the simulation forward by a specified time. The velocity is turned into the robot's
+     * frame so the motors and friction can act on it, then back into the field's frame, so the
+     * robot keeps moving the same way through the field while it turns, like a real one.
+     *
+     * @param seconds the time to move forward.
+     */
+    public void step(double seconds) {
+        Vector frontLeftVector = MathFunctions.normalizeVector(FollowerConstants.frontLeftVector);
+        double wheelX = Math.abs(frontLeftVector.getXComponent());
+        double wheelY = Math.abs(frontLeftVector.getYComponent());
+
+        // this is the same as adding up each wheel's mecanum vector times its power, with each side
+        // pushing half of the robot
+        double leftX = (motorPowers[0] + motorPowers[1]) * wheelX / 2;
+        double leftY = (motorPowers[0] - motorPowers[1]) * -wheelY / 2;
+        double rightX = (motorPowers[2] + motorPowers[3]) * wheelX / 2;
+        double rightY = (motorPowers[3] - motorPowers[2]) * -wheelY / 2;
+
+        double forwardPower = (leftX + rightX) / 2 / wheelX;
+        double lateralPower = (leftY + rightY) / 2 / wheelY;
+        double turnPower = (rightX - leftX) / 2 / wheelX;
+
+        double stallAcceleration = driveStallForce / FollowerConstants.mass / METERS_PER_INCH;
+
+        double cos = Math.cos(heading);
+        double sin = Math.sin(heading);
+        double robotVelocityX = cos * velocityX + sin * velocityY;
+        double robotVelocityY = cos * velocityY - sin * velocityX;
+
+        robotVelocityX = stepVelocity(robotVelocityX, forwardPower, FollowerConstants.xMovement, stallAcceleration, Math.abs(FollowerConstants.forwardZeroPowerAcceleration), seconds);
+        robotVelocityY = stepVelocity(robotVelocityY, lateralPower, FollowerConstants.yMovement, stallAcceleration, Math.abs(FollowerConstants.lateralZeroPowerAcceleration), seconds);
+        angularVelocity = stepVelocity(angularVelocity, turnPower, FollowerConstants.xMovement / turnRadius, stallAcceleration / turnRadius, Math.abs(FollowerConstants.forwardZeroPowerAcceleration) / turnRadius, seconds);
+
+        velocityX = cos * robotVelocityX - sin * robotVelocityY;
+        velocityY = sin * robotVelocityX + cos * robotVelocityY;
+
+        x += velocityX * seconds;
+        y += velocityY * seconds;
+        double headingChange = angularVelocity * seconds;
+        heading = MathFunctions.normalizeAngle(heading + headingChange);
+        totalHeading += headingChange;
+
+        simulationClock.advanceSeconds(seconds);
+    }
+
+    /**
+     * This moves one velocity forward in time. The motor pushes with the stall acceleration times
+     * how far the velocity is from the free speed its power asks for, and friction slows the robot
+     * at a constant rate without making it go backwards. The free speed is picked so full power
+     * settles at the max velocity. With no power the motor doesn't push at all.
+     *
+     * @param velocity the velocity.
+     * @param power the power, from -1 to 1.
+     * @param maxVelocity the velocity full power settles at.
+     * @param stallAcceleration the acceleration of the motors from a stop at full power.
+     * @param frictionAcceleration the acceleration of friction.
+     * @param seconds the time to move forward.
+     * @return returns the new velocity.
+     */
+    private static double stepVelocity(double velocity, double power, double maxVelocity, double stallAcceleration, double frictionAcceleration, double seconds) {
+        stallAcceleration = Math.max(stallAcceleration, 1.5 * frictionAcceleration);
+        double freeVelocity = maxVelocity * stallAcceleration / (stallAcceleration - frictionAcceleration);
+
+        if (power != 0) {
+            velocity += stallAcceleration * (power - velocity / freeVelocity) * seconds;
+        }
+
+        double frictionChange = frictionAcceleration * seconds;
+        if (Math.abs(velocity) <= frictionChange) return 0;
+        return velocity - Math.copySign(frictionChange, velocity);
+    }
+
+    /**
+     * This returns the simulation's clock, which only moves forward when the simulation is updated.
+     * Giving this to the Follower makes its PIDFs and timeouts run on simulated time, so a path can
+     * be followed faster than real time and the same way every run.
+     *
+     * @return returns the simulation's clock.
+     */
+    public VirtualClock getSimulationClock() {
+        return simulationClock;
+    }
+
+    /**
+     * This returns the current pose estimate.
+     *
+     * @return returns the current pose estimate as a Pose
+     */
+    @Override
+    public Pose getPose() {
+        return new Pose(x, y, heading);
+    }
+
+    /**
+     * This returns the current velocity estimate.
+     *
+     * @return returns the current velocity estimate as a Pose
+     */
+    @Override
+    public Pose getVelocity() {
+        return new Pose(velocityX, velocityY, angularVelocity);
+    }
+
+    /**
+     * This returns the current velocity estimate.
+     *
+     * @return returns the current velocity estimate as a Vector
+     */
+    @Override
+    public Vector getVelocityVector() {
+        Vector velocity = new Vector();
+        velocity.setOrthogonalComponents(velocityX, velocityY);
+        return velocity;
+    }
+
+    /**
+     * This sets the start pose, and puts the robot there stopped. This should only be done before
+     * the robot has moved.
+     *
+     * @param setStart the new start pose
+     */
+    @Override
+    public void setStartPose(Pose setStart) {
+        startPose = setStart;
+        setPose(setStart);
+        velocityX = 0;
+        velocityY = 0;
+        angularVelocity = 0;
+    }
+
+    /**
+     * This moves the simulated robot to a Pose, without changing its velocity.
+     *
+     * @param setPose the new current pose estimate
+     */
+    @Override
+    public void setPose(Pose setPose) {
+        x = setPose.getX();
+        y = setPose.getY();
+        heading = MathFunctions.normalizeAngle(setPose.getHeading());
+    }
+
+    /**
+     * This returns how far the robot has turned in radians, in a number not clamped between 0 and
+     * 2 * pi radians. This is used for some tuning things and nothing actually within the following.
+     *
+     * @return returns how far the robot has turned in total, in radians.
+     */
+    @Override
+    public double getTotalHeading() {
+        return totalHeading;
+    }
+
+    /**
+     * This returns 1, since the simulation has no encoders to convert.
+     *
+     * @return returns 1
+     */
+    @Override
+    public double getForwardMultiplier() {
+        return 1;
+    }
+
+    /**
+     * This returns 1, since the simulation has no encoders to convert.
+     *
+     * @return returns 1
+     */
+    @Override
+    public double getLateralMultiplier() {
+        return 1;
+    }
+
+    /**
+     * This returns 1, since the simulation has no encoders to convert.
+     *
+     * @return returns 1
+     */
+    @Override
+    public double getTurningMultiplier() {
+        return 1;
+    }
+
+    /**
+     * This does nothing since there is no IMU.
+     */
+    @Override
+    public void resetIMU() {
+    }
+
+    /**
+     * This returns whether if any component of robot's position is NaN.
+     *
+     * @return returns whether the robot's position is NaN
+     */
+    @Override
+    public boolean isNAN() {
+        return Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(heading);
+    }
+
+    /**
+     * This is a simulated drive motor, which sets the power of one wheel of the simulation.
+     */
+    private class SimulatedMotor implements DcMotorSimple {
+        private final int index;
+        private Direction direction = Direction.FORWARD;
+
+        /**
+         * This creates a new SimulatedMotor for one wheel.
+         *
+         * @param index the index of the wheel.
+         */
+        private SimulatedMotor(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void setDirection(Direction direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public Direction getDirection() {
+            return direction;
+        }
+
+        @Override
+        public void setPower(double power) {
+            motorPowers[index] = MathFunctions.clamp(power, -1, 1);
+        }
+
+        @Override
+        public double getPower() {
+            return motorPowers[index];
+        }
+
+        @Override
+        public Manufacturer getManufacturer() {
+            return Manufacturer.Other;
+        }
+
+        @Override
+        public String getDeviceName() {
+            return "Simulated Drive Motor";
+        }
+
+        @Override
+        public String getConnectionInfo() {
+            return "simulated motor " + index;
+        }
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void resetDeviceConfigurationForOpMode() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
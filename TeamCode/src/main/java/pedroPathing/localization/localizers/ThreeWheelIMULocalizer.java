@@ -5,18 +5,19 @@ import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 import com.qualcomm.robotcore.hardware.IMU;
 
-import static com.pedropathing.localization.constants.ThreeWheelIMUConstants.*;
+import static pedroPathing.localization.constants.ThreeWheelIMUConstants.*;
 
-import org.firstinspires.ftc.robotcore.external.navigation.AngleUnit;
 import org.firstinspires.ftc.robotcore.external.navigation.DistanceUnit;
 
-import com.pedropathing.localization.Encoder;
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Matrix;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.NanoTimer;
+import pedroPathing.localization.Encoder;
+import pedroPathing.localization.IMUSampler;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.OdometryIntegrator;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.HubManager;
+import pedroPathing.util.NanoTimer;
 
 /**
  * This is the ThreeWheelIMULocalizer class. This class extends the Localizer superclass and is a
@@ -50,11 +51,11 @@ import com.pedropathing.util.NanoTimer;
 public class ThreeWheelIMULocalizer extends Localizer {
     private HardwareMap hardwareMap;
     private Pose startPose;
-    private Pose displacementPose;
-    private Pose currentVelocity;
-    private Matrix prevRotationMatrix;
+    private final OdometryIntegrator integrator = new OdometryIntegrator();
     private NanoTimer timer;
     private long deltaTimeNano;
+    private HubManager hubManager;
+    private long previousReadTimestamp;
     private Encoder leftEncoder;
     private Encoder rightEncoder;
     private Encoder strafeEncoder;
@@ -63,9 +64,9 @@ public class ThreeWheelIMULocalizer extends Localizer {
     private Pose strafeEncoderPose;
 
     public final IMU imu;
+    private final IMUSampler imuSampler;
     private double previousIMUOrientation;
     private double deltaRadians;
-    private double totalHeading;
     public static double FORWARD_TICKS_TO_INCHES;
     public static double STRAFE_TICKS_TO_INCHES;
     public static double TURN_TICKS_TO_RADIANS;
@@ -102,6 +103,8 @@ public class ThreeWheelIMULocalizer extends Localizer {
 
         imu = hardwareMap.get(IMU.class, IMU_HardwareMapName);
         imu.initialize(new IMU.Parameters(IMU_Orientation));
+        imuSampler = new IMUSampler(imu, IMU_SamplePeriodMilliseconds);
+        if (IMU_ReadAsync) imuSampler.start();
 
         leftEncoder = new Encoder(hardwareMap.get(DcMotorEx.class, leftEncoder_HardwareMapName));
         rightEncoder = new Encoder(hardwareMap.get(DcMotorEx.class, rightEncoder_HardwareMapName));
@@ -112,11 +115,9 @@ public class ThreeWheelIMULocalizer extends Localizer {
         strafeEncoder.setDirection(strafeEncoderDirection);
 
         setStartPose(setStartPose);
-        timer = new NanoTimer();
+        timer = new NanoTimer(() -> clock.nanoTime());
         deltaTimeNano = 1;
-        displacementPose = new Pose();
-        currentVelocity = new Pose();
-        totalHeading = 0;
+        hubManager = HubManager.getInstance(hardwareMap);
 
         resetEncoders();
     }
@@ -128,7 +129,7 @@ public class ThreeWheelIMULocalizer extends Localizer {
      */
     @Override
     public Pose getPose() {
-        return MathFunctions.addPoses(startPose, displacementPose);
+        return new Pose(startPose.getX() + integrator.getX(), startPose.getY() + integrator.getY(), startPose.getHeading() + integrator.getHeading());
     }
 
     /**
@@ -138,7 +139,7 @@ public class ThreeWheelIMULocalizer extends Localizer {
      */
     @Override
     public Pose getVelocity() {
-        return currentVelocity.copy();
+        return new Pose(integrator.getXVelocity(), integrator.getYVelocity(), integrator.getAngularVelocity());
     }
 
     /**
@@ -148,7 +149,9 @@ public class ThreeWheelIMULocalizer extends Localizer {
      */
     @Override
     public Vector getVelocityVector() {
-        return currentVelocity.getVector();
+        Vector velocity = new Vector();
+        velocity.setOrthogonalComponents(integrator.getXVelocity(), integrator.getYVelocity());
+        return velocity;
     }
 
     /**
@@ -162,20 +165,6 @@ public class ThreeWheelIMULocalizer extends Localizer {
         startPose = setStart;
     }
 
-    /**
-     * This sets the Matrix that contains the previous pose's heading rotation.
-     *
-     * @param heading the rotation of the Matrix
-     */
-    public void setPrevRotationMatrix(double heading) {
-        prevRotationMatrix = new Matrix(3,3);
-        prevRotationMatrix.set(0, 0, Math.cos(heading));
-        prevRotationMatrix.set(0, 1, -Math.sin(heading));
-        prevRotationMatrix.set(1, 0, Math.sin(heading));
-        prevRotationMatrix.set(1, 1, Math.cos(heading));
-        prevRotationMatrix.set(2, 2, 1.0);
-    }
-
     /**
      * This sets the current pose estimate. Changing this should just change the robot's current
      * pose estimate, not anything to do with the start pose.
@@ -184,46 +173,29 @@ public class ThreeWheelIMULocalizer extends Localizer {
      */
     @Override
     public void setPose(Pose setPose) {
-        displacementPose = MathFunctions.subtractPoses(setPose, startPose);
+        integrator.setDisplacement(setPose.getX() - startPose.getX(), setPose.getY() - startPose.getY(), setPose.getHeading() - startPose.getHeading());
         resetEncoders();
     }
 
     /**
      * This updates the elapsed time timer that keeps track of time between updates, as well as the
-     * change position of the Encoders. Then, the robot's global change in position is calculated
-     * using the pose exponential method.
+     * change position of the Encoders. When the hubs are bulk read, the time between updates is
+     * the time between the bulk reads the Encoders come from. Then, the robot's global change in
+     * position is calculated using the pose exponential method.
      */
     @Override
     public void update() {
-        deltaTimeNano = timer.getElapsedTime();
-        timer.resetTimer();
-
-        updateEncoders();
-        Matrix robotDeltas = getRobotDeltas();
-        Matrix globalDeltas;
-        setPrevRotationMatrix(getPose().getHeading());
-
-        Matrix transformation = new Matrix(3,3);
-        if (Math.abs(robotDeltas.get(2, 0)) < 0.001) {
-            transformation.set(0, 0, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(0, 1, -robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 0, robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 1, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(2, 2, 1.0);
+        long readTimestamp = hubManager.getReadTimestamp();
+        if (previousReadTimestamp != 0 && readTimestamp != previousReadTimestamp) {
+            deltaTimeNano = readTimestamp - previousReadTimestamp;
         } else {
-            transformation.set(0, 0, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(0, 1, (Math.cos(robotDeltas.get(2, 0)) - 1.0) / robotDeltas.get(2, 0));
-            transformation.set(1, 0, (1.0 - Math.cos(robotDeltas.get(2, 0))) / robotDeltas.get(2, 0));
-            transformation.set(1, 1, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(2, 2, 1.0);
+            deltaTimeNano = timer.getElapsedTime();
         }
+        previousReadTimestamp = readTimestamp;
+        timer.resetTimer();
 
-        globalDeltas = Matrix.multiply(Matrix.multiply(prevRotationMatrix, transformation), robotDeltas);
-
-        displacementPose.add(new Pose(globalDeltas.get(0, 0), globalDeltas.get(1, 0), globalDeltas.get(2, 0)));
-        currentVelocity = new Pose(globalDeltas.get(0, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(1, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(2, 0) / (deltaTimeNano / Math.pow(10.0, 9)));
-
-        totalHeading += globalDeltas.get(2, 0);
+        updateEncoders();
+        integrateRobotDeltas();
     }
 
     /**
@@ -234,7 +206,7 @@ public class ThreeWheelIMULocalizer extends Localizer {
         rightEncoder.update();
         strafeEncoder.update();
 
-        double currentIMUOrientation = MathFunctions.normalizeAngle(imu.getRobotYawPitchRollAngles().getYaw(AngleUnit.RADIANS));
+        double currentIMUOrientation = MathFunctions.normalizeAngle(imuSampler.readYaw(getIMUAlignTimestamp()));
         deltaRadians = MathFunctions.getTurnDirection(previousIMUOrientation, currentIMUOrientation) * MathFunctions.getSmallestAngleDifference(currentIMUOrientation, previousIMUOrientation);
         previousIMUOrientation = currentIMUOrientation;
     }
@@ -250,23 +222,22 @@ public class ThreeWheelIMULocalizer extends Localizer {
 
     /**
      * This calculates the change in position from the perspective of the robot using information
-     * from the Encoders.
-     *
-     * @return returns a Matrix containing the robot relative movement.
+     * from the Encoders, then adds it to the displacement with the pose
+     * exponential.
      */
-    public Matrix getRobotDeltas() {
-        Matrix returnMatrix = new Matrix(3,1);
+    private void integrateRobotDeltas() {
         // x/forward movement
-        returnMatrix.set(0,0, FORWARD_TICKS_TO_INCHES * ((rightEncoder.getDeltaPosition() * leftEncoderPose.getY() - leftEncoder.getDeltaPosition() * rightEncoderPose.getY()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
+        double forward = FORWARD_TICKS_TO_INCHES * ((rightEncoder.getDeltaPosition() * leftEncoderPose.getY() - leftEncoder.getDeltaPosition() * rightEncoderPose.getY()) / (leftEncoderPose.getY() - rightEncoderPose.getY()));
         //y/strafe movement
-        returnMatrix.set(1,0, STRAFE_TICKS_TO_INCHES * (strafeEncoder.getDeltaPosition() - strafeEncoderPose.getX() * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY()))));
+        double strafe = STRAFE_TICKS_TO_INCHES * (strafeEncoder.getDeltaPosition() - strafeEncoderPose.getX() * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
         // theta/turning
+        double turn;
         if (MathFunctions.getSmallestAngleDifference(0, deltaRadians) > 0.00005 && useIMU) {
-            returnMatrix.set(2, 0, deltaRadians);
+            turn = deltaRadians;
         } else {
-            returnMatrix.set(2,0, TURN_TICKS_TO_RADIANS * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
+            turn = TURN_TICKS_TO_RADIANS * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY()));
         }
-        return returnMatrix;
+        integrator.integrate(forward, strafe, turn, startPose.getHeading(), deltaTimeNano);
     }
 
     /**
@@ -276,7 +247,7 @@ public class ThreeWheelIMULocalizer extends Localizer {
      * @return returns how far the robot has turned in total, in radians.
      */
     public double getTotalHeading() {
-        return totalHeading;
+        return integrator.getTotalHeading();
     }
 
     /**
@@ -326,6 +297,33 @@ public class ThreeWheelIMULocalizer extends Localizer {
         return imu;
     }
 
+    /**
+     * This stops the IMUSampler, so it doesn't keep reading the IMU after the OpMode stops.
+     */
+    @Override
+    public void stop() {
+        imuSampler.stop();
+    }
+
+    /**
+     * This returns the IMUSampler that reads the IMU.
+     *
+     * @return returns the IMUSampler
+     */
+    public IMUSampler getIMUSampler() {
+        return imuSampler;
+    }
+
+    /**
+     * This returns the time the yaw from the IMUSampler is lined up to, which is when the hubs were
+     * last bulk read.
+     *
+     * @return returns the time in nanoseconds, or 0 to use the newest reading as is
+     */
+    private long getIMUAlignTimestamp() {
+        return IMU_AlignToBulkRead ? hubManager.getReadTimestamp() : 0;
+    }
+
     /**
      * This returns whether if any component of robot's position is NaN.
      *
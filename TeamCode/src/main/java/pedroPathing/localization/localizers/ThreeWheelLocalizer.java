@@ -4,15 +4,15 @@ import com.acmerobotics.dashboard.config.Config;
 import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 
-import static com.pedropathing.localization.constants.ThreeWheelConstants.*;
+import static pedroPathing.localization.constants.ThreeWheelConstants.*;
 
-import com.pedropathing.localization.Encoder;
-import com.pedropathing.localization.Localizer;
-import com.pedropathing.localization.Matrix;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
-import com.pedropathing.util.NanoTimer;
+import pedroPathing.localization.Encoder;
+import pedroPathing.localization.Localizer;
+import pedroPathing.localization.OdometryIntegrator;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.HubManager;
+import pedroPathing.util.NanoTimer;
 
 /**
  * This is the ThreeWheelLocalizer class. This class extends the Localizer superclass and is a
@@ -45,18 +45,17 @@ import com.pedropathing.util.NanoTimer;
 public class ThreeWheelLocalizer extends Localizer {
     private HardwareMap hardwareMap;
     private Pose startPose;
-    private Pose displacementPose;
-    private Pose currentVelocity;
-    private Matrix prevRotationMatrix;
+    private final OdometryIntegrator integrator = new OdometryIntegrator();
     private NanoTimer timer;
     private long deltaTimeNano;
+    private HubManager hubManager;
+    private long previousReadTimestamp;
     private Encoder leftEncoder;
     private Encoder rightEncoder;
     private Encoder strafeEncoder;
     private Pose leftEncoderPose;
     private Pose rightEncoderPose;
     private Pose strafeEncoderPose;
-    private double totalHeading;
     public static double FORWARD_TICKS_TO_INCHES;
     public static double STRAFE_TICKS_TO_INCHES;
     public static double TURN_TICKS_TO_RADIANS;
@@ -79,7 +78,26 @@ public class ThreeWheelLocalizer extends Localizer {
      * @param setStartPose the Pose to start from
      */
     public ThreeWheelLocalizer(HardwareMap map, Pose setStartPose) {
+        this(new Encoder(map.get(DcMotorEx.class, leftEncoder_HardwareMapName)),
+                new Encoder(map.get(DcMotorEx.class, rightEncoder_HardwareMapName)),
+                new Encoder(map.get(DcMotorEx.class, strafeEncoder_HardwareMapName)),
+                setStartPose);
         hardwareMap = map;
+        hubManager = HubManager.getInstance(hardwareMap);
+    }
+
+    /**
+     * This creates a new ThreeWheelLocalizer from three Encoders that have already been made, like
+     * ones that read from a simulation, and a Pose specifying the starting pose of the localizer.
+     * Without a HardwareMap there are no bulk reads, so the time between updates is always the time
+     * between calls to update.
+     *
+     * @param setLeftEncoder the left Encoder
+     * @param setRightEncoder the right Encoder
+     * @param setStrafeEncoder the strafe Encoder
+     * @param setStartPose the Pose to start from
+     */
+    public ThreeWheelLocalizer(Encoder setLeftEncoder, Encoder setRightEncoder, Encoder setStrafeEncoder, Pose setStartPose) {
         FORWARD_TICKS_TO_INCHES = forwardTicksToInches;
         STRAFE_TICKS_TO_INCHES = strafeTicksToInches;
         TURN_TICKS_TO_RADIANS = turnTicksToInches;
@@ -88,20 +106,17 @@ public class ThreeWheelLocalizer extends Localizer {
         rightEncoderPose = new Pose(0, rightY, 0);
         strafeEncoderPose = new Pose(strafeX, 0, Math.toRadians(90));
 
-        leftEncoder = new Encoder(hardwareMap.get(DcMotorEx.class, leftEncoder_HardwareMapName));
-        rightEncoder = new Encoder(hardwareMap.get(DcMotorEx.class, rightEncoder_HardwareMapName));
-        strafeEncoder = new Encoder(hardwareMap.get(DcMotorEx.class, strafeEncoder_HardwareMapName));
+        leftEncoder = setLeftEncoder;
+        rightEncoder = setRightEncoder;
+        strafeEncoder = setStrafeEncoder;
 
         leftEncoder.setDirection(leftEncoderDirection);
         rightEncoder.setDirection(rightEncoderDirection);
         strafeEncoder.setDirection(strafeEncoderDirection);
 
         setStartPose(setStartPose);
-        timer = new NanoTimer();
+        timer = new NanoTimer(() -> clock.nanoTime());
         deltaTimeNano = 1;
-        displacementPose = new Pose();
-        currentVelocity = new Pose();
-        totalHeading = 0;
 
         resetEncoders();
     }
@@ -113,7 +128,7 @@ public class ThreeWheelLocalizer extends Localizer {
      */
     @Override
     public Pose getPose() {
-        return MathFunctions.addPoses(startPose, displacementPose);
+        return new Pose(startPose.getX() + integrator.getX(), startPose.getY() + integrator.getY(), startPose.getHeading() + integrator.getHeading());
     }
 
     /**
@@ -123,7 +138,7 @@ public class ThreeWheelLocalizer extends Localizer {
      */
     @Override
     public Pose getVelocity() {
-        return currentVelocity.copy();
+        return new Pose(integrator.getXVelocity(), integrator.getYVelocity(), integrator.getAngularVelocity());
     }
 
     /**
@@ -133,7 +148,9 @@ public class ThreeWheelLocalizer extends Localizer {
      */
     @Override
     public Vector getVelocityVector() {
-        return currentVelocity.getVector();
+        Vector velocity = new Vector();
+        velocity.setOrthogonalComponents(integrator.getXVelocity(), integrator.getYVelocity());
+        return velocity;
     }
 
     /**
@@ -147,20 +164,6 @@ public class ThreeWheelLocalizer extends Localizer {
         startPose = setStart;
     }
 
-    /**
-     * This sets the Matrix that contains the previous pose's heading rotation.
-     *
-     * @param heading the rotation of the Matrix
-     */
-    public void setPrevRotationMatrix(double heading) {
-        prevRotationMatrix = new Matrix(3,3);
-        prevRotationMatrix.set(0, 0, Math.cos(heading));
-        prevRotationMatrix.set(0, 1, -Math.sin(heading));
-        prevRotationMatrix.set(1, 0, Math.sin(heading));
-        prevRotationMatrix.set(1, 1, Math.cos(heading));
-        prevRotationMatrix.set(2, 2, 1.0);
-    }
-
     /**
      * This sets the current pose estimate. Changing this should just change the robot's current
      * pose estimate, not anything to do with the start pose.
@@ -169,46 +172,29 @@ public class ThreeWheelLocalizer extends Localizer {
      */
     @Override
     public void setPose(Pose setPose) {
-        displacementPose = MathFunctions.subtractPoses(setPose, startPose);
+        integrator.setDisplacement(setPose.getX() - startPose.getX(), setPose.getY() - startPose.getY(), setPose.getHeading() - startPose.getHeading());
         resetEncoders();
     }
 
     /**
      * This updates the elapsed time timer that keeps track of time between updates, as well as the
-     * change position of the Encoders. Then, the robot's global change in position is calculated
-     * using the pose exponential method.
+     * change position of the Encoders. When the hubs are bulk read, the time between updates is
+     * the time between the bulk reads the Encoders come from. Then, the robot's global change in
+     * position is calculated using the pose exponential method.
      */
     @Override
     public void update() {
-        deltaTimeNano = timer.getElapsedTime();
-        timer.resetTimer();
-
-        updateEncoders();
-        Matrix robotDeltas = getRobotDeltas();
-        Matrix globalDeltas;
-        setPrevRotationMatrix(getPose().getHeading());
-
-        Matrix transformation = new Matrix(3,3);
-        if (Math.abs(robotDeltas.get(2, 0)) < 0.001) {
-            transformation.set(0, 0, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(0, 1, -robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 0, robotDeltas.get(2, 0) / 2.0);
-            transformation.set(1, 1, 1.0 - (Math.pow(robotDeltas.get(2, 0), 2) / 6.0));
-            transformation.set(2, 2, 1.0);
+        long readTimestamp = hubManager != null ? hubManager.getReadTimestamp() : 0;
+        if (previousReadTimestamp != 0 && readTimestamp != previousReadTimestamp) {
+            deltaTimeNano = readTimestamp - previousReadTimestamp;
         } else {
-            transformation.set(0, 0, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(0, 1, (Math.cos(robotDeltas.get(2, 0)) - 1.0) / robotDeltas.get(2, 0));
-            transformation.set(1, 0, (1.0 - Math.cos(robotDeltas.get(2, 0))) / robotDeltas.get(2, 0));
-            transformation.set(1, 1, Math.sin(robotDeltas.get(2, 0)) / robotDeltas.get(2, 0));
-            transformation.set(2, 2, 1.0);
+            deltaTimeNano = timer.getElapsedTime();
         }
+        previousReadTimestamp = readTimestamp;
+        timer.resetTimer();
 
-        globalDeltas = Matrix.multiply(Matrix.multiply(prevRotationMatrix, transformation), robotDeltas);
-
-        displacementPose.add(new Pose(globalDeltas.get(0, 0), globalDeltas.get(1, 0), globalDeltas.get(2, 0)));
-        currentVelocity = new Pose(globalDeltas.get(0, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(1, 0) / (deltaTimeNano / Math.pow(10.0, 9)), globalDeltas.get(2, 0) / (deltaTimeNano / Math.pow(10.0, 9)));
-
-        totalHeading += globalDeltas.get(2, 0);
+        updateEncoders();
+        integrateRobotDeltas();
     }
 
     /**
@@ -231,19 +217,17 @@ public class ThreeWheelLocalizer extends Localizer {
 
     /**
      * This calculates the change in position from the perspective of the robot using information
-     * from the Encoders.
-     *
-     * @return returns a Matrix containing the robot relative movement.
+     * from the Encoders, then adds it to the displacement with the pose
+     * exponential.
      */
-    public Matrix getRobotDeltas() {
-        Matrix returnMatrix = new Matrix(3,1);
+    private void integrateRobotDeltas() {
         // x/forward movement
-        returnMatrix.set(0,0, FORWARD_TICKS_TO_INCHES * ((rightEncoder.getDeltaPosition() * leftEncoderPose.getY() - leftEncoder.getDeltaPosition() * rightEncoderPose.getY()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
+        double forward = FORWARD_TICKS_TO_INCHES * ((rightEncoder.getDeltaPosition() * leftEncoderPose.getY() - leftEncoder.getDeltaPosition() * rightEncoderPose.getY()) / (leftEncoderPose.getY() - rightEncoderPose.getY()));
         //y/strafe movement
-        returnMatrix.set(1,0, STRAFE_TICKS_TO_INCHES * (strafeEncoder.getDeltaPosition() - strafeEncoderPose.getX() * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY()))));
+        double strafe = STRAFE_TICKS_TO_INCHES * (strafeEncoder.getDeltaPosition() - strafeEncoderPose.getX() * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
         // theta/turning
-        returnMatrix.set(2,0, TURN_TICKS_TO_RADIANS * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY())));
-        return returnMatrix;
+        double turn = TURN_TICKS_TO_RADIANS * ((rightEncoder.getDeltaPosition() - leftEncoder.getDeltaPosition()) / (leftEncoderPose.getY() - rightEncoderPose.getY()));
+        integrator.integrate(forward, strafe, turn, startPose.getHeading(), deltaTimeNano);
     }
 
     /**
@@ -253,7 +237,7 @@ public class ThreeWheelLocalizer extends Localizer {
      * @return returns how far the robot has turned in total, in radians.
      */
     public double getTotalHeading() {
-        return totalHeading;
+        return integrator.getTotalHeading();
     }
 
     /**
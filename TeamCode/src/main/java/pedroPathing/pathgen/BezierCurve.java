@@ -1,12 +1,11 @@
 package pedroPathing.pathgen;
 
 
-import com.pedropathing.follower.FollowerConstants;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierCurveCoefficients;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
 
 import java.util.ArrayList;
 
@@ -23,13 +22,20 @@ import java.util.ArrayList;
  * @version 1.0, 3/5/2024
  */
 public class BezierCurve {
-    // This contains the coefficients for the curve points
-    private ArrayList<BezierCurveCoefficients> pointCoefficients = new ArrayList<>();
-
     // This contains the control points for the Bezier curve
-    private ArrayList<com.pedropathing.pathgen.Point> controlPoints = new ArrayList<>();
+    private ArrayList<pedroPathing.pathgen.Point> controlPoints = new ArrayList<>();
+
+    private pedroPathing.pathgen.Vector endTangent = new pedroPathing.pathgen.Vector();
 
-    private com.pedropathing.pathgen.Vector endTangent = new com.pedropathing.pathgen.Vector();
+    // These contain the control points of the curve and of its first and second derivative curves
+    // (hodographs) as flat arrays. Each entry is already multiplied by its binomial coefficient,
+    // so evaluating any of them is a single Horner pass with no allocations.
+    private double[] pointWeightsX;
+    private double[] pointWeightsY;
+    private double[] derivativeWeightsX;
+    private double[] derivativeWeightsY;
+    private double[] secondDerivativeWeightsX;
+    private double[] secondDerivativeWeightsY;
 
     private final int APPROXIMATION_STEPS = FollowerConstants.APPROXIMATION_STEPS;
 
@@ -37,9 +43,17 @@ public class BezierCurve {
 
     private double[][] dashboardDrawingPoints;
 
+    // This contains the cumulative arc length of the curve at APPROXIMATION_STEPS + 1 evenly spaced
+    // t-values, so the i-th entry is the distance along the curve from t = 0 to t = i / APPROXIMATION_STEPS
+    private double[] arcLengthTable;
+
     private double UNIT_TO_TIME;
     private double length;
 
+    // This is true if the curve was made without being generated, and still needs initialize() to
+    // be called before it can be used
+    private boolean awaitingInitialization;
+
     /**
      * This creates an empty BezierCurve.
      * IMPORTANT NOTE: Only use this for the constructors of classes extending this. If you try to
@@ -55,7 +69,7 @@ public class BezierCurve {
      *
      * @param controlPoints This is the ArrayList of control points that define the BezierCurve.
      */
-    public BezierCurve(ArrayList<com.pedropathing.pathgen.Point> controlPoints) {
+    public BezierCurve(ArrayList<pedroPathing.pathgen.Point> controlPoints) {
         if (controlPoints.size()<3) {
             try {
                 throw new Exception("Too few control points");
@@ -67,6 +81,82 @@ public class BezierCurve {
         initialize();
     }
 
+    /**
+     * This creates a new BezierCurve with an ArrayList of control points, but leaves generating the
+     * curve for later if specified. The PathBuilder uses this so the length approximation and
+     * other precomputation can be done on a background thread. A curve that isn't generated can't
+     * be used until initializeIfAwaiting() has been called on it.
+     *
+     * @param controlPoints This is the ArrayList of control points that define the BezierCurve.
+     * @param initialize This is whether to generate the curve now.
+     */
+    BezierCurve(ArrayList<pedroPathing.pathgen.Point> controlPoints, boolean initialize) {
+        if (controlPoints.size()<3) {
+            try {
+                throw new Exception("Too few control points");
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        this.controlPoints = controlPoints;
+        if (initialize) {
+            initialize();
+        } else {
+            awaitingInitialization = true;
+        }
+    }
+
+    /**
+     * This creates a new BezierCurve with an ArrayList of control points and an arc length table
+     * that was already approximated for it, such as one loaded from a route file. This skips the
+     * length approximation, which is most of the work of generating a curve. The control points are
+     * checked like the other constructors, and if there are too few of them, or the table wasn't
+     * approximated with the current APPROXIMATION_STEPS or isn't a valid arc length table, then the
+     * curve is generated normally.
+     *
+     * @param controlPoints This is the ArrayList of control points that define the BezierCurve.
+     * @param arcLengthTable This is the arc length table of the curve.
+     */
+    BezierCurve(ArrayList<pedroPathing.pathgen.Point> controlPoints, double[] arcLengthTable) {
+        boolean enoughControlPoints = controlPoints.size() >= 3;
+        if (!enoughControlPoints) {
+            try {
+                throw new Exception("Too few control points");
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        this.controlPoints = controlPoints;
+        if (!enoughControlPoints || !isValidArcLengthTable(arcLengthTable)) {
+            initialize();
+            return;
+        }
+        generateBezierCurve();
+        this.arcLengthTable = arcLengthTable;
+        length = arcLengthTable[APPROXIMATION_STEPS];
+        UNIT_TO_TIME = 1/length;
+        endTangent.setOrthogonalComponents(controlPoints.get(controlPoints.size()-1).getX()-controlPoints.get(controlPoints.size()-2).getX(), controlPoints.get(controlPoints.size()-1).getY()-controlPoints.get(controlPoints.size()-2).getY());
+        endTangent = MathFunctions.normalizeVector(endTangent);
+        initializeDashboardDrawingPoints();
+    }
+
+    /**
+     * This checks that an arc length table could have come from approximateLength(), which means it
+     * has APPROXIMATION_STEPS + 1 entries, starts at 0, never goes down, and ends at a positive,
+     * finite length.
+     *
+     * @param arcLengthTable This is the arc length table to check.
+     * @return returns if the table is valid.
+     */
+    private boolean isValidArcLengthTable(double[] arcLengthTable) {
+        if (arcLengthTable.length != APPROXIMATION_STEPS + 1 || arcLengthTable[0] != 0) return false;
+        for (int i = 1; i <= APPROXIMATION_STEPS; i++) {
+            if (!(arcLengthTable[i] >= arcLengthTable[i - 1])) return false;
+        }
+        double length = arcLengthTable[APPROXIMATION_STEPS];
+        return length > 0 && !Double.isInfinite(length);
+    }
+
     /**
      * This creates a new Bezier curve with some specified control points and generates the curve.
      * IMPORTANT NOTE: The order of the control points is important. That's the order the code will
@@ -74,8 +164,8 @@ public class BezierCurve {
      *
      * @param controlPoints This is the specified control points that define the BezierCurve.
      */
-    public BezierCurve(com.pedropathing.pathgen.Point... controlPoints) {
-        for (com.pedropathing.pathgen.Point controlPoint : controlPoints) {
+    public BezierCurve(pedroPathing.pathgen.Point... controlPoints) {
+        for (pedroPathing.pathgen.Point controlPoint : controlPoints) {
             this.controlPoints.add(controlPoint);
         }
         if (this.controlPoints.size()<3) {
@@ -97,7 +187,7 @@ public class BezierCurve {
      */
     public BezierCurve(Pose... controlPoses) {
         for (Pose controlPose : controlPoses) {
-            this.controlPoints.add(new com.pedropathing.pathgen.Point(controlPose));
+            this.controlPoints.add(new pedroPathing.pathgen.Point(controlPose));
         }
         if (this.controlPoints.size()<3) {
             try {
@@ -113,12 +203,29 @@ public class BezierCurve {
      * This handles most of the initialization of the BezierCurve that is called from the constructor.
      */
     public void initialize() {
+        awaitingInitialization = false;
         generateBezierCurve();
         length = approximateLength();
         UNIT_TO_TIME = 1/length;
         endTangent.setOrthogonalComponents(controlPoints.get(controlPoints.size()-1).getX()-controlPoints.get(controlPoints.size()-2).getX(), controlPoints.get(controlPoints.size()-1).getY()-controlPoints.get(controlPoints.size()-2).getY());
         endTangent = MathFunctions.normalizeVector(endTangent);
-        initializeDashboardDrawingPoints();
+        if (dashboardDrawingPoints == null) initializeDashboardDrawingPoints();
+    }
+
+    /**
+     * This generates the curve if it was made without being generated, and otherwise does nothing.
+     */
+    void initializeIfAwaiting() {
+        if (awaitingInitialization) initialize();
+    }
+
+    /**
+     * This returns the arc length table of the curve, or null if the curve hasn't been generated.
+     *
+     * @return returns the arc length table.
+     */
+    double[] getArcLengthTable() {
+        return arcLengthTable;
     }
 
     /**
@@ -127,7 +234,7 @@ public class BezierCurve {
     public void initializeDashboardDrawingPoints() {
         dashboardDrawingPoints = new double[2][DASHBOARD_DRAWING_APPROXIMATION_STEPS + 1];
         for (int i = 0; i <= DASHBOARD_DRAWING_APPROXIMATION_STEPS; i++) {
-            com.pedropathing.pathgen.Point currentPoint = getPoint(i/(double) (DASHBOARD_DRAWING_APPROXIMATION_STEPS));
+            pedroPathing.pathgen.Point currentPoint = getPoint(i/(double) (DASHBOARD_DRAWING_APPROXIMATION_STEPS));
             dashboardDrawingPoints[0][i] = currentPoint.getX();
             dashboardDrawingPoints[1][i] = currentPoint.getY();
         }
@@ -145,17 +252,61 @@ public class BezierCurve {
 
     /**
      * This generates the Bezier curve. It assumes that the ArrayList of control points has been set.
-     * Well, this actually generates the coefficients for each control point on the Bezier curve.
-     * These coefficients can then be used to calculate a position, velocity, or accleration on the
-     * Bezier curve on the fly without much computational expense.
+     * Well, this actually generates the control points of the curve and of its first and second
+     * derivatives as flat arrays, with the binomial coefficients already multiplied in. The
+     * derivative of a Bezier curve is another Bezier curve of one lower degree, so these can then
+     * be used to calculate a position, velocity, or accleration on the Bezier curve on the fly
+     * without much computational expense.
      *
      * See https://en.wikipedia.org/wiki/Bézier_curve for the explicit formula for Bezier curves
      */
     public void generateBezierCurve() {
         int n = controlPoints.size()-1;
+        pointWeightsX = new double[n + 1];
+        pointWeightsY = new double[n + 1];
+        derivativeWeightsX = new double[Math.max(n, 0)];
+        derivativeWeightsY = new double[Math.max(n, 0)];
+        secondDerivativeWeightsX = new double[Math.max(n - 1, 0)];
+        secondDerivativeWeightsY = new double[Math.max(n - 1, 0)];
+
         for (int i = 0; i <= n; i++) {
-            pointCoefficients.add(new BezierCurveCoefficients(n, i));
+            double coefficient = MathFunctions.nCr(n, i);
+            pointWeightsX[i] = coefficient * controlPoints.get(i).getX();
+            pointWeightsY[i] = coefficient * controlPoints.get(i).getY();
+        }
+
+        for (int i = 0; i < n; i++) {
+            double coefficient = n * MathFunctions.nCr(n - 1, i);
+            derivativeWeightsX[i] = coefficient * (controlPoints.get(i + 1).getX() - controlPoints.get(i).getX());
+            derivativeWeightsY[i] = coefficient * (controlPoints.get(i + 1).getY() - controlPoints.get(i).getY());
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            double coefficient = n * (n - 1) * MathFunctions.nCr(n - 2, i);
+            secondDerivativeWeightsX[i] = coefficient * (controlPoints.get(i + 2).getX() - 2 * controlPoints.get(i + 1).getX() + controlPoints.get(i).getX());
+            secondDerivativeWeightsY[i] = coefficient * (controlPoints.get(i + 2).getY() - 2 * controlPoints.get(i + 1).getY() + controlPoints.get(i).getY());
+        }
+    }
+
+    /**
+     * This evaluates a Bezier polynomial whose control values have already been multiplied by their
+     * binomial coefficients. It uses Horner's method in terms of t and (1 - t), so it needs no
+     * powers and no temporary arrays.
+     *
+     * @param weights the control values times their binomial coefficients.
+     * @param t the t value of the parametric curve.
+     * @return returns the value of the polynomial at t.
+     */
+    private static double evaluate(double[] weights, double t) {
+        if (weights.length == 0) return 0;
+        double oneMinusT = 1 - t;
+        double tPower = 1;
+        double result = weights[0];
+        for (int i = 1; i < weights.length; i++) {
+            tPower *= t;
+            result = result * oneMinusT + weights[i] * tPower;
         }
+        return result;
     }
 
     /**
@@ -163,28 +314,101 @@ public class BezierCurve {
      *
      * @return returns the end tangent Vector.
      */
-    public com.pedropathing.pathgen.Vector getEndTangent() {
+    public pedroPathing.pathgen.Vector getEndTangent() {
         return MathFunctions.copyVector(endTangent);
     }
 
+    /**
+     * This writes the unit tangent Vector at the end of the BezierCurve into a specified Vector,
+     * without making a new Vector.
+     *
+     * @param output the Vector the end tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    public pedroPathing.pathgen.Vector getEndTangent(pedroPathing.pathgen.Vector output) {
+        return MathFunctions.copyVector(endTangent, output);
+    }
+
     /**
      * This approximates the length of the BezierCurve in APPROXIMATION_STEPS number of steps. It's
-     * like a Riemann's sum, but for a parametric function's arc length.
+     * like a Riemann's sum, but for a parametric function's arc length. The running sum is kept in
+     * the arc length table, so distances along the curve can be looked up later without sampling
+     * the curve again. If the dashboard drawing points line up with the approximation steps, they
+     * are filled in from the same samples.
      *
      * @return returns the approximated length of the BezierCurve.
      */
     public double approximateLength() {
-        com.pedropathing.pathgen.Point previousPoint = getPoint(0);
-        com.pedropathing.pathgen.Point currentPoint;
+        arcLengthTable = new double[APPROXIMATION_STEPS + 1];
+        boolean fillDashboardDrawingPoints = APPROXIMATION_STEPS % DASHBOARD_DRAWING_APPROXIMATION_STEPS == 0;
+        int dashboardDrawingStride = APPROXIMATION_STEPS / DASHBOARD_DRAWING_APPROXIMATION_STEPS;
+        if (fillDashboardDrawingPoints) {
+            dashboardDrawingPoints = new double[2][DASHBOARD_DRAWING_APPROXIMATION_STEPS + 1];
+        }
+
+        double[] currentPoint = new double[2];
+        getPoint(0, currentPoint);
+        double previousX = currentPoint[0];
+        double previousY = currentPoint[1];
         double approxLength = 0;
+        if (fillDashboardDrawingPoints) {
+            dashboardDrawingPoints[0][0] = previousX;
+            dashboardDrawingPoints[1][0] = previousY;
+        }
         for (int i = 1; i <= APPROXIMATION_STEPS; i++) {
-            currentPoint = getPoint(i/(double)APPROXIMATION_STEPS);
-            approxLength += previousPoint.distanceFrom(currentPoint);
-            previousPoint = currentPoint;
+            getPoint(i/(double)APPROXIMATION_STEPS, currentPoint);
+            approxLength += Math.hypot(currentPoint[0] - previousX, currentPoint[1] - previousY);
+            arcLengthTable[i] = approxLength;
+            if (fillDashboardDrawingPoints && i % dashboardDrawingStride == 0) {
+                dashboardDrawingPoints[0][i / dashboardDrawingStride] = currentPoint[0];
+                dashboardDrawingPoints[1][i / dashboardDrawingStride] = currentPoint[1];
+            }
+            previousX = currentPoint[0];
+            previousY = currentPoint[1];
         }
         return approxLength;
     }
 
+    /**
+     * This returns the distance along the BezierCurve from the start to a specified t-value. This
+     * linearly interpolates between the two nearest entries of the arc length table, so unlike
+     * length() * t it stays correct on curves where the parametric speed isn't uniform.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @return returns the distance along the curve up to t.
+     */
+    public double getDistanceAtT(double t) {
+        t = MathFunctions.clamp(t, 0, 1);
+        double index = t * APPROXIMATION_STEPS;
+        int lower = Math.min((int) index, APPROXIMATION_STEPS - 1);
+        return arcLengthTable[lower] + (arcLengthTable[lower + 1] - arcLengthTable[lower]) * (index - lower);
+    }
+
+    /**
+     * This returns the t-value that is a specified distance along the BezierCurve from the start.
+     * This does a binary search on the arc length table and then linearly interpolates between
+     * the two entries that surround the distance.
+     *
+     * @param distance the distance along the curve. This is clamped to be between 0 and the length.
+     * @return returns the t-value at that distance.
+     */
+    public double getTAtDistance(double distance) {
+        distance = MathFunctions.clamp(distance, 0, length);
+        int low = 0;
+        int high = APPROXIMATION_STEPS;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (arcLengthTable[middle] <= distance) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        double segmentLength = arcLengthTable[high] - arcLengthTable[low];
+        double fraction = segmentLength > 0 ? (distance - arcLengthTable[low]) / segmentLength : 0;
+        return (low + fraction) / APPROXIMATION_STEPS;
+    }
+
     /**
      * This returns the point on the Bezier curve that is specified by the parametric t value. A
      * Bezier curve is a parametric function that returns points along it with t ranging from [0, 1],
@@ -194,21 +418,22 @@ public class BezierCurve {
      * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
      * @return this returns the point requested.
      */
-    public com.pedropathing.pathgen.Point getPoint(double t) {
+    public pedroPathing.pathgen.Point getPoint(double t) {
         t = MathFunctions.clamp(t, 0, 1);
-        double xCoordinate = 0;
-        double yCoordinate = 0;
-
-        // calculates the x coordinate of the point requested
-        for (int i = 0; i < controlPoints.size(); i++) {
-            xCoordinate += pointCoefficients.get(i).getValue(t) * controlPoints.get(i).getX();
-        }
+        return new pedroPathing.pathgen.Point(evaluate(pointWeightsX, t), evaluate(pointWeightsY, t), pedroPathing.pathgen.Point.CARTESIAN);
+    }
 
-        // calculates the y coordinate of the point requested
-        for (int i = 0; i < controlPoints.size(); i++) {
-            yCoordinate += pointCoefficients.get(i).getValue(t) * controlPoints.get(i).getY();
-        }
-        return new com.pedropathing.pathgen.Point(xCoordinate, yCoordinate, com.pedropathing.pathgen.Point.CARTESIAN);
+    /**
+     * This writes the x and y coordinates of the point on the Bezier curve at the specified
+     * parametric t value into a caller-supplied array, so nothing is allocated.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y coordinates are written into.
+     */
+    public void getPoint(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        output[0] = evaluate(pointWeightsX, t);
+        output[1] = evaluate(pointWeightsY, t);
     }
 
     /**
@@ -219,11 +444,14 @@ public class BezierCurve {
      */
     public double getCurvature(double t) {
         t = MathFunctions.clamp(t, 0, 1);
-        com.pedropathing.pathgen.Vector derivative = getDerivative(t);
-        com.pedropathing.pathgen.Vector secondDerivative = getSecondDerivative(t);
-
-        if (derivative.getMagnitude() == 0) return 0;
-        return (MathFunctions.crossProduct(derivative, secondDerivative))/Math.pow(derivative.getMagnitude(),3);
+        double derivativeX = evaluate(derivativeWeightsX, t);
+        double derivativeY = evaluate(derivativeWeightsY, t);
+        double secondDerivativeX = evaluate(secondDerivativeWeightsX, t);
+        double secondDerivativeY = evaluate(secondDerivativeWeightsY, t);
+
+        double derivativeMagnitude = Math.hypot(derivativeX, derivativeY);
+        if (derivativeMagnitude == 0) return 0;
+        return (derivativeX * secondDerivativeY - derivativeY * secondDerivativeX) / (derivativeMagnitude * derivativeMagnitude * derivativeMagnitude);
     }
 
     /**
@@ -233,27 +461,26 @@ public class BezierCurve {
      * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
      * @return this returns the derivative requested.
      */
-    public com.pedropathing.pathgen.Vector getDerivative(double t) {
+    public pedroPathing.pathgen.Vector getDerivative(double t) {
         t = MathFunctions.clamp(t, 0, 1);
-        double xCoordinate = 0;
-        double yCoordinate = 0;
-        com.pedropathing.pathgen.Vector returnVector = new com.pedropathing.pathgen.Vector();
-
-        // calculates the x coordinate of the point requested
-        for (int i = 0; i < controlPoints.size()-1; i++) {
-            xCoordinate += pointCoefficients.get(i).getDerivativeValue(t) * (MathFunctions.subtractPoints(controlPoints.get(i+1), controlPoints.get(i)).getX());
-        }
-
-        // calculates the y coordinate of the point requested
-        for (int i = 0; i < controlPoints.size()-1; i++) {;
-            yCoordinate += pointCoefficients.get(i).getDerivativeValue(t) * (MathFunctions.subtractPoints(controlPoints.get(i+1), controlPoints.get(i)).getY());
-        }
-
-        returnVector.setOrthogonalComponents(xCoordinate, yCoordinate);
-
+        pedroPathing.pathgen.Vector returnVector = new pedroPathing.pathgen.Vector();
+        returnVector.setOrthogonalComponents(evaluate(derivativeWeightsX, t), evaluate(derivativeWeightsY, t));
         return returnVector;
     }
 
+    /**
+     * This writes the x and y components of the derivative on the BezierCurve at the specified
+     * parametric t value into a caller-supplied array, so nothing is allocated.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    public void getDerivative(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        output[0] = evaluate(derivativeWeightsX, t);
+        output[1] = evaluate(derivativeWeightsY, t);
+    }
+
     /**
      * This returns the second derivative on the BezierCurve that is specified by the parametric t value.
      * This is returned as a Vector, and this Vector is the acceleration on the BezierCurve.
@@ -261,25 +488,68 @@ public class BezierCurve {
      * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
      * @return this returns the second derivative requested.
      */
-    public com.pedropathing.pathgen.Vector getSecondDerivative(double t) {
+    public pedroPathing.pathgen.Vector getSecondDerivative(double t) {
         t = MathFunctions.clamp(t, 0, 1);
-        double xCoordinate = 0;
-        double yCoordinate = 0;
-        com.pedropathing.pathgen.Vector returnVector = new com.pedropathing.pathgen.Vector();
+        pedroPathing.pathgen.Vector returnVector = new pedroPathing.pathgen.Vector();
+        returnVector.setOrthogonalComponents(evaluate(secondDerivativeWeightsX, t), evaluate(secondDerivativeWeightsY, t));
+        return returnVector;
+    }
 
-        // calculates the x coordinate of the point requested
-        for (int i = 0; i < controlPoints.size()-2; i++) {
-            xCoordinate += pointCoefficients.get(i).getSecondDerivativeValue(t) * (MathFunctions.addPoints(MathFunctions.subtractPoints(controlPoints.get(i+2), new com.pedropathing.pathgen.Point(2*controlPoints.get(i+1).getX(), 2*controlPoints.get(i+1).getY(), com.pedropathing.pathgen.Point.CARTESIAN)), controlPoints.get(i)).getX());
-        }
+    /**
+     * This writes the x and y components of the second derivative on the BezierCurve at the
+     * specified parametric t value into a caller-supplied array, so nothing is allocated.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    public void getSecondDerivative(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        output[0] = evaluate(secondDerivativeWeightsX, t);
+        output[1] = evaluate(secondDerivativeWeightsY, t);
+    }
 
-        // calculates the y coordinate of the point requested
-        for (int i = 0; i < controlPoints.size()-2; i++) {
-            yCoordinate += pointCoefficients.get(i).getSecondDerivativeValue(t) * (MathFunctions.addPoints(MathFunctions.subtractPoints(controlPoints.get(i+2), new com.pedropathing.pathgen.Point(2*controlPoints.get(i+1).getX(), 2*controlPoints.get(i+1).getY(), com.pedropathing.pathgen.Point.CARTESIAN)), controlPoints.get(i)).getY());
+    /**
+     * This writes the point, the derivative and the second derivative on the BezierCurve at the
+     * specified parametric t value into a caller-supplied array, in the order x, y, derivative x,
+     * derivative y, second derivative x, second derivative y. All three are evaluated in the same
+     * Horner pass, so the powers of t are only computed once. Use this when more than one of them
+     * is needed at the same t value.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 6 that the values are written into.
+     */
+    public void getPointAndDerivatives(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        double oneMinusT = 1 - t;
+        double tPower = 1;
+
+        double x = pointWeightsX[0];
+        double y = pointWeightsY[0];
+        double derivativeX = derivativeWeightsX.length > 0 ? derivativeWeightsX[0] : 0;
+        double derivativeY = derivativeWeightsY.length > 0 ? derivativeWeightsY[0] : 0;
+        double secondDerivativeX = secondDerivativeWeightsX.length > 0 ? secondDerivativeWeightsX[0] : 0;
+        double secondDerivativeY = secondDerivativeWeightsY.length > 0 ? secondDerivativeWeightsY[0] : 0;
+
+        for (int i = 1; i < pointWeightsX.length; i++) {
+            tPower *= t;
+            x = x * oneMinusT + pointWeightsX[i] * tPower;
+            y = y * oneMinusT + pointWeightsY[i] * tPower;
+            if (i < derivativeWeightsX.length) {
+                derivativeX = derivativeX * oneMinusT + derivativeWeightsX[i] * tPower;
+                derivativeY = derivativeY * oneMinusT + derivativeWeightsY[i] * tPower;
+            }
+            if (i < secondDerivativeWeightsX.length) {
+                secondDerivativeX = secondDerivativeX * oneMinusT + secondDerivativeWeightsX[i] * tPower;
+                secondDerivativeY = secondDerivativeY * oneMinusT + secondDerivativeWeightsY[i] * tPower;
+            }
         }
 
-        returnVector.setOrthogonalComponents(xCoordinate, yCoordinate);
-
-        return returnVector;
+        output[0] = x;
+        output[1] = y;
+        output[2] = derivativeX;
+        output[3] = derivativeY;
+        output[4] = secondDerivativeX;
+        output[5] = secondDerivativeY;
     }
 
     /**
@@ -290,7 +560,7 @@ public class BezierCurve {
      * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
      * @return this returns the approximated second derivative.
      */
-    public com.pedropathing.pathgen.Vector getApproxSecondDerivative(double t) {
+    public pedroPathing.pathgen.Vector getApproxSecondDerivative(double t) {
         double current = getDerivative(t).getTheta();
         double deltaCurrent = getDerivative(t + 0.0001).getTheta();
 
@@ -302,7 +572,7 @@ public class BezierCurve {
      *
      * @return This returns the control points.
      */
-    public ArrayList<com.pedropathing.pathgen.Point> getControlPoints() {
+    public ArrayList<pedroPathing.pathgen.Point> getControlPoints() {
         return controlPoints;
     }
 
@@ -311,7 +581,7 @@ public class BezierCurve {
      *
      * @return This returns the Point.
      */
-    public com.pedropathing.pathgen.Point getFirstControlPoint() {
+    public pedroPathing.pathgen.Point getFirstControlPoint() {
         return controlPoints.get(0);
     }
 
@@ -320,7 +590,7 @@ public class BezierCurve {
      *
      * @return This returns the Point.
      */
-    public com.pedropathing.pathgen.Point getSecondControlPoint() {
+    public pedroPathing.pathgen.Point getSecondControlPoint() {
         return controlPoints.get(1);
     }
 
@@ -329,7 +599,7 @@ public class BezierCurve {
      *
      * @return This returns the Point.
      */
-    public com.pedropathing.pathgen.Point getSecondToLastControlPoint() {
+    public pedroPathing.pathgen.Point getSecondToLastControlPoint() {
         return controlPoints.get(controlPoints.size()-2);
     }
 
@@ -1,6 +1,6 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.MathFunctions;
 
 /**
  * This is the BezierCurveCoefficients class. This class handles holding the coefficients for each
@@ -31,8 +31,8 @@ public class BezierCurveCoefficients {
     public BezierCurveCoefficients(int n, int i) {
         this.n = n;
         this.i = i;
-        coefficient = com.pedropathing.pathgen.MathFunctions.nCr(n, i);
-        derivativeCoefficient = com.pedropathing.pathgen.MathFunctions.nCr(n - 1, i);
+        coefficient = pedroPathing.pathgen.MathFunctions.nCr(n, i);
+        derivativeCoefficient = pedroPathing.pathgen.MathFunctions.nCr(n - 1, i);
         secondDerivativeCoefficient = MathFunctions.nCr(n - 2, i);
     }
 
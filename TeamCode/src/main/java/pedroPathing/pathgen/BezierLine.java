@@ -1,10 +1,10 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
 
 import java.util.ArrayList;
 
@@ -21,10 +21,10 @@ import java.util.ArrayList;
  */
 public class BezierLine extends BezierCurve {
 
-    private com.pedropathing.pathgen.Point startPoint;
-    private com.pedropathing.pathgen.Point endPoint;
+    private pedroPathing.pathgen.Point startPoint;
+    private pedroPathing.pathgen.Point endPoint;
 
-    private com.pedropathing.pathgen.Vector endTangent;
+    private pedroPathing.pathgen.Vector endTangent;
 
     private double UNIT_TO_TIME;
     private double length;
@@ -36,7 +36,7 @@ public class BezierLine extends BezierCurve {
      * @param startPoint start point of the line.
      * @param endPoint   end point of the line.
      */
-    public BezierLine(com.pedropathing.pathgen.Point startPoint, com.pedropathing.pathgen.Point endPoint) {
+    public BezierLine(pedroPathing.pathgen.Point startPoint, pedroPathing.pathgen.Point endPoint) {
         super();
         this.startPoint = startPoint;
         this.endPoint = endPoint;
@@ -55,8 +55,8 @@ public class BezierLine extends BezierCurve {
      */
     public BezierLine(Pose startPose, Pose endPose) {
         super();
-        this.startPoint = new com.pedropathing.pathgen.Point(startPose);
-        this.endPoint = new com.pedropathing.pathgen.Point(endPose);
+        this.startPoint = new pedroPathing.pathgen.Point(startPose);
+        this.endPoint = new pedroPathing.pathgen.Point(endPose);
         length = approximateLength();
         UNIT_TO_TIME = 1 / length;
         endTangent = MathFunctions.normalizeVector(getDerivative(1));
@@ -69,10 +69,22 @@ public class BezierLine extends BezierCurve {
      * @return returns the tangent Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getEndTangent() {
+    public pedroPathing.pathgen.Vector getEndTangent() {
         return MathFunctions.copyVector(endTangent);
     }
 
+    /**
+     * This writes the unit tangent Vector at the end of the BezierLine into a specified Vector,
+     * without making a new Vector.
+     *
+     * @param output the Vector the end tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    @Override
+    public pedroPathing.pathgen.Vector getEndTangent(pedroPathing.pathgen.Vector output) {
+        return MathFunctions.copyVector(endTangent, output);
+    }
+
     /**
      * This gets the length of the BezierLine.
      *
@@ -83,6 +95,30 @@ public class BezierLine extends BezierCurve {
         return Math.sqrt(Math.pow(startPoint.getX() - endPoint.getX(), 2) + Math.pow(startPoint.getY() - endPoint.getY(), 2));
     }
 
+    /**
+     * This returns the distance along the BezierLine from the start to a specified t-value. Since
+     * the parametric speed of a line is constant, this is just a fraction of the length.
+     *
+     * @param t this is the t value of the parametric line. t is clamped to be between 0 and 1 inclusive.
+     * @return returns the distance along the line up to t.
+     */
+    @Override
+    public double getDistanceAtT(double t) {
+        return MathFunctions.clamp(t, 0, 1) * length;
+    }
+
+    /**
+     * This returns the t-value that is a specified distance along the BezierLine from the start.
+     *
+     * @param distance the distance along the line. This is clamped to be between 0 and the length.
+     * @return returns the t-value at that distance.
+     */
+    @Override
+    public double getTAtDistance(double distance) {
+        if (length == 0) return 0;
+        return MathFunctions.clamp(distance, 0, length) / length;
+    }
+
     /**
      * This returns the Point on the Bezier line that is specified by the parametric t value.
      *
@@ -90,9 +126,23 @@ public class BezierLine extends BezierCurve {
      * @return this returns the Point requested.
      */
     @Override
-    public com.pedropathing.pathgen.Point getPoint(double t) {
+    public pedroPathing.pathgen.Point getPoint(double t) {
         t = MathFunctions.clamp(t, 0, 1);
-        return new com.pedropathing.pathgen.Point((endPoint.getX() - startPoint.getX()) * t + startPoint.getX(), (endPoint.getY() - startPoint.getY()) * t + startPoint.getY(), com.pedropathing.pathgen.Point.CARTESIAN);
+        return new pedroPathing.pathgen.Point((endPoint.getX() - startPoint.getX()) * t + startPoint.getX(), (endPoint.getY() - startPoint.getY()) * t + startPoint.getY(), pedroPathing.pathgen.Point.CARTESIAN);
+    }
+
+    /**
+     * This writes the x and y coordinates of the Point on the Bezier line at the specified
+     * parametric t value into a caller-supplied array.
+     *
+     * @param t this is the t value of the parametric line. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y coordinates are written into.
+     */
+    @Override
+    public void getPoint(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        output[0] = (endPoint.getX() - startPoint.getX()) * t + startPoint.getX();
+        output[1] = (endPoint.getY() - startPoint.getY()) * t + startPoint.getY();
     }
 
     /**
@@ -114,14 +164,27 @@ public class BezierLine extends BezierCurve {
      * @return this returns the derivative requested.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getDerivative(double t) {
-        com.pedropathing.pathgen.Vector returnVector = new com.pedropathing.pathgen.Vector();
+    public pedroPathing.pathgen.Vector getDerivative(double t) {
+        pedroPathing.pathgen.Vector returnVector = new pedroPathing.pathgen.Vector();
 
         returnVector.setOrthogonalComponents(endPoint.getX() - startPoint.getX(), endPoint.getY() - startPoint.getY());
 
         return returnVector;
     }
 
+    /**
+     * This writes the x and y components of the derivative on the BezierLine into a
+     * caller-supplied array. This is the same constant slope for every t value.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    @Override
+    public void getDerivative(double t, double[] output) {
+        output[0] = endPoint.getX() - startPoint.getX();
+        output[1] = endPoint.getY() - startPoint.getY();
+    }
+
     /**
      * This returns the second derivative on the Bezier line, which is a zero Vector.
      * Once again, the t is only there for the override.
@@ -130,8 +193,40 @@ public class BezierLine extends BezierCurve {
      * @return this returns the second derivative requested.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getSecondDerivative(double t) {
-        return new com.pedropathing.pathgen.Vector();
+    public pedroPathing.pathgen.Vector getSecondDerivative(double t) {
+        return new pedroPathing.pathgen.Vector();
+    }
+
+    /**
+     * This writes the second derivative on the Bezier line, which is zero, into a caller-supplied
+     * array.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    @Override
+    public void getSecondDerivative(double t, double[] output) {
+        output[0] = 0;
+        output[1] = 0;
+    }
+
+    /**
+     * This writes the point, the derivative and the second derivative on the BezierLine at the
+     * specified parametric t value into a caller-supplied array, in the order x, y, derivative x,
+     * derivative y, second derivative x, second derivative y.
+     *
+     * @param t this is the t value of the parametric line. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 6 that the values are written into.
+     */
+    @Override
+    public void getPointAndDerivatives(double t, double[] output) {
+        t = MathFunctions.clamp(t, 0, 1);
+        output[2] = endPoint.getX() - startPoint.getX();
+        output[3] = endPoint.getY() - startPoint.getY();
+        output[0] = output[2] * t + startPoint.getX();
+        output[1] = output[3] * t + startPoint.getY();
+        output[4] = 0;
+        output[5] = 0;
     }
 
     /**
@@ -142,7 +237,7 @@ public class BezierLine extends BezierCurve {
      * @return this returns the approximated second derivative, which is the zero Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getApproxSecondDerivative(double t) {
+    public pedroPathing.pathgen.Vector getApproxSecondDerivative(double t) {
         return new Vector();
     }
 
@@ -152,8 +247,8 @@ public class BezierLine extends BezierCurve {
      * @return This returns the control points.
      */
     @Override
-    public ArrayList<com.pedropathing.pathgen.Point> getControlPoints() {
-        ArrayList<com.pedropathing.pathgen.Point> returnList = new ArrayList<>();
+    public ArrayList<pedroPathing.pathgen.Point> getControlPoints() {
+        ArrayList<pedroPathing.pathgen.Point> returnList = new ArrayList<>();
         returnList.add(startPoint);
         returnList.add(endPoint);
         return returnList;
@@ -165,7 +260,7 @@ public class BezierLine extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getFirstControlPoint() {
+    public pedroPathing.pathgen.Point getFirstControlPoint() {
         return startPoint;
     }
 
@@ -175,7 +270,7 @@ public class BezierLine extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getSecondControlPoint() {
+    public pedroPathing.pathgen.Point getSecondControlPoint() {
         return endPoint;
     }
 
@@ -185,7 +280,7 @@ public class BezierLine extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getSecondToLastControlPoint() {
+    public pedroPathing.pathgen.Point getSecondToLastControlPoint() {
         return startPoint;
     }
 
@@ -1,10 +1,10 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
 
 import java.util.ArrayList;
 
@@ -21,9 +21,9 @@ import java.util.ArrayList;
  */
 public class BezierPoint extends BezierCurve {
 
-    private com.pedropathing.pathgen.Point point;
+    private pedroPathing.pathgen.Point point;
 
-    private com.pedropathing.pathgen.Vector endTangent = new com.pedropathing.pathgen.Vector();
+    private pedroPathing.pathgen.Vector endTangent = new pedroPathing.pathgen.Vector();
 
     private double UNIT_TO_TIME;
     private double length;
@@ -34,7 +34,7 @@ public class BezierPoint extends BezierCurve {
      *
      * @param point the specified point.
      */
-    public BezierPoint(com.pedropathing.pathgen.Point point) {
+    public BezierPoint(pedroPathing.pathgen.Point point) {
         super();
         this.point = point;
         length = approximateLength();
@@ -49,7 +49,7 @@ public class BezierPoint extends BezierCurve {
      */
     public BezierPoint(Pose pose) {
         super();
-        this.point = new com.pedropathing.pathgen.Point(pose);
+        this.point = new pedroPathing.pathgen.Point(pose);
         length = approximateLength();
         super.initializeDashboardDrawingPoints();
     }
@@ -62,10 +62,21 @@ public class BezierPoint extends BezierCurve {
      * @return returns the zero Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getEndTangent() {
+    public pedroPathing.pathgen.Vector getEndTangent() {
         return MathFunctions.copyVector(endTangent);
     }
 
+    /**
+     * This writes the zero Vector into a specified Vector, since there is no end tangent of a point.
+     *
+     * @param output the Vector the end tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    @Override
+    public pedroPathing.pathgen.Vector getEndTangent(pedroPathing.pathgen.Vector output) {
+        return MathFunctions.copyVector(endTangent, output);
+    }
+
     /**
      * This gets the length of the BezierPoint. Since points don't have length, this returns zero.
      *
@@ -76,6 +87,30 @@ public class BezierPoint extends BezierCurve {
         return 0.0;
     }
 
+    /**
+     * This returns the distance along the BezierPoint up to a specified t-value, which is always
+     * zero since points don't have length.
+     *
+     * @param t the parametric t value.
+     * @return returns zero.
+     */
+    @Override
+    public double getDistanceAtT(double t) {
+        return 0.0;
+    }
+
+    /**
+     * This returns the t-value at a specified distance along the BezierPoint. Since points don't
+     * have length, this is always the start.
+     *
+     * @param distance the distance along the point.
+     * @return returns zero.
+     */
+    @Override
+    public double getTAtDistance(double distance) {
+        return 0.0;
+    }
+
     /**
      * This returns the point on the BezierPoint that is specified by the parametric t value. Since
      * this is a Point, this just returns the one control point's position.
@@ -84,8 +119,21 @@ public class BezierPoint extends BezierCurve {
      * @return this returns the Point requested.
      */
     @Override
-    public com.pedropathing.pathgen.Point getPoint(double t) {
-        return new com.pedropathing.pathgen.Point(point.getX(), point.getY(), com.pedropathing.pathgen.Point.CARTESIAN);
+    public pedroPathing.pathgen.Point getPoint(double t) {
+        return new pedroPathing.pathgen.Point(point.getX(), point.getY(), pedroPathing.pathgen.Point.CARTESIAN);
+    }
+
+    /**
+     * This writes the position of the BezierPoint into a caller-supplied array. Since this is a
+     * Point, the t value doesn't change anything.
+     *
+     * @param t this is the t value of the parametric line. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y coordinates are written into.
+     */
+    @Override
+    public void getPoint(double t, double[] output) {
+        output[0] = point.getX();
+        output[1] = point.getY();
     }
 
     /**
@@ -107,10 +155,23 @@ public class BezierPoint extends BezierCurve {
      * @return this returns the derivative requested, which is the zero Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getDerivative(double t) {
+    public pedroPathing.pathgen.Vector getDerivative(double t) {
         return MathFunctions.copyVector(endTangent);
     }
 
+    /**
+     * This writes the derivative on the BezierPoint, which is zero since this is a Point, into a
+     * caller-supplied array.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    @Override
+    public void getDerivative(double t, double[] output) {
+        output[0] = 0;
+        output[1] = 0;
+    }
+
     /**
      * This returns the second derivative on the Bezier line, which is the zero Vector since this
      * is a Point.
@@ -120,8 +181,39 @@ public class BezierPoint extends BezierCurve {
      * @return this returns the second derivative requested, which is the zero Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getSecondDerivative(double t) {
-        return new com.pedropathing.pathgen.Vector();
+    public pedroPathing.pathgen.Vector getSecondDerivative(double t) {
+        return new pedroPathing.pathgen.Vector();
+    }
+
+    /**
+     * This writes the second derivative on the BezierPoint, which is zero since this is a Point,
+     * into a caller-supplied array.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 2 that the x and y components are written into.
+     */
+    @Override
+    public void getSecondDerivative(double t, double[] output) {
+        output[0] = 0;
+        output[1] = 0;
+    }
+
+    /**
+     * This writes the position of the BezierPoint and its derivatives, which are zero, into a
+     * caller-supplied array, in the order x, y, derivative x, derivative y, second derivative x,
+     * second derivative y.
+     *
+     * @param t this is the t value of the parametric curve. t is clamped to be between 0 and 1 inclusive.
+     * @param output an array of at least length 6 that the values are written into.
+     */
+    @Override
+    public void getPointAndDerivatives(double t, double[] output) {
+        output[0] = point.getX();
+        output[1] = point.getY();
+        output[2] = 0;
+        output[3] = 0;
+        output[4] = 0;
+        output[5] = 0;
     }
 
     /**
@@ -132,7 +224,7 @@ public class BezierPoint extends BezierCurve {
      * @return this returns the approximated second derivative, which is the zero Vector.
      */
     @Override
-    public com.pedropathing.pathgen.Vector getApproxSecondDerivative(double t) {
+    public pedroPathing.pathgen.Vector getApproxSecondDerivative(double t) {
         return new Vector();
     }
 
@@ -142,8 +234,8 @@ public class BezierPoint extends BezierCurve {
      * @return This returns the control point.
      */
     @Override
-    public ArrayList<com.pedropathing.pathgen.Point> getControlPoints() {
-        ArrayList<com.pedropathing.pathgen.Point> returnList = new ArrayList<>();
+    public ArrayList<pedroPathing.pathgen.Point> getControlPoints() {
+        ArrayList<pedroPathing.pathgen.Point> returnList = new ArrayList<>();
         returnList.add(point);
         return returnList;
     }
@@ -154,7 +246,7 @@ public class BezierPoint extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getFirstControlPoint() {
+    public pedroPathing.pathgen.Point getFirstControlPoint() {
         return point;
     }
 
@@ -166,7 +258,7 @@ public class BezierPoint extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getSecondControlPoint() {
+    public pedroPathing.pathgen.Point getSecondControlPoint() {
         return point;
     }
 
@@ -178,7 +270,7 @@ public class BezierPoint extends BezierCurve {
      * @return This returns the Point.
      */
     @Override
-    public com.pedropathing.pathgen.Point getSecondToLastControlPoint() {
+    public pedroPathing.pathgen.Point getSecondToLastControlPoint() {
         return point;
     }
 
@@ -1,8 +1,8 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
 
 /**
  * This is the MathFunctions class. This contains many useful math related methods that I use in
@@ -114,7 +114,7 @@ public class MathFunctions {
      * @param point this is the Point.
      * @return returns the distance between the two.
      */
-    public static double distance(Pose pose, com.pedropathing.pathgen.Point point) {
+    public static double distance(Pose pose, pedroPathing.pathgen.Point point) {
         return Math.sqrt(Math.pow(pose.getX() - point.getX(), 2) + Math.pow(pose.getY() - point.getY(), 2));
     }
 
@@ -136,8 +136,8 @@ public class MathFunctions {
      * @param two the second Point
      * @return returns the sum of the two Points.
      */
-    public static com.pedropathing.pathgen.Point addPoints(com.pedropathing.pathgen.Point one, com.pedropathing.pathgen.Point two) {
-        return new com.pedropathing.pathgen.Point(one.getX() + two.getX(), one.getY() + two.getY(), com.pedropathing.pathgen.Point.CARTESIAN);
+    public static pedroPathing.pathgen.Point addPoints(pedroPathing.pathgen.Point one, pedroPathing.pathgen.Point two) {
+        return new pedroPathing.pathgen.Point(one.getX() + two.getX(), one.getY() + two.getY(), pedroPathing.pathgen.Point.CARTESIAN);
     }
 
     /**
@@ -159,8 +159,8 @@ public class MathFunctions {
      * @param two the second Point.
      * @return returns the difference of the two Points.
      */
-    public static com.pedropathing.pathgen.Point subtractPoints(com.pedropathing.pathgen.Point one, com.pedropathing.pathgen.Point two) {
-        return new com.pedropathing.pathgen.Point(one.getX() - two.getX(), one.getY() - two.getY(), com.pedropathing.pathgen.Point.CARTESIAN);
+    public static pedroPathing.pathgen.Point subtractPoints(pedroPathing.pathgen.Point one, pedroPathing.pathgen.Point two) {
+        return new pedroPathing.pathgen.Point(one.getX() - two.getX(), one.getY() - two.getY(), pedroPathing.pathgen.Point.CARTESIAN);
     }
 
     /**
@@ -198,8 +198,8 @@ public class MathFunctions {
      * @param scalar the scalar multiplying into the Point.
      * @return returns the scaled Point.
      */
-    public static com.pedropathing.pathgen.Point scalarMultiplyPoint(com.pedropathing.pathgen.Point point, double scalar) {
-        return new com.pedropathing.pathgen.Point(point.getX() * scalar, point.getY() * scalar, com.pedropathing.pathgen.Point.CARTESIAN);
+    public static pedroPathing.pathgen.Point scalarMultiplyPoint(pedroPathing.pathgen.Point point, double scalar) {
+        return new pedroPathing.pathgen.Point(point.getX() * scalar, point.getY() * scalar, pedroPathing.pathgen.Point.CARTESIAN);
     }
 
     /**
@@ -209,8 +209,8 @@ public class MathFunctions {
      * @param point the Point to be deep copied.
      * @return returns the copied Point.
      */
-    public static com.pedropathing.pathgen.Point copyPoint(com.pedropathing.pathgen.Point point) {
-        return new com.pedropathing.pathgen.Point(point.getX(), point.getY(), Point.CARTESIAN);
+    public static pedroPathing.pathgen.Point copyPoint(pedroPathing.pathgen.Point point) {
+        return new pedroPathing.pathgen.Point(point.getX(), point.getY(), Point.CARTESIAN);
     }
 
     /**
@@ -220,8 +220,8 @@ public class MathFunctions {
      * @param vector Vector to be deep copied.
      * @return returns the copied Vector.
      */
-    public static com.pedropathing.pathgen.Vector copyVector(com.pedropathing.pathgen.Vector vector) {
-        return new com.pedropathing.pathgen.Vector(vector.getMagnitude(), vector.getTheta());
+    public static pedroPathing.pathgen.Vector copyVector(pedroPathing.pathgen.Vector vector) {
+        return copyVector(vector, new pedroPathing.pathgen.Vector());
     }
 
     /**
@@ -231,8 +231,8 @@ public class MathFunctions {
      * @param scalar the scalar multiplying into the Vector.
      * @return returns the scaled Vector.
      */
-    public static com.pedropathing.pathgen.Vector scalarMultiplyVector(com.pedropathing.pathgen.Vector vector, double scalar) {
-        return new com.pedropathing.pathgen.Vector(vector.getMagnitude() * scalar, vector.getTheta());
+    public static pedroPathing.pathgen.Vector scalarMultiplyVector(pedroPathing.pathgen.Vector vector, double scalar) {
+        return new pedroPathing.pathgen.Vector(vector.getMagnitude() * scalar, vector.getTheta());
     }
 
     /**
@@ -242,11 +242,11 @@ public class MathFunctions {
      * @param vector the Vector being normalized.
      * @return returns the normalized (or zero) Vector.
      */
-    public static com.pedropathing.pathgen.Vector normalizeVector(com.pedropathing.pathgen.Vector vector) {
+    public static pedroPathing.pathgen.Vector normalizeVector(pedroPathing.pathgen.Vector vector) {
         if (vector.getMagnitude() == 0) {
-            return new com.pedropathing.pathgen.Vector(0.0, vector.getTheta());
+            return new pedroPathing.pathgen.Vector(0.0, vector.getTheta());
         } else {
-            return new com.pedropathing.pathgen.Vector(vector.getMagnitude() / Math.abs(vector.getMagnitude()), vector.getTheta());
+            return new pedroPathing.pathgen.Vector(vector.getMagnitude() / Math.abs(vector.getMagnitude()), vector.getTheta());
         }
     }
 
@@ -257,8 +257,8 @@ public class MathFunctions {
      * @param two the second Vector.
      * @return returns the sum of the Vectors.
      */
-    public static com.pedropathing.pathgen.Vector addVectors(com.pedropathing.pathgen.Vector one, com.pedropathing.pathgen.Vector two) {
-        com.pedropathing.pathgen.Vector returnVector = new com.pedropathing.pathgen.Vector();
+    public static pedroPathing.pathgen.Vector addVectors(pedroPathing.pathgen.Vector one, pedroPathing.pathgen.Vector two) {
+        pedroPathing.pathgen.Vector returnVector = new pedroPathing.pathgen.Vector();
         returnVector.setOrthogonalComponents(one.getXComponent() + two.getXComponent(), one.getYComponent() + two.getYComponent());
         return returnVector;
     }
@@ -271,12 +271,82 @@ public class MathFunctions {
      * @param two the second Vector.
      * @return returns the second Vector subtracted from the first Vector.
      */
-    public static com.pedropathing.pathgen.Vector subtractVectors(com.pedropathing.pathgen.Vector one, com.pedropathing.pathgen.Vector two) {
-        com.pedropathing.pathgen.Vector returnVector = new com.pedropathing.pathgen.Vector();
+    public static pedroPathing.pathgen.Vector subtractVectors(pedroPathing.pathgen.Vector one, pedroPathing.pathgen.Vector two) {
+        pedroPathing.pathgen.Vector returnVector = new pedroPathing.pathgen.Vector();
         returnVector.setOrthogonalComponents(one.getXComponent() - two.getXComponent(), one.getYComponent() - two.getYComponent());
         return returnVector;
     }
 
+    /**
+     * This copies a Vector into another Vector, without making a new Vector.
+     *
+     * @param vector the Vector to be copied.
+     * @param output the Vector the copy is written into.
+     * @return returns the output Vector.
+     */
+    public static pedroPathing.pathgen.Vector copyVector(pedroPathing.pathgen.Vector vector, pedroPathing.pathgen.Vector output) {
+        output.setVector(vector);
+        return output;
+    }
+
+    /**
+     * This multiplies a Vector by a scalar and writes the result into another Vector, without
+     * making a new Vector. The output Vector can be the input Vector.
+     *
+     * @param vector the Vector being multiplied.
+     * @param scalar the scalar multiplying into the Vector.
+     * @param output the Vector the scaled Vector is written into.
+     * @return returns the output Vector.
+     */
+    public static pedroPathing.pathgen.Vector scalarMultiplyVector(pedroPathing.pathgen.Vector vector, double scalar, pedroPathing.pathgen.Vector output) {
+        output.setVector(vector);
+        output.setMagnitude(vector.getMagnitude() * scalar);
+        return output;
+    }
+
+    /**
+     * This normalizes a Vector to be of magnitude 1, unless the Vector is the zero Vector, and
+     * writes the result into another Vector, without making a new Vector. The output Vector can be
+     * the input Vector.
+     *
+     * @param vector the Vector being normalized.
+     * @param output the Vector the normalized (or zero) Vector is written into.
+     * @return returns the output Vector.
+     */
+    public static pedroPathing.pathgen.Vector normalizeVector(pedroPathing.pathgen.Vector vector, pedroPathing.pathgen.Vector output) {
+        output.setVector(vector);
+        if (vector.getMagnitude() != 0) output.setMagnitude(1.0);
+        return output;
+    }
+
+    /**
+     * This adds two Vectors and writes the sum into another Vector, without making a new Vector.
+     * The output Vector can be either of the input Vectors.
+     *
+     * @param one the first Vector.
+     * @param two the second Vector.
+     * @param output the Vector the sum is written into.
+     * @return returns the output Vector.
+     */
+    public static pedroPathing.pathgen.Vector addVectors(pedroPathing.pathgen.Vector one, pedroPathing.pathgen.Vector two, pedroPathing.pathgen.Vector output) {
+        output.setOrthogonalComponents(one.getXComponent() + two.getXComponent(), one.getYComponent() + two.getYComponent());
+        return output;
+    }
+
+    /**
+     * This subtracts the second Vector from the first Vector and writes the result into another
+     * Vector, without making a new Vector. The output Vector can be either of the input Vectors.
+     *
+     * @param one the first Vector.
+     * @param two the second Vector.
+     * @param output the Vector the difference is written into.
+     * @return returns the output Vector.
+     */
+    public static pedroPathing.pathgen.Vector subtractVectors(pedroPathing.pathgen.Vector one, pedroPathing.pathgen.Vector two, pedroPathing.pathgen.Vector output) {
+        output.setOrthogonalComponents(one.getXComponent() - two.getXComponent(), one.getYComponent() - two.getYComponent());
+        return output;
+    }
+
     /**
      * This computes the dot product of the two Vectors.
      *
@@ -284,7 +354,7 @@ public class MathFunctions {
      * @param two the second Vector.
      * @return returns the dot product of the two Vectors.
      */
-    public static double dotProduct(com.pedropathing.pathgen.Vector one, com.pedropathing.pathgen.Vector two) {
+    public static double dotProduct(pedroPathing.pathgen.Vector one, pedroPathing.pathgen.Vector two) {
         return one.getXComponent() * two.getXComponent() + one.getYComponent() * two.getYComponent();
     }
 
@@ -296,7 +366,7 @@ public class MathFunctions {
      * @param two the second Vector.
      * @return returns the cross product of the two Vectors.
      */
-    public static double crossProduct(com.pedropathing.pathgen.Vector one, Vector two) {
+    public static double crossProduct(pedroPathing.pathgen.Vector one, Vector two) {
         return one.getXComponent() * two.getYComponent() - one.getYComponent() * two.getXComponent();
     }
 
@@ -1,11 +1,11 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.follower.FollowerConstants;
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Point;
+import pedroPathing.pathgen.Vector;
 
 import java.util.ArrayList;
 
@@ -28,8 +28,38 @@ public class Path {
     private double closestPointTValue = 0;
     private double linearInterpolationEndTime;
 
-    private Vector closestPointTangentVector;
-    private Vector closestPointNormalVector;
+    private Vector closestPointTangentVector = new Vector();
+    private Vector closestPointNormalVector = new Vector();
+    private Vector closestPointUnitTangentVector = new Vector();
+
+    // This holds the point, derivative and second derivative on the curve at the closest Point, in
+    // the order given by BezierCurve.getPointAndDerivatives, so the search doesn't allocate anything
+    private final double[] closestPointEvaluation = new double[6];
+
+    // These are evenly spaced samples of the curve in t, used to seed the closest point search and
+    // to check it hasn't settled on the wrong part of the curve. They're made on the first search.
+    private double[] searchSamplesX;
+    private double[] searchSamplesY;
+
+    // These describe how the last closest point search went
+    private int closestPointSearchIterations;
+    private long closestPointSearchTime;
+    private boolean closestPointSearchTimedOut;
+    private boolean closestPointBranchJump;
+
+    // The closest point search stops with its best guess after this many milliseconds.
+    // This can be custom set for each Path.
+    private double closestPointSearchTimeLimit = FollowerConstants.BEZIER_CURVE_SEARCH_TIME_LIMIT;
+
+    // These are the tangent angle, derivative magnitude, curvature and heading goal of the Path
+    // sampled at evenly spaced t-values. If the profile is on, these are looked up at the closest
+    // Point instead of being worked out from the curve. The angles aren't normalized, so they can
+    // be interpolated across the wrap around.
+    private int profileSteps = FollowerConstants.usePathProfiles ? FollowerConstants.PATH_PROFILE_STEPS : 0;
+    private double[] profileTangentAngles;
+    private double[] profileDerivativeMagnitudes;
+    private double[] profileCurvatures;
+    private double[] profileHeadingGoals;
 
     private boolean isTangentHeadingInterpolation = true;
     private boolean followTangentReversed;
@@ -89,6 +119,7 @@ public class Path {
      *                     This will be reached at the end of the Path if no end time is specified.
      */
     public void setLinearHeadingInterpolation(double startHeading, double endHeading) {
+        profileHeadingGoals = null;
         linearInterpolationEndTime = 1;
         isTangentHeadingInterpolation = false;
         this.startHeading = startHeading;
@@ -109,6 +140,7 @@ public class Path {
      *                     This value ranges from [0, 1] since Bezier curves are parametric functions.
      */
     public void setLinearHeadingInterpolation(double startHeading, double endHeading, double endTime) {
+        profileHeadingGoals = null;
         linearInterpolationEndTime = MathFunctions.clamp(endTime, 0.000000001, 1);
         isTangentHeadingInterpolation = false;
         this.startHeading = startHeading;
@@ -121,6 +153,7 @@ public class Path {
      * @param setHeading the constant heading for the Path.
      */
     public void setConstantHeadingInterpolation(double setHeading) {
+        profileHeadingGoals = null;
         linearInterpolationEndTime = 1;
         isTangentHeadingInterpolation = false;
         startHeading = setHeading;
@@ -128,47 +161,416 @@ public class Path {
     }
 
     /**
-     * This gets the closest Point from a specified pose to the BezierCurve with a Newton search
-     * that is limited to some specified step limit.
+     * This gets the closest Point from a specified pose to the BezierCurve. For curves, this
+     * refines the last closest Point with a safeguarded Newton search, then checks it against a set
+     * of samples along the curve and searches again from the best sample if that's closer. The
+     * search is limited to some specified step limit and to the search time limit of this Path.
+     * How the search went can be checked afterwards with getClosestPointSearchIterations(),
+     * getClosestPointSearchTime(), isClosestPointSearchTimedOut() and isClosestPointBranchJump().
      *
      * @param pose        the pose.
      * @param searchLimit the maximum number of iterations to run.
      * @return returns the closest Point.
      */
     public Pose getClosestPoint(Pose pose, int searchLimit) {
+        return getClosestPoint(pose, searchLimit, new Pose());
+    }
+
+    /**
+     * This gets the closest Point from a specified pose to the BezierCurve, like
+     * getClosestPoint(Pose, int), and writes it into a specified Pose, without making a new Pose.
+     *
+     * @param pose        the pose.
+     * @param searchLimit the maximum number of iterations to run.
+     * @param output      the Pose the closest Point and its heading goal are written into.
+     * @return returns the output Pose.
+     */
+    public Pose getClosestPoint(Pose pose, int searchLimit, Pose output) {
+        long searchStartTime = System.nanoTime();
+        closestPointSearchIterations = 0;
+        closestPointSearchTimedOut = false;
+        closestPointBranchJump = false;
+
         switch (curve.pathType()) {
             case "point":
                 closestPointTValue = 0;
                 break;
             case "line":
-                Vector BA = new Vector(MathFunctions.subtractPoints(curve.getLastControlPoint(), curve.getFirstControlPoint()));
-                Vector PA = new Vector(MathFunctions.subtractPoints(new Point(pose), curve.getFirstControlPoint()));
+                double lineX = curve.getLastControlPoint().getX() - curve.getFirstControlPoint().getX();
+                double lineY = curve.getLastControlPoint().getY() - curve.getFirstControlPoint().getY();
+                double poseX = pose.getX() - curve.getFirstControlPoint().getX();
+                double poseY = pose.getY() - curve.getFirstControlPoint().getY();
 
-                closestPointTValue = MathFunctions.clamp(MathFunctions.dotProduct(BA, PA) / Math.pow(BA.getMagnitude(), 2), 0, 1);
+                closestPointTValue = MathFunctions.clamp((lineX * poseX + lineY * poseY) / (lineX * lineX + lineY * lineY), 0, 1);
                 break;
             default:
-                for (int i = 0; i < searchLimit; i++) {
-                    Point lastPoint = curve.getPoint(closestPointTValue);
-                    Point posePoint = new Point(pose);
+                if (searchSamplesX == null) initializeSearchSamples();
+                long deadline = searchStartTime + (long) (closestPointSearchTimeLimit * 1000000);
+                double sampleSpacing = 1.0 / (searchSamplesX.length - 1);
 
-                    Vector differenceVector = new Vector(MathFunctions.subtractPoints(lastPoint, posePoint));
+                double warmStartTValue = searchClosestPoint(pose, closestPointTValue,
+                        closestPointTValue - sampleSpacing, closestPointTValue + sampleSpacing, searchLimit, deadline);
+                double warmStartDistance = getDistanceSquared(pose, warmStartTValue);
 
-                    double firstDerivative = 2 * MathFunctions.dotProduct(curve.getDerivative(closestPointTValue), differenceVector);
-                    double secondDerivative = 2 * (Math.pow(curve.getDerivative(closestPointTValue).getMagnitude(), 2) +
-                            MathFunctions.dotProduct(differenceVector, curve.getSecondDerivative(closestPointTValue)));
+                int closestSample = 0;
+                double closestSampleDistance = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < searchSamplesX.length; i++) {
+                    double differenceX = searchSamplesX[i] - pose.getX();
+                    double differenceY = searchSamplesY[i] - pose.getY();
+                    double distance = differenceX * differenceX + differenceY * differenceY;
+                    if (distance < closestSampleDistance) {
+                        closestSampleDistance = distance;
+                        closestSample = i;
+                    }
+                }
 
-                    closestPointTValue = MathFunctions.clamp(closestPointTValue - firstDerivative / (secondDerivative + 1e-9), 0, 1);
-                    if (curve.getPoint(closestPointTValue).distanceFrom(lastPoint) < 0.1)
-                        break;
+                // the closest point can't be further than any sample, so if a sample is closer the
+                // search from the last closest point got stuck somewhere else on the curve
+                closestPointTValue = warmStartTValue;
+                if (closestSampleDistance < warmStartDistance) {
+                    double sampleTValue = closestSample * sampleSpacing;
+                    double globalTValue = searchClosestPoint(pose, sampleTValue,
+                            sampleTValue - sampleSpacing, sampleTValue + sampleSpacing, searchLimit, deadline);
+                    if (getDistanceSquared(pose, globalTValue) < warmStartDistance) {
+                        closestPointBranchJump = Math.abs(globalTValue - warmStartTValue) > sampleSpacing;
+                        closestPointTValue = globalTValue;
+                    }
                 }
+                break;
+        }
+
+        if (profileSteps > 0 && !curve.pathType().equals("point")) {
+            if (profileCurvatures == null || profileHeadingGoals == null) precomputeProfile();
+            curve.getPoint(closestPointTValue, closestPointEvaluation);
+
+            double derivativeMagnitude = getProfileValue(profileDerivativeMagnitudes, closestPointTValue);
+            closestPointTangentVector.setComponents(derivativeMagnitude, getProfileValue(profileTangentAngles, closestPointTValue));
+            closestPointUnitTangentVector.setComponents(derivativeMagnitude == 0 ? 0 : 1, closestPointTangentVector.getTheta());
+            closestPointCurvature = getProfileValue(profileCurvatures, closestPointTValue);
+            if (derivativeMagnitude == 0) {
+                closestPointNormalVector.setComponents(0, 0);
+            } else {
+                closestPointNormalVector.setComponents(1, 0.0001 * closestPointCurvature * derivativeMagnitude);
+            }
+
+            closestPointSearchTime = System.nanoTime() - searchStartTime;
+            output.setX(closestPointEvaluation[0]);
+            output.setY(closestPointEvaluation[1]);
+            output.setHeading(getClosestPointHeadingGoal());
+            return output;
+        }
+
+        curve.getPointAndDerivatives(closestPointTValue, closestPointEvaluation);
+
+        double derivativeX = closestPointEvaluation[2];
+        double derivativeY = closestPointEvaluation[3];
+        double derivativeMagnitudeSquared = derivativeX * derivativeX + derivativeY * derivativeY;
+        double crossProduct = derivativeX * closestPointEvaluation[5] - derivativeY * closestPointEvaluation[4];
+
+        closestPointTangentVector.setOrthogonalComponents(derivativeX, derivativeY);
+        closestPointUnitTangentVector.setComponents(derivativeMagnitudeSquared == 0 ? 0 : 1, closestPointTangentVector.getTheta());
+        if (derivativeMagnitudeSquared == 0) {
+            closestPointNormalVector.setComponents(0, 0);
+            closestPointCurvature = 0;
+        } else {
+            // this is the change in tangent angle over a t step of 0.0001, which is what
+            // BezierCurve.getApproxSecondDerivative approximates by differencing two derivatives
+            closestPointNormalVector.setComponents(1, 0.0001 * crossProduct / derivativeMagnitudeSquared);
+            closestPointCurvature = crossProduct / (derivativeMagnitudeSquared * Math.sqrt(derivativeMagnitudeSquared));
+        }
+
+        closestPointSearchTime = System.nanoTime() - searchStartTime;
+        output.setX(closestPointEvaluation[0]);
+        output.setY(closestPointEvaluation[1]);
+        output.setHeading(getClosestPointHeadingGoal());
+        return output;
+    }
+
+    /**
+     * This does the work needed to follow the Path ahead of time. This generates the curve if it
+     * hasn't been generated yet, samples the curve for the closest point search, and precomputes
+     * the profile if it's on. Anything already done is skipped, so this is safe to call more than
+     * once.
+     */
+    public void precompute() {
+        curve.initializeIfAwaiting();
+        if (searchSamplesX == null && curve.pathType().equals("curve")) initializeSearchSamples();
+        precomputeProfile();
+    }
+
+    /**
+     * This samples the tangent angle, derivative magnitude, curvature and heading goal of the Path
+     * at evenly spaced t-values, so getClosestPoint can look them up instead of working them out.
+     * This is done automatically the first time they're needed, but can be called ahead of time,
+     * such as during init, to take the time out of the first loop. This does nothing if the
+     * profile is turned off or the Path is a single point.
+     */
+    public void precomputeProfile() {
+        if (profileSteps <= 0 || curve.pathType().equals("point")) return;
+        int steps = Math.min(profileSteps, FollowerConstants.APPROXIMATION_STEPS);
+        double[] evaluation = new double[6];
+
+        if (profileCurvatures == null || profileCurvatures.length != steps + 1) {
+            profileTangentAngles = new double[steps + 1];
+            profileDerivativeMagnitudes = new double[steps + 1];
+            profileCurvatures = new double[steps + 1];
+            for (int i = 0; i <= steps; i++) {
+                curve.getPointAndDerivatives(i / (double) steps, evaluation);
+                double derivativeMagnitudeSquared = evaluation[2] * evaluation[2] + evaluation[3] * evaluation[3];
+                double crossProduct = evaluation[2] * evaluation[5] - evaluation[3] * evaluation[4];
+
+                profileTangentAngles[i] = Math.atan2(evaluation[3], evaluation[2]);
+                if (i > 0) profileTangentAngles[i] = unwrapAngle(profileTangentAngles[i - 1], profileTangentAngles[i]);
+                profileDerivativeMagnitudes[i] = Math.sqrt(derivativeMagnitudeSquared);
+                profileCurvatures[i] = derivativeMagnitudeSquared == 0 ? 0 : crossProduct / (derivativeMagnitudeSquared * profileDerivativeMagnitudes[i]);
+            }
+        }
+
+        if (profileHeadingGoals == null || profileHeadingGoals.length != steps + 1) {
+            profileHeadingGoals = new double[steps + 1];
+            for (int i = 0; i <= steps; i++) {
+                profileHeadingGoals[i] = getHeadingGoal(i / (double) steps);
+                if (i > 0) profileHeadingGoals[i] = unwrapAngle(profileHeadingGoals[i - 1], profileHeadingGoals[i]);
+            }
+        }
+    }
+
+    /**
+     * This linearly interpolates a precomputed profile table at a specified t-value.
+     *
+     * @param table the profile table.
+     * @param t the t-value. t is clamped to be between 0 and 1 inclusive.
+     * @return returns the interpolated value.
+     */
+    private static double getProfileValue(double[] table, double t) {
+        double index = MathFunctions.clamp(t, 0, 1) * (table.length - 1);
+        int lowerIndex = (int) index;
+        if (lowerIndex >= table.length - 1) return table[table.length - 1];
+        return table[lowerIndex] + (index - lowerIndex) * (table[lowerIndex + 1] - table[lowerIndex]);
+    }
+
+    /**
+     * This returns an angle moved by full turns to be as close as possible to a previous angle, so
+     * that angles in a profile table can be interpolated without jumping at the wrap around.
+     *
+     * @param previousAngle the previous angle in the table.
+     * @param angle the angle to move.
+     * @return returns the moved angle.
+     */
+    private static double unwrapAngle(double previousAngle, double angle) {
+        return previousAngle + MathFunctions.getTurnDirection(previousAngle, angle) * MathFunctions.getSmallestAngleDifference(angle, previousAngle);
+    }
+
+    /**
+     * This sets the number of steps the precomputed profile of this Path is sampled at. Setting
+     * this to zero turns the profile off, and the tangent, curvature and heading goal are worked
+     * out from the curve every time instead.
+     *
+     * @param set the number of steps.
+     */
+    public void setProfileSteps(int set) {
+        profileSteps = Math.max(0, set);
+        profileCurvatures = null;
+        profileHeadingGoals = null;
+    }
+
+    /**
+     * This returns the number of steps the precomputed profile of this Path is sampled at, which
+     * is zero if the profile is off.
+     *
+     * @return returns the number of profile steps.
+     */
+    public int getProfileSteps() {
+        return profileSteps;
+    }
+
+    /**
+     * This searches for the closest point to a pose within a bracket of t-values on the curve. The
+     * search looks for where the derivative of the squared distance to the pose is zero with Newton
+     * steps, and falls back to bisecting the bracket whenever a Newton step would leave the bracket
+     * or isn't shrinking fast enough, so it can't diverge or bounce around like a plain Newton search.
+     *
+     * @param pose the pose.
+     * @param tValue the t-value to start searching from.
+     * @param lowerBound the lower end of the bracket. This is clamped to be between 0 and 1 inclusive.
+     * @param upperBound the upper end of the bracket. This is clamped to be between 0 and 1 inclusive.
+     * @param searchLimit the maximum number of iterations to run.
+     * @param deadline the System.nanoTime() value the search has to stop at.
+     * @return returns the t-value of the closest point within the bracket.
+     */
+    private double searchClosestPoint(Pose pose, double tValue, double lowerBound, double upperBound, int searchLimit, long deadline) {
+        lowerBound = MathFunctions.clamp(lowerBound, 0, 1);
+        upperBound = MathFunctions.clamp(upperBound, 0, 1);
+        double bracketWidth = upperBound - lowerBound;
+        int iterations = 0;
+
+        // if the closest point is outside the bracket, then the bracket gets slid along the curve
+        // towards it, growing each time, until it's inside or the bracket reaches the end of the curve
+        double lowerSlope = getDistanceSquaredSlope(pose, lowerBound);
+        while (lowerSlope > 0 && lowerBound > 0 && iterations < searchLimit) {
+            iterations++;
+            bracketWidth *= 2;
+            upperBound = lowerBound;
+            lowerBound = Math.max(0, lowerBound - bracketWidth);
+            lowerSlope = getDistanceSquaredSlope(pose, lowerBound);
+        }
+        if (lowerSlope >= 0) {
+            closestPointSearchIterations += iterations;
+            return lowerBound;
+        }
+
+        double upperSlope = getDistanceSquaredSlope(pose, upperBound);
+        while (upperSlope < 0 && upperBound < 1 && iterations < searchLimit) {
+            iterations++;
+            bracketWidth *= 2;
+            lowerBound = upperBound;
+            upperBound = Math.min(1, upperBound + bracketWidth);
+            upperSlope = getDistanceSquaredSlope(pose, upperBound);
+        }
+        if (upperSlope <= 0) {
+            closestPointSearchIterations += iterations;
+            return upperBound;
+        }
+
+        tValue = MathFunctions.clamp(tValue, lowerBound, upperBound);
+        double lastStep = upperBound - lowerBound;
+
+        while (iterations < searchLimit) {
+            if (System.nanoTime() > deadline) {
+                closestPointSearchTimedOut = true;
+                break;
+            }
+            iterations++;
+
+            curve.getPointAndDerivatives(tValue, closestPointEvaluation);
+            double differenceX = closestPointEvaluation[0] - pose.getX();
+            double differenceY = closestPointEvaluation[1] - pose.getY();
+            double derivativeX = closestPointEvaluation[2];
+            double derivativeY = closestPointEvaluation[3];
+
+            double firstDerivative = derivativeX * differenceX + derivativeY * differenceY;
+            double secondDerivative = derivativeX * derivativeX + derivativeY * derivativeY +
+                    differenceX * closestPointEvaluation[4] + differenceY * closestPointEvaluation[5];
+
+            if (firstDerivative == 0) break;
+            if (firstDerivative < 0) {
+                lowerBound = tValue;
+            } else {
+                upperBound = tValue;
+            }
+
+            double nextTValue = tValue - firstDerivative / secondDerivative;
+            if (secondDerivative <= 0 || nextTValue <= lowerBound || nextTValue >= upperBound
+                    || Math.abs(nextTValue - tValue) > 0.5 * lastStep) {
+                nextTValue = 0.5 * (lowerBound + upperBound);
+            }
+
+            lastStep = Math.abs(nextTValue - tValue);
+            tValue = nextTValue;
+            if (lastStep * Math.hypot(derivativeX, derivativeY) < FollowerConstants.BEZIER_CURVE_SEARCH_TOLERANCE)
+                break;
         }
 
-        Point closestPoint = curve.getPoint(closestPointTValue);
-        closestPointTangentVector = curve.getDerivative(closestPointTValue);
-        closestPointNormalVector = curve.getApproxSecondDerivative(closestPointTValue);
-        closestPointCurvature = curve.getCurvature(closestPointTValue);
+        closestPointSearchIterations += iterations;
+        return tValue;
+    }
+
+    /**
+     * This returns the squared distance from a pose to the curve at a specified t-value.
+     *
+     * @param pose the pose.
+     * @param t the t-value.
+     * @return returns the squared distance.
+     */
+    private double getDistanceSquared(Pose pose, double t) {
+        curve.getPoint(t, closestPointEvaluation);
+        double differenceX = closestPointEvaluation[0] - pose.getX();
+        double differenceY = closestPointEvaluation[1] - pose.getY();
+        return differenceX * differenceX + differenceY * differenceY;
+    }
+
+    /**
+     * This returns the derivative with respect to t of half the squared distance from a pose to the
+     * curve at a specified t-value. This is negative where moving forward along the curve gets
+     * closer to the pose.
+     *
+     * @param pose the pose.
+     * @param t the t-value.
+     * @return returns the derivative of the squared distance.
+     */
+    private double getDistanceSquaredSlope(Pose pose, double t) {
+        curve.getPointAndDerivatives(t, closestPointEvaluation);
+        return closestPointEvaluation[2] * (closestPointEvaluation[0] - pose.getX())
+                + closestPointEvaluation[3] * (closestPointEvaluation[1] - pose.getY());
+    }
 
-        return new Pose(closestPoint.getX(), closestPoint.getY(), getClosestPointHeadingGoal());
+    /**
+     * This samples the curve at evenly spaced t-values for the closest point search to start from.
+     */
+    private void initializeSearchSamples() {
+        int samples = Math.max(2, FollowerConstants.BEZIER_CURVE_SEARCH_SAMPLES);
+        searchSamplesX = new double[samples + 1];
+        searchSamplesY = new double[samples + 1];
+        for (int i = 0; i <= samples; i++) {
+            curve.getPoint(i / (double) samples, closestPointEvaluation);
+            searchSamplesX[i] = closestPointEvaluation[0];
+            searchSamplesY[i] = closestPointEvaluation[1];
+        }
+    }
+
+    /**
+     * This returns the number of iterations the last closest point search took.
+     *
+     * @return returns the number of iterations.
+     */
+    public int getClosestPointSearchIterations() {
+        return closestPointSearchIterations;
+    }
+
+    /**
+     * This returns how long the last closest point search took, in nanoseconds.
+     *
+     * @return returns the search time in nanoseconds.
+     */
+    public long getClosestPointSearchTime() {
+        return closestPointSearchTime;
+    }
+
+    /**
+     * This returns if the last closest point search ran out of time before it was done.
+     *
+     * @return returns if the search timed out.
+     */
+    public boolean isClosestPointSearchTimedOut() {
+        return closestPointSearchTimedOut;
+    }
+
+    /**
+     * This returns if the last closest point search moved the closest point onto a different part
+     * of the curve than the last closest point, such as the other side of a tight S-curve or hairpin.
+     *
+     * @return returns if the closest point jumped.
+     */
+    public boolean isClosestPointBranchJump() {
+        return closestPointBranchJump;
+    }
+
+    /**
+     * This sets the maximum time the closest point search can take on this Path.
+     *
+     * @param set the time limit in milliseconds.
+     */
+    public void setClosestPointSearchTimeLimit(double set) {
+        closestPointSearchTimeLimit = set;
+    }
+
+    /**
+     * This returns the maximum time the closest point search can take on this Path.
+     *
+     * @return returns the time limit in milliseconds.
+     */
+    public double getClosestPointSearchTimeLimit() {
+        return closestPointSearchTimeLimit;
     }
 
     /**
@@ -178,6 +580,7 @@ public class Path {
      * @param set sets tangential heading reversed or not.
      */
     public void setReversed(boolean set) {
+        profileHeadingGoals = null;
         isTangentHeadingInterpolation = true;
         followTangentReversed = set;
     }
@@ -195,6 +598,7 @@ public class Path {
      * This sets the heading interpolation to tangential.
      */
     public void setTangentHeadingInterpolation() {
+        profileHeadingGoals = null;
         isTangentHeadingInterpolation = true;
         followTangentReversed = false;
     }
@@ -208,6 +612,17 @@ public class Path {
         return curve.getEndTangent();
     }
 
+    /**
+     * This writes the unit tangent Vector at the end of the BezierCurve into a specified Vector,
+     * without making a new Vector.
+     *
+     * @param output the Vector the end tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getEndTangent(Vector output) {
+        return curve.getEndTangent(output);
+    }
+
     /**
      * This returns the point on the Bezier curve that is specified by the parametric t value. A
      * Bezier curve is a parametric function that returns points along it with t ranging from [0, 1],
@@ -239,6 +654,35 @@ public class Path {
         return curve.length();
     }
 
+    /**
+     * This returns the distance along the BezierCurve from the start to a specified t-value.
+     *
+     * @param t the specified t-value.
+     * @return returns the distance along the BezierCurve up to t.
+     */
+    public double getDistanceAtT(double t) {
+        return curve.getDistanceAtT(t);
+    }
+
+    /**
+     * This returns the t-value that is a specified distance along the BezierCurve from the start.
+     *
+     * @param distance the distance along the BezierCurve.
+     * @return returns the t-value at that distance.
+     */
+    public double getTAtDistance(double distance) {
+        return curve.getTAtDistance(distance);
+    }
+
+    /**
+     * This returns the distance left along the BezierCurve from the closest Point to the end.
+     *
+     * @return returns the remaining distance.
+     */
+    public double getDistanceRemaining() {
+        return curve.length() - curve.getDistanceAtT(closestPointTValue);
+    }
+
     /**
      * This returns the curvature of the BezierCurve at a specified t-value.
      *
@@ -267,6 +711,17 @@ public class Path {
         return MathFunctions.copyVector(closestPointNormalVector);
     }
 
+    /**
+     * This writes the normal Vector at the closest Point into a specified Vector, without making a
+     * new Vector.
+     *
+     * @param output the Vector the normal Vector is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getClosestPointNormalVector(Vector output) {
+        return MathFunctions.copyVector(closestPointNormalVector, output);
+    }
+
     /**
      * This returns the tangent Vector at the closest Point.
      *
@@ -276,12 +731,46 @@ public class Path {
         return MathFunctions.copyVector(closestPointTangentVector);
     }
 
+    /**
+     * This writes the tangent Vector at the closest Point into a specified Vector, without making a
+     * new Vector.
+     *
+     * @param output the Vector the tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getClosestPointTangentVector(Vector output) {
+        return MathFunctions.copyVector(closestPointTangentVector, output);
+    }
+
+    /**
+     * This returns the unit tangent Vector at the closest Point. This is the zero Vector if the
+     * curve has no tangent there.
+     *
+     * @return returns the unit tangent Vector at the closest Point.
+     */
+    public Vector getClosestPointUnitTangentVector() {
+        return MathFunctions.copyVector(closestPointUnitTangentVector);
+    }
+
+    /**
+     * This writes the unit tangent Vector at the closest Point into a specified Vector, without making a
+     * new Vector.
+     *
+     * @param output the Vector the unit tangent Vector is written into.
+     * @return returns the output Vector.
+     */
+    public Vector getClosestPointUnitTangentVector(Vector output) {
+        return MathFunctions.copyVector(closestPointUnitTangentVector, output);
+    }
+
     /**
      * This returns the heading goal at the closest Point.
      *
      * @return returns the heading goal at the closest Point.
      */
     public double getClosestPointHeadingGoal() {
+        if (profileHeadingGoals != null)
+            return MathFunctions.normalizeAngle(getProfileValue(profileHeadingGoals, closestPointTValue));
         if (isTangentHeadingInterpolation) {
             if (followTangentReversed)
                 return MathFunctions.normalizeAngle(closestPointTangentVector.getTheta() + Math.PI);
@@ -505,4 +994,74 @@ public class Path {
     public double[][] getDashboardDrawingPoints() {
         return curve.getDashboardDrawingPoints();
     }
-}
\ No newline at end of file
+
+    /**
+     * This returns if the heading interpolation is tangential.
+     *
+     * @return returns if tangent heading interpolation is being used.
+     */
+    public boolean isTangentHeadingInterpolation() {
+        return isTangentHeadingInterpolation;
+    }
+
+    /**
+     * This returns the start heading of the linear or constant heading interpolation.
+     *
+     * @return returns the start heading.
+     */
+    public double getStartHeading() {
+        return startHeading;
+    }
+
+    /**
+     * This returns the end heading of the linear or constant heading interpolation.
+     *
+     * @return returns the end heading.
+     */
+    public double getEndHeading() {
+        return endHeading;
+    }
+
+    /**
+     * This returns the t-value the linear heading interpolation finishes at.
+     *
+     * @return returns the end time of the linear heading interpolation.
+     */
+    public double getLinearInterpolationEndTime() {
+        return linearInterpolationEndTime;
+    }
+
+    /**
+     * This returns the BezierCurve of this Path.
+     *
+     * @return returns the BezierCurve.
+     */
+    BezierCurve getCurve() {
+        return curve;
+    }
+
+    /**
+     * This returns the precomputed profile tables of this Path, in the order tangent angles,
+     * derivative magnitudes, curvatures and heading goals, or null if they haven't been made.
+     *
+     * @return returns the profile tables.
+     */
+    double[][] getProfileTables() {
+        if (profileCurvatures == null || profileHeadingGoals == null) return null;
+        return new double[][]{profileTangentAngles, profileDerivativeMagnitudes, profileCurvatures, profileHeadingGoals};
+    }
+
+    /**
+     * This sets the precomputed profile tables of this Path, such as ones loaded from a route file,
+     * in the order given by getProfileTables(). This also turns the profile on at their size.
+     *
+     * @param tables the profile tables.
+     */
+    void setProfileTables(double[][] tables) {
+        profileSteps = tables[0].length - 1;
+        profileTangentAngles = tables[0];
+        profileDerivativeMagnitudes = tables[1];
+        profileCurvatures = tables[2];
+        profileHeadingGoals = tables[3];
+    }
+}
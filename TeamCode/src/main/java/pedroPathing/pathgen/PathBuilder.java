@@ -1,13 +1,16 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.pathgen.BezierCurve;
-import com.pedropathing.pathgen.BezierLine;
-import com.pedropathing.pathgen.Path;
-import com.pedropathing.pathgen.PathCallback;
-import com.pedropathing.pathgen.PathChain;
-import com.pedropathing.pathgen.Point;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.pathgen.BezierCurve;
+import pedroPathing.pathgen.BezierLine;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.PathCallback;
+import pedroPathing.pathgen.PathChain;
+import pedroPathing.pathgen.Point;
 
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * This is the PathBuilder class. This class makes it easier to create PathChains, so you don't have
@@ -21,7 +24,7 @@ import java.util.ArrayList;
  * @version 1.0, 3/11/2024
  */
 public class PathBuilder {
-    private ArrayList<com.pedropathing.pathgen.Path> paths = new ArrayList<>();
+    private ArrayList<pedroPathing.pathgen.Path> paths = new ArrayList<>();
 
     private ArrayList<PathCallback> callbacks = new ArrayList<>();
 
@@ -42,7 +45,7 @@ public class PathBuilder {
      * @param path The Path being added.
      * @return This returns itself with the updated data.
      */
-    public PathBuilder addPath(com.pedropathing.pathgen.Path path) {
+    public PathBuilder addPath(pedroPathing.pathgen.Path path) {
         this.paths.add(path);
         return this;
     }
@@ -53,29 +56,35 @@ public class PathBuilder {
      * @param curve The curve is turned into a Path and added.
      * @return This returns itself with the updated data.
      */
-    public PathBuilder addPath(com.pedropathing.pathgen.BezierCurve curve) {
+    public PathBuilder addPath(pedroPathing.pathgen.BezierCurve curve) {
         this.paths.add(new Path(curve));
         return this;
     }
 
     /**
-     * This adds a default Path defined by a specified BezierCurve to the PathBuilder.
+     * This adds a default Path defined by a specified BezierCurve to the PathBuilder. The curve is
+     * generated when the PathChain is built, so building with buildAsync() does it in the background.
      *
      * @param controlPoints This is the specified control points that define the BezierCurve.
      * @return This returns itself with the updated data.
      */
-    public PathBuilder addBezierCurve(com.pedropathing.pathgen.Point... controlPoints) {
-        return addPath(new com.pedropathing.pathgen.BezierCurve(controlPoints));
+    public PathBuilder addBezierCurve(pedroPathing.pathgen.Point... controlPoints) {
+        ArrayList<pedroPathing.pathgen.Point> controlPointList = new ArrayList<>();
+        for (pedroPathing.pathgen.Point controlPoint : controlPoints) {
+            controlPointList.add(controlPoint);
+        }
+        return addBezierCurve(controlPointList);
     }
 
     /**
-     * This adds a default Path defined by a specified BezierCurve to the PathBuilder.
+     * This adds a default Path defined by a specified BezierCurve to the PathBuilder. The curve is
+     * generated when the PathChain is built, so building with buildAsync() does it in the background.
      *
      * @param controlPoints This is the specified control points that define the BezierCurve.
      * @return This returns itself with the updated data.
      */
-    public PathBuilder addBezierCurve(ArrayList<com.pedropathing.pathgen.Point> controlPoints) {
-        return addPath(new BezierCurve(controlPoints));
+    public PathBuilder addBezierCurve(ArrayList<pedroPathing.pathgen.Point> controlPoints) {
+        return addPath(new BezierCurve(controlPoints, false));
     }
 
     /**
@@ -85,7 +94,7 @@ public class PathBuilder {
      * @param endPoint end point of the line.
      * @return This returns itself with the updated data.
      */
-    public PathBuilder addBezierLine(com.pedropathing.pathgen.Point startPoint, Point endPoint) {
+    public PathBuilder addBezierLine(pedroPathing.pathgen.Point startPoint, Point endPoint) {
         return addPath(new BezierLine(startPoint, endPoint));
     }
 
@@ -244,13 +253,41 @@ public class PathBuilder {
     }
 
     /**
-     * This builds all the Path and callback information together into a PathChain.
+     * This builds all the Path and callback information together into a PathChain. This also
+     * generates any curves added through the PathBuilder and precomputes what each Path needs for
+     * following, and if velocity profiles are on in FollowerConstants, makes the PathChain's
+     * VelocityProfile.
      *
      * @return This returns a PathChain made of all the specified paths and callbacks.
      */
-    public com.pedropathing.pathgen.PathChain build() {
-        com.pedropathing.pathgen.PathChain returnChain = new PathChain(paths);
+    public pedroPathing.pathgen.PathChain build() {
+        for (pedroPathing.pathgen.Path path : paths) {
+            path.precompute();
+        }
+        pedroPathing.pathgen.PathChain returnChain = new PathChain(paths);
         returnChain.setCallbacks(callbacks);
+        if (FollowerConstants.useVelocityProfile) returnChain.generateVelocityProfile();
         return returnChain;
     }
+
+    /**
+     * This does the same as build(), but on a background thread, so heavy PathChains can be built
+     * during init without holding up the OpMode. The Paths are precomputed in parallel. The
+     * returned task can be checked with isDone() and waited on with join(), which returns the
+     * PathChain. The PathBuilder and the Paths added to it shouldn't be used until it's done.
+     *
+     * @return This returns a task that gives the PathChain once it's built.
+     */
+    public ForkJoinTask<pedroPathing.pathgen.PathChain> buildAsync() {
+        return ForkJoinPool.commonPool().submit(() -> {
+            ArrayList<ForkJoinTask<?>> precomputeTasks = new ArrayList<>();
+            for (pedroPathing.pathgen.Path path : paths) {
+                precomputeTasks.add(ForkJoinTask.adapt(path::precompute).fork());
+            }
+            for (ForkJoinTask<?> precomputeTask : precomputeTasks) {
+                precomputeTask.join();
+            }
+            return build();
+        });
+    }
 }
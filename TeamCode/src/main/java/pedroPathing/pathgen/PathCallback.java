@@ -1,7 +1,7 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.util.SingleRunAction;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.util.SingleRunAction;
 
 /**
  * This is the PathCallback class. This class handles callbacks of Runnables in PathChains.
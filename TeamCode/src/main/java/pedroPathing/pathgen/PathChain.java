@@ -1,7 +1,7 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.pathgen.Path;
-import com.pedropathing.pathgen.PathCallback;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.PathCallback;
 
 import java.util.ArrayList;
 
@@ -17,9 +17,10 @@ import java.util.ArrayList;
  * @version 1.0, 3/11/2024
  */
 public class PathChain {
-    private ArrayList<com.pedropathing.pathgen.Path> pathChain = new ArrayList<>();
+    private ArrayList<pedroPathing.pathgen.Path> pathChain = new ArrayList<>();
 
     private ArrayList<PathCallback> callbacks = new ArrayList<>();
+    private VelocityProfile velocityProfile;
 
     /**
      * This creates a new PathChain from some specified Paths.
@@ -29,8 +30,8 @@ public class PathChain {
      *
      * @param paths the specified Paths.
      */
-    public PathChain(com.pedropathing.pathgen.Path... paths) {
-        for (com.pedropathing.pathgen.Path path : paths) {
+    public PathChain(pedroPathing.pathgen.Path... paths) {
+        for (pedroPathing.pathgen.Path path : paths) {
             pathChain.add(path);
         }
     }
@@ -43,7 +44,7 @@ public class PathChain {
      *
      * @param paths the ArrayList of Paths.
      */
-    public PathChain(ArrayList<com.pedropathing.pathgen.Path> paths) {
+    public PathChain(ArrayList<pedroPathing.pathgen.Path> paths) {
         pathChain = paths;
     }
 
@@ -95,6 +96,33 @@ public class PathChain {
         return callbacks;
     }
 
+    /**
+     * This makes a VelocityProfile for this PathChain with the limits set in FollowerConstants.
+     * If the Follower is given a PathChain with a VelocityProfile, it drives along the profile.
+     */
+    public void generateVelocityProfile() {
+        velocityProfile = new VelocityProfile(this);
+    }
+
+    /**
+     * This sets the VelocityProfile of this PathChain. Setting this to null makes the Follower
+     * drive the PathChain without a profile.
+     *
+     * @param velocityProfile the VelocityProfile.
+     */
+    public void setVelocityProfile(VelocityProfile velocityProfile) {
+        this.velocityProfile = velocityProfile;
+    }
+
+    /**
+     * This returns the VelocityProfile of this PathChain, or null if it doesn't have one.
+     *
+     * @return returns the VelocityProfile.
+     */
+    public VelocityProfile getVelocityProfile() {
+        return velocityProfile;
+    }
+
     public void resetCallbacks() {
         for (PathCallback callback : callbacks) {
             callback.reset();
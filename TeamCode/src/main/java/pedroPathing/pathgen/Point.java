@@ -2,8 +2,8 @@ package pedroPathing.pathgen;
 
 import androidx.annotation.NonNull;
 
-import com.pedropathing.localization.Pose;
-import com.pedropathing.pathgen.MathFunctions;
+import pedroPathing.localization.Pose;
+import pedroPathing.pathgen.MathFunctions;
 
 /**
  * This is the Point class. This class handles storing information about the location of points in
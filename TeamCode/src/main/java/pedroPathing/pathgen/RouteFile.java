@@ -0,0 +1,557 @@
+package pedroPathing.pathgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import pedroPathing.follower.FollowerConstants;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * This is the RouteFile class. This class handles saving PathChains to files and loading them back,
+ * so routes can be changed without recompiling and don't have to be rebuilt every run.
+ * <p>
+ * There are two formats. The binary format stores everything about the Paths, including the arc
+ * length tables of the curves and any precomputed profile tables, so loading it skips almost all
+ * of the work of building the Paths. It is loaded by memory mapping the file. The JSON format only
+ * stores what defines the Paths, so it's easy to write and edit by hand, but the Paths are built
+ * when it's loaded.
+ * <p>
+ * Callbacks can't store the code they run, so only when they run is saved. When loading, the code
+ * for each callback is passed in, in the order the callbacks were saved in.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class RouteFile {
+    // This is the folder on the Control Hub that route files are kept in by default
+    public static final File ROUTE_FOLDER = new File(AppUtil.FIRST_FOLDER, "routes");
+
+    // These mark the start of a binary route file and the version of the format
+    private static final int MAGIC = 0x50505254;
+    private static final int VERSION = 1;
+
+    // These are the fewest bytes a PathChain, a Path, and a callback take up in a binary route file
+    private static final int PATH_CHAIN_BYTES = 2 * Integer.BYTES;
+    private static final int PATH_BYTES = 2 + 3 * Integer.BYTES + 9 * Double.BYTES;
+    private static final int CALLBACK_BYTES = 1 + Integer.BYTES + Double.BYTES;
+
+    private static final byte POINT = 0;
+    private static final byte LINE = 1;
+    private static final byte CURVE = 2;
+
+    private static final byte TANGENT = 0;
+    private static final byte REVERSED_TANGENT = 1;
+    private static final byte LINEAR = 2;
+
+    private static ObjectMapper objectMapper;
+
+    /**
+     * This returns a file in the route folder with a specified name.
+     *
+     * @param name the name of the file.
+     * @return returns the file.
+     */
+    public static File getFile(String name) {
+        return new File(ROUTE_FOLDER, name);
+    }
+
+    /**
+     * This saves some PathChains to a binary route file. The Paths are precomputed first if they
+     * haven't been, so the file has their arc length tables.
+     *
+     * @param file the file to save to.
+     * @param pathChains the PathChains to save.
+     * @throws IOException if the file can't be written.
+     */
+    public static void write(File file, PathChain... pathChains) throws IOException {
+        File folder = file.getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Could not create the folder " + folder);
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(pathChains.length);
+
+            for (PathChain pathChain : pathChains) {
+                output.writeInt(pathChain.size());
+                for (int i = 0; i < pathChain.size(); i++) {
+                    writePath(output, pathChain.getPath(i));
+                }
+
+                output.writeInt(pathChain.getCallbacks().size());
+                for (PathCallback callback : pathChain.getCallbacks()) {
+                    output.writeByte(callback.getType());
+                    output.writeInt(callback.getIndex());
+                    output.writeDouble(callback.getStartCondition());
+                }
+            }
+        }
+    }
+
+    /**
+     * This writes one Path to a binary route file.
+     *
+     * @param output the stream to write to.
+     * @param path the Path to write.
+     * @throws IOException if the file can't be written.
+     */
+    private static void writePath(DataOutputStream output, Path path) throws IOException {
+        path.precompute();
+
+        output.writeByte(getCurveType(path));
+        ArrayList<Point> controlPoints = path.getControlPoints();
+        output.writeInt(controlPoints.size());
+        for (Point controlPoint : controlPoints) {
+            output.writeDouble(controlPoint.getX());
+            output.writeDouble(controlPoint.getY());
+        }
+
+        output.writeByte(getHeadingInterpolation(path));
+        output.writeDouble(path.getStartHeading());
+        output.writeDouble(path.getEndHeading());
+        output.writeDouble(path.getLinearInterpolationEndTime());
+
+        output.writeDouble(path.getZeroPowerAccelerationMultiplier());
+        output.writeDouble(path.getPathEndVelocityConstraint());
+        output.writeDouble(path.getPathEndTranslationalConstraint());
+        output.writeDouble(path.getPathEndHeadingConstraint());
+        output.writeDouble(path.getPathEndTValueConstraint());
+        output.writeDouble(path.getPathEndTimeoutConstraint());
+
+        double[] arcLengthTable = path.pathType().equals("curve") ? path.getCurve().getArcLengthTable() : null;
+        writeTable(output, arcLengthTable);
+
+        double[][] profileTables = path.getProfileTables();
+        output.writeInt(profileTables == null ? 0 : profileTables.length);
+        if (profileTables != null) {
+            for (double[] table : profileTables) {
+                writeTable(output, table);
+            }
+        }
+    }
+
+    /**
+     * This writes a table of doubles to a binary route file, starting with its length.
+     *
+     * @param output the stream to write to.
+     * @param table the table to write, or null to write an empty table.
+     * @throws IOException if the file can't be written.
+     */
+    private static void writeTable(DataOutputStream output, double[] table) throws IOException {
+        if (table == null) {
+            output.writeInt(0);
+            return;
+        }
+        output.writeInt(table.length);
+        for (double value : table) {
+            output.writeDouble(value);
+        }
+    }
+
+    /**
+     * This loads the PathChains in a binary route file. The file is memory mapped, and the stored
+     * tables are used as they are, so this only has to do a little work for each Path.
+     *
+     * @param file the file to load.
+     * @param callbacks the code to run for each callback, in the order they were saved in. Any
+     *                  callbacks without code do nothing.
+     * @return returns the PathChains in the file.
+     * @throws IOException if the file can't be read or isn't a route file.
+     */
+    public static PathChain[] read(File file, Runnable... callbacks) throws IOException {
+        ByteBuffer buffer;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException(file + " is not a route file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException(file + " has route file version " + version + " but only version " + VERSION + " can be read");
+        }
+
+        try {
+            int callbackIndex = 0;
+            PathChain[] pathChains = new PathChain[readCount(buffer, PATH_CHAIN_BYTES, file)];
+            for (int i = 0; i < pathChains.length; i++) {
+                ArrayList<Path> paths = new ArrayList<>();
+                int pathCount = readCount(buffer, PATH_BYTES, file);
+                for (int j = 0; j < pathCount; j++) {
+                    paths.add(readPath(buffer, file));
+                }
+
+                ArrayList<PathCallback> pathCallbacks = new ArrayList<>();
+                int callbackCount = readCount(buffer, CALLBACK_BYTES, file);
+                for (int j = 0; j < callbackCount; j++) {
+                    int type = buffer.get();
+                    int index = buffer.getInt();
+                    double startCondition = buffer.getDouble();
+                    pathCallbacks.add(new PathCallback(startCondition, getCallback(callbacks, callbackIndex++), type, index));
+                }
+
+                pathChains[i] = newPathChain(paths, pathCallbacks);
+            }
+            return pathChains;
+        } catch (BufferUnderflowException e) {
+            throw new IOException(file + " is corrupt", e);
+        }
+    }
+
+    /**
+     * This reads a count from a binary route file, and checks that the file has room for that many
+     * entries of at least a specified size, so a corrupt count can't make a huge or negative array.
+     *
+     * @param buffer the buffer to read from.
+     * @param minimumBytes the fewest bytes each entry takes up in the file.
+     * @param file the file being read, for the exception message.
+     * @return returns the count.
+     * @throws IOException if the count is negative or more than the rest of the file can hold.
+     */
+    private static int readCount(ByteBuffer buffer, int minimumBytes, File file) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minimumBytes > buffer.remaining()) {
+            throw new IOException(file + " is corrupt");
+        }
+        return count;
+    }
+
+    /**
+     * This reads one Path from a binary route file.
+     *
+     * @param buffer the buffer to read from.
+     * @param file the file being read, for the exception message.
+     * @return returns the Path.
+     * @throws IOException if the Path is corrupt.
+     */
+    private static Path readPath(ByteBuffer buffer, File file) throws IOException {
+        byte curveType = buffer.get();
+        ArrayList<Point> controlPoints = new ArrayList<>();
+        int controlPointCount = readCount(buffer, 2 * Double.BYTES, file);
+        if (controlPointCount < (curveType == POINT ? 1 : curveType == LINE ? 2 : 3)) {
+            throw new IOException(file + " is corrupt");
+        }
+        for (int i = 0; i < controlPointCount; i++) {
+            controlPoints.add(new Point(buffer.getDouble(), buffer.getDouble(), Point.CARTESIAN));
+        }
+
+        byte headingInterpolation = buffer.get();
+        double startHeading = buffer.getDouble();
+        double endHeading = buffer.getDouble();
+        double linearInterpolationEndTime = buffer.getDouble();
+
+        double zeroPowerAccelerationMultiplier = buffer.getDouble();
+        double pathEndVelocityConstraint = buffer.getDouble();
+        double pathEndTranslationalConstraint = buffer.getDouble();
+        double pathEndHeadingConstraint = buffer.getDouble();
+        double pathEndTValueConstraint = buffer.getDouble();
+        double pathEndTimeoutConstraint = buffer.getDouble();
+
+        double[] arcLengthTable = readTable(buffer, file);
+        double[][] profileTables = new double[readCount(buffer, Integer.BYTES, file)][];
+        for (int i = 0; i < profileTables.length; i++) {
+            profileTables[i] = readTable(buffer, file);
+        }
+
+        BezierCurve curve;
+        if (curveType == CURVE && arcLengthTable.length > 0) {
+            curve = new BezierCurve(controlPoints, arcLengthTable);
+        } else {
+            curve = newCurve(curveType, controlPoints);
+        }
+
+        Path path = new Path(curve);
+        setHeadingInterpolation(path, headingInterpolation, startHeading, endHeading, linearInterpolationEndTime);
+        path.setZeroPowerAccelerationMultiplier(zeroPowerAccelerationMultiplier);
+        path.setPathEndVelocityConstraint(pathEndVelocityConstraint);
+        path.setPathEndTranslationalConstraint(pathEndTranslationalConstraint);
+        path.setPathEndHeadingConstraint(pathEndHeadingConstraint);
+        path.setPathEndTValueConstraint(pathEndTValueConstraint);
+        path.setPathEndTimeoutConstraint(pathEndTimeoutConstraint);
+        if (profileTables.length == 4) path.setProfileTables(profileTables);
+        path.precompute();
+        return path;
+    }
+
+    /**
+     * This reads a table of doubles from a binary route file, starting with its length.
+     *
+     * @param buffer the buffer to read from.
+     * @param file the file being read, for the exception message.
+     * @return returns the table, which is empty if no table was stored.
+     * @throws IOException if the table is longer than the rest of the file.
+     */
+    private static double[] readTable(ByteBuffer buffer, File file) throws IOException {
+        double[] table = new double[readCount(buffer, Double.BYTES, file)];
+        buffer.asDoubleBuffer().get(table);
+        buffer.position(buffer.position() + table.length * 8);
+        return table;
+    }
+
+    /**
+     * This saves some PathChains to a JSON route file. Only what defines the Paths is saved, and
+     * headings are in radians.
+     *
+     * @param file the file to save to.
+     * @param pathChains the PathChains to save.
+     * @throws IOException if the file can't be written.
+     */
+    public static void writeJson(File file, PathChain... pathChains) throws IOException {
+        File folder = file.getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Could not create the folder " + folder);
+        }
+
+        ObjectNode root = getObjectMapper().createObjectNode();
+        root.put("version", VERSION);
+        ArrayNode pathChainNodes = root.putArray("pathChains");
+        for (PathChain pathChain : pathChains) {
+            ObjectNode pathChainNode = pathChainNodes.addObject();
+
+            ArrayNode pathNodes = pathChainNode.putArray("paths");
+            for (int i = 0; i < pathChain.size(); i++) {
+                Path path = pathChain.getPath(i);
+                ObjectNode pathNode = pathNodes.addObject();
+                pathNode.put("type", path.pathType());
+
+                ArrayNode controlPointNodes = pathNode.putArray("controlPoints");
+                for (Point controlPoint : path.getControlPoints()) {
+                    controlPointNodes.addArray().add(controlPoint.getX()).add(controlPoint.getY());
+                }
+
+                ObjectNode headingNode = pathNode.putObject("heading");
+                byte headingInterpolation = getHeadingInterpolation(path);
+                headingNode.put("interpolation", headingInterpolation == LINEAR ? "linear" : headingInterpolation == REVERSED_TANGENT ? "reversedTangent" : "tangent");
+                if (headingInterpolation == LINEAR) {
+                    headingNode.put("startHeading", path.getStartHeading());
+                    headingNode.put("endHeading", path.getEndHeading());
+                    headingNode.put("endTime", path.getLinearInterpolationEndTime());
+                }
+
+                pathNode.put("zeroPowerAccelerationMultiplier", path.getZeroPowerAccelerationMultiplier());
+                pathNode.put("pathEndVelocityConstraint", path.getPathEndVelocityConstraint());
+                pathNode.put("pathEndTranslationalConstraint", path.getPathEndTranslationalConstraint());
+                pathNode.put("pathEndHeadingConstraint", path.getPathEndHeadingConstraint());
+                pathNode.put("pathEndTValueConstraint", path.getPathEndTValueConstraint());
+                pathNode.put("pathEndTimeoutConstraint", path.getPathEndTimeoutConstraint());
+            }
+
+            ArrayNode callbackNodes = pathChainNode.putArray("callbacks");
+            for (PathCallback callback : pathChain.getCallbacks()) {
+                ObjectNode callbackNode = callbackNodes.addObject();
+                callbackNode.put("type", callback.getType() == PathCallback.TIME ? "time" : "parametric");
+                callbackNode.put("index", callback.getIndex());
+                callbackNode.put("startCondition", callback.getStartCondition());
+            }
+        }
+
+        getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, root);
+    }
+
+    /**
+     * This loads the PathChains in a JSON route file and builds them. Any end constraints that
+     * aren't in the file are left at their defaults.
+     *
+     * @param file the file to load.
+     * @param callbacks the code to run for each callback, in the order they are in the file. Any
+     *                  callbacks without code do nothing.
+     * @return returns the PathChains in the file.
+     * @throws IOException if the file can't be read or isn't a JSON route file.
+     */
+    public static PathChain[] readJson(File file, Runnable... callbacks) throws IOException {
+        JsonNode root = getObjectMapper().readTree(file);
+        JsonNode pathChainNodes = root.path("pathChains");
+        if (!pathChainNodes.isArray()) {
+            throw new IOException(file + " is not a JSON route file");
+        }
+
+        int callbackIndex = 0;
+        PathChain[] pathChains = new PathChain[pathChainNodes.size()];
+        for (int i = 0; i < pathChains.length; i++) {
+            JsonNode pathChainNode = pathChainNodes.get(i);
+
+            ArrayList<Path> paths = new ArrayList<>();
+            for (JsonNode pathNode : pathChainNode.path("paths")) {
+                ArrayList<Point> controlPoints = new ArrayList<>();
+                for (JsonNode controlPointNode : pathNode.path("controlPoints")) {
+                    controlPoints.add(new Point(controlPointNode.get(0).asDouble(), controlPointNode.get(1).asDouble(), Point.CARTESIAN));
+                }
+
+                byte curveType;
+                switch (pathNode.path("type").asText()) {
+                    case "point":
+                        curveType = POINT;
+                        break;
+                    case "line":
+                        curveType = LINE;
+                        break;
+                    case "curve":
+                        curveType = CURVE;
+                        break;
+                    default:
+                        throw new IOException("Unknown path type \"" + pathNode.path("type").asText() + "\" in " + file);
+                }
+                Path path = new Path(newCurve(curveType, controlPoints));
+
+                JsonNode headingNode = pathNode.path("heading");
+                switch (headingNode.path("interpolation").asText("tangent")) {
+                    case "linear":
+                        setHeadingInterpolation(path, LINEAR, headingNode.path("startHeading").asDouble(),
+                                headingNode.path("endHeading").asDouble(), headingNode.path("endTime").asDouble(1));
+                        break;
+                    case "constant":
+                        path.setConstantHeadingInterpolation(headingNode.path("heading").asDouble());
+                        break;
+                    case "reversedTangent":
+                        path.setReversed(true);
+                        break;
+                    default:
+                        path.setTangentHeadingInterpolation();
+                        break;
+                }
+
+                path.setZeroPowerAccelerationMultiplier(pathNode.path("zeroPowerAccelerationMultiplier").asDouble(path.getZeroPowerAccelerationMultiplier()));
+                path.setPathEndVelocityConstraint(pathNode.path("pathEndVelocityConstraint").asDouble(path.getPathEndVelocityConstraint()));
+                path.setPathEndTranslationalConstraint(pathNode.path("pathEndTranslationalConstraint").asDouble(path.getPathEndTranslationalConstraint()));
+                path.setPathEndHeadingConstraint(pathNode.path("pathEndHeadingConstraint").asDouble(path.getPathEndHeadingConstraint()));
+                path.setPathEndTValueConstraint(pathNode.path("pathEndTValueConstraint").asDouble(path.getPathEndTValueConstraint()));
+                path.setPathEndTimeoutConstraint(pathNode.path("pathEndTimeoutConstraint").asDouble(path.getPathEndTimeoutConstraint()));
+                path.precompute();
+                paths.add(path);
+            }
+
+            ArrayList<PathCallback> pathCallbacks = new ArrayList<>();
+            for (JsonNode callbackNode : pathChainNode.path("callbacks")) {
+                int type = callbackNode.path("type").asText().equals("time") ? PathCallback.TIME : PathCallback.PARAMETRIC;
+                pathCallbacks.add(new PathCallback(callbackNode.path("startCondition").asDouble(), getCallback(callbacks, callbackIndex++), type, callbackNode.path("index").asInt()));
+            }
+
+            pathChains[i] = newPathChain(paths, pathCallbacks);
+        }
+        return pathChains;
+    }
+
+    /**
+     * This makes a new curve of a specified type through some control points.
+     *
+     * @param curveType the type of curve.
+     * @param controlPoints the control points.
+     * @return returns the curve.
+     */
+    private static BezierCurve newCurve(byte curveType, ArrayList<Point> controlPoints) {
+        switch (curveType) {
+            case POINT:
+                return new BezierPoint(controlPoints.get(0));
+            case LINE:
+                return new BezierLine(controlPoints.get(0), controlPoints.get(1));
+            default:
+                return new BezierCurve(controlPoints);
+        }
+    }
+
+    /**
+     * This makes a new PathChain from loaded Paths and callbacks, with a VelocityProfile if
+     * velocity profiles are on.
+     *
+     * @param paths the Paths.
+     * @param callbacks the callbacks.
+     * @return returns the PathChain.
+     */
+    private static PathChain newPathChain(ArrayList<Path> paths, ArrayList<PathCallback> callbacks) {
+        PathChain pathChain = new PathChain(paths);
+        pathChain.setCallbacks(callbacks);
+        if (FollowerConstants.useVelocityProfile) pathChain.generateVelocityProfile();
+        return pathChain;
+    }
+
+    /**
+     * This returns the type of curve a Path follows, as stored in a route file.
+     *
+     * @param path the Path.
+     * @return returns the type of curve.
+     */
+    private static byte getCurveType(Path path) {
+        switch (path.pathType()) {
+            case "point":
+                return POINT;
+            case "line":
+                return LINE;
+            default:
+                return CURVE;
+        }
+    }
+
+    /**
+     * This returns the heading interpolation of a Path, as stored in a route file. Constant
+     * heading interpolation is stored as linear heading interpolation with the same start and end.
+     *
+     * @param path the Path.
+     * @return returns the heading interpolation.
+     */
+    private static byte getHeadingInterpolation(Path path) {
+        if (!path.isTangentHeadingInterpolation()) return LINEAR;
+        return path.isReversed() ? REVERSED_TANGENT : TANGENT;
+    }
+
+    /**
+     * This sets the heading interpolation of a Path from a route file.
+     *
+     * @param path the Path.
+     * @param headingInterpolation the heading interpolation.
+     * @param startHeading the start heading of the linear heading interpolation.
+     * @param endHeading the end heading of the linear heading interpolation.
+     * @param endTime the end time of the linear heading interpolation.
+     */
+    private static void setHeadingInterpolation(Path path, byte headingInterpolation, double startHeading, double endHeading, double endTime) {
+        switch (headingInterpolation) {
+            case LINEAR:
+                path.setLinearHeadingInterpolation(startHeading, endHeading, endTime);
+                break;
+            case REVERSED_TANGENT:
+                path.setReversed(true);
+                break;
+            default:
+                path.setTangentHeadingInterpolation();
+                break;
+        }
+    }
+
+    /**
+     * This returns the code to run for a loaded callback.
+     *
+     * @param callbacks the code passed in for the callbacks.
+     * @param index the index of the callback.
+     * @return returns the code, or code that does nothing if none was passed in for the callback.
+     */
+    private static Runnable getCallback(Runnable[] callbacks, int index) {
+        if (index < callbacks.length && callbacks[index] != null) return callbacks[index];
+        return () -> {};
+    }
+
+    /**
+     * This returns the ObjectMapper used for JSON route files, making it the first time.
+     *
+     * @return returns the ObjectMapper.
+     */
+    private static synchronized ObjectMapper getObjectMapper() {
+        if (objectMapper == null) objectMapper = new ObjectMapper();
+        return objectMapper;
+    }
+}
@@ -1,7 +1,6 @@
 package pedroPathing.pathgen;
 
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Point;
+import pedroPathing.pathgen.MathFunctions;
 
 /**
  * This is the Point class. This class handles storing information about vectors, which are
@@ -19,11 +18,13 @@ public class Vector {
 
     // IMPORTANT NOTE: theta is defined in radians.
     // These are the values of the coordinate defined by this Point, in both polar and
-    // Cartesian systems.
+    // Cartesian systems. The Cartesian components are always kept up to date, and the polar
+    // components are only worked out when they're asked for after a Cartesian change.
     private double magnitude;
     private double theta;
     private double xComponent;
     private double yComponent;
+    private boolean polarUpToDate;
 
     /**
      * This creates a new Vector with zero magnitude and direction.
@@ -32,7 +33,7 @@ public class Vector {
         setComponents(0, 0);
     }
 
-    public Vector(com.pedropathing.pathgen.Point point) {
+    public Vector(pedroPathing.pathgen.Point point) {
         setOrthogonalComponents(point.getX(), point.getY());
     }
 
@@ -53,7 +54,6 @@ public class Vector {
      * @param theta sets the theta value of this Vector.
      */
     public void setComponents(double magnitude, double theta) {
-        double[] orthogonalComponents;
         if (magnitude<0) {
             this.magnitude = -magnitude;
             this.theta = MathFunctions.normalizeAngle(theta+Math.PI);
@@ -61,18 +61,32 @@ public class Vector {
             this.magnitude = magnitude;
             this.theta = MathFunctions.normalizeAngle(theta);
         }
-        orthogonalComponents = com.pedropathing.pathgen.Point.polarToCartesian(magnitude, theta);
-        xComponent = orthogonalComponents[0];
-        yComponent = orthogonalComponents[1];
+        xComponent = magnitude * Math.cos(theta);
+        yComponent = magnitude * Math.sin(theta);
+        polarUpToDate = true;
     }
 
     /**
-     * This sets only the magnitude of the Vector.
+     * This sets only the magnitude of the Vector. Unless the Vector is the zero Vector, this just
+     * scales the Cartesian components, so no trig is needed.
      *
      * @param magnitude sets the magnitude of this Vector.
      */
     public void setMagnitude(double magnitude) {
-        setComponents(magnitude, theta);
+        updatePolarComponents();
+        if (this.magnitude == 0) {
+            setComponents(magnitude, theta);
+            return;
+        }
+        double scaling = magnitude / this.magnitude;
+        xComponent *= scaling;
+        yComponent *= scaling;
+        if (magnitude < 0) {
+            this.magnitude = -magnitude;
+            theta = MathFunctions.normalizeAngle(theta+Math.PI);
+        } else {
+            this.magnitude = magnitude;
+        }
     }
 
     /**
@@ -81,7 +95,7 @@ public class Vector {
      * @param theta sets the angle, or theta value, of this Vector.
      */
     public void setTheta(double theta) {
-        setComponents(magnitude, theta);
+        setComponents(getMagnitude(), theta);
     }
 
     /**
@@ -90,7 +104,12 @@ public class Vector {
      * @param theta2 the angle to be added.
      */
     public void rotateVector(double theta2) {
-        setTheta(theta+theta2);
+        double cos = Math.cos(theta2);
+        double sin = Math.sin(theta2);
+        double rotatedX = xComponent * cos - yComponent * sin;
+        yComponent = xComponent * sin + yComponent * cos;
+        xComponent = rotatedX;
+        if (polarUpToDate) theta = MathFunctions.normalizeAngle(theta+theta2);
     }
 
     /**
@@ -102,12 +121,45 @@ public class Vector {
      * @param yComponent sets the y component of this Vector.
      */
     public void setOrthogonalComponents(double xComponent, double yComponent) {
-        double[] polarComponents;
         this.xComponent = xComponent;
         this.yComponent = yComponent;
-        polarComponents = Point.cartesianToPolar(xComponent, yComponent);
-        magnitude = polarComponents[0];
-        theta = polarComponents[1];
+        polarUpToDate = false;
+    }
+
+    /**
+     * This sets this Vector to be the same as another Vector, without making a new Vector.
+     *
+     * @param vector the Vector to copy.
+     */
+    public void setVector(Vector vector) {
+        xComponent = vector.xComponent;
+        yComponent = vector.yComponent;
+        magnitude = vector.magnitude;
+        theta = vector.theta;
+        polarUpToDate = vector.polarUpToDate;
+    }
+
+    /**
+     * This works out the polar components from the Cartesian components if they've changed since
+     * the polar components were last worked out. This matches Point.cartesianToPolar, but doesn't
+     * make an Array.
+     */
+    private void updatePolarComponents() {
+        if (polarUpToDate) return;
+        if (xComponent == 0) {
+            magnitude = Math.abs(yComponent);
+            theta = yComponent > 0 ? Math.PI / 2 : (3 * Math.PI) / 2;
+        } else {
+            magnitude = Math.sqrt(xComponent * xComponent + yComponent * yComponent);
+            if (xComponent < 0) {
+                theta = Math.PI + Math.atan(yComponent / xComponent);
+            } else if (yComponent > 0) {
+                theta = Math.atan(yComponent / xComponent);
+            } else {
+                theta = (2 * Math.PI) + Math.atan(yComponent / xComponent);
+            }
+        }
+        polarUpToDate = true;
     }
 
     /**
@@ -116,6 +168,7 @@ public class Vector {
      * @return returns the magnitude.
      */
     public double getMagnitude() {
+        updatePolarComponents();
         return magnitude;
     }
 
@@ -125,6 +178,7 @@ public class Vector {
      * @return returns the theta value.
      */
     public double getTheta() {
+        updatePolarComponents();
         return theta;
     }
 
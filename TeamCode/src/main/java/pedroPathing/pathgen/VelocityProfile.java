@@ -0,0 +1,152 @@
+package pedroPathing.pathgen;
+
+import pedroPathing.follower.FollowerConstants;
+
+/**
+ * This is the VelocityProfile class. This class handles the velocity the robot should be going at
+ * along a PathChain, sampled at evenly spaced distances along the whole PathChain. The profile
+ * starts and ends at rest, never goes over a max velocity, speeds up and slows down no faster than
+ * a max acceleration and deceleration, and slows down for curves so the centripetal acceleration
+ * stays under a limit. This is made once, usually when the PathChain is built, so following it
+ * only costs a table lookup each loop.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class VelocityProfile {
+    // This is the distance along the PathChain each Path starts at
+    private final double[] pathStartDistances;
+
+    // These are the profiled velocities at evenly spaced distances along the PathChain
+    private final double[] velocities;
+
+    private final PathChain pathChain;
+    private final double spacing;
+    private final double length;
+
+    /**
+     * This creates a new VelocityProfile for a PathChain with the limits set in FollowerConstants.
+     *
+     * @param pathChain the PathChain.
+     */
+    public VelocityProfile(PathChain pathChain) {
+        this(pathChain, FollowerConstants.profileMaxVelocity, FollowerConstants.profileMaxAcceleration,
+                FollowerConstants.profileMaxDeceleration, FollowerConstants.profileMaxCentripetalAcceleration,
+                FollowerConstants.profileResolution);
+    }
+
+    /**
+     * This creates a new VelocityProfile for a PathChain with specified limits. The velocity is
+     * first set to the lower of the max velocity and the fastest the curvature allows at each
+     * sample, then a forward pass limits how fast it can speed up and a backward pass limits how
+     * fast it has to slow down.
+     *
+     * @param pathChain the PathChain.
+     * @param maxVelocity the max velocity in inches/second.
+     * @param maxAcceleration the max acceleration in inches/second^2.
+     * @param maxDeceleration the max deceleration in inches/second^2, as a positive number.
+     * @param maxCentripetalAcceleration the max centripetal acceleration in inches/second^2.
+     * @param resolution the distance between samples in inches.
+     */
+    public VelocityProfile(PathChain pathChain, double maxVelocity, double maxAcceleration, double maxDeceleration, double maxCentripetalAcceleration, double resolution) {
+        this.pathChain = pathChain;
+
+        pathStartDistances = new double[pathChain.size()];
+        double totalLength = 0;
+        for (int i = 0; i < pathChain.size(); i++) {
+            pathStartDistances[i] = totalLength;
+            totalLength += pathChain.getPath(i).length();
+        }
+        length = totalLength;
+
+        int samples = Math.max(1, (int) Math.ceil(length / resolution));
+        spacing = length / samples;
+        velocities = new double[samples + 1];
+
+        int pathIndex = 0;
+        for (int i = 0; i <= samples; i++) {
+            double distance = i * spacing;
+            while (pathIndex < pathChain.size() - 1 && distance >= pathStartDistances[pathIndex + 1]) {
+                pathIndex++;
+            }
+            Path path = pathChain.getPath(pathIndex);
+            double curvature = Math.abs(path.getCurvature(path.getTAtDistance(distance - pathStartDistances[pathIndex])));
+
+            velocities[i] = maxVelocity;
+            if (curvature > 0 && !Double.isNaN(curvature)) {
+                velocities[i] = Math.min(velocities[i], Math.sqrt(maxCentripetalAcceleration / curvature));
+            }
+        }
+
+        velocities[0] = 0;
+        velocities[samples] = 0;
+
+        for (int i = 1; i <= samples; i++) {
+            velocities[i] = Math.min(velocities[i], Math.sqrt(velocities[i - 1] * velocities[i - 1] + 2 * maxAcceleration * spacing));
+        }
+
+        for (int i = samples - 1; i >= 0; i--) {
+            velocities[i] = Math.min(velocities[i], Math.sqrt(velocities[i + 1] * velocities[i + 1] + 2 * maxDeceleration * spacing));
+        }
+    }
+
+    /**
+     * This returns the distance along the PathChain of a specified t-value on one of its Paths.
+     *
+     * @param pathIndex the index of the Path in the PathChain.
+     * @param t the t-value on that Path.
+     * @return returns the distance along the PathChain.
+     */
+    public double getDistance(int pathIndex, double t) {
+        return pathStartDistances[pathIndex] + pathChain.getPath(pathIndex).getDistanceAtT(t);
+    }
+
+    /**
+     * This returns the profiled velocity at a specified distance along the PathChain.
+     *
+     * @param distance the distance along the PathChain.
+     * @return returns the velocity in inches/second.
+     */
+    public double getVelocity(double distance) {
+        if (spacing == 0) return 0;
+        double index = MathFunctions.clamp(distance, 0, length) / spacing;
+        int lowerIndex = Math.min((int) index, velocities.length - 2);
+        return velocities[lowerIndex] + (index - lowerIndex) * (velocities[lowerIndex + 1] - velocities[lowerIndex]);
+    }
+
+    /**
+     * This returns the profiled acceleration at a specified distance along the PathChain. Between
+     * two samples the acceleration is constant, so this is worked out from the change in the
+     * square of the velocity across the samples around the distance.
+     *
+     * @param distance the distance along the PathChain.
+     * @return returns the acceleration in inches/second^2.
+     */
+    public double getAcceleration(double distance) {
+        if (spacing == 0) return 0;
+        int lowerIndex = Math.min((int) (MathFunctions.clamp(distance, 0, length) / spacing), velocities.length - 2);
+        return (velocities[lowerIndex + 1] * velocities[lowerIndex + 1] - velocities[lowerIndex] * velocities[lowerIndex]) / (2 * spacing);
+    }
+
+    /**
+     * This returns how long driving the whole profile takes.
+     *
+     * @return returns the time in seconds.
+     */
+    public double getTotalTime() {
+        double time = 0;
+        for (int i = 0; i < velocities.length - 1; i++) {
+            double averageVelocity = (velocities[i] + velocities[i + 1]) / 2;
+            if (averageVelocity > 0) time += spacing / averageVelocity;
+        }
+        return time;
+    }
+
+    /**
+     * This returns the length of the PathChain the profile is for.
+     *
+     * @return returns the length in inches.
+     */
+    public double length() {
+        return length;
+    }
+}
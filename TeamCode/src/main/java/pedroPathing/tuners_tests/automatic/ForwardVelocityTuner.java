@@ -1,18 +1,18 @@
 package pedroPathing.tuners_tests.automatic;
 
-import static com.pedropathing.follower.FollowerConstants.leftFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.leftRearMotorName;
-import static com.pedropathing.follower.FollowerConstants.rightFrontMotorName;
-import static com.pedropathing.follower.FollowerConstants.rightRearMotorName;
-import static com.pedropathing.follower.FollowerConstants.leftFrontMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.leftRearMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.rightFrontMotorDirection;
-import static com.pedropathing.follower.FollowerConstants.rightRearMotorDirection;
+import static pedroPathing.follower.FollowerConstants.leftFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.leftRearMotorName;
+import static pedroPathing.follower.FollowerConstants.rightFrontMotorName;
+import static pedroPathing.follower.FollowerConstants.rightRearMotorName;
+import static pedroPathing.follower.FollowerConstants.leftFrontMotorDirection;
+import static pedroPathing.follower.FollowerConstants.leftRearMotorDirection;
+import static pedroPathing.follower.FollowerConstants.rightFrontMotorDirection;
+import static pedroPathing.follower.FollowerConstants.rightRearMotorDirection;
 
 import com.acmerobotics.dashboard.FtcDashboard;
 import com.acmerobotics.dashboard.config.Config;
 import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
-import com.pedropathing.util.Constants;
+import pedroPathing.util.Constants;
 import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
 import com.qualcomm.robotcore.eventloop.opmode.OpMode;
 import com.qualcomm.robotcore.hardware.DcMotor;
@@ -20,9 +20,9 @@ import com.qualcomm.robotcore.hardware.DcMotorEx;
 import com.qualcomm.robotcore.hardware.configuration.typecontainers.MotorConfigurationType;
 
 import org.firstinspires.ftc.robotcore.external.Telemetry;
-import com.pedropathing.localization.PoseUpdater;
-import com.pedropathing.pathgen.MathFunctions;
-import com.pedropathing.pathgen.Vector;
+import pedroPathing.localization.PoseUpdater;
+import pedroPathing.pathgen.MathFunctions;
+import pedroPathing.pathgen.Vector;
 
 import java.util.ArrayList;
 import java.util.Arrays;
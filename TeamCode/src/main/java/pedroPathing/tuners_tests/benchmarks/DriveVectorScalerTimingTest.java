@@ -0,0 +1,125 @@
+package pedroPathing.tuners_tests.benchmarks;
+
+import com.acmerobotics.dashboard.FtcDashboard;
+import com.acmerobotics.dashboard.config.Config;
+import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
+import com.qualcomm.robotcore.eventloop.opmode.OpMode;
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+import pedroPathing.constants.FConstants;
+import pedroPathing.constants.LConstants;
+import pedroPathing.follower.DriveVectorScaler;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.pathgen.Vector;
+import pedroPathing.util.Constants;
+
+/**
+ * This is the DriveVectorScalerTimingTest OpMode. This times DriveVectorScaler.getDrivePowers on
+ * the Control Hub, which is run once every Follower update. No hardware is used, so this can be run
+ * on any robot. Press start to run the benchmark again.
+ *
+ * @version 1.0, 10/18/2026
+ */
+@Config
+@TeleOp(name = "Drive Vector Scaler Timing Test", group = "Teleop Test")
+public class DriveVectorScalerTimingTest extends OpMode {
+    public static int WARMUP_CALLS = 20000;
+    public static int TIMED_CALLS = 100000;
+
+    private Telemetry telemetryA;
+    private DriveVectorScaler driveVectorScaler;
+
+    // These are the inputs, which are cycled through so every saturation case gets timed
+    private Vector[] correctivePowers;
+    private Vector[] headingPowers;
+    private Vector[] pathingPowers;
+
+    private double nanosecondsPerCall;
+    private double result;
+
+    /**
+     * This initializes the DriveVectorScaler and the inputs, then runs the benchmark.
+     */
+    @Override
+    public void init() {
+        Constants.setConstants(FConstants.class, LConstants.class);
+        driveVectorScaler = new DriveVectorScaler(FollowerConstants.frontLeftVector);
+
+        correctivePowers = new Vector[]{new Vector(0.1, 0.3), new Vector(1, 2.0), new Vector(0.4, 4.1), new Vector()};
+        headingPowers = new Vector[]{new Vector(0.2, 1.1), new Vector(0.9, 5.2), new Vector(-0.3, 0.4), new Vector(0.05, 2.2)};
+        pathingPowers = new Vector[]{new Vector(1, 0.7), new Vector(0.3, 3.3), new Vector(1, 6.0), new Vector(0.6, 1.6)};
+
+        telemetryA = new MultipleTelemetry(this.telemetry, FtcDashboard.getInstance().getTelemetry());
+        runBenchmark();
+        showResults();
+    }
+
+    /**
+     * This shows the results while waiting for start.
+     */
+    @Override
+    public void init_loop() {
+        showResults();
+    }
+
+    /**
+     * This runs the benchmark again when start is pressed.
+     */
+    @Override
+    public void start() {
+        runBenchmark();
+    }
+
+    /**
+     * This shows the results.
+     */
+    @Override
+    public void loop() {
+        showResults();
+    }
+
+    /**
+     * This calls getDrivePowers WARMUP_CALLS times so it gets compiled, then times TIMED_CALLS
+     * calls.
+     */
+    private void runBenchmark() {
+        double sum = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sum += callDrivePowers(i);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < TIMED_CALLS; i++) {
+            sum += callDrivePowers(i);
+        }
+        nanosecondsPerCall = (double) (System.nanoTime() - startTime) / TIMED_CALLS;
+
+        // this is kept so the calls can't be optimized away
+        result = sum;
+    }
+
+    /**
+     * This calls getDrivePowers with one of the sets of inputs and a changing heading.
+     *
+     * @param i the number of the call.
+     * @return returns the first wheel power.
+     */
+    private double callDrivePowers(int i) {
+        int index = i & 3;
+        return driveVectorScaler.getDrivePowers(correctivePowers[index], headingPowers[index], pathingPowers[index], i * 0.001)[0];
+    }
+
+    /**
+     * This shows the per call cost on telemetry.
+     */
+    private void showResults() {
+        telemetryA.addData("timed calls", TIMED_CALLS);
+        telemetryA.addData("nanoseconds per call", nanosecondsPerCall);
+        telemetryA.addData("microseconds per call", nanosecondsPerCall / 1000);
+        telemetryA.addData("checksum", result);
+        telemetryA.addLine("Press start to run the benchmark again.");
+        telemetryA.update();
+    }
+}
@@ -3,15 +3,15 @@ package pedroPathing.tuners_tests.pid;
 import com.acmerobotics.dashboard.FtcDashboard;
 import com.acmerobotics.dashboard.config.Config;
 import com.acmerobotics.dashboard.telemetry.MultipleTelemetry;
-import com.pedropathing.util.Constants;
+import pedroPathing.util.Constants;
 import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
 import com.qualcomm.robotcore.eventloop.opmode.OpMode;
 
 import org.firstinspires.ftc.robotcore.external.Telemetry;
-import com.pedropathing.follower.Follower;
-import com.pedropathing.pathgen.BezierLine;
-import com.pedropathing.pathgen.Path;
-import com.pedropathing.pathgen.Point;
+import pedroPathing.follower.Follower;
+import pedroPathing.pathgen.BezierLine;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.Point;
 
 import pedroPathing.constants.FConstants;
 import pedroPathing.constants.LConstants;
@@ -85,4 +85,12 @@ public class StraightBackAndForth extends OpMode {
         telemetryA.addData("going forward", forward);
         follower.telemetryDebug(telemetryA);
     }
+
+    /**
+     * This stops the Follower's background threads, so its flight record is written and closed.
+     */
+    @Override
+    public void stop() {
+        follower.stop();
+    }
 }
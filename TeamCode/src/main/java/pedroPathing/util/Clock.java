@@ -0,0 +1,22 @@
+package pedroPathing.util;
+
+/**
+ * This is the Clock interface. This is where the PIDFs, timers, PoseUpdater, and localizers get the
+ * time from, so the Follower can give them all the same time each update, and a simulation can give
+ * them a VirtualClock instead of the real time.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public interface Clock {
+    /**
+     * This is the real time, from System.nanoTime().
+     */
+    Clock SYSTEM = System::nanoTime;
+
+    /**
+     * This returns the current time. Only the difference between two times means anything.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    long nanoTime();
+}
@@ -2,7 +2,7 @@ package pedroPathing.util;
 
 import androidx.annotation.NonNull;
 
-import com.pedropathing.util.FeedForwardConstant;
+import pedroPathing.util.FeedForwardConstant;
 
 import kotlin.jvm.JvmField;
 
@@ -23,7 +23,7 @@ public class CustomFilteredPIDFCoefficients {
     public double T;
     public double F;
 
-    public com.pedropathing.util.FeedForwardConstant feedForwardConstantEquation;
+    public pedroPathing.util.FeedForwardConstant feedForwardConstantEquation;
 
     private boolean usingEquation;
 
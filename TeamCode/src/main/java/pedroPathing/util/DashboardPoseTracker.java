@@ -1,76 +1,111 @@
 package pedroPathing.util;
 
-import com.pedropathing.follower.Follower;
-import com.pedropathing.localization.PoseUpdater;
-
-import java.util.ArrayList;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.PoseHistory;
+import pedroPathing.localization.PoseUpdater;
+import pedroPathing.pathgen.Vector;
 
 /**
  * This is the DashboardPoseTracker class. This tracks the pose history of the robot through a
  * PoseUpdater, adding to the pose history at specified increments of time and storing the history
- * for a specified length of time.
+ * for a specified length of time. The history is kept in a PoseHistory, with the time and velocity
+ * of every pose, so it can be used for more than drawing, like finding where the robot was when a
+ * camera frame was taken.
+ * <p>
+ * The times are from the PoseUpdater's Clock, so they line up with the Follower's loop clock.
  *
  * @author Anyi Lin - 10158 Scott's Bots
  * @version 1.0, 5/13/2024
  */
 public class DashboardPoseTracker {
-    private double[] xPositions;
-    private double[] yPositions;
-    private PoseUpdater poseUpdater;
+    private final PoseHistory poseHistory;
+    private final PoseUpdater poseUpdater;
+    private final long updatePeriod;
+    private final Vector velocity = new Vector();
+    private final Pose pose = new Pose();
     private long lastUpdateTime;
-    private final int TRACKING_LENGTH = 1500;
-    private final long UPDATE_TIME = 50;
-    private final int TRACKING_SIZE = TRACKING_LENGTH / (int) UPDATE_TIME;
+
+    // These are only filled in when the pose history is asked for as arrays
+    private final double[] xPositions;
+    private final double[] yPositions;
 
     /**
-     * This creates a new DashboardPoseTracker from a PoseUpdater.
+     * This creates a new DashboardPoseTracker from a PoseUpdater, keeping poseHistoryCapacity poses
+     * poseHistoryPeriodMilliseconds apart.
      *
      * @param poseUpdater the PoseUpdater
      */
     public DashboardPoseTracker(PoseUpdater poseUpdater) {
-        this.poseUpdater = poseUpdater;
-        xPositions = new double[TRACKING_SIZE];
-        yPositions = new double[TRACKING_SIZE];
+        this(poseUpdater, FollowerConstants.poseHistoryCapacity, FollowerConstants.poseHistoryPeriodMilliseconds);
+    }
 
-        for (int i = 0; i < TRACKING_SIZE; i++) {
-            xPositions[i] = poseUpdater.getPose().getX();
-            yPositions[i] = poseUpdater.getPose().getY();
-        }
+    /**
+     * This creates a new DashboardPoseTracker from a PoseUpdater.
+     *
+     * @param poseUpdater the PoseUpdater
+     * @param capacity the most poses kept
+     * @param periodMilliseconds the time between poses, in milliseconds
+     */
+    public DashboardPoseTracker(PoseUpdater poseUpdater, int capacity, double periodMilliseconds) {
+        this.poseUpdater = poseUpdater;
+        poseHistory = new PoseHistory(capacity);
+        updatePeriod = (long) (periodMilliseconds * 1e6);
+        xPositions = new double[capacity];
+        yPositions = new double[capacity];
 
-        lastUpdateTime = System.currentTimeMillis() - UPDATE_TIME;
+        lastUpdateTime = poseUpdater.getPoseTime();
+        addPose();
     }
 
     /**
      * This updates the DashboardPoseTracker. When the specified update time has passed from the last
-     * pose history log, another pose can be logged. The least recent log is also removed.
+     * pose history log, another pose is logged, writing over the oldest once the history is full.
      */
     public void update() {
-        if (System.currentTimeMillis() - lastUpdateTime > UPDATE_TIME) {
-            lastUpdateTime = System.currentTimeMillis();
-            for (int i = TRACKING_SIZE - 1; i > 0; i--) {
-                xPositions[i] = xPositions[i - 1];
-                yPositions[i] = yPositions[i - 1];
-            }
-            xPositions[0] = poseUpdater.getPose().getX();
-            yPositions[0] = poseUpdater.getPose().getY();
+        long now = poseUpdater.getPoseTime();
+        if (now - lastUpdateTime > updatePeriod) {
+            lastUpdateTime = now;
+            addPose();
         }
     }
 
     /**
-     * This returns the x positions of the pose history as an Array of doubles.
+     * This adds the current pose and velocity from the PoseUpdater to the pose history.
+     */
+    private void addPose() {
+        poseUpdater.getPose(pose);
+        poseUpdater.getVelocity(velocity);
+        poseHistory.add(poseUpdater.getPoseTime(), pose.getX(), pose.getY(), pose.getHeading(),
+                velocity.getXComponent(), velocity.getYComponent(), poseUpdater.getAngularVelocity());
+    }
+
+    /**
+     * This returns the PoseHistory the poses are kept in.
+     *
+     * @return returns the PoseHistory
+     */
+    public PoseHistory getPoseHistory() {
+        return poseHistory;
+    }
+
+    /**
+     * This returns the x positions of the pose history as an Array of doubles, newest first.
      *
      * @return returns the x positions of the pose history
      */
     public double[] getXPositionsArray() {
+        poseHistory.copyPositions(xPositions, yPositions);
         return xPositions;
     }
 
     /**
-     * This returns the y positions of the pose history as an Array of doubles.
+     * This returns the y positions of the pose history as an Array of doubles, newest first.
      *
      * @return returns the y positions of the pose history
      */
     public double[] getYPositionsArray() {
+        poseHistory.copyPositions(xPositions, yPositions);
         return yPositions;
     }
 }
@@ -0,0 +1,238 @@
+package pedroPathing.util;
+
+import com.acmerobotics.dashboard.FtcDashboard;
+import com.acmerobotics.dashboard.canvas.Canvas;
+import com.acmerobotics.dashboard.telemetry.TelemetryPacket;
+
+import java.util.concurrent.locks.LockSupport;
+
+import pedroPathing.follower.Follower;
+import pedroPathing.follower.FollowerConstants;
+import pedroPathing.localization.Pose;
+import pedroPathing.localization.PoseHistory;
+import pedroPathing.pathgen.Path;
+import pedroPathing.pathgen.Point;
+
+/**
+ * This is the DashboardPublisher class. This draws the same things as Drawing.drawDebug, the current
+ * Path, the closest point on it, the pose history and the robot, but only the copying happens in the
+ * control loop. A background thread builds the TelemetryPacket and sends it to FTC Dashboard at
+ * dashboardPublishRate, so serializing the field overlay and sending it over Wi-Fi never slows the
+ * loop down.
+ * <p>
+ * The control loop copies the pose, the pose history, and which Path is being followed into a frame
+ * at most dashboardPublishRate times a second, and every other call to publish only checks the time.
+ * The frames are swapped between the control loop, the background thread, and a shared frame in
+ * between under a lock that's only held for the swap, so neither side waits on the other and nothing
+ * is allocated. The Path itself is never copied. Its drawing points are made once when the Path is
+ * made, and the background thread only looks them up again when the Path changes.
+ * <p>
+ * The background thread is started by the first publish. Like the FlightRecorder, starting a new
+ * DashboardPublisher stops any other one, so one left running by the last OpMode doesn't keep
+ * sending.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class DashboardPublisher implements Runnable {
+    public static final String PATH_COLOR = "#3F51B5";
+    public static final String ROBOT_COLOR = "#4CAF50";
+
+    private static DashboardPublisher activePublisher;
+
+    private final Object lock = new Object();
+
+    // These are the frames, which are swapped instead of copied
+    private Frame controlFrame = new Frame();
+    private Frame sharedFrame = new Frame();
+    private Frame sendFrame = new Frame();
+    private boolean sharedFrameIsNew;
+
+    private long lastPublishTime;
+
+    // These are only used by the background thread
+    private Path drawnPath;
+    private double[][] drawnPathPoints;
+
+    private Thread thread;
+    private volatile boolean running;
+    private volatile long sentCount;
+
+    /**
+     * This copies what the Follower is doing into a frame for the background thread to send, if
+     * enough time has passed since the last frame. This is run from the control loop, and starts the
+     * background thread the first time.
+     *
+     * @param follower the Follower to draw.
+     */
+    public void publish(Follower follower) {
+        long now = System.nanoTime();
+        if (thread != null && now - lastPublishTime < getPublishPeriod()) return;
+        lastPublishTime = now;
+
+        Frame frame = controlFrame;
+        Pose pose = follower.getPose();
+        frame.x = pose.getX();
+        frame.y = pose.getY();
+        frame.heading = pose.getHeading();
+
+        frame.path = follower.getCurrentPath();
+        if (frame.path != null) frame.closestPointTValue = frame.path.getClosestPointTValue();
+
+        frame.setHistory(follower.getDashboardPoseTracker().getPoseHistory());
+
+        synchronized (lock) {
+            controlFrame = sharedFrame;
+            sharedFrame = frame;
+            sharedFrameIsNew = true;
+        }
+
+        if (thread == null) start();
+    }
+
+    /**
+     * This starts the background thread, stopping any other DashboardPublisher first.
+     */
+    private void start() {
+        synchronized (DashboardPublisher.class) {
+            if (activePublisher != null && activePublisher != this) {
+                activePublisher.stop();
+            }
+            activePublisher = this;
+        }
+
+        running = true;
+        thread = new Thread(this, "DashboardPublisher");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * This sends the newest frame every publish period until stopped.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            boolean isNew;
+            synchronized (lock) {
+                isNew = sharedFrameIsNew;
+                if (isNew) {
+                    Frame frame = sendFrame;
+                    sendFrame = sharedFrame;
+                    sharedFrame = frame;
+                    sharedFrameIsNew = false;
+                }
+            }
+
+            if (isNew) {
+                FtcDashboard.getInstance().sendTelemetryPacket(buildPacket(sendFrame));
+                sentCount++;
+            }
+
+            LockSupport.parkNanos(this, getPublishPeriod());
+        }
+    }
+
+    /**
+     * This builds the TelemetryPacket for a frame.
+     *
+     * @param frame the frame.
+     * @return returns the TelemetryPacket.
+     */
+    private TelemetryPacket buildPacket(Frame frame) {
+        TelemetryPacket packet = new TelemetryPacket();
+        Canvas canvas = packet.fieldOverlay();
+
+        if (frame.path != null) {
+            if (frame.path != drawnPath) {
+                drawnPath = frame.path;
+                drawnPathPoints = drawnPath.getDashboardDrawingPoints();
+            }
+
+            canvas.setStroke(PATH_COLOR);
+            Drawing.drawPath(canvas, drawnPathPoints);
+            Point closestPoint = frame.path.getPoint(frame.closestPointTValue);
+            Drawing.drawRobotOnCanvas(canvas, new Pose(closestPoint.getX(), closestPoint.getY(), frame.path.getHeadingGoal(frame.closestPointTValue)));
+        }
+
+        canvas.setStroke(ROBOT_COLOR);
+        canvas.strokePolyline(frame.historyX, frame.historyY);
+        Drawing.drawRobotOnCanvas(canvas, new Pose(frame.x, frame.y, frame.heading));
+        return packet;
+    }
+
+    /**
+     * This stops the background thread. A frame that hasn't been sent yet isn't sent.
+     */
+    public void stop() {
+        Thread publisherThread = thread;
+        if (publisherThread == null) return;
+        running = false;
+        LockSupport.unpark(publisherThread);
+        try {
+            publisherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        synchronized (DashboardPublisher.class) {
+            if (activePublisher == this) activePublisher = null;
+        }
+    }
+
+    /**
+     * This returns the time between frames from dashboardPublishRate.
+     *
+     * @return returns the time between frames in nanoseconds.
+     */
+    private static long getPublishPeriod() {
+        return (long) (1e9 / Math.max(FollowerConstants.dashboardPublishRate, 0.1));
+    }
+
+    /**
+     * This returns if the background thread is sending frames.
+     *
+     * @return returns if the DashboardPublisher is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * This returns the number of frames sent to FTC Dashboard.
+     *
+     * @return returns the number of frames sent.
+     */
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * This is one frame of what's drawn, the robot's pose, the Path and closest point, and the pose
+     * history.
+     */
+    private static class Frame {
+        private double x;
+        private double y;
+        private double heading;
+        private Path path;
+        private double closestPointTValue;
+        private double[] historyX = new double[0];
+        private double[] historyY = new double[0];
+
+        /**
+         * This copies the positions from a pose history into the frame, only allocating if its
+         * capacity changed.
+         *
+         * @param poseHistory the pose history.
+         */
+        private void setHistory(PoseHistory poseHistory) {
+            if (historyX.length != poseHistory.getCapacity()) {
+                historyX = new double[poseHistory.getCapacity()];
+                historyY = new double[poseHistory.getCapacity()];
+            }
+            poseHistory.copyPositions(historyX, historyY);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package pedroPathing.util;
 
-import com.pedropathing.util.CustomFilteredPIDFCoefficients;
+import pedroPathing.util.CustomFilteredPIDFCoefficients;
 
 /**
  * This is the FilteredPIDFController class. This class handles the running of filtered filtered PIDFs. This
@@ -23,6 +23,7 @@ public class FilteredPIDFController {
     private double filteredDerivative;
     private double feedForwardInput;
 
+    private Clock clock = Clock.SYSTEM;
     private long previousUpdateTimeNano;
     private long deltaTimeNano;
 
@@ -49,6 +50,8 @@ public class FilteredPIDFController {
      * This can be used to update the filtered PIDF's current position when inputting a current position and
      * a target position to calculate error. This will update the error from the current position to
      * the target position specified.
+     * If no time has passed since the last update, like a second update in the same loop, the
+     * integral and derivative aren't changed.
      *
      * @param update This is the current position.
      */
@@ -57,18 +60,23 @@ public class FilteredPIDFController {
         previousError = error;
         error = targetPosition - position;
 
-        deltaTimeNano = System.nanoTime() - previousUpdateTimeNano;
-        previousUpdateTimeNano = System.nanoTime();
+        long now = clock.nanoTime();
+        deltaTimeNano = now - previousUpdateTimeNano;
+        previousUpdateTimeNano = now;
+        if (deltaTimeNano <= 0) return;
+        double deltaTimeSeconds = deltaTimeNano / 1e9;
 
-        errorIntegral += error * (deltaTimeNano / Math.pow(10.0, 9));
+        errorIntegral += error * deltaTimeSeconds;
         previousDerivative = filteredDerivative;
-        errorDerivative = (error - previousError) / (deltaTimeNano / Math.pow(10.0, 9));
+        errorDerivative = (error - previousError) / deltaTimeSeconds;
         filteredDerivative = T() * previousDerivative + (1 - T()) * errorDerivative;
     }
 
     /**
      * As opposed to updating position against a target position, this just sets the error to some
      * specified value.
+     * If no time has passed since the last update, like a second update in the same loop, the
+     * integral and derivative aren't changed.
      *
      * @param error The error specified.
      */
@@ -76,12 +84,15 @@ public class FilteredPIDFController {
         previousError = this.error;
         this.error = error;
 
-        deltaTimeNano = System.nanoTime() - previousUpdateTimeNano;
-        previousUpdateTimeNano = System.nanoTime();
+        long now = clock.nanoTime();
+        deltaTimeNano = now - previousUpdateTimeNano;
+        previousUpdateTimeNano = now;
+        if (deltaTimeNano <= 0) return;
+        double deltaTimeSeconds = deltaTimeNano / 1e9;
 
-        errorIntegral += error * (deltaTimeNano / Math.pow(10.0, 9));
+        errorIntegral += error * deltaTimeSeconds;
         previousDerivative = errorDerivative;
-        errorDerivative = (error - previousError) / (deltaTimeNano / Math.pow(10.0, 9));
+        errorDerivative = (error - previousError) / deltaTimeSeconds;
         filteredDerivative = T() * previousDerivative + (1 - T()) * errorDerivative;
     }
 
@@ -106,7 +117,17 @@ public class FilteredPIDFController {
         errorDerivative = 0;
         previousDerivative = 0;
         filteredDerivative = 0;
-        previousUpdateTimeNano = System.nanoTime();
+        previousUpdateTimeNano = clock.nanoTime();
+    }
+
+    /**
+     * This sets the Clock the time between updates is read from, and restarts the time from now.
+     *
+     * @param clock the Clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        previousUpdateTimeNano = clock.nanoTime();
     }
 
     /**
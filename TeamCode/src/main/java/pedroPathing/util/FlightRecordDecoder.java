@@ -0,0 +1,144 @@
+package pedroPathing.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is the FlightRecordDecoder class. This turns a binary flight record file written by a
+ * FlightRecorder into a CSV file, with one row per record. The columns are the time in seconds
+ * since the first record, the raw timestamp, a column for each flag, and a column for each field.
+ * <p>
+ * This doesn't use anything from the FTC SDK, so it can be run on a computer after copying the
+ * flight records off the Control Hub:
+ * <pre>
+ * java pedroPathing.util.FlightRecordDecoder flight-20261018-120000.bin [output.csv]
+ * </pre>
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class FlightRecordDecoder {
+    /**
+     * This decodes the flight record files given as arguments. If a second file isn't given, the
+     * CSV file is written next to the flight record with the same name.
+     *
+     * @param args the flight record file, and optionally the CSV file.
+     * @throws IOException if a file can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: FlightRecordDecoder <flight record> [csv file]");
+            return;
+        }
+
+        File input = new File(args[0]);
+        File output;
+        if (args.length > 1) {
+            output = new File(args[1]);
+        } else {
+            String name = input.getName();
+            int extension = name.lastIndexOf('.');
+            output = new File(input.getParentFile(), (extension > 0 ? name.substring(0, extension) : name) + ".csv");
+        }
+
+        long records = decodeToCsv(input, output);
+        System.out.println("Decoded " + records + " records to " + output);
+    }
+
+    /**
+     * This decodes a flight record file into a CSV file. If the flight record ends partway through
+     * a record, like if the robot lost power, the partial record is left out.
+     *
+     * @param input the flight record file.
+     * @param output the CSV file.
+     * @return returns the number of records decoded.
+     * @throws IOException if a file can't be read or written, or the flight record isn't valid.
+     */
+    public static long decodeToCsv(File input, File output) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(input)));
+             Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8))) {
+            if (in.readInt() != FlightRecorder.MAGIC) {
+                throw new IOException(input + " is not a flight record");
+            }
+            int version = in.readInt();
+            if (version != FlightRecorder.VERSION) {
+                throw new IOException("Unsupported flight record version " + version);
+            }
+
+            String[] fieldNames = readNames(in);
+            String[] flagNames = readNames(in);
+
+            StringBuilder line = new StringBuilder("time,timestamp");
+            for (String name : flagNames) {
+                line.append(',').append(name);
+            }
+            for (String name : fieldNames) {
+                line.append(',').append(name);
+            }
+            out.write(line.append('\n').toString());
+
+            float[] values = new float[fieldNames.length];
+            long firstTimestamp = 0;
+            long records = 0;
+
+            while (true) {
+                long timestamp;
+                int flags;
+                try {
+                    timestamp = in.readLong();
+                    flags = in.readInt();
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = in.readFloat();
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+
+                if (records == 0) firstTimestamp = timestamp;
+                records++;
+
+                line.setLength(0);
+                line.append((timestamp - firstTimestamp) / 1e9).append(',').append(timestamp);
+                for (int i = 0; i < flagNames.length; i++) {
+                    line.append(',').append((flags >>> i) & 1);
+                }
+                for (float value : values) {
+                    line.append(',').append(value);
+                }
+                out.write(line.append('\n').toString());
+            }
+
+            return records;
+        }
+    }
+
+    /**
+     * This reads a count and then that many names, each as a length in bytes and then its bytes.
+     *
+     * @param in the stream to read from.
+     * @return returns the names.
+     * @throws IOException if the names can't be read.
+     */
+    private static String[] readNames(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > 1024) {
+            throw new IOException("Invalid flight record header");
+        }
+
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[in.readUnsignedShort()];
+            in.readFully(bytes);
+            names[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+}
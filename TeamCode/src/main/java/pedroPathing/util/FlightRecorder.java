@@ -0,0 +1,356 @@
+package pedroPathing.util;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This is the FlightRecorder class. This records one fixed size record of the Follower's state
+ * every update into a ring buffer that's made when the FlightRecorder is made, so recording never
+ * allocates, formats a String, or waits on anything. A background thread takes the records out of
+ * the ring buffer and writes them to a binary file on the Control Hub, which can be turned into a
+ * CSV file afterwards with the FlightRecordDecoder.
+ * <p>
+ * Only one thread may record, and only the background thread takes records out, so the ring buffer
+ * only needs two sequence numbers to be shared between them. If the background thread falls so far
+ * behind that the ring buffer is full, new records are dropped and counted instead of waiting.
+ * <p>
+ * A binary flight record file starts with MAGIC, VERSION, the number and names of the fields, and
+ * the number and names of the flags, so the FlightRecordDecoder doesn't depend on this version of
+ * the record. Each record after that is the timestamp from System.nanoTime() as a long, the flags as
+ * an int, and then each field as a float. Everything is big-endian.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class FlightRecorder implements Runnable {
+    // This is the folder on the Control Hub that flight records are kept in by default
+    public static final File FLIGHT_RECORD_FOLDER = new File(AppUtil.FIRST_FOLDER, "flightrecords");
+
+    // These mark the start of a flight record file and the version of the format
+    public static final int MAGIC = 0x50504652;
+    public static final int VERSION = 1;
+
+    // These are the fields of a record
+    public static final int X = 0;
+    public static final int Y = 1;
+    public static final int HEADING = 2;
+    public static final int VELOCITY_X = 3;
+    public static final int VELOCITY_Y = 4;
+    public static final int T_VALUE = 5;
+    public static final int PATH_NUMBER = 6;
+    public static final int DRIVE_ERROR = 7;
+    public static final int HEADING_ERROR = 8;
+    public static final int TRANSLATIONAL_X = 9;
+    public static final int TRANSLATIONAL_Y = 10;
+    public static final int CENTRIPETAL_X = 11;
+    public static final int CENTRIPETAL_Y = 12;
+    public static final int HEADING_POWER = 13;
+    public static final int DRIVE_X = 14;
+    public static final int DRIVE_Y = 15;
+    public static final int LEFT_FRONT_POWER = 16;
+    public static final int LEFT_REAR_POWER = 17;
+    public static final int RIGHT_FRONT_POWER = 18;
+    public static final int RIGHT_REAR_POWER = 19;
+    public static final int FIELD_COUNT = 20;
+
+    public static final String[] FIELD_NAMES = {"x", "y", "heading", "velocity_x", "velocity_y",
+            "t_value", "path_number", "drive_error", "heading_error", "translational_x",
+            "translational_y", "centripetal_x", "centripetal_y", "heading_power", "drive_x",
+            "drive_y", "left_front_power", "left_rear_power", "right_front_power", "right_rear_power"};
+
+    // These are the flags of a record
+    public static final int FLAG_BUSY = 1;
+    public static final int FLAG_HOLDING = 1 << 1;
+    public static final int FLAG_TELEOP = 1 << 2;
+    public static final int FLAG_TURNING = 1 << 3;
+    public static final int FLAG_STUCK = 1 << 4;
+    public static final int FLAG_NEXT_PATH = 1 << 5;
+    public static final int FLAG_PATH_END = 1 << 6;
+
+    public static final String[] FLAG_NAMES = {"busy", "holding", "teleop", "turning", "stuck",
+            "next_path", "path_end"};
+
+    private static final int RECORD_BYTES = 8 + 4 + 4 * FIELD_COUNT;
+    private static final long DRAIN_PERIOD = 50_000_000;
+    private static final String FILE_PREFIX = "flight-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private static FlightRecorder activeRecorder;
+
+    // This is the ring buffer, with the fields of each record next to each other in values
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] flags;
+    private final double[] values;
+
+    // These are the next record to be written into the ring buffer and the next to be taken out
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong readSequence = new AtomicLong();
+
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private Thread thread;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    private long droppedCount;
+    private volatile long writtenCount;
+
+    /**
+     * This creates a new FlightRecorder. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the number of records the ring buffer holds.
+     */
+    public FlightRecorder(int capacity) {
+        int roundedCapacity = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.capacity = roundedCapacity;
+        mask = roundedCapacity - 1;
+        timestamps = new long[roundedCapacity];
+        flags = new int[roundedCapacity];
+        values = new double[roundedCapacity * FIELD_COUNT];
+        buffer = ByteBuffer.allocate(Math.max(RECORD_BYTES * 64, 1024));
+    }
+
+    /**
+     * This returns a new file in the flight record folder, named by the current date and time down
+     * to the millisecond. If a file with that name already exists, like when two Followers are made
+     * in the same millisecond, a counter is added to the name so the first flight record isn't
+     * written over. The oldest flight records are deleted so there are at most filesToKeep, counting
+     * the new one.
+     *
+     * @param filesToKeep the most flight records to keep.
+     * @return returns the file.
+     */
+    public static synchronized File newFile(int filesToKeep) {
+        File[] files = FLIGHT_RECORD_FOLDER.listFiles((folder, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX));
+        if (files != null && files.length >= filesToKeep) {
+            Arrays.sort(files);
+            for (int i = 0; i <= files.length - filesToKeep; i++) {
+                files[i].delete();
+            }
+        }
+
+        String time = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS", Locale.US).format(new Date());
+        File file = new File(FLIGHT_RECORD_FOLDER, FILE_PREFIX + time + FILE_SUFFIX);
+        // the counter comes after an underscore, which sorts after the suffix, so the files stay in order
+        for (int i = 1; file.exists(); i++) {
+            file = new File(FLIGHT_RECORD_FOLDER, FILE_PREFIX + time + "_" + i + FILE_SUFFIX);
+        }
+        return file;
+    }
+
+    /**
+     * This opens a file, writes the header, and starts the background thread that writes the
+     * records to it. Any other FlightRecorder that's running is stopped first, so one left running
+     * by the last OpMode doesn't keep writing.
+     *
+     * @param file the file to write to.
+     * @throws IOException if the file can't be opened.
+     */
+    public void start(File file) throws IOException {
+        synchronized (FlightRecorder.class) {
+            if (activeRecorder != null && activeRecorder != this) {
+                activeRecorder.stop();
+            }
+            activeRecorder = this;
+        }
+
+        File folder = file.getParentFile();
+        if (folder != null && !folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Could not create the folder " + folder);
+        }
+
+        channel = new FileOutputStream(file).getChannel();
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(FIELD_COUNT);
+        for (String name : FIELD_NAMES) {
+            putString(name);
+        }
+        buffer.putInt(FLAG_NAMES.length);
+        for (String name : FLAG_NAMES) {
+            putString(name);
+        }
+        writeBuffer();
+
+        running = true;
+        thread = new Thread(this, "FlightRecorder");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * This puts a String into the buffer as its length in bytes and then its bytes.
+     *
+     * @param string the String.
+     */
+    private void putString(String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * This records the state of the Follower. This never waits, and if the ring buffer is full the
+     * record is dropped. This must only be run from one thread.
+     *
+     * @param timestamp the time of the record, from System.nanoTime().
+     * @param recordFlags the flags of the record.
+     * @param recordValues the fields of the record, FIELD_COUNT long.
+     * @return returns if the record was put into the ring buffer.
+     */
+    public boolean record(long timestamp, int recordFlags, double[] recordValues) {
+        long sequence = writeSequence.get();
+        if (sequence - readSequence.get() >= capacity) {
+            droppedCount++;
+            return false;
+        }
+
+        int slot = (int) (sequence & mask);
+        timestamps[slot] = timestamp;
+        flags[slot] = recordFlags;
+        System.arraycopy(recordValues, 0, values, slot * FIELD_COUNT, FIELD_COUNT);
+        writeSequence.lazySet(sequence + 1);
+        return true;
+    }
+
+    /**
+     * This writes records to the file until stopped, then writes any that are left and closes the
+     * file.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                drain();
+                LockSupport.parkNanos(this, DRAIN_PERIOD);
+            }
+            drain();
+        } catch (IOException e) {
+            failure = e;
+            running = false;
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+            }
+        }
+    }
+
+    /**
+     * This takes every record out of the ring buffer and writes them to the file.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    private void drain() throws IOException {
+        long sequence = readSequence.get();
+        long end = writeSequence.get();
+        buffer.clear();
+
+        while (sequence < end) {
+            int slot = (int) (sequence & mask);
+            buffer.putLong(timestamps[slot]);
+            buffer.putInt(flags[slot]);
+            int offset = slot * FIELD_COUNT;
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                buffer.putFloat((float) values[offset + i]);
+            }
+            sequence++;
+
+            if (buffer.remaining() < RECORD_BYTES) {
+                writeBuffer();
+                readSequence.lazySet(sequence);
+                buffer.clear();
+            }
+        }
+
+        writeBuffer();
+        readSequence.lazySet(sequence);
+        writtenCount = sequence;
+    }
+
+    /**
+     * This writes what's in the buffer to the file.
+     *
+     * @throws IOException if the file can't be written.
+     */
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * This stops the background thread, waiting for it to write the records that are left and close
+     * the file.
+     */
+    public void stop() {
+        Thread recorderThread = thread;
+        if (recorderThread == null) return;
+        running = false;
+        LockSupport.unpark(recorderThread);
+        try {
+            recorderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        synchronized (FlightRecorder.class) {
+            if (activeRecorder == this) activeRecorder = null;
+        }
+    }
+
+    /**
+     * This returns if the background thread is writing records.
+     *
+     * @return returns if the FlightRecorder is running.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * This returns the number of records that were dropped because the ring buffer was full.
+     *
+     * @return returns the number of dropped records.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * This returns the number of records written to the file.
+     *
+     * @return returns the number of written records.
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * This returns the exception that stopped the background thread, if there was one.
+     *
+     * @return returns the exception, or null.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,144 @@
+package pedroPathing.util;
+
+import com.qualcomm.hardware.lynx.LynxModule;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+import java.util.List;
+
+/**
+ * This is the HubManager class. This class handles bulk reading on the Control Hub and any
+ * Expansion Hubs. With manual bulk caching, everything a hub can bulk read (encoder positions and
+ * velocities, digital and analog inputs) comes from one read of the hub, instead of one read per
+ * sensor. The cache is cleared once every PoseUpdater update, so each hub is read at most once a
+ * loop.
+ * <p>
+ * There is one HubManager for each HardwareMap, so the PoseUpdater and the localizers share it.
+ * Manual bulk caching is only turned on by the PoseUpdater, since nothing else clears the cache.
+ * Once it's on, any other reads of the hubs in the OpMode are also only updated once a loop.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class HubManager {
+    private static HubManager instance;
+
+    private final HardwareMap hardwareMap;
+    private final List<LynxModule> hubs;
+
+    // These are the times, from System.nanoTime(), that the cache of each hub was last cleared
+    private final long[] readTimestamps;
+    private long readTimestamp;
+
+    private boolean manualBulkCaching;
+
+    /**
+     * This creates a new HubManager for all the hubs in a HardwareMap.
+     *
+     * @param hardwareMap the HardwareMap.
+     */
+    private HubManager(HardwareMap hardwareMap) {
+        this.hardwareMap = hardwareMap;
+        hubs = hardwareMap.getAll(LynxModule.class);
+        readTimestamps = new long[hubs.size()];
+    }
+
+    /**
+     * This returns the HubManager for a HardwareMap, making it if there isn't one yet.
+     *
+     * @param hardwareMap the HardwareMap.
+     * @return returns the HubManager.
+     */
+    public static synchronized HubManager getInstance(HardwareMap hardwareMap) {
+        if (instance == null || instance.hardwareMap != hardwareMap) {
+            instance = new HubManager(hardwareMap);
+        }
+        return instance;
+    }
+
+    /**
+     * This puts every hub into manual bulk caching and clears their caches. This is run every time
+     * a PoseUpdater is made, since the bulk caching mode may have been reset since the last OpMode.
+     */
+    public void enableManualBulkCaching() {
+        for (int i = 0; i < hubs.size(); i++) {
+            hubs.get(i).setBulkCachingMode(LynxModule.BulkCachingMode.MANUAL);
+        }
+        manualBulkCaching = true;
+        clearBulkCache();
+    }
+
+    /**
+     * This clears the bulk cache of every hub, so the next read of each hub gets new data. This
+     * does nothing unless manual bulk caching is on.
+     */
+    public void clearBulkCache() {
+        if (!manualBulkCaching) return;
+        for (int i = 0; i < hubs.size(); i++) {
+            hubs.get(i).clearBulkCache();
+            readTimestamps[i] = System.nanoTime();
+        }
+        readTimestamp = System.nanoTime();
+    }
+
+    /**
+     * This returns if manual bulk caching is on.
+     *
+     * @return returns if manual bulk caching is on.
+     */
+    public boolean isManualBulkCaching() {
+        return manualBulkCaching;
+    }
+
+    /**
+     * This returns the number of hubs.
+     *
+     * @return returns the number of hubs.
+     */
+    public int getHubCount() {
+        return hubs.size();
+    }
+
+    /**
+     * This returns one of the hubs.
+     *
+     * @param index the index of the hub.
+     * @return returns the hub.
+     */
+    public LynxModule getHub(int index) {
+        return hubs.get(index);
+    }
+
+    /**
+     * This returns the time the cache of one of the hubs was last cleared. Anything read from that
+     * hub since then comes from one bulk read made right after this time.
+     *
+     * @param index the index of the hub.
+     * @return returns the time in nanoseconds, from System.nanoTime(), or 0 if the cache hasn't
+     *         been cleared.
+     */
+    public long getReadTimestamp(int index) {
+        return readTimestamps[index];
+    }
+
+    /**
+     * This returns the time the cache of a hub was last cleared.
+     *
+     * @param hub the hub.
+     * @return returns the time in nanoseconds, from System.nanoTime(), or 0 if the cache hasn't
+     *         been cleared or the hub isn't managed by this HubManager.
+     */
+    public long getReadTimestamp(LynxModule hub) {
+        int index = hubs.indexOf(hub);
+        return index < 0 ? 0 : readTimestamps[index];
+    }
+
+    /**
+     * This returns the time the caches of all the hubs were last cleared. Localizers use this to
+     * time their updates by when their encoders were read.
+     *
+     * @return returns the time in nanoseconds, from System.nanoTime(), or 0 if the caches haven't
+     *         been cleared.
+     */
+    public long getReadTimestamp() {
+        return readTimestamp;
+    }
+}
@@ -1,7 +1,7 @@
 package pedroPathing.util;
 
 import com.acmerobotics.dashboard.config.Config;
-import com.pedropathing.util.KalmanFilterParameters;
+import pedroPathing.util.KalmanFilterParameters;
 
 import org.firstinspires.ftc.robotcore.external.Telemetry;
 
@@ -0,0 +1,63 @@
+package pedroPathing.util;
+
+/**
+ * This is the LoopClock class. This reads the time from another Clock once a loop, when sample() is
+ * run, and returns that same time until the next sample. The Follower samples it at the start of
+ * every update, so every PIDF and localizer in the update gets the same time, and the time step
+ * between updates is the same for all of them.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class LoopClock implements Clock {
+    private Clock source;
+    private long time;
+
+    /**
+     * This creates a new LoopClock that reads from a Clock. The time is sampled once right away.
+     *
+     * @param source the Clock to read from.
+     */
+    public LoopClock(Clock source) {
+        this.source = source;
+        sample();
+    }
+
+    /**
+     * This reads the time from the source Clock, which is returned until the next sample.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long sample() {
+        time = source.nanoTime();
+        return time;
+    }
+
+    /**
+     * This returns the time from the last sample.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+
+    /**
+     * This changes the Clock that's read from, and samples it.
+     *
+     * @param source the new Clock to read from.
+     */
+    public void setSource(Clock source) {
+        this.source = source;
+        sample();
+    }
+
+    /**
+     * This returns the Clock that's read from.
+     *
+     * @return returns the source Clock.
+     */
+    public Clock getSource() {
+        return source;
+    }
+}
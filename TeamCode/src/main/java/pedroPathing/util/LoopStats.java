@@ -0,0 +1,138 @@
+package pedroPathing.util;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+/**
+ * This is the LoopStats class. This keeps a TimingHistogram for each stage of a Follower update,
+ * and one for the time between updates, so it can be seen where the time in a loop goes. Timing a
+ * stage costs two reads of System.nanoTime() and a TimingHistogram record, so this is always on.
+ * <p>
+ * The localizer and pose update stages are timed by the PoseUpdater, so they're also recorded when
+ * a PoseUpdater is used without a Follower, like in the localization tests.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class LoopStats {
+    // These are the stages that are timed
+    public static final int LOCALIZER = 0;
+    public static final int POSE_UPDATE = 1;
+    public static final int DASHBOARD = 2;
+    public static final int CLOSEST_POINT = 3;
+    public static final int CONTROL = 4;
+    public static final int MOTOR_OUTPUT = 5;
+    public static final int FOLLOWER_UPDATE = 6;
+    public static final int LOOP_PERIOD = 7;
+    public static final int STAGE_COUNT = 8;
+
+    private static final String[] STAGE_NAMES = {"localizer", "pose update", "dashboard",
+            "closest point", "control", "motor output", "follower update", "loop period"};
+
+    private final TimingHistogram[] histograms = new TimingHistogram[STAGE_COUNT];
+
+    private long loopCount;
+    private long firstLoopTime;
+    private long lastLoopTime;
+
+    /**
+     * This creates a new LoopStats with an empty TimingHistogram for each stage.
+     */
+    public LoopStats() {
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            histograms[i] = new TimingHistogram();
+        }
+    }
+
+    /**
+     * This records how long a stage took.
+     *
+     * @param stage the stage.
+     * @param nanoseconds the time in nanoseconds.
+     */
+    public void record(int stage, long nanoseconds) {
+        histograms[stage].record(nanoseconds);
+    }
+
+    /**
+     * This records the start of a loop, which also records the time since the last loop started.
+     *
+     * @param now the time the loop started, from System.nanoTime().
+     */
+    public void recordLoopStart(long now) {
+        if (loopCount == 0) {
+            firstLoopTime = now;
+        } else {
+            histograms[LOOP_PERIOD].record(now - lastLoopTime);
+        }
+        lastLoopTime = now;
+        loopCount++;
+    }
+
+    /**
+     * This returns the TimingHistogram for a stage.
+     *
+     * @param stage the stage.
+     * @return returns the TimingHistogram.
+     */
+    public TimingHistogram getHistogram(int stage) {
+        return histograms[stage];
+    }
+
+    /**
+     * This returns the name of a stage.
+     *
+     * @param stage the stage.
+     * @return returns the name.
+     */
+    public static String getStageName(int stage) {
+        return STAGE_NAMES[stage];
+    }
+
+    /**
+     * This returns the number of loops started.
+     *
+     * @return returns the number of loops.
+     */
+    public long getLoopCount() {
+        return loopCount;
+    }
+
+    /**
+     * This returns the average number of loops a second since the LoopStats was last reset.
+     *
+     * @return returns the loop frequency in hertz, or 0 if less than two loops have started.
+     */
+    public double getLoopFrequency() {
+        if (loopCount < 2 || lastLoopTime == firstLoopTime) return 0;
+        return (loopCount - 1) * 1e9 / (lastLoopTime - firstLoopTime);
+    }
+
+    /**
+     * This clears all the TimingHistograms and loop counts.
+     */
+    public void reset() {
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            histograms[i].reset();
+        }
+        loopCount = 0;
+        firstLoopTime = 0;
+        lastLoopTime = 0;
+    }
+
+    /**
+     * This writes the loop frequency and the median, 99th percentile and max time of each stage
+     * that has been timed to the Telemetry specified, in microseconds. This doesn't update the
+     * Telemetry.
+     *
+     * @param telemetry the Telemetry.
+     */
+    public void telemetryDebug(Telemetry telemetry) {
+        telemetry.addData("loop frequency (hz)", String.format("%.1f", getLoopFrequency()));
+        telemetry.addData("loop count", loopCount);
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            TimingHistogram histogram = histograms[i];
+            if (histogram.getCount() == 0) continue;
+            telemetry.addData(STAGE_NAMES[i] + " p50/p99/max (us)", String.format("%.0f / %.0f / %.0f",
+                    histogram.getMedian() / 1e3, histogram.getPercentile(99) / 1e3, histogram.getMax() / 1e3));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package pedroPathing.util;
+
+import static pedroPathing.follower.FollowerConstants.cacheInvalidateSeconds;
+import static pedroPathing.follower.FollowerConstants.motorCachingThreshold;
+
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This is the MotorOutputStage class. This class handles writing powers to motors. Powers are set
+ * during the loop and remembered, then all written together by flush() at the end of the loop.
+ * A power is only written if it's changed by more than the motor caching threshold since it was
+ * last written, if it's being set to zero, or if it hasn't been written for cacheInvalidateSeconds.
+ * Since the last written power is kept here, the motors never have to be asked for their power.
+ * <p>
+ * The Follower registers the drive motors first, in the order left front, left rear, right front,
+ * right rear. Mechanism motors can be registered with the Follower's MotorOutputStage too, so all
+ * the motor writes in an OpMode go through the same place and are counted the same way.
+ * <p>
+ * With a FollowerThread, flush() runs on the follower thread while the OpMode registers motors and
+ * sets their powers, so nothing here is resized. Room for MAX_MOTORS motors is made up front, a new
+ * motor is only counted once its slot is filled in, and the powers are kept as the bits of each
+ * double in an AtomicLongArray, so a power set on one thread is never torn or lost by a flush on
+ * another. Only flush() writes to the motors, and only one thread should flush.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class MotorOutputStage {
+    // This is the most motors that can be registered, enough for every motor and servo port on two hubs
+    public static final int MAX_MOTORS = 32;
+
+    private final DcMotorSimple[] motors = new DcMotorSimple[MAX_MOTORS];
+    private volatile int motorCount;
+
+    // These are kept for each motor, in the order the motors were registered. The powers are the bits of doubles
+    private final AtomicLongArray requestedPowers = new AtomicLongArray(MAX_MOTORS);
+    private final AtomicLongArray writtenPowers = new AtomicLongArray(MAX_MOTORS);
+
+    // These are only used by the thread that flushes
+    private final long[] writeTimes = new long[MAX_MOTORS];
+    private final boolean[] hasBeenWritten = new boolean[MAX_MOTORS];
+    private volatile boolean invalidated;
+
+    // These count what the flushes have done, for checking how much the cache saves
+    private volatile long writeCount;
+    private volatile long skippedWriteCount;
+    private volatile long flushCount;
+    private volatile long lastFlushTime;
+
+    /**
+     * This registers a motor, so powers can be set for it. Registering a motor again does nothing.
+     * This can be called from any thread.
+     *
+     * @param motor the motor.
+     * @return returns the index of the motor, which can be used to set its power.
+     * @throws IllegalStateException if MAX_MOTORS motors are already registered.
+     */
+    public synchronized int register(DcMotorSimple motor) {
+        int index = indexOf(motor);
+        if (index >= 0) return index;
+
+        index = motorCount;
+        if (index == MAX_MOTORS) {
+            throw new IllegalStateException("Only " + MAX_MOTORS + " motors can be registered with a MotorOutputStage");
+        }
+        motors[index] = motor;
+        requestedPowers.set(index, Double.doubleToRawLongBits(0));
+        // the motor is only flushed once this is set, so its slot is filled in before the flushing thread sees it
+        motorCount = index + 1;
+        return index;
+    }
+
+    /**
+     * This finds the index of a registered motor.
+     *
+     * @param motor the motor.
+     * @return returns the index of the motor, or -1 if it isn't registered.
+     */
+    private int indexOf(DcMotorSimple motor) {
+        int count = motorCount;
+        for (int i = 0; i < count; i++) {
+            if (motors[i] == motor) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * This sets the power of a registered motor. The power is written at the next flush. This can
+     * be called from any thread.
+     *
+     * @param index the index of the motor, from register.
+     * @param power the power.
+     */
+    public void setPower(int index, double power) {
+        if (index < 0 || index >= motorCount) {
+            throw new IndexOutOfBoundsException("No motor is registered at index " + index);
+        }
+        requestedPowers.set(index, Double.doubleToRawLongBits(power));
+    }
+
+    /**
+     * This sets the power of a motor, registering it if it isn't registered yet. The power is
+     * written at the next flush. This can be called from any thread.
+     *
+     * @param motor the motor.
+     * @param power the power.
+     */
+    public void setPower(DcMotorSimple motor, double power) {
+        int index = indexOf(motor);
+        if (index < 0) index = register(motor);
+        requestedPowers.set(index, Double.doubleToRawLongBits(power));
+    }
+
+    /**
+     * This writes the powers that need writing to the motors. This should only be called from one
+     * thread, like the FollowerThread when there is one.
+     */
+    public void flush() {
+        long startTime = System.nanoTime();
+        long invalidateTime = (long) (cacheInvalidateSeconds * 1e9);
+        int count = motorCount;
+
+        if (invalidated) {
+            invalidated = false;
+            for (int i = 0; i < count; i++) {
+                hasBeenWritten[i] = false;
+            }
+        }
+
+        long writes = 0;
+        long skippedWrites = 0;
+        for (int i = 0; i < count; i++) {
+            double power = Double.longBitsToDouble(requestedPowers.get(i));
+            double writtenPower = Double.longBitsToDouble(writtenPowers.get(i));
+            if (!hasBeenWritten[i]
+                    || Math.abs(power - writtenPower) > motorCachingThreshold
+                    || (power == 0 && writtenPower != 0)
+                    || (cacheInvalidateSeconds >= 0 && startTime - writeTimes[i] > invalidateTime)) {
+                motors[i].setPower(power);
+                writtenPowers.set(i, Double.doubleToRawLongBits(power));
+                writeTimes[i] = startTime;
+                hasBeenWritten[i] = true;
+                writes++;
+            } else {
+                skippedWrites++;
+            }
+        }
+
+        writeCount += writes;
+        skippedWriteCount += skippedWrites;
+        flushCount++;
+        lastFlushTime = System.nanoTime() - startTime;
+    }
+
+    /**
+     * This makes every motor get written at the next flush, even if its power hasn't changed. This
+     * should be used if the motors may have been set somewhere else. This can be called from any
+     * thread.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * This returns the power last set for a registered motor, which may not have been written yet.
+     *
+     * @param index the index of the motor.
+     * @return returns the power.
+     */
+    public double getPower(int index) {
+        return Double.longBitsToDouble(requestedPowers.get(index));
+    }
+
+    /**
+     * This returns the power last written to a registered motor.
+     *
+     * @param index the index of the motor.
+     * @return returns the power.
+     */
+    public double getWrittenPower(int index) {
+        return Double.longBitsToDouble(writtenPowers.get(index));
+    }
+
+    /**
+     * This returns the number of registered motors.
+     *
+     * @return returns the number of motors.
+     */
+    public int size() {
+        return motorCount;
+    }
+
+    /**
+     * This returns how many powers have been written to motors.
+     *
+     * @return returns the number of writes.
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * This returns how many writes have been skipped because the power hadn't changed enough.
+     *
+     * @return returns the number of skipped writes.
+     */
+    public long getSkippedWriteCount() {
+        return skippedWriteCount;
+    }
+
+    /**
+     * This returns how many times the powers have been flushed.
+     *
+     * @return returns the number of flushes.
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * This returns how long the last flush took, which is mostly the time taken by the writes.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+}
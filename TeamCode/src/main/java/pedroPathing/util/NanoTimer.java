@@ -2,7 +2,7 @@ package pedroPathing.util;
 
 /**
  * This is the NanoTimer class. It is an elapsed time clock with nanosecond precision, or at least
- * as precise as the System.nanoTime() is.
+ * as precise as its Clock is. By default, that's System.nanoTime().
  *
  * @author Anyi Lin - 10158 Scott's Bots
  * @author Aaron Yang - 10158 Scott's Bots
@@ -10,20 +10,32 @@ package pedroPathing.util;
  * @version 1.0, 3/5/2024
  */
 public class NanoTimer {
+    private final Clock clock;
     private long startTime;
 
     /**
      * This creates a new NanoTimer with the start time set to its creation time.
      */
     public NanoTimer() {
+        this(Clock.SYSTEM);
+    }
+
+    /**
+     * This creates a new NanoTimer that reads the time from a Clock, with the start time set to its
+     * creation time.
+     *
+     * @param clock the Clock to read the time from.
+     */
+    public NanoTimer(Clock clock) {
+        this.clock = clock;
         resetTimer();
     }
 
     /**
-     * This resets the NanoTimer's start time to the current time using System.nanoTime().
+     * This resets the NanoTimer's start time to the current time of its Clock.
      */
     public void resetTimer() {
-        startTime = System.nanoTime();
+        startTime = clock.nanoTime();
     }
 
     /**
@@ -32,7 +44,7 @@ public class NanoTimer {
      * @return this returns the elapsed time in nanoseconds.
      */
     public long getElapsedTime() {
-        return System.nanoTime() - startTime;
+        return clock.nanoTime() - startTime;
     }
 
     /**
@@ -41,6 +53,6 @@ public class NanoTimer {
      * @return this returns the elapsed time in seconds.
      */
     public double getElapsedTimeSeconds() {
-        return (getElapsedTime() / Math.pow(10.0,9));
+        return getElapsedTime() / 1e9;
     }
 }
@@ -1,6 +1,6 @@
 package pedroPathing.util;
 
-import com.pedropathing.util.CustomPIDFCoefficients;
+import pedroPathing.util.CustomPIDFCoefficients;
 
 /**
  * This is the PIDFController class. This class handles the running of PIDFs. PIDF stands for
@@ -25,6 +25,7 @@ public class PIDFController {
     private double errorDerivative;
     private double feedForwardInput;
 
+    private Clock clock = Clock.SYSTEM;
     private long previousUpdateTimeNano;
     private long deltaTimeNano;
 
@@ -51,6 +52,8 @@ public class PIDFController {
      * This can be used to update the PIDF's current position when inputting a current position and
      * a target position to calculate error. This will update the error from the current position to
      * the target position specified.
+     * If no time has passed since the last update, like a second update in the same loop, the
+     * integral and derivative aren't changed.
      *
      * @param update This is the current position.
      */
@@ -59,16 +62,21 @@ public class PIDFController {
         previousError = error;
         error = targetPosition - position;
 
-        deltaTimeNano = System.nanoTime() - previousUpdateTimeNano;
-        previousUpdateTimeNano = System.nanoTime();
+        long now = clock.nanoTime();
+        deltaTimeNano = now - previousUpdateTimeNano;
+        previousUpdateTimeNano = now;
+        if (deltaTimeNano <= 0) return;
+        double deltaTimeSeconds = deltaTimeNano / 1e9;
 
-        errorIntegral += error * (deltaTimeNano / Math.pow(10.0, 9));
-        errorDerivative = (error - previousError) / (deltaTimeNano / Math.pow(10.0, 9));
+        errorIntegral += error * deltaTimeSeconds;
+        errorDerivative = (error - previousError) / deltaTimeSeconds;
     }
 
     /**
      * As opposed to updating position against a target position, this just sets the error to some
      * specified value.
+     * If no time has passed since the last update, like a second update in the same loop, the
+     * integral and derivative aren't changed.
      *
      * @param error The error specified.
      */
@@ -76,11 +84,14 @@ public class PIDFController {
         previousError = this.error;
         this.error = error;
 
-        deltaTimeNano = System.nanoTime() - previousUpdateTimeNano;
-        previousUpdateTimeNano = System.nanoTime();
+        long now = clock.nanoTime();
+        deltaTimeNano = now - previousUpdateTimeNano;
+        previousUpdateTimeNano = now;
+        if (deltaTimeNano <= 0) return;
+        double deltaTimeSeconds = deltaTimeNano / 1e9;
 
-        errorIntegral += error * (deltaTimeNano / Math.pow(10.0, 9));
-        errorDerivative = (error - previousError) / (deltaTimeNano / Math.pow(10.0, 9));
+        errorIntegral += error * deltaTimeSeconds;
+        errorDerivative = (error - previousError) / deltaTimeSeconds;
     }
 
     /**
@@ -102,7 +113,17 @@ public class PIDFController {
         targetPosition = 0;
         errorIntegral = 0;
         errorDerivative = 0;
-        previousUpdateTimeNano = System.nanoTime();
+        previousUpdateTimeNano = clock.nanoTime();
+    }
+
+    /**
+     * This sets the Clock the time between updates is read from, and restarts the time from now.
+     *
+     * @param clock the Clock.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        previousUpdateTimeNano = clock.nanoTime();
     }
 
     /**
@@ -0,0 +1,141 @@
+package pedroPathing.util;
+
+/**
+ * This is the TimingHistogram class. This counts times, in nanoseconds, into buckets so percentiles
+ * can be found without keeping every time. Times under 32 nanoseconds get a bucket each, and after
+ * that every power of two is split into 16 buckets, so a percentile is always within about 6% of the
+ * real time. All the buckets are made when the TimingHistogram is made, so recording a time never
+ * allocates and only takes a few instructions.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class TimingHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKET_COUNT = 2 * SUB_BUCKET_COUNT;
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + LINEAR_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * This records a time. Negative times are recorded as zero.
+     *
+     * @param nanoseconds the time in nanoseconds.
+     */
+    public void record(long nanoseconds) {
+        if (nanoseconds < 0) nanoseconds = 0;
+        counts[getBucket(nanoseconds)]++;
+        count++;
+        total += nanoseconds;
+        if (nanoseconds < min) min = nanoseconds;
+        if (nanoseconds > max) max = nanoseconds;
+    }
+
+    /**
+     * This returns the bucket a time is counted in.
+     *
+     * @param nanoseconds the time, which isn't negative.
+     * @return returns the index of the bucket.
+     */
+    private static int getBucket(long nanoseconds) {
+        if (nanoseconds < LINEAR_BUCKET_COUNT) return (int) nanoseconds;
+        int shift = 63 - Long.numberOfLeadingZeros(nanoseconds) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (nanoseconds >>> shift);
+    }
+
+    /**
+     * This returns the highest time that is counted in a bucket.
+     *
+     * @param bucket the index of the bucket.
+     * @return returns the time in nanoseconds.
+     */
+    private static long getBucketUpperBound(int bucket) {
+        if (bucket < LINEAR_BUCKET_COUNT) return bucket;
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * This returns a percentile of the recorded times. The time returned is the highest time in the
+     * bucket the percentile falls in, but never more than the highest recorded time.
+     *
+     * @param percentile the percentile, from 0 to 100.
+     * @return returns the time in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(getBucketUpperBound(i), max);
+        }
+        return max;
+    }
+
+    /**
+     * This returns the median of the recorded times.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * This returns the mean of the recorded times.
+     *
+     * @return returns the time in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public double getMean() {
+        if (count == 0) return 0;
+        return (double) total / count;
+    }
+
+    /**
+     * This returns the lowest recorded time.
+     *
+     * @return returns the time in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getMin() {
+        if (count == 0) return 0;
+        return min;
+    }
+
+    /**
+     * This returns the highest recorded time.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * This returns the number of recorded times.
+     *
+     * @return returns the number of times.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * This clears all the recorded times.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = 0;
+        }
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+}
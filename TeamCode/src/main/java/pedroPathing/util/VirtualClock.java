@@ -0,0 +1,49 @@
+package pedroPathing.util;
+
+/**
+ * This is the VirtualClock class. This is a Clock that only moves forward when it's told to, so a
+ * simulation or a replay gets exactly the same times every run, and can run faster or slower than
+ * real time. It starts at 0.
+ *
+ * @version 1.0, 10/18/2026
+ */
+public class VirtualClock implements Clock {
+    private long time;
+
+    /**
+     * This returns the current time of the VirtualClock.
+     *
+     * @return returns the time in nanoseconds.
+     */
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+
+    /**
+     * This moves the VirtualClock forward.
+     *
+     * @param nanoseconds the time to move forward, in nanoseconds.
+     */
+    public void advance(long nanoseconds) {
+        time += nanoseconds;
+    }
+
+    /**
+     * This moves the VirtualClock forward.
+     *
+     * @param seconds the time to move forward, in seconds.
+     */
+    public void advanceSeconds(double seconds) {
+        time += Math.round(seconds * 1e9);
+    }
+
+    /**
+     * This sets the time of the VirtualClock.
+     *
+     * @param nanoseconds the new time, in nanoseconds.
+     */
+    public void setTime(long nanoseconds) {
+        time = nanoseconds;
+    }
+}